@@ -0,0 +1,74 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Helpers shared by all benchmarks.
+ */
+public class Benchmarks {
+
+    /**
+     * Creates a generator with the given number of classes and nesting depth,
+     * the number of other entities is derived from the number of classes.
+     *
+     * @param classes int, the number of classes
+     * @param depth   int, the nesting depth of class expressions
+     * @return {@link OntologyGenerator}
+     */
+    public static OntologyGenerator generator(int classes, int depth) {
+        return new OntologyGenerator()
+                .setClasses(classes)
+                .setObjectProperties(Math.max(1, classes / 10))
+                .setDataProperties(Math.max(1, classes / 10))
+                .setIndividuals(classes)
+                .setAnnotations(2)
+                .setDepth(depth);
+    }
+
+    /**
+     * Wraps the generated model as an ontology inside a new manager.
+     *
+     * @param model {@link OntGraphModel}
+     * @return {@link OntologyModel}
+     */
+    public static OntologyModel toOntology(OntGraphModel model) {
+        return OntManagers.createONT().addOntology(model.getGraph());
+    }
+
+    /**
+     * Serializes the model in the specified format.
+     *
+     * @param model  {@link OntGraphModel}
+     * @param format {@link OntFormat}
+     * @return byte array
+     * @throws OWLOntologyStorageException if the format is not supported
+     */
+    public static byte[] toBytes(OntGraphModel model, OntFormat format) throws OWLOntologyStorageException {
+        OntologyModel o = toOntology(model);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OntologyManager m = o.getOWLOntologyManager();
+        m.saveOntology(o, format.createOwlFormat(), out);
+        return out.toByteArray();
+    }
+}
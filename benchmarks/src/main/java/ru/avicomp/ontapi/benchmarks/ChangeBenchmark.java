@@ -0,0 +1,75 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@code addAxioms} into an empty ontology and {@code removeAxioms} from a full one.
+ * Each iteration works with a fresh ontology, so the single shot mode is used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ChangeBenchmark {
+
+    @Param({"1000"})
+    public int classes;
+
+    @Param({"2"})
+    public int depth;
+
+    private List<OWLAxiom> axioms;
+    private OntologyManager manager;
+    private OntologyModel empty;
+    private OntologyModel full;
+
+    @Setup
+    public void setup() {
+        axioms = Benchmarks.toOntology(Benchmarks.generator(classes, depth).generate()).axioms().collect(Collectors.toList());
+    }
+
+    @Setup(Level.Iteration)
+    public void createOntologies() {
+        manager = OntManagers.createONT();
+        empty = manager.createOntology();
+        full = manager.createOntology();
+        manager.addAxioms(full, axioms.stream());
+        // load cache:
+        full.axioms().count();
+    }
+
+    @Benchmark
+    public ChangeApplied addAxioms() {
+        return manager.addAxioms(empty, axioms.stream());
+    }
+
+    @Benchmark
+    public ChangeApplied removeAxioms() {
+        return manager.removeAxioms(full, axioms.stream());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.benchmarks;
+
+import org.apache.jena.rdf.model.ResourceFactory;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.model.*;
+import ru.avicomp.ontapi.jena.vocabulary.XSD;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A deterministic generator of synthetic ontologies for benchmarks.
+ * The same settings (including the seed) always produce the same graph.
+ * <p>
+ * The generated ontology contains:
+ * <ul>
+ * <li>a class hierarchy (each class, except the first one, is a subclass of some previous class),
+ * and, if the nesting depth is positive, an anonymous super class expression of that depth for each class</li>
+ * <li>object properties with domains, ranges and a property hierarchy</li>
+ * <li>data properties with domains and ranges</li>
+ * <li>individuals with a class assertion, an object property assertion and a data property assertion</li>
+ * <li>the specified number of annotation assertions (labels and comments) for each entity</li>
+ * </ul>
+ */
+@SuppressWarnings("WeakerAccess")
+public class OntologyGenerator {
+    public static final String URI = "http://ontapi.avicomp.ru/benchmarks/synthetic";
+    public static final String NS = URI + "#";
+
+    private int classes = 100;
+    private int objectProperties = 20;
+    private int dataProperties = 20;
+    private int individuals = 100;
+    private int annotations = 1;
+    private int depth = 2;
+    private long seed = 42;
+
+    public OntologyGenerator setClasses(int classes) {
+        this.classes = requirePositive(classes);
+        return this;
+    }
+
+    public OntologyGenerator setObjectProperties(int objectProperties) {
+        this.objectProperties = requirePositive(objectProperties);
+        return this;
+    }
+
+    public OntologyGenerator setDataProperties(int dataProperties) {
+        this.dataProperties = requirePositive(dataProperties);
+        return this;
+    }
+
+    public OntologyGenerator setIndividuals(int individuals) {
+        this.individuals = requireNonNegative(individuals);
+        return this;
+    }
+
+    public OntologyGenerator setAnnotations(int annotations) {
+        this.annotations = requireNonNegative(annotations);
+        return this;
+    }
+
+    public OntologyGenerator setDepth(int depth) {
+        this.depth = requireNonNegative(depth);
+        return this;
+    }
+
+    public OntologyGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    private static int requirePositive(int n) {
+        if (n <= 0) throw new IllegalArgumentException("Must be positive: " + n);
+        return n;
+    }
+
+    private static int requireNonNegative(int n) {
+        if (n < 0) throw new IllegalArgumentException("Must be non-negative: " + n);
+        return n;
+    }
+
+    /**
+     * Generates a fresh in-memory ontology.
+     *
+     * @return {@link OntGraphModel}
+     */
+    public OntGraphModel generate() {
+        Random random = new Random(seed);
+        OntGraphModel m = OntModelFactory.createModel();
+        m.setNsPrefixes(OntModelFactory.STANDARD).setNsPrefix("", NS);
+        m.setID(URI).addComment("Synthetic ontology, seed=" + seed, null);
+
+        List<OntClass> classList = new ArrayList<>();
+        for (int i = 0; i < classes; i++) {
+            OntClass c = m.createOntEntity(OntClass.class, NS + "C" + i);
+            if (i > 0) {
+                c.addSubClassOf(any(classList, random));
+            }
+            classList.add(c);
+        }
+        List<OntNOP> objectList = new ArrayList<>();
+        for (int i = 0; i < objectProperties; i++) {
+            OntNOP p = m.createOntEntity(OntNOP.class, NS + "op" + i);
+            p.addDomain(any(classList, random));
+            p.addRange(any(classList, random));
+            if (i > 0) {
+                p.addSubPropertyOf(any(objectList, random));
+            }
+            objectList.add(p);
+        }
+        List<OntNDP> dataList = new ArrayList<>();
+        List<OntDT> datatypes = Arrays.asList(m.getOntEntity(OntDT.class, XSD.xstring), m.getOntEntity(OntDT.class, XSD.integer));
+        for (int i = 0; i < dataProperties; i++) {
+            OntNDP p = m.createOntEntity(OntNDP.class, NS + "dp" + i);
+            p.addDomain(any(classList, random));
+            p.addRange(datatypes.get(i % datatypes.size()));
+            dataList.add(p);
+        }
+        if (depth > 0) {
+            classList.forEach(c -> c.addSubClassOf(createClassExpression(m, depth, classList, objectList, random)));
+        }
+        List<OntIndividual> individualList = new ArrayList<>();
+        for (int i = 0; i < individuals; i++) {
+            individualList.add(any(classList, random).createIndividual(NS + "i" + i));
+        }
+        for (int i = 0; i < individuals; i++) {
+            OntIndividual s = individualList.get(i);
+            s.addProperty(any(objectList, random), any(individualList, random));
+            s.addProperty(any(dataList, random), ResourceFactory.createTypedLiteral("v" + random.nextInt(individuals)));
+        }
+        List<OntObject> entities = new ArrayList<>(classList);
+        entities.addAll(objectList);
+        entities.addAll(dataList);
+        entities.addAll(individualList);
+        for (OntObject e : entities) {
+            for (int i = 0; i < annotations; i++) {
+                if (i % 2 == 0) {
+                    e.addLabel(e.getLocalName() + " label " + i, "en");
+                } else {
+                    e.addComment(e.getLocalName() + " comment " + i, null);
+                }
+            }
+        }
+        return m;
+    }
+
+    private static OntCE createClassExpression(OntGraphModel m, int depth,
+                                               List<OntClass> classes, List<OntNOP> properties, Random random) {
+        if (depth == 0) {
+            return any(classes, random);
+        }
+        OntCE inner = createClassExpression(m, depth - 1, classes, properties, random);
+        switch (random.nextInt(4)) {
+            case 0:
+                return m.createObjectSomeValuesFrom(any(properties, random), inner);
+            case 1:
+                return m.createObjectAllValuesFrom(any(properties, random), inner);
+            case 2:
+                return m.createIntersectionOf(Arrays.asList(any(classes, random), inner));
+            default:
+                return m.createUnionOf(Arrays.asList(any(classes, random), inner));
+        }
+    }
+
+    private static <X> X any(List<X> list, Random random) {
+        return list.get(random.nextInt(list.size()));
+    }
+}
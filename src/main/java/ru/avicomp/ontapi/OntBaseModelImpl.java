@@ -62,7 +62,9 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
 
     public OntBaseModelImpl(OntologyManagerImpl manager, OWLOntologyID ontologyID) {
         OntApiException.notNull(ontologyID, "Null OWL ID.");
-        this.base = new InternalModel(OntModelFactory.createDefaultGraph(), OntApiException.notNull(manager, "Null manager.").createModelConfig());
+        OntApiException.notNull(manager, "Null manager.");
+        Graph graph = OntModelFactory.createDefaultGraph(manager.getOntologyLoaderConfiguration().getGraphType());
+        this.base = new InternalModel(graph, manager.createModelConfig());
         setOntologyID(ontologyID);
     }
 
@@ -126,6 +128,11 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     @Override
     public OWLOntologyID getOntologyID() {
+        Graph graph = base.getBaseGraph();
+        if (ontologyID != null && graph instanceof OntologyManagerImpl.LazyGraph && !((OntologyManagerImpl.LazyGraph) graph).isLoaded()) {
+            // the graph is not restored yet after deserialization, the cached id is relevant
+            return ontologyID;
+        }
         OntID id = base.getID();
         if (id.isAnon()) {
             return ontologyID == null || !ontologyID.isAnonymous() ? assignID(new OWLOntologyID()) : ontologyID;
@@ -467,17 +474,12 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     @Override
     public Stream<OWLClassAxiom> axioms(@Nonnull OWLClass clazz) {
-        Stream<? extends OWLClassAxiom> subClassOf = base.axioms(OWLSubClassOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubClass(), clazz));
-        Stream<? extends OWLClassAxiom> disjointUnion = base.axioms(OWLDisjointUnionAxiom.class)
-                .filter(a -> Objects.equals(a.getOWLClass(), clazz));
-        Stream<? extends OWLClassAxiom> nary = Stream.of(
+        return Stream.of(
+                OWLSubClassOfAxiom.class,
+                OWLDisjointUnionAxiom.class,
                 OWLDisjointClassesAxiom.class,
                 OWLEquivalentClassesAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .filter(a -> a.operands().anyMatch(c -> Objects.equals(c, clazz)));
-        return Stream.of(subClassOf, disjointUnion, nary).flatMap(Function.identity());
+        ).map(c -> base.axioms(c, clazz, Navigation.IN_SUB_POSITION)).flatMap(Function.identity());
     }
 
     /**
@@ -500,19 +502,14 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     @Override
     public Stream<OWLObjectPropertyAxiom> axioms(@Nonnull OWLObjectPropertyExpression property) {
-        Stream<? extends OWLObjectPropertyAxiom> subPropertyOf = base.axioms(OWLSubObjectPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
-        @SuppressWarnings("unchecked")
-        Stream<? extends OWLObjectPropertyAxiom> nary = Stream.of(
+        Stream<? extends OWLObjectPropertyAxiom> inverse = Stream.of(Navigation.IN_SUB_POSITION, Navigation.IN_SUPER_POSITION)
+                .map(p -> base.axioms(OWLInverseObjectPropertiesAxiom.class, property, p))
+                .flatMap(Function.identity())
+                .distinct();
+        Stream<? extends OWLObjectPropertyAxiom> other = Stream.of(
+                OWLSubObjectPropertyOfAxiom.class,
                 OWLEquivalentObjectPropertiesAxiom.class,
                 OWLDisjointObjectPropertiesAxiom.class,
-                OWLInverseObjectPropertiesAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLNaryPropertyAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, property)))
-                .map(OWLObjectPropertyAxiom.class::cast);
-        Stream<? extends OWLObjectPropertyAxiom> unary = Stream.of(
                 OWLObjectPropertyDomainAxiom.class,
                 OWLObjectPropertyRangeAxiom.class,
                 OWLTransitiveObjectPropertyAxiom.class,
@@ -522,12 +519,8 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
                 OWLFunctionalObjectPropertyAxiom.class,
                 OWLInverseFunctionalObjectPropertyAxiom.class,
                 OWLAsymmetricObjectPropertyAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLUnaryPropertyAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getProperty(), property))
-                .map(OWLObjectPropertyAxiom.class::cast);
-        return Stream.of(subPropertyOf, nary, unary).flatMap(Function.identity());
+        ).map(c -> base.axioms(c, property, Navigation.IN_SUB_POSITION)).flatMap(Function.identity());
+        return Stream.concat(other, inverse);
     }
 
     /**
@@ -547,28 +540,14 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     @Override
     public Stream<OWLDataPropertyAxiom> axioms(@Nonnull OWLDataProperty property) {
-        Stream<? extends OWLDataPropertyAxiom> subPropertyOf = base.axioms(OWLSubDataPropertyOfAxiom.class)
-                .filter(a -> Objects.equals(a.getSubProperty(), property));
-        @SuppressWarnings("unchecked")
-        Stream<? extends OWLDataPropertyAxiom> nary = Stream.of(
+        return Stream.of(
+                OWLSubDataPropertyOfAxiom.class,
                 OWLEquivalentDataPropertiesAxiom.class,
                 OWLDisjointDataPropertiesAxiom.class,
-                OWLInverseObjectPropertiesAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLNaryPropertyAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, property)))
-                .map(OWLDataPropertyAxiom.class::cast);
-        Stream<? extends OWLDataPropertyAxiom> unary = Stream.of(
                 OWLDataPropertyDomainAxiom.class,
                 OWLDataPropertyRangeAxiom.class,
                 OWLFunctionalDataPropertyAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLUnaryPropertyAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getProperty(), property))
-                .map(OWLDataPropertyAxiom.class::cast);
-        return Stream.of(subPropertyOf, nary, unary).flatMap(Function.identity());
+        ).map(c -> base.axioms(c, property, Navigation.IN_SUB_POSITION)).flatMap(Function.identity());
     }
 
     /**
@@ -589,30 +568,20 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     @Override
     public Stream<OWLIndividualAxiom> axioms(@Nonnull OWLIndividual individual) {
-        Stream<? extends OWLIndividualAxiom> classAssertion = base.axioms(OWLClassAssertionAxiom.class)
-                .filter(a -> Objects.equals(a.getIndividual(), individual));
-        Stream<? extends OWLIndividualAxiom> nary = Stream.of(
+        return Stream.of(
+                OWLClassAssertionAxiom.class,
                 OWLSameIndividualAxiom.class,
-                OWLDifferentIndividualsAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLNaryIndividualAxiom.class::cast)
-                .filter(a -> a.operands().anyMatch(o -> Objects.equals(o, individual)));
-        Stream<? extends OWLIndividualAxiom> propertyAssertion = Stream.of(
+                OWLDifferentIndividualsAxiom.class,
                 OWLObjectPropertyAssertionAxiom.class,
                 OWLDataPropertyAssertionAxiom.class,
                 OWLNegativeObjectPropertyAssertionAxiom.class,
                 OWLNegativeDataPropertyAssertionAxiom.class
-        ).map(c -> base.axioms(c))
-                .flatMap(Function.identity())
-                .map(OWLPropertyAssertionAxiom.class::cast)
-                .filter(a -> Objects.equals(a.getSubject(), individual));
-        return Stream.of(classAssertion, nary, propertyAssertion).flatMap(Function.identity());
+        ).map(c -> base.axioms(c, individual, Navigation.IN_SUB_POSITION)).flatMap(Function.identity());
     }
 
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> axioms(@Nonnull OWLDatatype datatype) {
-        return base.axioms(OWLDatatypeDefinitionAxiom.class).filter(a -> datatype.equals(a.getDatatype()));
+        return base.axioms(OWLDatatypeDefinitionAxiom.class, datatype, Navigation.IN_SUB_POSITION);
     }
 
     @SuppressWarnings("unchecked")
@@ -646,51 +615,42 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
     @Override
     public <A extends OWLAxiom> Stream<A> axioms(@Nonnull Class<A> type, @Nullable Class<? extends OWLObject> view, @Nonnull OWLObject object, @Nullable Navigation position) {
         if (OWLDeclarationAxiom.class.equals(type) && OWLEntity.class.isInstance(object) && Navigation.IN_SUB_POSITION.equals(position)) {
-            return (Stream<A>) base.axioms(OWLDeclarationAxiom.class).filter(a -> object.equals(a.getEntity()));
+            return (Stream<A>) base.axioms(OWLDeclarationAxiom.class, object, position);
         }
         if (OWLSubObjectPropertyOfAxiom.class.equals(type) && OWLObjectPropertyExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLSubObjectPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            return (Stream<A>) base.axioms(OWLSubObjectPropertyOfAxiom.class, object, position);
         }
         if (OWLSubDataPropertyOfAxiom.class.equals(type) && OWLDataPropertyExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLSubDataPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            return (Stream<A>) base.axioms(OWLSubDataPropertyOfAxiom.class, object, position);
         }
         if (OWLSubAnnotationPropertyOfAxiom.class.equals(type) && OWLAnnotationProperty.class.isInstance(object)) { // the difference: this axiom type is ignored in original OWL-API method:
-            return (Stream<A>) base.axioms(OWLSubAnnotationPropertyOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperProperty() : a.getSubProperty()));
+            return (Stream<A>) base.axioms(OWLSubAnnotationPropertyOfAxiom.class, object, position);
         }
         if (OWLSubClassOfAxiom.class.equals(type) && OWLClassExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLSubClassOfAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSuperClass() : a.getSubClass()));
+            return (Stream<A>) base.axioms(OWLSubClassOfAxiom.class, object, position);
         }
         if (OWLInverseObjectPropertiesAxiom.class.equals(type) && OWLObjectPropertyExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLInverseObjectPropertiesAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getSecondProperty() : a.getFirstProperty()));
+            return (Stream<A>) base.axioms(OWLInverseObjectPropertiesAxiom.class, object, position);
         }
         if (OWLObjectPropertyAssertionAxiom.class.equals(type) && OWLIndividual.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getObject() : a.getSubject()));
+            return (Stream<A>) base.axioms(OWLObjectPropertyAssertionAxiom.class, object, position);
         }
         if (OWLNegativeObjectPropertyAssertionAxiom.class.equals(type) && OWLIndividual.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLNegativeObjectPropertyAssertionAxiom.class)
-                    .filter(a -> object.equals(Navigation.IN_SUPER_POSITION.equals(position) ? a.getObject() : a.getSubject()));
+            return (Stream<A>) base.axioms(OWLNegativeObjectPropertyAssertionAxiom.class, object, position);
         }
         if (OWLAnnotationAssertionAxiom.class.equals(type)) {
             if (Navigation.IN_SUPER_POSITION.equals(position) && OWLAnnotationObject.class.isInstance(object)) {
-                return (Stream<A>) base.axioms(OWLAnnotationAssertionAxiom.class).filter(a -> object.equals(a.getValue()));
+                return (Stream<A>) base.axioms(OWLAnnotationAssertionAxiom.class, object, position);
             }
             if (Navigation.IN_SUB_POSITION.equals(position) && OWLAnnotationSubject.class.isInstance(object)) {
-                return (Stream<A>) base.axioms(OWLAnnotationAssertionAxiom.class).filter(a -> object.equals(a.getSubject()));
+                return (Stream<A>) base.axioms(OWLAnnotationAssertionAxiom.class, object, position);
             }
         }
         if (OWLDisjointUnionAxiom.class.equals(type) && OWLClassExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLDisjointUnionAxiom.class)
-                    .filter(a -> Navigation.IN_SUPER_POSITION.equals(position) ? a.classExpressions().anyMatch(object::equals) : object.equals(a.getOWLClass()));
+            return (Stream<A>) base.axioms(OWLDisjointUnionAxiom.class, object, position);
         }
         if (OWLSubPropertyChainOfAxiom.class.equals(type) && OWLObjectPropertyExpression.class.isInstance(object)) {
-            return (Stream<A>) base.axioms(OWLSubPropertyChainOfAxiom.class)
-                    .filter(a -> Navigation.IN_SUPER_POSITION.equals(position) ? a.getPropertyChain().stream().anyMatch(object::equals) : object.equals(a.getSuperProperty()));
+            return (Stream<A>) base.axioms(OWLSubPropertyChainOfAxiom.class, object, position);
         }
         if (OWLClassAxiom.class.equals(type) && OWLClass.class.isInstance(object)) {
             return (Stream<A>) axioms((OWLClass) object);
@@ -704,8 +664,8 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
         if (OWLIndividualAxiom.class.equals(type) && OWLIndividual.class.isInstance(object)) {
             return (Stream<A>) axioms((OWLIndividual) object);
         }
-        if (OWLNaryAxiom.class.isAssignableFrom(type)) {
-            return base.axioms(type).filter(a -> ((OWLNaryAxiom) a).operands().anyMatch(o -> Objects.equals(o, object)));
+        if (OWLNaryAxiom.class.isAssignableFrom(type) && !OWLInverseObjectPropertiesAxiom.class.equals(type)) {
+            return base.axioms(type, object, Navigation.IN_SUB_POSITION);
         }
         // default:
         return base.axioms(type).filter(a -> OwlObjects.objects(object.getClass(), a).anyMatch(object::equals));
@@ -743,7 +703,7 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
 
     @Override
     public Stream<OWLAxiom> axiomsIgnoreAnnotations(@Nonnull OWLAxiom axiom) {
-        return axioms(axiom.getAxiomType()).map(OWLAxiom.class::cast).filter(ax -> ax.equalsIgnoreAnnotations(axiom));
+        return base.axiomsIgnoreAnnotations(axiom);
     }
 
     @Override
@@ -753,13 +713,7 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
 
     @Override
     public Stream<OWLAxiom> referencingAxioms(@Nonnull OWLPrimitive primitive) {
-        if (primitive instanceof IRI) {
-            return axioms().filter(a -> OwlObjects.iris(a).anyMatch(primitive::equals));
-        }
-        if (primitive instanceof OWLDatatype) { // as well as iri the datatype could be hidden inside other objects (literals):
-            return axioms().filter(a -> OwlObjects.objects(OWLDatatype.class, a).anyMatch(primitive::equals));
-        }
-        return axioms().filter(a -> OwlObjects.objects(OWLPrimitive.class, a).anyMatch(primitive::equals));
+        return base.referencingAxioms(primitive);
     }
 
     @Override
@@ -814,7 +768,7 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
 
     @Override
     public boolean containsAxiom(@Nullable OWLAxiom axiom) {
-        return base.axioms().anyMatch(a -> a.equals(axiom));
+        return axiom != null && base.contains(axiom);
     }
 
     @Override
@@ -824,7 +778,7 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
 
     @Override
     public boolean containsAxiomIgnoreAnnotations(@Nonnull OWLAxiom axiom) {
-        return containsAxiom(axiom) || axioms(axiom.getAxiomType()).anyMatch(ax -> ax.equalsIgnoreAnnotations(axiom));
+        return containsAxiom(axiom) || base.axiomsIgnoreAnnotations(axiom).findAny().isPresent();
     }
 
     @SuppressWarnings("RedundantStreamOptionalCall") // java8 compile bug on map
@@ -849,6 +803,7 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
     /**
      * Reads the object while serialization.
      * Note: only base graph!
+     * If the graph has been written by the manager, it will be restored there.
      *
      * @param in {@link ObjectInputStream}
      * @throws IOException            if an I/O error occurs.
@@ -858,8 +813,14 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
      */
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
+        if (!in.readBoolean()) {
+            return;
+        }
         Graph base = OntModelFactory.createDefaultGraph();
         RDFDataMgr.read(base, in, DEFAULT_SERIALIZATION_FORMAT.getLang());
+        if (this.base != null) { // already restored by the manager
+            return;
+        }
         // set temporary model with default personality, it will be reset inside manager while its #readObject
         setBase(new InternalModel(base, ConfigProvider.DEFAULT_CONFIG));
     }
@@ -867,13 +828,19 @@ public abstract class OntBaseModelImpl extends OWLObjectImpl implements OWLOntol
     /**
      * Writes the object while serialization.
      * Note: only base graph!
+     * If the ontology is serialized as a part of its manager, the graph is written by the manager.
      *
      * @param out {@link ObjectOutputStream}
      * @throws IOException if I/O errors occur while writing to the underlying <code>OutputStream</code>
+     * @see OntologyManagerImpl#writeGraphs(ObjectOutputStream)
      */
     private void writeObject(ObjectOutputStream out) throws IOException {
-        out.defaultWriteObject(); // serialize only base graph (it will be wrapped as UnionGraph):
-        RDFDataMgr.write(out, base.getBaseGraph(), DEFAULT_SERIALIZATION_FORMAT.getLang());
+        out.defaultWriteObject();
+        boolean inline = !OntologyManagerImpl.isGraphWrittenByManager(this);
+        out.writeBoolean(inline);
+        if (inline) { // serialize only base graph (it will be wrapped as UnionGraph):
+            RDFDataMgr.write(out, base.getBaseGraph(), DEFAULT_SERIALIZATION_FORMAT.getLang());
+        }
     }
 
     /**
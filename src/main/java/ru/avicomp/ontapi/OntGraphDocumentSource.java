@@ -28,7 +28,8 @@ import ru.avicomp.ontapi.jena.utils.Graphs;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -38,6 +39,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * There are default implementations of {@link #getInputStream()} and {@link #getReader()} methods,
  * so you can use this document-source with the original OWL-API impl as well.
  * But these methods are not used by ONT-API; instead, the method {@link #getGraph()} (which provides a direct link to the graph) is used.
+ * When the graph has to be copied (see {@link OntologyFactoryImpl.ONTLoaderImpl#readGraph(Graph, OWLOntologyDocumentSource, ru.avicomp.ontapi.config.OntLoaderConfiguration)})
+ * the triples are transferred directly, without serialization.
  * <p>
  * Note: you may want to disable transformations (see {@link ru.avicomp.ontapi.config.OntConfig#setPerformTransformation(boolean)},
  * {@link ru.avicomp.ontapi.config.OntLoaderConfiguration#setPerformTransformation(boolean)})
@@ -48,6 +51,29 @@ import java.util.concurrent.atomic.AtomicReference;
 @SuppressWarnings("WeakerAccess")
 public abstract class OntGraphDocumentSource implements OWLOntologyDocumentSource {
 
+    /**
+     * The size of the pipe buffer used by {@link #toInputStream(Graph, Lang, AtomicReference)}.
+     *
+     * @since 1.2.0
+     */
+    public static final int PIPE_BUFFER_SIZE = 64 * 1024;
+    /**
+     * The maximum number of threads in the {@link #WRITERS shared executor}.
+     *
+     * @since 1.2.0
+     */
+    public static final int MAX_WRITERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    /**
+     * The shared executor to write graphs into pipes.
+     * It has at most {@link #MAX_WRITERS} threads and no queue:
+     * a task that can not be started immediately is rejected and the graph is written by the caller
+     * (see {@link #toInputStream(Graph, Lang, AtomicReference)}), so the number of threads never exceeds the cap.
+     * Idle workers die after a minute and do not prevent the JVM from exiting.
+     *
+     * @since 1.2.0
+     */
+    protected static final ThreadPoolExecutor WRITERS = createWriters();
+
     protected AtomicReference<IOException> exception = new AtomicReference<>();
 
     /**
@@ -88,6 +114,11 @@ public abstract class OntGraphDocumentSource implements OWLOntologyDocumentSourc
 
     /**
      * Creates a new InputStream from a Graph.
+     * The graph is written into a pipe by a task of the {@link #WRITERS shared executor}:
+     * the threads are reused between invocations and their number is bounded by {@link #MAX_WRITERS};
+     * if all of them are busy (i.e. blocked by not yet consumed pipes) the graph is written
+     * in the current thread into a memory buffer, since neither waiting for a free writer
+     * nor writing into a pipe that is not read yet can be done without the risk to hang the reader.
      *
      * @param graph  {@link Graph} a graph to read from
      * @param lang   {@link Lang} format syntax
@@ -95,8 +126,35 @@ public abstract class OntGraphDocumentSource implements OWLOntologyDocumentSourc
      * @return InputStream
      */
     public static InputStream toInputStream(Graph graph, Lang lang, AtomicReference<IOException> holder) {
-        PipedInputStream in = new PipedInputStream();
-        FilterInputStream res = new FilterInputStream(in) {
+        PipedInputStream in = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream out;
+        try {
+            out = new PipedOutputStream(in);
+        } catch (IOException e) {
+            throw new OntApiException("Can't connect pipe", e);
+        }
+        try {
+            WRITERS.execute(() -> write(graph, lang, out, holder));
+        } catch (RejectedExecutionException e) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            write(graph, lang, bytes, holder);
+            return toInputStream(new ByteArrayInputStream(bytes.toByteArray()), graph, lang, holder);
+        }
+        return toInputStream(in, graph, lang, holder);
+    }
+
+    private static void write(Graph graph, Lang lang, OutputStream out, AtomicReference<IOException> holder) {
+        try (OutputStream o = out) {
+            RDFDataMgr.write(o, graph, lang);
+        } catch (IOException e) {
+            holder.set(e);
+        } catch (RuntimeException e) {
+            holder.set(new IOException(e));
+        }
+    }
+
+    private static InputStream toInputStream(InputStream in, Graph graph, Lang lang, AtomicReference<IOException> holder) {
+        return new FilterInputStream(in) {
             private volatile boolean closed;
 
             @Override
@@ -113,20 +171,17 @@ public abstract class OntGraphDocumentSource implements OWLOntologyDocumentSourc
                 }
             }
         };
-        CountDownLatch complete = new CountDownLatch(1);
-        new Thread(() -> {
-            try (PipedOutputStream out = new PipedOutputStream(in)) {
-                complete.countDown();
-                RDFDataMgr.write(out, graph, lang);
-            } catch (IOException e) {
-                holder.set(e);
-            }
-        }).start();
-        try {
-            complete.await();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    }
+
+    private static ThreadPoolExecutor createWriters() {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor res = new ThreadPoolExecutor(MAX_WRITERS, MAX_WRITERS, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "OntGraphDocumentSource-writer-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        res.allowCoreThreadTimeOut(true);
         return res;
     }
 
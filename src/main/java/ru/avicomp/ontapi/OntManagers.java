@@ -23,6 +23,7 @@ import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.owlapi.NoOpReadWriteLock;
 import ru.avicomp.owlapi.OWLDataFactoryImpl;
 import ru.avicomp.owlapi.OWLOntologyFactoryImpl;
+import ru.avicomp.owlapi.StampedReadWriteLock;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
@@ -30,6 +31,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -83,6 +85,40 @@ public class OntManagers implements OWLOntologyManagerFactory {
         return DEFAULT_PROFILE.create(true);
     }
 
+    /**
+     * Creates an ONT-API ontology manager with default settings and the specified lock strategy
+     * to work in a concurrent environment.
+     * The lock is shared between the manager and all its ontologies.
+     * Use {@link StampedReadWriteLock} to allow optimistic (lock-free) reads for cheap ontology accessors
+     * (such as {@link OntologyModel#getOntologyID()}), which may be preferable under a read-heavy load from many threads.
+     *
+     * @param lock {@link ReadWriteLock}, not null
+     * @return {@link OntologyManager} the new manager instance.
+     * @since 1.2.0
+     */
+    public static OntologyManager createConcurrentONT(ReadWriteLock lock) {
+        return DEFAULT_PROFILE.create(Objects.requireNonNull(lock, "Null lock"));
+    }
+
+    /**
+     * Creates an ONT-API ontology manager with default settings to work in a concurrent environment,
+     * optionally with per-ontology locking.
+     * If {@code ontologyLocking} is {@code true}, the specified lock is used by the manager only to protect the registry
+     * (i.e. the collection of ontologies, their ids and imports, the settings),
+     * while each ontology has its own independent lock,
+     * so that loading or modifying one ontology does not block access to all others.
+     * Note: an ontology imported by some other ontology is still modified under the manager's write lock.
+     *
+     * @param lock            {@link ReadWriteLock}, not null
+     * @param ontologyLocking boolean, if true each ontology has its own lock
+     * @return {@link OntologyManager} the new manager instance.
+     * @see OntologyManagerImpl.OntologyLock
+     * @since 1.2.0
+     */
+    public static OntologyManager createConcurrentONT(ReadWriteLock lock, boolean ontologyLocking) {
+        return DEFAULT_PROFILE.create(Objects.requireNonNull(lock, "Null lock"), ontologyLocking);
+    }
+
     /**
      * Creates an original (pure) OWL-API ontology manager instance with default settings.
      * Notes:
@@ -185,9 +221,32 @@ public class OntManagers implements OWLOntologyManagerFactory {
 
         @Override
         public OntologyManager create(boolean concurrent) {
+            return create(concurrent ? new ReentrantReadWriteLock() : new NoOpReadWriteLock());
+        }
+
+        /**
+         * Creates a new manager with the specified lock.
+         *
+         * @param lock {@link ReadWriteLock}
+         * @return {@link OntologyManager}
+         * @since 1.2.0
+         */
+        public OntologyManager create(ReadWriteLock lock) {
+            return create(lock, false);
+        }
+
+        /**
+         * Creates a new manager with the specified lock and locking strategy.
+         *
+         * @param lock            {@link ReadWriteLock}
+         * @param ontologyLocking boolean, if true each ontology of the manager has its own lock
+         * @return {@link OntologyManager}
+         * @since 1.2.0
+         */
+        public OntologyManager create(ReadWriteLock lock, boolean ontologyLocking) {
             Set<OWLStorerFactory> storers = OWLLangRegistry.storerFactories().collect(Collectors.toSet());
             Set<OWLParserFactory> parsers = OWLLangRegistry.parserFactories().collect(Collectors.toSet());
-            OntologyManager res = create(this.dataFactory(), concurrent ? new ReentrantReadWriteLock() : new NoOpReadWriteLock());
+            OntologyManager res = create(this.dataFactory(), lock, ontologyLocking);
             res.setOntologyStorers(storers);
             res.setOntologyParsers(parsers);
             return res;
@@ -197,6 +256,10 @@ public class OntManagers implements OWLOntologyManagerFactory {
             return new OntologyManagerImpl(factory, lock);
         }
 
+        public OntologyManager create(OWLDataFactory factory, ReadWriteLock lock, boolean ontologyLocking) {
+            return ontologyLocking ? new OntologyManagerImpl(factory, new OntologyFactoryImpl(), lock, true) : create(factory, lock);
+        }
+
         @Override
         public OWLDataFactory dataFactory() {
             return DEFAULT_DATA_FACTORY;
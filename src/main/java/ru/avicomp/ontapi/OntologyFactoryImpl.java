@@ -21,11 +21,18 @@ import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphUtil;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
 import org.apache.jena.riot.system.ErrorHandlerFactory;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NullIterator;
 import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
 import org.semanticweb.owlapi.io.*;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.util.PriorityCollection;
@@ -34,18 +41,32 @@ import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.config.OntWriterConfiguration;
+import ru.avicomp.ontapi.internal.InternalModelHolder;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.utils.ByteBufferInputStream;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Models;
+import ru.avicomp.ontapi.transforms.GraphTransformers;
 import ru.avicomp.ontapi.transforms.TransformException;
 import ru.avicomp.owlapi.NoOpReadWriteLock;
 
 import javax.annotation.Nonnull;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -258,12 +279,32 @@ public class OntologyFactoryImpl implements OntologyFactory {
         protected static final String TEXTPLAIN_REQUEST_TYPE = ", text/plain; q=0.1";
         protected static final String LAST_REQUEST_TYPE = ", */*; q=0.09";
         protected static final String DEFAULT_REQUEST = "application/rdf+xml, application/xml; q=0.7, text/xml; q=0.6" + TEXTPLAIN_REQUEST_TYPE + LAST_REQUEST_TYPE;
+        // the number of bytes to look at while detecting the format, see #detectFormats:
+        protected static final int DETECT_LIMIT = 8 * 1024;
+        // the settings for reading line-based formats by chunks, see #readChunks:
+        protected static final long MIN_CHUNKED_FILE_SIZE = 1024 * 1024;
+        protected static final long MAX_CHUNK_SIZE = 256 * 1024 * 1024;
+        private static final byte[] BINARY_RDF_MAGIC = "BRDF".getBytes(StandardCharsets.US_ASCII);
+        private static final Pattern XML_ROOT = Pattern.compile("<([A-Za-z_][\\w.\\-]*(?::[A-Za-z_][\\w.\\-]*)?)(?:\\s|/?>)");
+        private static final Pattern JSON_START = Pattern.compile("\\{\\s*[\"}]|\\[\\s*[{\\]\"]");
+        private static final Pattern TURTLE_DIRECTIVE = Pattern.compile("@prefix\\s|@base\\s|(?i:prefix)\\s+[\\w.\\-]*:|(?i:base)\\s+<");
+        private static final String NT_RESOURCE = "(?:<[^>\\s]*>|_:\\S+)";
+        private static final Pattern NTRIPLES_LINE = Pattern.compile(NT_RESOURCE + "[ \\t]+<[^>\\s]*>[ \\t]+(?:" + NT_RESOURCE + "|\")");
+        private static final Pattern FUNCTIONAL_SYNTAX_START = Pattern.compile("(?:Prefix|Ontology)\\s*\\(");
+        private static final Pattern MANCHESTER_SYNTAX_START = Pattern.compile("(?:Prefix|Ontology):");
+        // the shared pools to fetch imports, one per parallelism level, see #getFetchImportsExecutor(int)
+        private static final Map<Integer, ExecutorService> FETCH_IMPORTS_EXECUTORS = new ConcurrentHashMap<>();
         // to use OWL-API parsers:
         protected Loader alternative;
         // state:
         protected Map<String, GraphInfo> graphs = new LinkedHashMap<>();
         protected Map<IRI, Optional<IRI>> sourceMap = new HashMap<>();
         protected Map<IRI, GraphInfo> loaded = new HashMap<>();
+        // the results of the parallel fetching of imports, see #fetchImports:
+        protected Map<IRI, Future<GraphInfo>> fetched = new HashMap<>();
+        protected Map<IRI, Optional<IRI>> mappings = new HashMap<>();
+        // the postponed transformations of the current imports closure, see OntLoaderConfiguration#isDeferTransformations()
+        protected DeferredTransforms deferred;
 
         /**
          * Main constructor.
@@ -279,6 +320,11 @@ public class OntologyFactoryImpl implements OntologyFactory {
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Load ontology using OWL-API methods. Source [{}]{}", source.getClass().getSimpleName(), source.getDocumentIRI());
                 }
+                // the OWL-API parses and puts an ontology into the manager at once, so all phases are reported in advance:
+                OntologyManagerImpl impl = asIMPL(manager);
+                impl.fireLoadingPhase(OntologyManager.LoadingPhase.FETCH, source.getDocumentIRI());
+                impl.fireLoadingPhase(OntologyManager.LoadingPhase.PARSE, source.getDocumentIRI());
+                impl.fireLoadingPhase(OntologyManager.LoadingPhase.REGISTER, source.getDocumentIRI());
                 return OntApiException.notNull(alternative, "No owl loader.").load(source, manager, config);
             }
             try {
@@ -286,6 +332,12 @@ public class OntologyFactoryImpl implements OntologyFactory {
                 // null key in case of anonymous ontology.
                 // But: only one anonymous is allowed (as root of imports tree), if there is no mapping in manager.
                 graphs.put(primary.getURI(), primary);
+                // read all imported documents in advance, if it is allowed by the config or already done:
+                if (source instanceof PrefetchedDocumentSource) {
+                    ((PrefetchedDocumentSource) source).transfer(this);
+                } else if (config.getFetchImportsParallelism() > 1) {
+                    fetchImports(primary, manager, config);
+                }
                 // first expand graphs map by creating primary model:
                 OntologyModel res = OntApiException.notNull(createModel(primary, manager, config), "Should never happen");
                 // then process all the rest dependent models (we have already all graphs compiled, now need populate them as models):
@@ -305,6 +357,162 @@ public class OntologyFactoryImpl implements OntologyFactory {
             graphs.clear();
             sourceMap.clear();
             loaded.clear();
+            fetched.values().forEach(f -> f.cancel(true));
+            fetched.clear();
+            mappings.clear();
+            deferred = null;
+        }
+
+        /**
+         * Walks over the {@code owl:imports} graph starting from the specified root
+         * and parses all found documents simultaneously in a {@link #getFetchImportsExecutor(int) shared thread pool},
+         * which size is determined by the {@link OntLoaderConfiguration#getFetchImportsParallelism()} setting.
+         * A document is submitted as soon as the graph that imports it is parsed,
+         * so the total time is determined by the longest path in the imports graph, not by the sum of all documents.
+         * <p>
+         * This method only fills the {@link #fetched} map, which is then consumed by the {@link #loadGraph} method,
+         * while the assembling of models (see {@link #makeUnionGraph}) goes in the usual way,
+         * in the current thread and in the same order, so the result does not depend on the timing.
+         * The resolving of document IRIs (i.e. calling the manager's {@link OWLOntologyIRIMapper}s) is also performed in the current thread,
+         * each mapper result is saved and then reused, so mappers are called the same number of times as in the sequential mode.
+         * Errors are not thrown here, they are re-thrown later, at the same place where they would occur in the sequential mode.
+         * If the manager has some {@link OntologyManager.DocumentSourceMapping}s, nothing is fetched in advance.
+         *
+         * @param root    {@link GraphInfo} the primary graph
+         * @param manager {@link OntologyManager}
+         * @param config  {@link OntLoaderConfiguration}
+         * @since 1.2.0
+         */
+        protected void fetchImports(GraphInfo root, OntologyManager manager, OntLoaderConfiguration config) {
+            if (manager.documentSourceMappers().findFirst().isPresent()) {
+                return;
+            }
+            CompletionService<GraphInfo> service = new ExecutorCompletionService<>(getFetchImportsExecutor(config.getFetchImportsParallelism()));
+            Set<String> seen = new HashSet<>();
+            seen.add(root.getURI());
+            try {
+                int tasks = submitImports(root, seen, service, manager, config);
+                while (tasks > 0) {
+                    Future<GraphInfo> f = service.take();
+                    tasks--;
+                    GraphInfo info;
+                    try {
+                        info = f.get();
+                    } catch (ExecutionException e) { // will be handled later
+                        continue;
+                    }
+                    tasks += submitImports(info, seen, service, manager, config);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Fetching imports of {} has been interrupted.", root.name());
+                fetched.values().forEach(f -> f.cancel(true));
+                fetched.clear();
+            }
+        }
+
+        /**
+         * Returns the executor to fetch imports with the given number of threads.
+         * The executor is created once on demand and then is shared by all loadings with the same parallelism level,
+         * so the threads are reused between invocations, several simultaneous loadings are queued there.
+         * The threads are daemons and die after a minute of idleness.
+         *
+         * @param parallelism int, the number of threads
+         * @return {@link ExecutorService}
+         * @see OntLoaderConfiguration#getFetchImportsParallelism()
+         * @since 1.2.0
+         */
+        protected static ExecutorService getFetchImportsExecutor(int parallelism) {
+            return FETCH_IMPORTS_EXECUTORS.computeIfAbsent(parallelism, n -> {
+                ThreadPoolExecutor res = new ThreadPoolExecutor(n, n, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), daemonThreadFactory("ont-api-fetch-imports"));
+                res.allowCoreThreadTimeOut(true);
+                return res;
+            });
+        }
+
+        /**
+         * Reads the imports closure of the already parsed primary document
+         * without changing the manager and without taking its write lock.
+         * The imported documents are fetched and parsed by the {@link #fetchImports} method of a new loader instance,
+         * the results (together with the IRI mappings) are carried by the returned source and
+         * then are consumed by the {@link #load} method instead of reading the documents once again.
+         * Errors are not thrown here, they are re-thrown later by the {@link #load} method.
+         *
+         * @param graph   {@link Graph} the primary graph
+         * @param format  {@link OntFormat} of the primary document
+         * @param doc     {@link IRI} of the primary document
+         * @param manager {@link OntologyManager}
+         * @param config  {@link OntLoaderConfiguration}
+         * @return {@link PrefetchedDocumentSource}
+         * @see OntologyManagerImpl#readDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)
+         * @since 1.2.0
+         */
+        public static PrefetchedDocumentSource prefetch(Graph graph,
+                                                        OntFormat format,
+                                                        IRI doc,
+                                                        OntologyManager manager,
+                                                        OntLoaderConfiguration config) {
+            ONTLoaderImpl loader = new ONTLoaderImpl(null);
+            loader.fetchImports(loader.toGraphInfo(graph, format, doc), manager, config);
+            return new PrefetchedDocumentSource(graph, format, doc, loader.fetched, loader.mappings);
+        }
+
+        /**
+         * Submits the parsing of all documents imported by the given graph, which are not seen yet.
+         * The imports that are ignored, or already present in the manager,
+         * or were loaded through the OWL-API mechanisms are skipped.
+         *
+         * @param node    {@link GraphInfo}
+         * @param seen    Set of already processed ontology URIs
+         * @param service {@link CompletionService} to run tasks
+         * @param manager {@link OntologyManager}
+         * @param config  {@link OntLoaderConfiguration}
+         * @return int, the number of submitted tasks
+         * @see #fetchGraph(String, OntologyManager, OntLoaderConfiguration)
+         * @see #loadGraph(OWLOntologyDocumentSource, OntologyManager, OntLoaderConfiguration)
+         */
+        private int submitImports(GraphInfo node,
+                                  Set<String> seen,
+                                  CompletionService<GraphInfo> service,
+                                  OntologyManager manager,
+                                  OntLoaderConfiguration config) {
+            int res = 0;
+            for (String uri : node.getImports().stream().sorted().collect(Collectors.toList())) {
+                if (!seen.add(uri)) continue;
+                IRI ontologyIRI = IRI.create(uri);
+                if (config.isIgnoredImport(ontologyIRI) || findModel(manager, ontologyIRI) != null) continue;
+                // the same resolving as in #fetchGraph and #loadGraph:
+                Optional<IRI> mapping = mapIRI(manager, ontologyIRI);
+                IRI documentIRI = mapping.orElse(ontologyIRI);
+                if (findModel(manager, documentIRI) != null || loaded.containsKey(documentIRI) || fetched.containsKey(documentIRI))
+                    continue;
+                if (!documentIRI.equals(ontologyIRI)) {
+                    mapping = mapIRI(manager, documentIRI);
+                }
+                IRIDocumentSource source = new IRIDocumentSource(mapping.orElse(documentIRI));
+                fetched.put(documentIRI, service.submit(() -> {
+                    Graph graph = OntModelFactory.createDefaultGraph(config.getGraphType());
+                    OntFormat format = readGraph(graph, source, config);
+                    GraphInfo info = toGraphInfo(graph, format, documentIRI);
+                    // to calculate the header and imports in the same thread:
+                    info.getImports();
+                    return info;
+                }));
+                res++;
+            }
+            return res;
+        }
+
+        /**
+         * Calls the manager's IRI mappers and remembers the result to be used later by the {@link #documentIRI} method.
+         *
+         * @param manager {@link OntologyManager the manager}
+         * @param source  {@link IRI}
+         * @return Optional around a mapped iri
+         */
+        private Optional<IRI> mapIRI(OntologyManager manager, IRI source) {
+            return mappings.computeIfAbsent(source, iri -> asIMPL(manager).mapIRI(iri));
         }
 
         /**
@@ -329,7 +537,15 @@ public class OntologyFactoryImpl implements OntologyFactory {
                 }
                 boolean isPrimary = graphs.size() == 1;
                 Graph graph = makeUnionGraph(info, new HashSet<>(), manager, config);
-                if (isPrimary && info.withTransforms() && config.isPerformTransformation()) {
+                OntologyManagerImpl impl = asIMPL(manager);
+                if (isPrimary && info.withTransforms() && config.isPerformTransformation() && config.isDeferTransformations()) {
+                    if (LOGGER.isDebugEnabled())
+                        LOGGER.debug("Postpone graph transformations.");
+                    Set<Graph> registered = graphs.values().stream()
+                            .filter(x -> !x.isFresh()).map(GraphInfo::getGraph).collect(Collectors.toSet());
+                    deferred = new DeferredTransforms(config.getGraphTransformers(), graph, registered);
+                } else if (isPrimary && info.withTransforms() && config.isPerformTransformation()) {
+                    impl.fireLoadingPhase(OntologyManager.LoadingPhase.TRANSFORM, info.getSource());
                     if (LOGGER.isDebugEnabled())
                         LOGGER.debug("Perform graph transformations.");
                     try {
@@ -340,8 +556,11 @@ public class OntologyFactoryImpl implements OntologyFactory {
 
                 }
                 OntFormat format = info.getFormat();
-                OntologyManagerImpl impl = asIMPL(manager);
+                impl.fireLoadingPhase(OntologyManager.LoadingPhase.REGISTER, info.getSource());
                 OntologyModel res = impl.newOntologyModel(graph, config);
+                if (deferred != null && deferred.isPending(graph)) {
+                    ((InternalModelHolder) res).getBase().setMaterializer(deferred.forGraph(graph));
+                }
                 if (manager.contains(res)) {
                     throw new OWLOntologyAlreadyExistsException(res.getOntologyID());
                 }
@@ -420,7 +639,8 @@ public class OntologyFactoryImpl implements OntologyFactory {
                     }
                     children.add(info);
                 } catch (OWLOntologyCreationException e) {
-                    if (MissingImportHandlingStrategy.THROW_EXCEPTION.equals(config.getMissingImportHandlingStrategy())) {
+                    if (e instanceof LoadingCancelledException
+                            || MissingImportHandlingStrategy.THROW_EXCEPTION.equals(config.getMissingImportHandlingStrategy())) {
                         throw new UnloadableImportException(e, declaration);
                     }
                     LOGGER.warn("Ontology {}: can't read sub graph with {}. Exception: {}", name, declaration, e.getMessage());
@@ -509,7 +729,10 @@ public class OntologyFactoryImpl implements OntologyFactory {
             if (res != null) {
                 sourceMap.remove(source);
             } else {
-                res = asIMPL(manager).mapIRI(source);
+                res = mappings.remove(source);
+                if (res == null) {
+                    res = asIMPL(manager).mapIRI(source);
+                }
                 sourceMap.put(source, res);
             }
             return res;
@@ -569,15 +792,21 @@ public class OntologyFactoryImpl implements OntologyFactory {
                 return loaded.get(source.getDocumentIRI());
             }
             IRI doc = source.getDocumentIRI();
+            OntologyManagerImpl impl = asIMPL(manager);
+            impl.fireLoadingPhase(OntologyManager.LoadingPhase.FETCH, doc);
             OWLOntologyDocumentSource src = documentIRI(manager, doc)
                     .map(IRIDocumentSource::new)
                     .map(OWLOntologyDocumentSource.class::cast)
                     .orElse(source);
             try {
                 // jena:
-                Graph graph = OntModelFactory.createDefaultGraph();
-                OntFormat format = readGraph(graph, src, config);
-                GraphInfo res = toGraphInfo(graph, format, doc);
+                impl.fireLoadingPhase(OntologyManager.LoadingPhase.PARSE, doc);
+                GraphInfo res = fetched.containsKey(doc) ? getFetched(doc) : null;
+                if (res == null) {
+                    Graph graph = OntModelFactory.createDefaultGraph(config.getGraphType());
+                    OntFormat format = readGraph(graph, src, config);
+                    res = toGraphInfo(graph, format, doc);
+                }
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Graph <{}> is loaded by jena. Source: {}[{}]. Format: {}",
                             res.name(), source.getClass().getSimpleName(), res.getSource(), res.getFormat());
@@ -623,6 +852,34 @@ public class OntologyFactoryImpl implements OntologyFactory {
             }
         }
 
+        /**
+         * Takes the result of the {@link #fetchImports parallel fetching} for the specified document.
+         *
+         * @param doc {@link IRI} the document IRI
+         * @return {@link GraphInfo} or {@code null} if the task has been cancelled
+         * @throws OWLOntologyCreationException if the document can not be read
+         * @throws OntApiException              in case of some other unexpected problem
+         */
+        protected GraphInfo getFetched(IRI doc) throws OWLOntologyCreationException {
+            Future<GraphInfo> res = fetched.remove(doc);
+            if (res.isCancelled()) return null;
+            try {
+                return res.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OntApiException("Fetching <" + doc + "> has been interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OWLOntologyCreationException) {
+                    throw (OWLOntologyCreationException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new OntApiException("Can't fetch <" + doc + ">", cause);
+            }
+        }
+
         /**
          * Creates a copy of specified manager special for loading operations through OWL-API mechanisms.
          * All loaded content would be stored inside a copy, not the original manager.
@@ -707,7 +964,8 @@ public class OntologyFactoryImpl implements OntologyFactory {
          * For generality it is public.
          *
          * @param graph  {@link Graph} the graph(empty) to put in.
-         * @param source {@link OWLOntologyDocumentSource} the source (encapsulates IO-stream, IO-Reader or IRI of document)
+         * @param source {@link OWLOntologyDocumentSource} the source (encapsulates IO-stream, IO-Reader or IRI of document);
+         *               the content of {@link OntGraphDocumentSource} is copied triple by triple without serialization
          * @param conf   {@link OntLoaderConfiguration} config
          * @return {@link OntFormat} corresponding to the specified source.
          * @throws UnsupportedFormatException   if source can't be read into graph using jena.
@@ -719,6 +977,14 @@ public class OntologyFactoryImpl implements OntologyFactory {
             IRI iri = OntApiException.notNull(source, "Null document source.").getDocumentIRI();
             if (LOGGER.isDebugEnabled())
                 LOGGER.debug("Read graph from <{}>.", iri);
+            if (source instanceof OntGraphDocumentSource) {
+                // in-memory handoff, no need to serialize and parse back:
+                OntGraphDocumentSource src = (OntGraphDocumentSource) source;
+                Graph from = src.getGraph();
+                GraphUtil.addInto(graph, from);
+                graph.getPrefixMapping().setNsPrefixes(from.getPrefixMapping());
+                return src.getOntFormat();
+            }
             Supplier<OWLOntologyInputSourceException> orElse = () -> new OWLOntologyInputSourceException("Can't get input-stream/reader from " + iri);
             if (source.getInputStream().isPresent()) {
                 return read(graph, source, s -> s.getInputStream().orElseThrow(orElse));
@@ -730,7 +996,7 @@ public class OntologyFactoryImpl implements OntologyFactory {
                 throw new ConfigMismatchException("Not allowed scheme: " + iri);
             }
             String header = source.getAcceptHeaders().orElse(DEFAULT_REQUEST);
-            return read(graph, source, s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse));
+            return read(graph, source, s -> DocumentSources.getInputStream(iri, conf, header).orElseThrow(orElse), conf);
         }
 
         /**
@@ -788,33 +1054,404 @@ public class OntologyFactoryImpl implements OntologyFactory {
          * @throws OWLOntologyCreationException if something is wrong.
          */
         protected static OntFormat read(Graph graph, OWLOntologyDocumentSource source, OntInputSupplier supplier) throws OWLOntologyCreationException {
+            return read(graph, source, supplier, null);
+        }
+
+        /**
+         * Performs reading to the graph from the source using ont-supplier which produces input stream each time.
+         * If the config allows parallel parsing and the source is a big enough local file,
+         * the line-based formats (N-Triples, N-Quads) are parsed by chunks, see {@link #readChunks(Graph, Path, String, Lang, int)}.
+         * If the format is not specified explicitly and the content looks like N-Triples,
+         * these formats are tried first, before Turtle, which is a superset of N-Triples and can be parsed only sequentially.
+         *
+         * @param graph    {@link Graph}
+         * @param source   {@link OWLOntologyDocumentSource}
+         * @param supplier {@link OntInputSupplier}
+         * @param conf     {@link OntLoaderConfiguration}, can be null
+         * @return {@link OntFormat}
+         * @throws OWLOntologyCreationException if something is wrong.
+         * @since 1.2.0
+         */
+        protected static OntFormat read(Graph graph,
+                                        OWLOntologyDocumentSource source,
+                                        OntInputSupplier supplier,
+                                        OntLoaderConfiguration conf) throws OWLOntologyCreationException {
             IRI iri = source.getDocumentIRI();
+            int parallelism = conf == null ? 1 : conf.getParseParallelism();
+            Path file = parallelism > 1 ? getChunkedFile(source) : null;
             final OWLOntologyCreationException cause = new UnsupportedFormatException(String.format("Can't read %s %s.",
                     source.getClass().getSimpleName(), iri));
-            for (OntFormat format : getSupportedFormats(source)) {
-                if (format.isOWLOnly()) {
-                    cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.").putFormat(format).putSource(iri));
-                    continue;
-                }
-                Lang lang = format.getLang();
-                try (InputStream is = supplier.open(source)) {
+            Collection<OntFormat> formats = getSupportedFormats(source);
+            // the stream which is opened to look at the content, it is used for the first attempt:
+            try (InputStream probe = source.getFormat().isPresent() ? null : buffer(supplier.open(source))) {
+                InputStream first = probe;
+                if (probe != null) {
+                    Set<OntFormat> detected = detectFormats(probe);
                     if (LOGGER.isDebugEnabled())
-                        LOGGER.debug("try <{}>", lang);
-                    // with @base:
-                    RDFDataMgr.read(graph, is, iri.toString(), lang);
-                    return format;
-                } catch (OWLOntologyInputSourceException | IOException e) {
-                    throw new OWLOntologyCreationException(source.getClass().getSimpleName() + ": can't open or close input stream from " + iri, e);
-                } catch (RuntimeException e) {
-                    // could be org.apache.jena.shared.JenaException || org.apache.jena.atlas.AtlasException || org.apache.jena.atlas.json.JsonParseException || ...
-                    if (LOGGER.isDebugEnabled())
-                        LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
-                    cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+                        LOGGER.debug("<{}> looks like {}", iri, detected);
+                    if (!detected.isEmpty() && detected.stream().allMatch(OntFormat::isOWLOnly)) {
+                        detected.forEach(f -> cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.").putFormat(f).putSource(iri)));
+                        throw cause;
+                    }
+                    formats = sortFormats(formats, detected);
+                    if (file != null && detected.contains(OntFormat.NTRIPLES)) {
+                        formats = sortFormats(formats, new LinkedHashSet<>(Arrays.asList(OntFormat.NTRIPLES, OntFormat.NQUADS)));
+                    }
                 }
+                for (OntFormat format : formats) {
+                    if (format.isOWLOnly()) {
+                        cause.addSuppressed(new UnsupportedFormatException("Not supported by jena.").putFormat(format).putSource(iri));
+                        continue;
+                    }
+                    Lang lang = format.getLang();
+                    if (file != null && (OntFormat.NTRIPLES.equals(format) || OntFormat.NQUADS.equals(format))) {
+                        try {
+                            readChunks(graph, file, iri.toString(), lang, parallelism);
+                            return format;
+                        } catch (IOException e) {
+                            throw new OWLOntologyCreationException(source.getClass().getSimpleName() + ": can't read file " + file, e);
+                        } catch (RuntimeException e) {
+                            if (LOGGER.isDebugEnabled())
+                                LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
+                            cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+                            continue;
+                        }
+                    }
+                    InputStream next = first;
+                    first = null;
+                    try (InputStream is = next != null ? next : supplier.open(source)) {
+                        if (LOGGER.isDebugEnabled())
+                            LOGGER.debug("try <{}>", lang);
+                        // with @base:
+                        RDFDataMgr.read(graph, is, iri.toString(), lang);
+                        return format;
+                    } catch (RuntimeException e) {
+                        // could be org.apache.jena.shared.JenaException || org.apache.jena.atlas.AtlasException || org.apache.jena.atlas.json.JsonParseException || ...
+                        if (LOGGER.isDebugEnabled())
+                            LOGGER.debug("<{}> failed: '{}'", lang, e.getMessage());
+                        cause.addSuppressed(new UnsupportedFormatException(e).putSource(iri).putFormat(format));
+                    }
+                }
+            } catch (OWLOntologyInputSourceException | IOException e) {
+                throw new OWLOntologyCreationException(source.getClass().getSimpleName() + ": can't open or close input stream from " + iri, e);
             }
             throw cause;
         }
 
+        /**
+         * Returns the local file that is suitable for reading by chunks.
+         * It must be a plain (not compressed) regular file with size not less than {@link #MIN_CHUNKED_FILE_SIZE},
+         * and the source must not provide its own stream or reader.
+         *
+         * @param source {@link OWLOntologyDocumentSource}
+         * @return {@link Path} or {@code null}
+         */
+        protected static Path getChunkedFile(OWLOntologyDocumentSource source) {
+            if (source.getInputStream().isPresent() || source.getReader().isPresent()) return null;
+            IRI iri = source.getDocumentIRI();
+            if (!"file".equalsIgnoreCase(iri.getScheme())) return null;
+            Path res;
+            try {
+                res = Paths.get(iri.toURI());
+                if (!Files.isRegularFile(res) || Files.size(res) < MIN_CHUNKED_FILE_SIZE) return null;
+                try (InputStream is = Files.newInputStream(res)) {
+                    // gzip magic number
+                    if (is.read() == 0x1f && is.read() == 0x8b) return null;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (LOGGER.isDebugEnabled())
+                    LOGGER.debug("Can't use file {}: {}", iri, e.getMessage());
+                return null;
+            }
+            return res;
+        }
+
+        /**
+         * Reads a file in a line-based format (N-Triples or N-Quads) using several threads.
+         * The file is split into line-aligned chunks, each chunk is memory-mapped and parsed independently
+         * into a separate list of triples, which is added into the graph (in the current thread) as soon as the chunk is parsed,
+         * so only the triples of the chunks, which are parsed but not yet added, are kept in memory.
+         * All chunk parsers share the same seed for blank nodes, so equal labels produce equal blank nodes.
+         * If any chunk is failed, the rest of chunks are cancelled,
+         * and the graph is cleared, if it was empty before, so that another format can be tried.
+         *
+         * @param graph       {@link Graph} to fill
+         * @param file        {@link Path} to the file
+         * @param base        String, base uri
+         * @param lang        {@link Lang}, either N-Triples or N-Quads
+         * @param parallelism int, the number of threads
+         * @throws IOException      if an I/O error occurs
+         * @throws OntApiException  if reading has been interrupted
+         * @throws RuntimeException if the content is wrong
+         * @since 1.2.0
+         */
+        protected static void readChunks(Graph graph, Path file, String base, Lang lang, int parallelism) throws IOException {
+            UUID seed = UUID.randomUUID();
+            List<Callable<List<Triple>>> tasks = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                long chunks = Math.max(parallelism * 2L, size / MAX_CHUNK_SIZE + 1);
+                long step = size / chunks + 1;
+                long start = 0;
+                while (start < size) {
+                    long end = nextLine(channel, Math.min(start + step, size), size);
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                    tasks.add(() -> {
+                        List<Triple> res = new ArrayList<>();
+                        RDFParser.create()
+                                .source(new ByteBufferInputStream(buffer))
+                                .lang(lang)
+                                .base(base)
+                                .labelToNode(LabelToNode.createScopeByDocumentHash(seed))
+                                .parse(new GraphBase() {
+                                    @Override
+                                    public void performAdd(Triple t) {
+                                        res.add(t);
+                                    }
+
+                                    @Override
+                                    protected ExtendedIterator<Triple> graphBaseFind(Triple t) {
+                                        return NullIterator.instance();
+                                    }
+                                });
+                        return res;
+                    });
+                    start = end;
+                }
+            }
+            if (LOGGER.isDebugEnabled())
+                LOGGER.debug("Read {} in {} chunks.", file, tasks.size());
+            boolean empty = graph.isEmpty();
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, daemonThreadFactory("ont-api-read-chunks"));
+            CompletionService<List<Triple>> service = new ExecutorCompletionService<>(executor);
+            boolean done = false;
+            try {
+                tasks.forEach(service::submit);
+                for (int i = 0; i < tasks.size(); i++) {
+                    GraphUtil.add(graph, service.take().get());
+                }
+                done = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OntApiException("Reading " + file + " has been interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new OntApiException("Can't read " + file, cause);
+            } finally {
+                executor.shutdownNow();
+                if (!done && empty) {
+                    graph.clear();
+                }
+            }
+        }
+
+        /**
+         * Creates a {@link ThreadFactory} which produces daemon threads with names starting with the given prefix,
+         * so the loading pools do not prevent the JVM from exiting and are easy to find in a thread dump.
+         *
+         * @param prefix String, the name prefix
+         * @return {@link ThreadFactory}
+         * @since 1.2.0
+         */
+        protected static ThreadFactory daemonThreadFactory(String prefix) {
+            AtomicInteger count = new AtomicInteger();
+            return r -> {
+                Thread res = new Thread(r, prefix + "-" + count.incrementAndGet());
+                res.setDaemon(true);
+                return res;
+            };
+        }
+
+        /**
+         * Finds the position right after the nearest line end starting from the given position.
+         *
+         * @param channel {@link FileChannel}
+         * @param from    long, the position to start search
+         * @param size    long, the size of channel
+         * @return long, the position of the next line start, or the size if there are no more lines
+         * @throws IOException if an I/O error occurs
+         */
+        private static long nextLine(FileChannel channel, long from, long size) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+            long position = from;
+            while (position < size) {
+                buffer.clear();
+                int n = channel.read(buffer, position);
+                if (n <= 0) break;
+                for (int i = 0; i < n; i++) {
+                    if (buffer.get(i) == '\n') return position + i + 1;
+                }
+                position += n;
+            }
+            return size;
+        }
+
+        /**
+         * Moves the specified detected formats to the top of the collection, keeping the original order for the rest.
+         * So, the formats, which are suitable for the content, are tried first,
+         * and the whole list of formats is still there as a fallback.
+         *
+         * @param formats  Collection of {@link OntFormat}s to sort
+         * @param detected Set of {@link OntFormat}s that are suitable for the content
+         * @return List of {@link OntFormat}s
+         */
+        protected static List<OntFormat> sortFormats(Collection<OntFormat> formats, Set<OntFormat> detected) {
+            List<OntFormat> res = new ArrayList<>(formats.size());
+            formats.stream().filter(detected::contains).forEach(res::add);
+            formats.stream().filter(f -> !detected.contains(f)).forEach(res::add);
+            return res;
+        }
+
+        /**
+         * Looks at the beginning (first {@link #DETECT_LIMIT} bytes) of the stream and chooses the formats that are suitable for the content.
+         * The stream is left at the same position.
+         *
+         * @param is {@link InputStream} which supports {@link InputStream#mark(int)}
+         * @return Set of {@link OntFormat}s, empty if the content is not recognized
+         * @throws IOException if an I/O error occurs
+         * @see #detectFormats(byte[], int)
+         * @since 1.2.0
+         */
+        protected static Set<OntFormat> detectFormats(InputStream is) throws IOException {
+            byte[] head = new byte[DETECT_LIMIT];
+            is.mark(DETECT_LIMIT);
+            int length = 0;
+            try {
+                int n;
+                while (length < head.length && (n = is.read(head, length, head.length - length)) != -1) {
+                    length += n;
+                }
+            } finally {
+                is.reset();
+            }
+            return detectFormats(head, length);
+        }
+
+        /**
+         * Chooses the formats that are suitable for the document with the specified beginning.
+         * This is a cheap content sniffing, not a validation:
+         * it takes into account magic bytes, a XML root element, a JSON braces, turtle-like directives and the N-Triples line shape.
+         * Formats with the same beginning (e.g. Turtle, N-Triples, N-Quads and TriG) are returned all together.
+         * Public, for more generality.
+         *
+         * @param head   array of bytes, the beginning of the document
+         * @param length int, the number of bytes to look at
+         * @return Set of {@link OntFormat}s (in the order of preference), empty if the content is not recognized
+         * @since 1.2.0
+         */
+        public static Set<OntFormat> detectFormats(byte[] head, int length) {
+            Set<OntFormat> res = new LinkedHashSet<>();
+            if (length <= 0) return res;
+            if (startsWith(head, length, BINARY_RDF_MAGIC)) {
+                res.add(OntFormat.BINARY_RDF);
+                return res;
+            }
+            for (int i = 0; i < length; i++) {
+                if (head[i] == 0) { // binary, most likely thrift
+                    res.add(OntFormat.RDF_THRIFT);
+                    return res;
+                }
+            }
+            String text = skipComments(new String(head, 0, length, StandardCharsets.UTF_8));
+            if (text.isEmpty()) return res;
+            if (text.startsWith("<?xml") || text.startsWith("<!") || XML_ROOT.matcher(text).lookingAt() && text.contains("xmlns")) {
+                String root = xmlRoot(text);
+                String name = root == null ? null : root.substring(root.indexOf(':') + 1);
+                if (name == null) {
+                    res.addAll(Arrays.asList(OntFormat.RDF_XML, OntFormat.TRIX, OntFormat.OWL_XML, OntFormat.RDFA));
+                } else if ("TriX".equalsIgnoreCase(name)) {
+                    res.add(OntFormat.TRIX);
+                } else if ("RDF".equals(name)) {
+                    res.add(OntFormat.RDF_XML);
+                } else if ("html".equals(name)) {
+                    res.add(OntFormat.RDFA);
+                } else if ("Ontology".equals(name) && !text.contains(RDF.getURI())) {
+                    res.add(OntFormat.OWL_XML);
+                } else {
+                    res.addAll(Arrays.asList(OntFormat.RDF_XML, OntFormat.OWL_XML));
+                }
+                return res;
+            }
+            if (JSON_START.matcher(text).lookingAt()) {
+                res.addAll(Arrays.asList(OntFormat.RDF_JSON, OntFormat.JSON_LD));
+                return res;
+            }
+            if (TURTLE_DIRECTIVE.matcher(text).lookingAt()) {
+                res.addAll(Arrays.asList(OntFormat.TURTLE, OntFormat.TRIG));
+                return res;
+            }
+            if (NTRIPLES_LINE.matcher(text).lookingAt()) {
+                res.addAll(Arrays.asList(OntFormat.TURTLE, OntFormat.NTRIPLES, OntFormat.NQUADS, OntFormat.TRIG));
+                return res;
+            }
+            if (FUNCTIONAL_SYNTAX_START.matcher(text).lookingAt()) {
+                res.add(OntFormat.FUNCTIONAL_SYNTAX);
+                return res;
+            }
+            if (MANCHESTER_SYNTAX_START.matcher(text).lookingAt()) {
+                res.add(OntFormat.MANCHESTER_SYNTAX);
+            }
+            return res;
+        }
+
+        private static boolean startsWith(byte[] head, int length, byte[] prefix) {
+            if (length < prefix.length) return false;
+            for (int i = 0; i < prefix.length; i++) {
+                if (head[i] != prefix[i]) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Skips BOM, leading whitespaces and hash-comments (which are allowed in all turtle-like syntaxes).
+         *
+         * @param text String
+         * @return String
+         */
+        private static String skipComments(String text) {
+            int i = 0;
+            if (text.startsWith("\uFEFF")) i++;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                    continue;
+                }
+                if (c != '#') break;
+                int end = text.indexOf('\n', i);
+                if (end < 0) return "";
+                i = end + 1;
+            }
+            return text.substring(i);
+        }
+
+        /**
+         * Finds the name of the XML root element skipping the prolog, comments, processing instructions and DOCTYPE.
+         *
+         * @param text String, xml
+         * @return String, the qualified name of the root element or {@code null} if it is not found
+         */
+        private static String xmlRoot(String text) {
+            int i = 0;
+            while ((i = text.indexOf('<', i)) >= 0) {
+                if (text.startsWith("<!--", i)) {
+                    i = text.indexOf("-->", i);
+                } else if (text.startsWith("<?", i)) {
+                    i = text.indexOf("?>", i);
+                } else if (text.startsWith("<!", i)) {
+                    i = text.indexOf(">", i);
+                } else {
+                    Matcher m = XML_ROOT.matcher(text);
+                    return m.find(i) && m.start() == i ? m.group(1) : null;
+                }
+                if (i < 0) return null;
+            }
+            return null;
+        }
+
         protected static InputStream asInputStream(Reader reader) {
             return new ReaderInputStream(reader, StandardCharsets.UTF_8);
         }
@@ -905,6 +1542,60 @@ public class OntologyFactoryImpl implements OntologyFactory {
         }
     }
 
+    /**
+     * The document source with the parsed primary graph and the already fetched imports closure.
+     * It is produced outside the manager's write lock (see {@link ONTLoaderImpl#prefetch}),
+     * so that the lock is held only while the models are being assembled and registered.
+     *
+     * @since 1.2.0
+     */
+    public static class PrefetchedDocumentSource extends OntGraphDocumentSource {
+        private final Graph graph;
+        private final OntFormat format;
+        private final IRI doc;
+        private final Map<IRI, Future<ONTLoaderImpl.GraphInfo>> imports;
+        private final Map<IRI, Optional<IRI>> mappings;
+
+        protected PrefetchedDocumentSource(Graph graph,
+                                           OntFormat format,
+                                           IRI doc,
+                                           Map<IRI, Future<ONTLoaderImpl.GraphInfo>> imports,
+                                           Map<IRI, Optional<IRI>> mappings) {
+            this.graph = graph;
+            this.format = format;
+            this.doc = doc;
+            this.imports = imports;
+            this.mappings = mappings;
+        }
+
+        @Override
+        public Graph getGraph() {
+            return graph;
+        }
+
+        @Override
+        public IRI getDocumentIRI() {
+            return doc;
+        }
+
+        @Override
+        public OntFormat getOntFormat() {
+            return format;
+        }
+
+        /**
+         * Passes the fetched imports and the IRI mappings to the loader.
+         *
+         * @param loader {@link ONTLoaderImpl}
+         */
+        protected void transfer(ONTLoaderImpl loader) {
+            loader.fetched.putAll(imports);
+            loader.mappings.putAll(mappings);
+            imports.clear();
+            mappings.clear();
+        }
+    }
+
     public static class ConfigMismatchException extends OWLOntologyCreationException {
         public ConfigMismatchException(String s) {
             super(s);
@@ -949,6 +1640,18 @@ public class OntologyFactoryImpl implements OntologyFactory {
         }
     }
 
+    /**
+     * Thrown if an asynchronous loading has been cancelled.
+     *
+     * @see OntologyManager#loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, java.util.concurrent.Executor, OntologyManager.LoadingProgressListener)
+     * @since 1.2.0
+     */
+    public static class LoadingCancelledException extends OWLOntologyCreationException {
+        public LoadingCancelledException(String message) {
+            super(message);
+        }
+    }
+
     public static class BadRecursionException extends OWLOntologyCreationException {
 
         public BadRecursionException(String message) {
@@ -956,6 +1659,75 @@ public class OntologyFactoryImpl implements OntologyFactory {
         }
     }
 
+    /**
+     * The graph transformations, which are postponed until the first structural access to an ontology.
+     * A single instance is shared between all the ontologies created by one loading:
+     * it keeps the base graphs of the imports closure, which are not transformed yet,
+     * so each graph is processed at most once, no matter which ontology is accessed first.
+     * The imports are transformed before the importing graph, as in the ordinary (eager) mode.
+     *
+     * @see OntLoaderConfiguration#isDeferTransformations()
+     * @since 1.2.0
+     */
+    public static class DeferredTransforms {
+        protected final GraphTransformers.Store store;
+        protected final Set<Graph> pending;
+
+        /**
+         * @param store      {@link GraphTransformers.Store} the transformations to perform
+         * @param graph      {@link Graph} the imports closure, usually {@link UnionGraph}
+         * @param registered Collection of base {@link Graph}s of the ontologies which are already in the manager,
+         *                   they are protected by their own locks and therefore are never touched
+         */
+        public DeferredTransforms(GraphTransformers.Store store, Graph graph, Collection<Graph> registered) {
+            this.store = Objects.requireNonNull(store, "Null transformers.");
+            this.pending = Graphs.flat(graph).filter(g -> !registered.contains(g)).collect(Collectors.toSet());
+        }
+
+        /**
+         * Answers {@code true} if the base graph of the specified one is not transformed yet.
+         *
+         * @param graph {@link Graph}
+         * @return boolean
+         */
+        public synchronized boolean isPending(Graph graph) {
+            return pending.contains(Graphs.getBase(graph));
+        }
+
+        /**
+         * Returns the action to transform the specified graph together with its imports.
+         *
+         * @param graph {@link Graph}
+         * @return {@link Runnable}
+         * @see ru.avicomp.ontapi.internal.InternalModel#setMaterializer(Runnable)
+         */
+        public Runnable forGraph(Graph graph) {
+            return () -> transform(graph);
+        }
+
+        /**
+         * Performs the transformations on all the pending graphs from the specified composite graph.
+         * Does nothing if its base graph is already processed.
+         *
+         * @param graph {@link Graph}
+         * @throws OntApiException if the transformations fail
+         */
+        public synchronized void transform(Graph graph) throws OntApiException {
+            if (!isPending(graph)) return;
+            if (ONTLoaderImpl.LOGGER.isDebugEnabled()) {
+                ONTLoaderImpl.LOGGER.debug("Perform postponed graph transformations on <{}>.", Graphs.getName(graph));
+            }
+            Set<Graph> processed = Graphs.flat(graph).filter(g -> !pending.contains(g)).collect(Collectors.toSet());
+            try {
+                store.transform(graph, processed);
+            } catch (TransformException t) {
+                throw new OntApiException("Can't transform graph <" + Graphs.getName(graph) + ">", t);
+            } finally {
+                pending.removeAll(processed);
+            }
+        }
+    }
+
     public static class OWLTransformException extends OWLOntologyCreationException {
 
         public OWLTransformException(TransformException cause) {
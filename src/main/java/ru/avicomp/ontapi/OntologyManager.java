@@ -32,6 +32,8 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 
@@ -50,6 +52,7 @@ import java.util.stream.Stream;
  * <li>{@link #addDocumentSourceMapper(DocumentSourceMapping)}</li>
  * <li>{@link #removeDocumentSourceMapper(DocumentSourceMapping)}</li>
  * <li>{@link #documentSourceMappers()}</li>
+ * <li>{@link #loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor, LoadingProgressListener)} (since 1.2.0)</li>
  * </ul>
  * <p>
  * Created by szuev on 24.10.2016.
@@ -219,6 +222,54 @@ public interface OntologyManager extends OWLOntologyManager {
     OntologyModel loadOntologyFromOntologyDocument(@Nonnull OWLOntologyDocumentSource source,
                                                    @Nonnull OWLOntologyLoaderConfiguration config) throws OWLOntologyCreationException;
 
+    /**
+     * Loads an ontology from the document source asynchronously, using the specified executor.
+     * This is a new (ONT-API) method.
+     * The loading goes in the same way as {@link #loadOntologyFromOntologyDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)},
+     * but does not block the caller.
+     * The returned future can be cancelled until the first ontology is about to be put into the manager
+     * (i.e. until the {@link LoadingPhase#REGISTER} phase),
+     * after that {@link CompletableFuture#cancel(boolean)} returns {@code false}.
+     * The cancellation is cooperative: the loading is stopped at the nearest phase boundary, the manager stays unchanged.
+     *
+     * @param source   {@link OWLOntologyDocumentSource}, not null
+     * @param config   {@link OWLOntologyLoaderConfiguration}, not null
+     * @param executor {@link Executor} to run the loading, not null
+     * @param listener {@link LoadingProgressListener} to receive notifications about the phases of this loading, nullable
+     * @return {@link CompletableFuture} with the {@link OntologyModel}
+     * @since 1.2.0
+     */
+    CompletableFuture<OntologyModel> loadOntologyAsync(@Nonnull OWLOntologyDocumentSource source,
+                                                       @Nonnull OWLOntologyLoaderConfiguration config,
+                                                       @Nonnull Executor executor,
+                                                       @Nullable LoadingProgressListener listener);
+
+    /**
+     * Loads an ontology from the document source asynchronously using the manager's loader configuration.
+     *
+     * @param source   {@link OWLOntologyDocumentSource}, not null
+     * @param executor {@link Executor} to run the loading, not null
+     * @return {@link CompletableFuture} with the {@link OntologyModel}
+     * @see #loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor, LoadingProgressListener)
+     * @since 1.2.0
+     */
+    default CompletableFuture<OntologyModel> loadOntologyAsync(@Nonnull OWLOntologyDocumentSource source, @Nonnull Executor executor) {
+        return loadOntologyAsync(source, getOntologyLoaderConfiguration(), executor, null);
+    }
+
+    /**
+     * Loads an ontology from the document IRI asynchronously using the manager's loader configuration.
+     *
+     * @param iri      {@link IRI} the document IRI, not null
+     * @param executor {@link Executor} to run the loading, not null
+     * @return {@link CompletableFuture} with the {@link OntologyModel}
+     * @see #loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor, LoadingProgressListener)
+     * @since 1.2.0
+     */
+    default CompletableFuture<OntologyModel> loadOntologyAsync(@Nonnull IRI iri, @Nonnull Executor executor) {
+        return loadOntologyAsync(new IRIDocumentSource(iri, null, null), executor);
+    }
+
     /**
      * Puts a graph to the manager.
      * This is a new (ONT-API) method.
@@ -344,4 +395,53 @@ public interface OntologyManager extends OWLOntologyManager {
     interface DocumentSourceMapping extends Serializable {
         OWLOntologyDocumentSource map(OWLOntologyID id);
     }
+
+    /**
+     * The phases of loading a single document.
+     *
+     * @see LoadingProgressListener
+     * @since 1.2.0
+     */
+    enum LoadingPhase {
+        /**
+         * The document IRI is resolved and the document is about to be retrieved.
+         */
+        FETCH,
+        /**
+         * The document is about to be parsed into a graph.
+         */
+        PARSE,
+        /**
+         * The graph transformations are about to be performed.
+         */
+        TRANSFORM,
+        /**
+         * The ontology is about to be put into the manager.
+         */
+        REGISTER,
+    }
+
+    /**
+     * A listener to monitor the progress of loading.
+     * It can be passed to the {@link #loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor, LoadingProgressListener)} method
+     * to track the particular loading,
+     * or it can be added to the manager as a {@link OWLOntologyLoaderListener} to track all loadings.
+     * The notifications are sent from the thread that performs loading.
+     *
+     * @see LoadingPhase
+     * @since 1.2.0
+     */
+    @FunctionalInterface
+    interface LoadingProgressListener {
+
+        /**
+         * Called when the loading of the document enters the specified phase.
+         * Note: an ontology may have several documents in its imports closure,
+         * so the same phase can be reported several times during the same loading.
+         *
+         * @param phase    {@link LoadingPhase}
+         * @param document {@link IRI} of the document
+         */
+        void loadingPhase(LoadingPhase phase, IRI document);
+    }
 }
@@ -14,13 +14,23 @@
 
 package ru.avicomp.ontapi;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import org.apache.commons.io.output.WriterOutputStream;
 import org.apache.jena.atlas.iterator.Iter;
+import org.apache.jena.graph.Capabilities;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.GraphStatisticsHandler;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.shared.JenaException;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
 import org.semanticweb.owlapi.io.*;
 import org.semanticweb.owlapi.model.*;
@@ -37,11 +47,15 @@ import ru.avicomp.ontapi.config.OntWriterConfiguration;
 import ru.avicomp.ontapi.internal.ConfigProvider;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.internal.InternalModelHolder;
+import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.utils.Graphs;
 import ru.avicomp.ontapi.jena.utils.Models;
+import ru.avicomp.ontapi.jena.utils.NodeIO;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.owlapi.ConcurrentPriorityCollection;
 import ru.avicomp.owlapi.NoOpReadWriteLock;
 
@@ -52,9 +66,16 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -69,6 +90,9 @@ import java.util.stream.Stream;
 @SuppressWarnings("WeakerAccess")
 public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.OWLOntologyCreationHandler, Serializable {
     private static final Logger LOGGER = LoggerFactory.getLogger(OntologyManagerImpl.class);
+    private static final AtomicLong LOCK_ORDER = new AtomicLong();
+    // the manager which is being serialized in the current thread, see #writeObject(ObjectOutputStream):
+    private static final ThreadLocal<OntologyManagerImpl> GRAPHS_WRITER = new ThreadLocal<>();
     // listeners:
     protected final ListenersHolder listeners = new ListenersHolder();
     // configs:
@@ -88,10 +112,20 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
     protected final OWLDataFactory dataFactory;
     // the collection of ontologies:
     protected final OntologyCollection content;
+    // if true each ontology has its own lock (since 1.2.0):
+    protected final boolean ontologyLocking;
 
     protected OntologyManagerImpl(OWLDataFactory dataFactory, ReadWriteLock readWriteLock, PriorityCollectionSorting sorting) {
+        this(dataFactory, readWriteLock, sorting, false);
+    }
+
+    protected OntologyManagerImpl(OWLDataFactory dataFactory,
+                                  ReadWriteLock readWriteLock,
+                                  PriorityCollectionSorting sorting,
+                                  boolean ontologyLocking) {
         this.dataFactory = OntApiException.notNull(dataFactory, "Null OWLDataFactory specified.");
         this.lock = readWriteLock == null ? new NoOpReadWriteLock() : readWriteLock;
+        this.ontologyLocking = ontologyLocking && isConcurrent();
         documentMappers = new ConcurrentPriorityCollection<>(lock, sorting);
         documentSourceMappers = new LinkedList<>();
         ontologyFactories = new ConcurrentPriorityCollection<>(lock, sorting);
@@ -110,6 +144,23 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         this(dataFactory, new OntologyFactoryImpl(), readWriteLock);
     }
 
+    /**
+     * Constructs a manager with the specified locking strategy.
+     *
+     * @param dataFactory     {@link OWLDataFactory}, not null
+     * @param loadFactory     {@link OntologyFactory}, not null
+     * @param readWriteLock   {@link ReadWriteLock}, the manager lock, null to create non-concurrent manager
+     * @param ontologyLocking if true, each ontology has its own lock, see {@link OntologyLock}
+     * @since 1.2.0
+     */
+    public OntologyManagerImpl(OWLDataFactory dataFactory,
+                               OntologyFactory loadFactory,
+                               ReadWriteLock readWriteLock,
+                               boolean ontologyLocking) {
+        this(dataFactory, readWriteLock, PriorityCollectionSorting.ON_SET_INJECTION_ONLY, ontologyLocking);
+        this.ontologyFactories.add(loadFactory);
+    }
+
     protected OntologyFactory getLoadFactory() {
         return (OntologyFactory) ontologyFactories.iterator().next();
     }
@@ -118,11 +169,35 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         return !NoOpReadWriteLock.class.isInstance(lock);
     }
 
+    /**
+     * Answers {@code true} if the manager is concurrent and each its ontology has its own lock.
+     *
+     * @return boolean
+     * @see OntologyLock
+     * @since 1.2.0
+     */
+    public boolean isOntologyLocking() {
+        return ontologyLocking;
+    }
+
     @Nonnull
     public ReadWriteLock getLock() {
         return lock;
     }
 
+    /**
+     * Returns a lock for the specified ontology.
+     * It is either the manager lock (by default) or a new {@link OntologyLock},
+     * if the manager is configured to use per-ontology locking.
+     *
+     * @param ont {@link OntologyModelImpl}, not null
+     * @return {@link ReadWriteLock}
+     * @since 1.2.0
+     */
+    protected ReadWriteLock getOntologyLock(OntologyModelImpl ont) {
+        return ontologyLocking ? new OntologyLock(ont) : lock;
+    }
+
     @Override
     public OWLDataFactory getOWLDataFactory() {
         return dataFactory;
@@ -599,7 +674,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         if (doc == null) {
             throw new OWLOntologyCreationException("Can't compute document iri from id " + id);
         }
-        if (content.values().anyMatch(o -> Objects.equals(o.getDocumentIRI(), doc))) {
+        if (content.byDocumentIRI(doc).findFirst().isPresent()) {
             throw new OWLOntologyDocumentAlreadyExistsException(doc);
         }
         for (OWLOntologyFactory factory : getOntologyFactories()) {
@@ -782,7 +857,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             OWLOntologyID id = new OWLOntologyID(Optional.of(iri), Optional.empty());
             Optional<OntInfo> res = content.get(id);
             if (!res.isPresent()) {
-                res = content.values().filter(e -> e.id().match(iri)).findFirst();
+                res = Stream.concat(content.byOntologyIRI(iri), content.byVersionIRI(iri)).findFirst();
             }
             return res.map(OntInfo::get).orElse(null);
         } finally {
@@ -818,7 +893,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         Optional<OntInfo> res = content.get(id);
         if (!res.isPresent() && !id.isAnonymous()) {
             IRI iri = id.getOntologyIRI().orElseThrow(() -> new IllegalStateException("Should never happen."));
-            res = content.values().filter(e -> e.id().matchOntology(iri)).findFirst();
+            res = content.byOntologyIRI(iri).findFirst();
         }
         return res.map(OntInfo::get);
     }
@@ -833,7 +908,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         OntApiException.notNull(iri, "Ontology IRI cannot be null");
         getLock().readLock().lock();
         try {
-            return content.keys().anyMatch(o -> o.match(iri));
+            return content.byOntologyIRI(iri).findFirst().isPresent() || content.byVersionIRI(iri).findFirst().isPresent();
         } finally {
             getLock().readLock().unlock();
         }
@@ -848,7 +923,8 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
     public boolean contains(@Nonnull OWLOntologyID id) {
         getLock().readLock().lock();
         try {
-            return !id.isAnonymous() && (content.contains(id) || content.keys().anyMatch(id::match));
+            return !id.isAnonymous() && (content.contains(id) || content.byOntologyIRI(id.getOntologyIRI()
+                    .orElseThrow(() -> new IllegalStateException("Should never happen."))).findFirst().isPresent());
         } finally {
             getLock().readLock().unlock();
         }
@@ -888,7 +964,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
     public boolean containsVersion(@Nonnull IRI iri) {
         getLock().readLock().lock();
         try {
-            return content.keys().anyMatch(o -> o.matchVersion(iri));
+            return content.byVersionIRI(iri).findFirst().isPresent();
         } finally {
             getLock().readLock().unlock();
         }
@@ -964,9 +1040,9 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      * @return Optional around {@link OntologyModel}
      */
     protected Optional<OntologyModel> importedOntology(OWLImportsDeclaration declaration) {
-        Optional<OntInfo> res = content.values().filter(e -> Objects.equals(e.getImportDeclaration(), declaration)).findFirst();
+        Optional<OntInfo> res = content.byImportDeclaration(declaration).findFirst();
         if (!res.isPresent()) {
-            res = content.values().filter(e -> Objects.equals(e.getDocumentIRI(), declaration.getIRI())).findFirst();
+            res = content.byDocumentIRI(declaration.getIRI()).findFirst();
         }
         return res.map(OntInfo::get);
     }
@@ -996,7 +1072,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      * @see #documentIRIByOntology(OWLOntology)
      */
     protected Optional<OntologyModel> ontologyByDocumentIRI(IRI iri) {
-        return content.values().filter(o -> Objects.equals(iri, o.getDocumentIRI())).map(OntInfo::get).findFirst();
+        return content.byDocumentIRI(iri).map(OntInfo::get).findFirst();
     }
 
     /**
@@ -1104,6 +1180,17 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
     }
 
+    /**
+     * Is called when the imports of the specified ontology graph have been changed.
+     * Must be called under the manager's write lock, which is always the case for import changes.
+     *
+     * @param graph {@link UnionGraph} of the ontology
+     * @since 1.2.0
+     */
+    protected void onImportsChange(UnionGraph graph) {
+        content.onImportsChange(graph);
+    }
+
     /**
      * @param ontology {@link OWLOntology}
      * @return Stream of {@link OWLOntology}
@@ -1223,7 +1310,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
     public Stream<OWLOntologyID> ontologyIDsByVersion(@Nonnull IRI iri) {
         getLock().readLock().lock();
         try {
-            return content.keys().filter(o -> o.matchVersion(iri));
+            return content.byVersionIRI(iri).map(OntInfo::id);
         } finally {
             getLock().readLock().unlock();
         }
@@ -1294,7 +1381,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      */
     @Override
     public ChangeDetails applyChangesAndGetDetails(@Nonnull List<? extends OWLOntologyChange> changes) {
-        getLock().writeLock().lock();
+        List<Lock> locks = lockForChanges(changes);
         try {
             listeners.broadcastImpendingChanges(changes);
             AtomicBoolean rollbackRequested = new AtomicBoolean(false);
@@ -1322,10 +1409,91 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             listeners.broadcastOntologyChangesVetoed(changes, e);
             return new ChangeDetails(ChangeApplied.UNSUCCESSFULLY, Collections.emptyList());
         } finally {
-            getLock().writeLock().unlock();
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
         }
     }
 
+    /**
+     * Acquires the locks that are required to apply the specified changes.
+     * By default it is the manager's write lock.
+     * In case of {@link #isOntologyLocking() per-ontology locking}
+     * it is the set of write locks of the changed ontologies, taken in a fixed order to avoid deadlocks,
+     * so that all other ontologies of the manager remain accessible while the changes are being applied.
+     * This is possible only if the changes do not affect the registry (i.e. there are only axioms and ontology annotations changes),
+     * if there are no change listeners and no changed ontology is imported by some other ontology,
+     * otherwise the manager's write lock is used.
+     *
+     * @param changes List of {@link OWLOntologyChange}s
+     * @return List of acquired {@link Lock}s, to be released in the reverse order
+     * @since 1.2.0
+     */
+    protected List<Lock> lockForChanges(List<? extends OWLOntologyChange> changes) {
+        if (ontologyLocking && !changes.isEmpty()) {
+            Lock read = getLock().readLock();
+            read.lock();
+            try {
+                List<OntologyLock> locks = ontologyLocks(changes);
+                if (locks != null) {
+                    List<Lock> res = new ArrayList<>(locks.size());
+                    try {
+                        for (OntologyLock l : locks) {
+                            Lock w = l.writeLock();
+                            w.lock();
+                            res.add(w);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        Lists.reverse(res).forEach(Lock::unlock);
+                        throw e;
+                    }
+                    return res;
+                }
+            } finally {
+                read.unlock();
+            }
+        }
+        Lock res = getLock().writeLock();
+        res.lock();
+        return Collections.singletonList(res);
+    }
+
+    /**
+     * Lists the {@link OntologyLock}s of the ontologies from the specified changes, sorted in the lock order.
+     * Must be called under the manager's read lock.
+     *
+     * @param changes List of {@link OWLOntologyChange}s
+     * @return List of {@link OntologyLock}s or {@code null} if the manager's write lock is required
+     */
+    @Nullable
+    protected List<OntologyLock> ontologyLocks(List<? extends OWLOntologyChange> changes) {
+        if (listeners.hasChangeListeners()) {
+            return null;
+        }
+        Map<OWLOntology, OntologyLock> res = new IdentityHashMap<>();
+        for (OWLOntologyChange change : changes) {
+            if (!change.isAxiomChange() && !(change instanceof AnnotationChange)) {
+                return null;
+            }
+            OWLOntology ont = change.getOntology();
+            if (res.containsKey(ont)) {
+                continue;
+            }
+            OntologyLock lock = content.get(ont)
+                    .map(OntInfo::get)
+                    .filter(OntologyModelImpl.Concurrent.class::isInstance)
+                    .map(o -> ((OntologyModelImpl.Concurrent) o).getLock())
+                    .filter(OntologyLock.class::isInstance)
+                    .map(OntologyLock.class::cast)
+                    .orElse(null);
+            if (lock == null || lock.manager() != this || lock.isImported()) {
+                return null;
+            }
+            res.put(ont, lock);
+        }
+        return res.values().stream().distinct().sorted().collect(Collectors.toList());
+    }
+
     /**
      * @param changes           List of {@link OWLOntologyChange}
      * @param rollbackRequested boolean
@@ -1335,21 +1503,80 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      */
     protected void actuallyApply(List<? extends OWLOntologyChange> changes, AtomicBoolean rollbackRequested,
                                  AtomicBoolean allNoOps, List<OWLOntologyChange> appliedChanges) {
-        for (OWLOntologyChange change : changes) {
+        int index = 0;
+        while (index < changes.size()) {
             // once rollback is requested by a failed change, do not carry
             // out any more changes
-            if (!rollbackRequested.get()) {
-                assert change != null;
-                ChangeApplied enactChangeApplication = enactChangeApplication(change);
-                if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
-                    rollbackRequested.set(true);
-                }
-                if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
-                    allNoOps.set(false);
-                    appliedChanges.add(change);
-                }
-                listeners.fireChangeApplied(change);
+            if (rollbackRequested.get()) {
+                return;
+            }
+            int end = findAxiomsBatchEnd(changes, index);
+            if (end - index > 1) {
+                enactAxiomsAddition(changes.subList(index, end), allNoOps, appliedChanges);
+                index = end;
+                continue;
+            }
+            OWLOntologyChange change = changes.get(index++);
+            assert change != null;
+            ChangeApplied enactChangeApplication = enactChangeApplication(change);
+            if (enactChangeApplication == ChangeApplied.UNSUCCESSFULLY) {
+                rollbackRequested.set(true);
+            }
+            if (enactChangeApplication == ChangeApplied.SUCCESSFULLY) {
+                allNoOps.set(false);
+                appliedChanges.add(change);
+            }
+            listeners.fireChangeApplied(change);
+        }
+    }
+
+    /**
+     * Finds the end of the sequence of {@link AddAxiom} changes for the same ontology,
+     * which starts from the specified position and can be applied in batch.
+     *
+     * @param changes List of {@link OWLOntologyChange}
+     * @param from    int, the start position
+     * @return int, the end position (exclusive)
+     * @see #enactAxiomsAddition(List, AtomicBoolean, List)
+     */
+    protected int findAxiomsBatchEnd(List<? extends OWLOntologyChange> changes, int from) {
+        OWLOntology ont = changes.get(from).getOntology();
+        if (!(ont instanceof InternalModelHolder) || !(ont instanceof OWLMutableOntology)) {
+            return from;
+        }
+        int res = from;
+        while (res < changes.size()) {
+            OWLOntologyChange change = changes.get(res);
+            if (!change.isAddAxiom() || ont != change.getOntology() || !isChangeApplicable(change)) {
+                break;
             }
+            res++;
+        }
+        return res;
+    }
+
+    /**
+     * Adds axioms from the list of {@link AddAxiom} changes for the same ontology in a single batch.
+     * The result is the same as if the changes had been applied one by one,
+     * but the checking for duplicates, the writing and the cache invalidation are performed once for the whole list.
+     * If some axiom can't be written, the batch is undone before the exception is thrown,
+     * so it does not leave any partially added axioms, which would not be in the list of applied changes.
+     *
+     * @param changes        List of {@link AddAxiom} changes for the same {@link InternalModelHolder} ontology
+     * @param allNoOps       boolean
+     * @param appliedChanges List of {@link OWLOntologyChange}
+     * @see InternalModel#add(Collection)
+     */
+    protected void enactAxiomsAddition(List<? extends OWLOntologyChange> changes,
+                                       AtomicBoolean allNoOps, List<OWLOntologyChange> appliedChanges) {
+        InternalModel base = ((InternalModelHolder) changes.get(0).getOntology()).getBase();
+        Set<OWLAxiom> added = base.add(changes.stream().map(OWLOntologyChange::getAxiom).collect(Collectors.toList()));
+        for (OWLOntologyChange change : changes) {
+            if (added.remove(change.getAxiom())) {
+                allNoOps.set(false);
+                appliedChanges.add(change);
+            }
+            listeners.fireChangeApplied(change);
         }
     }
 
@@ -1543,6 +1770,9 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      */
     @Override
     public OntologyModel loadOntology(@Nonnull IRI source) throws OWLOntologyCreationException {
+        if (ontologyLocking) {
+            return loadOntologyOutsideLock(source, getOntologyLoaderConfiguration());
+        }
         getLock().writeLock().lock();
         try {
             return load(source, false, getOntologyLoaderConfiguration());
@@ -1551,6 +1781,56 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
     }
 
+    /**
+     * Loads an ontology by its IRI in case of {@link #isOntologyLocking() per-ontology locking}.
+     * The same as {@link #load(IRI, boolean, OWLOntologyLoaderConfiguration)},
+     * but the document and its imports closure are fetched and parsed before taking the manager's write lock
+     * (see {@link #readDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)}),
+     * so that the other ontologies remain available while the network and the parsers are busy.
+     * The write lock is taken only to assemble and register the models.
+     *
+     * @param iri  {@link IRI}
+     * @param conf {@link OWLOntologyLoaderConfiguration}
+     * @return {@link OntologyModel}
+     * @throws OWLOntologyCreationException ex
+     * @since 1.2.0
+     */
+    protected OntologyModel loadOntologyOutsideLock(IRI iri, OWLOntologyLoaderConfiguration conf) throws OWLOntologyCreationException {
+        OWLOntologyID id = new OWLOntologyID(Optional.of(iri), Optional.empty());
+        IRI documentIRI;
+        getLock().readLock().lock();
+        try {
+            OntologyModel res = getOntology(id);
+            if (res != null) {
+                return res;
+            }
+            documentIRI = getDocumentIRIFromMappers(id);
+            if (documentIRI == null) {
+                throw new OntologyIRIMappingNotFoundException(iri);
+            }
+            if (ontologyByDocumentIRI(documentIRI).isPresent()) {
+                throw new OWLOntologyDocumentAlreadyExistsException(documentIRI);
+            }
+        } finally {
+            getLock().readLock().unlock();
+        }
+        OWLOntologyDocumentSource source = readDocument(new IRIDocumentSource(documentIRI, null, null), conf);
+        getLock().writeLock().lock();
+        try {
+            // the same checks, since the manager could be changed in the meantime:
+            OntologyModel res = getOntology(id);
+            if (res != null) {
+                return res;
+            }
+            if (ontologyByDocumentIRI(documentIRI).isPresent()) {
+                throw new OWLOntologyDocumentAlreadyExistsException(documentIRI);
+            }
+            return load(iri, source, conf);
+        } finally {
+            getLock().writeLock().unlock();
+        }
+    }
+
     /**
      * @param source {@link OWLOntologyDocumentSource}
      * @param conf   {@link OWLOntologyLoaderConfiguration}
@@ -1560,14 +1840,114 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      */
     @Override
     public OntologyModel loadOntologyFromOntologyDocument(@Nonnull OWLOntologyDocumentSource source, @Nonnull OWLOntologyLoaderConfiguration conf) throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource src = ontologyLocking ? readDocument(source, conf) : source;
         getLock().writeLock().lock();
         try {
-            return load(null, source, conf);
+            return load(null, src, conf);
         } finally {
             getLock().writeLock().unlock();
         }
     }
 
+    /**
+     * Loads an ontology asynchronously.
+     * The loading is performed by the {@link #loadOntologyFromOntologyDocument(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration)} method
+     * inside the executor's thread, the write lock is taken there.
+     *
+     * @param source   {@link OWLOntologyDocumentSource}, not null
+     * @param conf     {@link OWLOntologyLoaderConfiguration}, not null
+     * @param executor {@link Executor}, not null
+     * @param listener {@link LoadingProgressListener}, nullable
+     * @return {@link CompletableFuture}, which is a {@link LoadingTask}
+     * @since 1.2.0
+     */
+    @Override
+    public CompletableFuture<OntologyModel> loadOntologyAsync(@Nonnull OWLOntologyDocumentSource source,
+                                                              @Nonnull OWLOntologyLoaderConfiguration conf,
+                                                              @Nonnull Executor executor,
+                                                              @Nullable LoadingProgressListener listener) {
+        OntApiException.notNull(source, "Null document source.");
+        OntApiException.notNull(conf, "Null loader config.");
+        LoadingTask res = new LoadingTask(listener);
+        try {
+            OntApiException.notNull(executor, "Null executor.").execute(() -> res.run(() -> loadOntologyFromOntologyDocument(source, conf)));
+        } catch (RejectedExecutionException e) {
+            res.completeExceptionally(e);
+        }
+        return res;
+    }
+
+    /**
+     * Notifies about the next loading phase of the document.
+     * Called by the loader (see {@link OntologyFactoryImpl.ONTLoaderImpl}) while the manager is locked.
+     * If the loading is performed asynchronously (see {@link LoadingTask})
+     * and has been cancelled, an exception is thrown to stop the process.
+     *
+     * @param phase    {@link LoadingPhase}
+     * @param document {@link IRI}
+     * @throws OntologyFactoryImpl.LoadingCancelledException if the loading has been cancelled
+     * @since 1.2.0
+     */
+    protected void fireLoadingPhase(LoadingPhase phase, IRI document) throws OntologyFactoryImpl.LoadingCancelledException {
+        LoadingTask task = LoadingTask.CURRENT.get();
+        if (task != null) {
+            task.phase(phase, document);
+        }
+        listeners.fireLoadingPhaseEvent(phase, document);
+    }
+
+    /**
+     * Reads the document into a fresh graph without holding the manager's write lock,
+     * so that parsing of a large document does not block access to other ontologies.
+     * The imports closure is also fetched and parsed in advance (see {@link OntologyFactoryImpl.ONTLoaderImpl#prefetch}).
+     * Handles only the case when the document is readable by Jena (i.e. it has a Jena format, explicit, guessed or detected),
+     * otherwise or in case of any error the source is returned as is to be loaded in the ordinary way.
+     * Used in case of {@link #isOntologyLocking() per-ontology locking}.
+     *
+     * @param source {@link OWLOntologyDocumentSource}
+     * @param conf   {@link OWLOntologyLoaderConfiguration}
+     * @return {@link OWLOntologyDocumentSource}, either {@link OntologyFactoryImpl.PrefetchedDocumentSource} with the parsed graphs or the same source
+     * @throws OntologyFactoryImpl.LoadingCancelledException if the loading has been cancelled
+     * @since 1.2.0
+     */
+    protected OWLOntologyDocumentSource readDocument(OWLOntologyDocumentSource source,
+                                                     OWLOntologyLoaderConfiguration conf) throws OntologyFactoryImpl.LoadingCancelledException {
+        if (source instanceof OntGraphDocumentSource) {
+            return source;
+        }
+        OntLoaderConfiguration config = OntologyFactoryImpl.asONT(conf);
+        if (config.isUseOWLParsersToLoad()) {
+            return source;
+        }
+        OntFormat format = source.getFormat().isPresent() ?
+                OntFormat.get(source.getFormat().get()) : OntologyFactoryImpl.ONTLoaderImpl.guessFormat(source);
+        if (format != null && (!format.isJena() || !format.isReadSupported())) {
+            return source;
+        }
+        IRI doc = source.getDocumentIRI();
+        getLock().readLock().lock();
+        try {
+            if (mapIRI(doc).isPresent()) {
+                return source;
+            }
+        } finally {
+            getLock().readLock().unlock();
+        }
+        Graph graph = OntModelFactory.createDefaultGraph(config.getGraphType());
+        OntFormat res;
+        fireLoadingPhase(LoadingPhase.FETCH, doc);
+        fireLoadingPhase(LoadingPhase.PARSE, doc);
+        try {
+            res = OntologyFactoryImpl.ONTLoaderImpl.readGraph(graph, source, config);
+        } catch (OWLOntologyCreationException | RuntimeException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Can't read <{}> outside the lock: {}", doc, e.getMessage());
+            }
+            return source;
+        }
+        return OntologyFactoryImpl.ONTLoaderImpl.prefetch(graph, res, doc, this, config);
+    }
+
     /**
      * Inner method. no lock.
      *
@@ -1712,7 +2092,8 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         try {
             return load(declaration.getIRI(), true, conf);
         } catch (OWLOntologyCreationException e) {
-            if (MissingImportHandlingStrategy.THROW_EXCEPTION.equals(conf.getMissingImportHandlingStrategy())) {
+            if (e instanceof OntologyFactoryImpl.LoadingCancelledException
+                    || MissingImportHandlingStrategy.THROW_EXCEPTION.equals(conf.getMissingImportHandlingStrategy())) {
                 throw e;
             } else {
                 // Silent
@@ -1881,6 +2262,8 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      * It fixes graph links between different models:
      * ontology A with ontology B in the imports should have also {@link UnionGraph} inside,
      * that consists of base graph from A and base graph from B.
+     * The graphs are restored from the section written by {@link #writeGraphs(ObjectOutputStream)},
+     * each graph is filled on first access (see {@link LazyGraph}).
      *
      * @param in {@link ObjectInputStream}
      * @throws IOException            exception
@@ -1893,19 +2276,7 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         in.defaultReadObject();
         loaderConfig = (OntLoaderConfiguration) in.readObject();
         writerConfig = (OntWriterConfiguration) in.readObject();
-        content.values().forEach(info -> {
-            ConfigProvider.Config conf = info.getModelConfig();
-            InternalModelHolder m = (InternalModelHolder) info.get();
-            UnionGraph baseGraph = m.getBase().getGraph();
-            Stream<UnionGraph> imports = Graphs.getImports(baseGraph).stream()
-                    .map(s -> content.values().map(OntInfo::get).map(InternalModelHolder.class::cast)
-                            .map(InternalModelHolder::getBase).map(OntGraphModelImpl::getGraph)
-                            .filter(g -> Objects.equals(s, Graphs.getURI(g))).findFirst().orElse(null))
-                    .filter(Objects::nonNull);
-            imports.forEach(baseGraph::addGraph);
-            InternalModel baseModel = new InternalModel(baseGraph, conf);
-            m.setBase(baseModel);
-        });
+        readGraphs(in);
     }
 
     /**
@@ -1914,9 +2285,132 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      * @see <a href='https://github.com/owlcs/owlapi/blob/version5/impl/src/main/java/uk/ac/manchester/cs/owl/owlapi/OWLOntologyManagerImpl.java'>uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl#writeObject(ObjectOutputStream)</a>
      */
     private void writeObject(ObjectOutputStream out) throws IOException {
-        out.defaultWriteObject();
+        OntologyManagerImpl prev = GRAPHS_WRITER.get();
+        GRAPHS_WRITER.set(this);
+        try {
+            out.defaultWriteObject();
+        } finally {
+            GRAPHS_WRITER.set(prev);
+        }
         out.writeObject(getOntologyLoaderConfiguration());
         out.writeObject(getOntologyWriterConfiguration());
+        writeGraphs(out);
+    }
+
+    /**
+     * Answers {@code true} if the graph of the specified ontology is serialized by its manager
+     * (see {@link #writeGraphs(ObjectOutputStream)}), and therefore should not be written by the ontology itself.
+     *
+     * @param ont {@link OntologyModel}
+     * @return boolean
+     * @see OntBaseModelImpl#writeObject(ObjectOutputStream)
+     * @since 1.2.0
+     */
+    protected static boolean isGraphWrittenByManager(OWLOntology ont) {
+        OntologyManagerImpl m = GRAPHS_WRITER.get();
+        return m != null && m == ont.getOWLOntologyManager();
+    }
+
+    /**
+     * Writes the graphs of all ontologies as a single section.
+     * The section consists of the dictionary of all nodes (so a node shared between graphs is written once),
+     * and of the list of entries, one per ontology:
+     * the reference to the ontology, the prefixes, the indexes of the directly imported ontologies (i.e. the imports DAG)
+     * and the block of triples, where each node is encoded as a dictionary index.
+     *
+     * @param out {@link ObjectOutputStream}
+     * @throws IOException exception
+     * @see #readGraphs(ObjectInputStream)
+     * @since 1.2.0
+     */
+    protected void writeGraphs(ObjectOutputStream out) throws IOException {
+        List<OntologyModel> models = content.values().map(OntInfo::get).collect(Collectors.toList());
+        Map<Graph, Integer> indexes = new IdentityHashMap<>();
+        Map<Node, Integer> nodes = new HashMap<>();
+        for (int i = 0; i < models.size(); i++) {
+            Graph g = ((InternalModelHolder) models.get(i)).getBase().getBaseGraph();
+            indexes.put(g, i);
+            g.find(Triple.ANY).forEachRemaining(t -> {
+                nodes.putIfAbsent(t.getSubject(), nodes.size());
+                nodes.putIfAbsent(t.getPredicate(), nodes.size());
+                nodes.putIfAbsent(t.getObject(), nodes.size());
+            });
+        }
+        Node[] dictionary = new Node[nodes.size()];
+        nodes.forEach((n, i) -> dictionary[i] = n);
+        out.writeInt(dictionary.length);
+        for (Node n : dictionary) {
+            NodeIO.write(out, n);
+        }
+        out.writeInt(models.size());
+        for (OntologyModel m : models) {
+            UnionGraph g = ((InternalModelHolder) m).getBase().getGraph();
+            out.writeObject(m);
+            out.writeObject(new HashMap<>(g.getPrefixMapping().getNsPrefixMap()));
+            int[] imports = g.getUnderlying().graphs().map(Graphs::getBase).map(indexes::get)
+                    .filter(Objects::nonNull).mapToInt(Integer::intValue).toArray();
+            out.writeInt(imports.length);
+            for (int i : imports) {
+                out.writeInt(i);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ExtendedIterator<Triple> triples = g.getBaseGraph().find(Triple.ANY);
+            try (DataOutputStream data = new DataOutputStream(bytes)) {
+                NodeIO.writeVarInt(data, g.getBaseGraph().size());
+                while (triples.hasNext()) {
+                    Triple t = triples.next();
+                    NodeIO.writeVarInt(data, nodes.get(t.getSubject()));
+                    NodeIO.writeVarInt(data, nodes.get(t.getPredicate()));
+                    NodeIO.writeVarInt(data, nodes.get(t.getObject()));
+                }
+            } finally {
+                triples.close();
+            }
+            out.writeObject(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Reads the section written by {@link #writeGraphs(ObjectOutputStream)}
+     * and assigns the {@link InternalModel}s to the ontologies.
+     * The triples are not decoded here, but on first access to each graph.
+     *
+     * @param in {@link ObjectInputStream}
+     * @throws IOException            exception
+     * @throws ClassNotFoundException exception
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    protected void readGraphs(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        Node[] dictionary = new Node[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = NodeIO.read(in);
+        }
+        Map<OntologyModel, OntInfo> infos = new IdentityHashMap<>();
+        content.values().forEach(i -> infos.put(i.get(), i));
+        int size = in.readInt();
+        List<OntologyModel> models = new ArrayList<>(size);
+        List<UnionGraph> graphs = new ArrayList<>(size);
+        int[][] imports = new int[size][];
+        for (int i = 0; i < size; i++) {
+            OntologyModel m = (OntologyModel) in.readObject();
+            models.add(m);
+            Map<String, String> prefixes = (Map<String, String>) in.readObject();
+            imports[i] = new int[in.readInt()];
+            for (int j = 0; j < imports[i].length; j++) {
+                imports[i][j] = in.readInt();
+            }
+            Graph graph = OntModelFactory.createDefaultGraph(infos.get(m).getModelConfig().loaderConfig().getGraphType());
+            graphs.add(new UnionGraph(new LazyGraph(graph, dictionary, (byte[]) in.readObject(), prefixes)));
+        }
+        for (int i = 0; i < size; i++) {
+            UnionGraph g = graphs.get(i);
+            for (int j : imports[i]) {
+                g.addGraph(graphs.get(j));
+            }
+            OntologyModel m = models.get(i);
+            ((InternalModelHolder) m).setBase(new InternalModel(g, infos.get(m).getModelConfig()));
+        }
     }
 
     /**
@@ -2058,6 +2552,21 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             }
         }
 
+        /**
+         * Notifies all loader listeners that are also {@link LoadingProgressListener}s.
+         *
+         * @param phase {@link LoadingPhase}
+         * @param doc   {@link IRI}
+         * @since 1.2.0
+         */
+        protected void fireLoadingPhaseEvent(LoadingPhase phase, IRI doc) {
+            for (OWLOntologyLoaderListener listener : loaderListeners) {
+                if (listener instanceof LoadingProgressListener) {
+                    ((LoadingProgressListener) listener).loadingPhase(phase, doc);
+                }
+            }
+        }
+
         protected void fireFinishedLoadingEvent(OWLOntologyID id, IRI doc, @Nullable Exception ex) {
             if (loadCount.decrementAndGet() == 0) {
                 broadcastChanges.set(true);
@@ -2175,6 +2684,17 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             }
         }
 
+        /**
+         * Answers {@code true} if there is at least one listener which is notified while changes are being applied.
+         *
+         * @return boolean
+         * @since 1.2.0
+         */
+        public boolean hasChangeListeners() {
+            return !progressListeners.isEmpty() || !vetoListeners.isEmpty()
+                    || !listenerMap.isEmpty() || !impendingChangeListenerMap.isEmpty();
+        }
+
         public void clear() {
             loaderListeners.clear();
             missingImportsListeners.clear();
@@ -2200,11 +2720,16 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
      * The 'collection' of {@link OntInfo}s which wrap {@link OntologyModel}s.
      * To be sure that all members are in consistent state.
      * We can't use Map like in the initial OWL-API implementation since Ontology ID ({@link OWLOntologyID})
-     * could be changed externally (e.g. directly from jena graph)
-     * But perhaps we can introduce some caches to speed up if necessary.
+     * could be changed externally (e.g. directly from jena graph).
+     * Instead, there is an {@link Index index} by ontology id, ontology iri, version iri, document iri and import declaration,
+     * which is synchronized with the graphs through the graph listeners:
+     * any change of an ontology header marks the corresponding entry as dirty,
+     * and it is re-indexed on the next search.
+     * The index is not serializable, it is built on demand.
      */
     public class OntologyCollection implements Serializable {
         private final Collection<OntInfo> map;
+        private transient volatile Index index;
 
         public OntologyCollection(Collection<OntInfo> c) {
             this.map = c;
@@ -2219,6 +2744,11 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
 
         public void clear() {
+            Index res = index;
+            index = null;
+            if (res != null) {
+                map.forEach(res::delete);
+            }
             map.clear();
         }
 
@@ -2230,27 +2760,351 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             return values().map(OntInfo::id);
         }
 
+        /**
+         * Returns the index, which is up to date.
+         *
+         * @return {@link Index}
+         */
+        protected Index index() {
+            Index res = index;
+            if (res == null) {
+                synchronized (this) {
+                    if ((res = index) == null) {
+                        index = res = new Index();
+                        map.forEach(res::put);
+                    }
+                }
+            }
+            res.refresh();
+            return res;
+        }
+
         public Optional<OntInfo> get(@Nonnull OWLOntologyID key) {
-            return values()
-                    .filter(o -> o.id().hashCode() == key.hashCode())
-                    .filter(o -> key.equals(o.id())).findFirst();
+            return find(key, i -> i.ids, o -> key.equals(o.id())).findFirst();
         }
 
         public boolean contains(@Nonnull OWLOntologyID key) {
-            return values().filter(o -> o.id().hashCode() == key.hashCode()).anyMatch(o -> key.equals(o.id()));
+            return get(key).isPresent();
+        }
+
+        /**
+         * Lists all ontology containers with the specified ontology iri.
+         *
+         * @param iri {@link IRI}
+         * @return Stream of {@link OntInfo}
+         * @since 1.2.0
+         */
+        public Stream<OntInfo> byOntologyIRI(@Nonnull IRI iri) {
+            return find(iri, i -> i.iris, o -> o.id().matchOntology(iri));
+        }
+
+        /**
+         * Lists all ontology containers with the specified version iri.
+         *
+         * @param iri {@link IRI}
+         * @return Stream of {@link OntInfo}
+         * @since 1.2.0
+         */
+        public Stream<OntInfo> byVersionIRI(@Nonnull IRI iri) {
+            return find(iri, i -> i.versions, o -> o.id().matchVersion(iri));
+        }
+
+        /**
+         * Lists all ontology containers with the specified document iri.
+         *
+         * @param iri {@link IRI}
+         * @return Stream of {@link OntInfo}
+         * @since 1.2.0
+         */
+        public Stream<OntInfo> byDocumentIRI(@Nonnull IRI iri) {
+            return find(iri, i -> i.documents, o -> iri.equals(o.getDocumentIRI()));
+        }
+
+        /**
+         * Lists all ontology containers with the specified import declaration,
+         * either explicit (if it has been set) or derived from the ontology iri.
+         *
+         * @param declaration {@link OWLImportsDeclaration}
+         * @return Stream of {@link OntInfo}
+         * @see OntInfo#getImportDeclaration()
+         * @since 1.2.0
+         */
+        public Stream<OntInfo> byImportDeclaration(@Nonnull OWLImportsDeclaration declaration) {
+            IRI iri = declaration.getIRI();
+            return Stream.concat(find(iri, i -> i.declarations, o -> true), byOntologyIRI(iri))
+                    .filter(o -> declaration.equals(o.getImportDeclaration()))
+                    .distinct();
+        }
+
+        /**
+         * Finds the containers using the index.
+         * If some of the found containers has been changed unnoticed (i.e. does not match the condition),
+         * it is re-indexed and the search is repeated.
+         *
+         * @param key       the search key
+         * @param dictionary {@link Function} to get the dictionary from the index
+         * @param test      {@link Predicate} to check the container
+         * @param <K>       the type of key
+         * @return Stream of {@link OntInfo}
+         */
+        private <K> Stream<OntInfo> find(K key,
+                                         Function<Index, Map<K, CopyOnWriteArrayList<OntInfo>>> dictionary,
+                                         Predicate<OntInfo> test) {
+            Index index = index();
+            List<OntInfo> res = dictionary.apply(index).get(key);
+            if (res == null) {
+                return Stream.empty();
+            }
+            if (res.stream().allMatch(test)) {
+                return res.stream();
+            }
+            res.stream().filter(o -> !test.test(o)).forEach(index.changed::add);
+            res = dictionary.apply(index()).get(key);
+            return res == null ? Stream.empty() : res.stream().filter(test);
         }
 
         public OntInfo add(OntologyModel o) {
             OntInfo res = new OntInfo(o);
             map.add(res);
+            Index index = this.index;
+            if (index != null) {
+                index.put(res);
+            }
             return res;
         }
 
         public Optional<OntInfo> remove(@Nonnull OWLOntologyID id) {
             Optional<OntInfo> res = get(id);
-            res.ifPresent(map::remove);
+            res.ifPresent(o -> {
+                map.remove(o);
+                Index index = this.index;
+                if (index != null) {
+                    index.delete(o);
+                }
+            });
             return res;
         }
+
+        protected void onDocumentIRIChange(OntInfo info, @Nullable IRI prev) {
+            Index index = this.index;
+            if (index == null || !map.contains(info)) return;
+            index.remove(index.documents, prev, info);
+            index.add(index.documents, info.getDocumentIRI(), info);
+        }
+
+        /**
+         * Updates the imports index after the imports of the specified ontology graph have been changed.
+         * Must be called under the manager's write lock.
+         *
+         * @param graph {@link UnionGraph} of the ontology
+         * @since 1.2.0
+         */
+        protected void onImportsChange(UnionGraph graph) {
+            Index index = this.index;
+            if (index == null || !index.imports.containsKey(graph.getBaseGraph())) return;
+            index.deleteImports(graph.getBaseGraph());
+            index.putImports(graph);
+        }
+
+        /**
+         * Answers {@code true} if the specified base graph is directly imported by some other ontology from the collection.
+         *
+         * @param base {@link Graph}
+         * @return boolean
+         * @since 1.2.0
+         */
+        public boolean isImported(Graph base) {
+            return index().isImported(base);
+        }
+
+        /**
+         * Finds the container of the specified ontology, which can be either the registered instance or its delegate.
+         *
+         * @param ontology {@link OWLOntology}
+         * @return Optional around {@link OntInfo}
+         * @since 1.2.0
+         */
+        public Optional<OntInfo> get(@Nonnull OWLOntology ontology) {
+            return get(ontology.getOntologyID()).filter(i -> {
+                OntologyModel o = i.get();
+                return o == ontology || o instanceof OntologyModelImpl.Concurrent && ((OntologyModelImpl.Concurrent) o).delegate() == ontology;
+            });
+        }
+
+        protected void onImportDeclarationChange(OntInfo info, @Nullable OWLImportsDeclaration prev) {
+            Index index = this.index;
+            if (index == null || !map.contains(info)) return;
+            index.remove(index.declarations, prev == null ? null : prev.getIRI(), info);
+            index.add(index.declarations, info.declaration == null ? null : info.declaration.getIRI(), info);
+        }
+
+        /**
+         * The index of the ontology containers.
+         * The id-related keys of a container are taken from the {@link OntInfo#indexed last indexed id}.
+         * Each container has a graph listener, which marks it as changed if some ontology header triple is added or removed.
+         * All dictionaries are thread-safe, since the search can be performed simultaneously by several readers.
+         *
+         * @since 1.2.0
+         */
+        protected class Index {
+            protected final Map<OWLOntologyID, CopyOnWriteArrayList<OntInfo>> ids = new ConcurrentHashMap<>();
+            protected final Map<IRI, CopyOnWriteArrayList<OntInfo>> iris = new ConcurrentHashMap<>();
+            protected final Map<IRI, CopyOnWriteArrayList<OntInfo>> versions = new ConcurrentHashMap<>();
+            protected final Map<IRI, CopyOnWriteArrayList<OntInfo>> documents = new ConcurrentHashMap<>();
+            protected final Map<IRI, CopyOnWriteArrayList<OntInfo>> declarations = new ConcurrentHashMap<>();
+            protected final Map<OntInfo, GraphListener> listeners = new ConcurrentHashMap<>();
+            protected final Set<OntInfo> changed = ConcurrentHashMap.newKeySet();
+            // the base graph of an ontology -> the base graphs of its direct imports:
+            protected final Map<Graph, Set<Graph>> imports = new ConcurrentHashMap<>();
+            // the base graph of an ontology -> the base graphs of the ontologies which import it directly:
+            protected final Map<Graph, Set<Graph>> importers = new ConcurrentHashMap<>();
+
+            protected void put(OntInfo info) {
+                putID(info, info.id());
+                add(documents, info.getDocumentIRI(), info);
+                add(declarations, info.declaration == null ? null : info.declaration.getIRI(), info);
+                OntologyModel ont = info.get();
+                if (!(ont instanceof InternalModelHolder)) {
+                    return;
+                }
+                UnionGraph graph = ((InternalModelHolder) ont).getBase().getGraph();
+                putImports(graph);
+                GraphListener listener = new HeaderListener(info);
+                listeners.put(info, listener);
+                graph.getEventManager().register(listener);
+            }
+
+            protected void delete(OntInfo info) {
+                deleteID(info);
+                remove(documents, info.getDocumentIRI(), info);
+                remove(declarations, info.declaration == null ? null : info.declaration.getIRI(), info);
+                changed.remove(info);
+                GraphListener listener = listeners.remove(info);
+                if (listener != null) {
+                    UnionGraph graph = ((InternalModelHolder) info.get()).getBase().getGraph();
+                    deleteImports(graph.getBaseGraph());
+                    graph.getEventManager().unregister(listener);
+                }
+            }
+
+            /**
+             * Answers {@code true} if the specified base graph is directly imported by some other ontology.
+             *
+             * @param base {@link Graph}
+             * @return boolean
+             */
+            protected boolean isImported(Graph base) {
+                return importers.containsKey(base);
+            }
+
+            protected void putImports(UnionGraph graph) {
+                Graph base = graph.getBaseGraph();
+                Set<Graph> res = graph.getUnderlying().graphs().map(Graphs::getBase)
+                        .filter(g -> g != base)
+                        .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+                imports.put(base, res);
+                res.forEach(g -> importers.computeIfAbsent(g, k -> ConcurrentHashMap.newKeySet()).add(base));
+            }
+
+            protected void deleteImports(Graph base) {
+                Set<Graph> res = imports.remove(base);
+                if (res == null) return;
+                res.forEach(g -> importers.computeIfPresent(g, (k, v) -> {
+                    v.remove(base);
+                    return v.isEmpty() ? null : v;
+                }));
+            }
+
+            /**
+             * Re-indexes all changed containers.
+             */
+            protected void refresh() {
+                if (changed.isEmpty()) return;
+                synchronized (this) {
+                    Iterator<OntInfo> it = changed.iterator();
+                    while (it.hasNext()) {
+                        OntInfo info = it.next();
+                        it.remove();
+                        if (!map.contains(info)) continue;
+                        OWLOntologyID id = info.id();
+                        if (id.equals(info.indexed)) continue;
+                        deleteID(info);
+                        putID(info, id);
+                    }
+                }
+            }
+
+            private void putID(OntInfo info, OWLOntologyID id) {
+                info.indexed = id;
+                add(ids, id, info);
+                add(iris, id.getOntologyIRI().orElse(null), info);
+                add(versions, id.getVersionIRI().orElse(null), info);
+            }
+
+            private void deleteID(OntInfo info) {
+                OWLOntologyID id = info.indexed;
+                if (id == null) return;
+                remove(ids, id, info);
+                remove(iris, id.getOntologyIRI().orElse(null), info);
+                remove(versions, id.getVersionIRI().orElse(null), info);
+                info.indexed = null;
+            }
+
+            private <K> void add(Map<K, CopyOnWriteArrayList<OntInfo>> dictionary, @Nullable K key, OntInfo value) {
+                if (key == null) return;
+                dictionary.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).addIfAbsent(value);
+            }
+
+            private <K> void remove(Map<K, CopyOnWriteArrayList<OntInfo>> dictionary, @Nullable K key, OntInfo value) {
+                if (key == null) return;
+                dictionary.computeIfPresent(key, (k, v) -> {
+                    v.remove(value);
+                    return v.isEmpty() ? null : v;
+                });
+            }
+
+            /**
+             * The listener to track changes in the ontology header (i.e. {@code rdf:type owl:Ontology} and {@code owl:versionIRI}),
+             * and also deletions of any triple with the ontology iri subject (which may also change the id in case of several headers).
+             */
+            protected class HeaderListener extends GraphListenerBase {
+                private final OntInfo info;
+
+                protected HeaderListener(OntInfo info) {
+                    this.info = info;
+                }
+
+                @Override
+                protected void addEvent(Triple t) {
+                    if (isHeader(t)) {
+                        changed.add(info);
+                    }
+                }
+
+                @Override
+                protected void deleteEvent(Triple t) {
+                    if (isHeader(t) || isSubject(t)) {
+                        changed.add(info);
+                    }
+                }
+
+                @Override
+                public void notifyEvent(Graph source, Object value) {
+                    // e.g. removeAll:
+                    changed.add(info);
+                }
+
+                private boolean isHeader(Triple t) {
+                    Node p = t.getPredicate();
+                    return OWL.versionIRI.asNode().equals(p) || RDF.type.asNode().equals(p) && OWL.Ontology.asNode().equals(t.getObject());
+                }
+
+                private boolean isSubject(Triple t) {
+                    OWLOntologyID id = info.indexed;
+                    return id == null || t.getSubject().isURI() && id.matchOntology(IRI.create(t.getSubject().getURI()));
+                }
+            }
+        }
     }
 
     /**
@@ -2272,6 +3126,8 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         private IRI documentIRI;
         private OWLImportsDeclaration declaration;
         private OWLDocumentFormat format;
+        // the id under which the container is indexed (since 1.2.0):
+        private transient volatile OWLOntologyID indexed;
 
         public OntInfo(@Nonnull OntologyModel ont) {
             this.ont = ont;
@@ -2293,12 +3149,20 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
 
         public OntInfo addDocumentIRI(IRI iri) {
+            IRI prev = documentIRI;
             documentIRI = iri;
+            if (!Objects.equals(prev, iri)) {
+                content.onDocumentIRIChange(this, prev);
+            }
             return this;
         }
 
         public OntInfo addImportDeclaration(OWLImportsDeclaration declaration) {
+            OWLImportsDeclaration prev = this.declaration;
             this.declaration = declaration;
+            if (!Objects.equals(prev, declaration)) {
+                content.onImportDeclarationChange(this, prev);
+            }
             return this;
         }
 
@@ -2323,6 +3187,342 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
         }
     }
 
+    /**
+     * The lock of a single ontology (and its graph), which is used instead of the manager's lock
+     * in case the manager is configured to use {@link #isOntologyLocking() per-ontology locking}.
+     * It allows to read and modify different ontologies in parallel:
+     * e.g. a long loading or a massive changing of one ontology does not block queries against all others.
+     * <p>
+     * Any acquisition of this lock also takes the manager's read lock,
+     * so that the registry (i.e. the collection of ontologies, their ids and imports) cannot be changed while the ontology is in use.
+     * If the ontology is imported by some other ontology of the manager, its graph is a part of that ontology union graph
+     * and can be read under the lock of that ontology,
+     * so in this case the write lock is escalated to the manager's write lock.
+     * Note: as for the {@link ReentrantReadWriteLock}, it is not possible to upgrade the read lock to the write lock.
+     *
+     * @see OntologyModelImpl.Concurrent
+     * @since 1.2.0
+     */
+    public class OntologyLock implements ReadWriteLock, Comparable<OntologyLock>, Serializable {
+        private final OntologyModelImpl ontology;
+        private final ReentrantReadWriteLock own = new ReentrantReadWriteLock();
+        private final Lock readLock = new ReadLock();
+        private final Lock writeLock = new WriteLock();
+        // to acquire several locks in the same order:
+        private transient long order = LOCK_ORDER.incrementAndGet();
+
+        protected OntologyLock(OntologyModelImpl ontology) {
+            this.ontology = OntApiException.notNull(ontology, "Null ontology.");
+        }
+
+        public OntologyManagerImpl manager() {
+            return OntologyManagerImpl.this;
+        }
+
+        @Override
+        public Lock readLock() {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock() {
+            return writeLock;
+        }
+
+        /**
+         * Returns the number of reentrant read holds on the ontology's own lock by the current thread.
+         *
+         * @return int
+         */
+        public int getReadHoldCount() {
+            return own.getReadHoldCount();
+        }
+
+        /**
+         * Performs the read operation only if the ontology is not being modified by some other thread at the moment.
+         * This method blocks only while the registry is being changed.
+         *
+         * @param getter {@link java.util.function.Supplier} to get the result
+         * @param <X>    anything
+         * @return the result or {@code null} if the ontology is locked for writing
+         */
+        @Nullable
+        public <X> X tryRead(java.util.function.Supplier<X> getter) {
+            Lock registry = lock.readLock();
+            registry.lock();
+            try {
+                if (!own.readLock().tryLock()) return null;
+                try {
+                    return getter.get();
+                } finally {
+                    own.readLock().unlock();
+                }
+            } finally {
+                registry.unlock();
+            }
+        }
+
+        /**
+         * Answers {@code true} if the ontology graph is a part of some other ontology union graph.
+         * Must be called under the manager's lock.
+         *
+         * @return boolean
+         */
+        public boolean isImported() {
+            return content.isImported(ontology.getBase().getBaseGraph());
+        }
+
+        @Override
+        public int compareTo(@Nonnull OntologyLock other) {
+            return Long.compare(order, other.order);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s]", own, lock);
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            order = LOCK_ORDER.incrementAndGet();
+        }
+
+        private class ReadLock implements Lock, Serializable {
+
+            @Override
+            public void lock() {
+                lock.readLock().lock();
+                try {
+                    own.readLock().lock();
+                } catch (RuntimeException | Error e) {
+                    lock.readLock().unlock();
+                    throw e;
+                }
+            }
+
+            @Override
+            public void lockInterruptibly() throws InterruptedException {
+                lock.readLock().lockInterruptibly();
+                try {
+                    own.readLock().lockInterruptibly();
+                } catch (InterruptedException | RuntimeException | Error e) {
+                    lock.readLock().unlock();
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean tryLock() {
+                if (!lock.readLock().tryLock()) return false;
+                if (own.readLock().tryLock()) return true;
+                lock.readLock().unlock();
+                return false;
+            }
+
+            @Override
+            public boolean tryLock(long time, @Nonnull TimeUnit unit) throws InterruptedException {
+                long deadline = System.nanoTime() + unit.toNanos(time);
+                if (!lock.readLock().tryLock(time, unit)) return false;
+                boolean res = false;
+                try {
+                    return res = own.readLock().tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } finally {
+                    if (!res) lock.readLock().unlock();
+                }
+            }
+
+            @Override
+            public void unlock() {
+                own.readLock().unlock();
+                lock.readLock().unlock();
+            }
+
+            @Nonnull
+            @Override
+            public Condition newCondition() {
+                throw new UnsupportedOperationException("Conditions are not supported by the read lock");
+            }
+        }
+
+        private class WriteLock implements Lock, Serializable {
+
+            @Override
+            public void lock() {
+                try {
+                    tryLock(-1, TimeUnit.NANOSECONDS, false);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("Should never happen", e);
+                }
+            }
+
+            @Override
+            public void lockInterruptibly() throws InterruptedException {
+                tryLock(-1, TimeUnit.NANOSECONDS, true);
+            }
+
+            @Override
+            public boolean tryLock() {
+                try {
+                    return tryLock(0, TimeUnit.NANOSECONDS, false);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("Should never happen", e);
+                }
+            }
+
+            @Override
+            public boolean tryLock(long time, @Nonnull TimeUnit unit) throws InterruptedException {
+                return tryLock(time, unit, true);
+            }
+
+            /**
+             * Acquires the ontology write lock together with the manager read lock,
+             * or the manager write lock if the ontology is imported by some other ontology.
+             *
+             * @param time          the time to wait, negative to wait forever
+             * @param unit          {@link TimeUnit}
+             * @param interruptibly if true the waiting can be interrupted
+             * @return boolean, true if the lock has been acquired
+             * @throws InterruptedException if the current thread is interrupted while waiting
+             */
+            private boolean tryLock(long time, TimeUnit unit, boolean interruptibly) throws InterruptedException {
+                long deadline = System.nanoTime() + unit.toNanos(time);
+                if (!acquire(lock.readLock(), remaining(time, deadline), interruptibly)) {
+                    return false;
+                }
+                boolean escalate;
+                try {
+                    escalate = !own.isWriteLockedByCurrentThread() && isImported();
+                } catch (RuntimeException | Error e) {
+                    lock.readLock().unlock();
+                    throw e;
+                }
+                if (escalate) {
+                    lock.readLock().unlock();
+                    return acquire(lock.writeLock(), remaining(time, deadline), interruptibly);
+                }
+                boolean res = false;
+                try {
+                    return res = acquire(own.writeLock(), remaining(time, deadline), interruptibly);
+                } finally {
+                    if (!res) {
+                        lock.readLock().unlock();
+                    }
+                }
+            }
+
+            @Override
+            public void unlock() {
+                if (own.isWriteLockedByCurrentThread()) {
+                    own.writeLock().unlock();
+                    lock.readLock().unlock();
+                } else {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            @Nonnull
+            @Override
+            public Condition newCondition() {
+                throw new UnsupportedOperationException("Conditions are not supported by the ontology write lock");
+            }
+        }
+    }
+
+    private static long remaining(long time, long deadline) {
+        return time < 0 ? -1 : Math.max(0, deadline - System.nanoTime());
+    }
+
+    private static boolean acquire(Lock lock, long nanos, boolean interruptibly) throws InterruptedException {
+        if (nanos < 0) {
+            if (interruptibly) {
+                lock.lockInterruptibly();
+            } else {
+                lock.lock();
+            }
+            return true;
+        }
+        return interruptibly ? lock.tryLock(nanos, TimeUnit.NANOSECONDS) : lock.tryLock();
+    }
+
+    /**
+     * A future for asynchronous loading,
+     * see {@link #loadOntologyAsync(OWLOntologyDocumentSource, OWLOntologyLoaderConfiguration, Executor, LoadingProgressListener)}.
+     * The cancellation is cooperative: the flag is checked on each {@link LoadingPhase phase} boundary.
+     * Once the {@link LoadingPhase#REGISTER} phase is reached the manager is going to be changed,
+     * so the task can not be cancelled anymore.
+     *
+     * @since 1.2.0
+     */
+    public static class LoadingTask extends CompletableFuture<OntologyModel> {
+        // the task which is performed by the current thread:
+        protected static final ThreadLocal<LoadingTask> CURRENT = new ThreadLocal<>();
+        private static final int RUNNING = 0;
+        private static final int CANCELLED = 1;
+        private static final int REGISTERING = 2;
+
+        protected final AtomicInteger state = new AtomicInteger(RUNNING);
+        protected final LoadingProgressListener listener;
+
+        protected LoadingTask(LoadingProgressListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Performs the loading in the current thread.
+         *
+         * @param loader {@link Callable} the loading operation
+         */
+        protected void run(Callable<OntologyModel> loader) {
+            if (state.get() == CANCELLED) return;
+            LoadingTask prev = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                complete(loader.call());
+            } catch (Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                if (prev == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(prev);
+                }
+            }
+        }
+
+        /**
+         * Checks the state and notifies the listener about the next phase.
+         *
+         * @param phase    {@link LoadingPhase}
+         * @param document {@link IRI}
+         * @throws OntologyFactoryImpl.LoadingCancelledException if the task has been cancelled
+         */
+        protected void phase(LoadingPhase phase, IRI document) throws OntologyFactoryImpl.LoadingCancelledException {
+            if (LoadingPhase.REGISTER == phase) {
+                state.compareAndSet(RUNNING, REGISTERING);
+            }
+            if (state.get() == CANCELLED) {
+                throw new OntologyFactoryImpl.LoadingCancelledException("The loading of <" + document + "> has been cancelled.");
+            }
+            if (listener != null) {
+                listener.loadingPhase(phase, document);
+            }
+        }
+
+        /**
+         * Cancels the loading if it has not reached the {@link LoadingPhase#REGISTER} phase yet.
+         *
+         * @param mayInterruptIfRunning boolean, ignored, the running thread is never interrupted
+         * @return true if the task is cancelled
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (state.compareAndSet(RUNNING, CANCELLED)) {
+                return super.cancel(mayInterruptIfRunning);
+            }
+            return isCancelled();
+        }
+    }
+
     /**
      * This implementation of {@link ConfigProvider.Config} has a reference to manager inside.
      * This is in order to provide access to the manager's settings also.
@@ -2378,4 +3578,124 @@ public class OntologyManagerImpl implements OntologyManager, OWLOntologyFactory.
             return manager.isConcurrent();
         }
     }
+
+    /**
+     * A graph, which is filled from the serialized data on first access.
+     * Used while deserialization of the manager to make restoring fast:
+     * the triples of an ontology are decoded only when the ontology is really used.
+     * The triples are stored in the in-memory graph of the {@link OntModelFactory.GraphType type},
+     * specified in the loader configuration of the ontology.
+     * Note: the ontology id is cached inside the ontology,
+     * so the searching ontologies in the manager does not cause the loading.
+     *
+     * @see OntologyManagerImpl#readGraphs(ObjectInputStream)
+     * @since 1.2.0
+     */
+    public static class LazyGraph extends GraphBase {
+        protected final Graph graph;
+        private Node[] dictionary;
+        private byte[] data;
+        private volatile boolean loaded;
+
+        protected LazyGraph(Graph graph, Node[] dictionary, byte[] data, Map<String, String> prefixes) {
+            this.graph = Objects.requireNonNull(graph, "Null graph");
+            this.dictionary = dictionary;
+            this.data = data;
+            // the prefixes are required by UnionGraph's constructor, so they are set immediately:
+            getPrefixMapping().setNsPrefixes(prefixes);
+        }
+
+        /**
+         * Answers {@code true} if the triples are already decoded.
+         *
+         * @return boolean
+         */
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Returns the graph which holds the triples.
+         *
+         * @return {@link Graph}
+         */
+        public Graph get() {
+            load();
+            return graph;
+        }
+
+        protected void load() {
+            if (loaded) return;
+            synchronized (this) {
+                if (loaded) return;
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+                    int size = NodeIO.readVarInt(in);
+                    for (int i = 0; i < size; i++) {
+                        graph.add(Triple.create(dictionary[NodeIO.readVarInt(in)],
+                                dictionary[NodeIO.readVarInt(in)], dictionary[NodeIO.readVarInt(in)]));
+                    }
+                } catch (IOException | IndexOutOfBoundsException e) {
+                    throw new OntApiException("Can't restore the graph", e);
+                }
+                dictionary = null;
+                data = null;
+                loaded = true;
+            }
+        }
+
+        @Override
+        public void performAdd(Triple t) {
+            load();
+            graph.add(t);
+        }
+
+        @Override
+        public void performDelete(Triple t) {
+            load();
+            graph.delete(t);
+        }
+
+        @Override
+        public int graphBaseSize() {
+            load();
+            return graph.size();
+        }
+
+        @Override
+        public ExtendedIterator<Triple> graphBaseFind(Triple t) {
+            load();
+            return graph.find(t);
+        }
+
+        @Override
+        public boolean graphBaseContains(Triple t) {
+            load();
+            return graph.contains(t);
+        }
+
+        @Override
+        public void clear() {
+            load();
+            graph.clear();
+            getEventManager().notifyEvent(this, GraphEvents.removeAll);
+        }
+
+        @Override
+        public Capabilities getCapabilities() {
+            return graph.getCapabilities();
+        }
+
+        @Override
+        public GraphStatisticsHandler getStatisticsHandler() {
+            load();
+            return graph.getStatisticsHandler();
+        }
+
+        @Override
+        public void close() {
+            graph.close();
+            super.close();
+        }
+    }
+
 }
@@ -17,17 +17,24 @@ package ru.avicomp.ontapi;
 import org.apache.jena.graph.Graph;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.internal.ConfigProvider;
 import ru.avicomp.ontapi.internal.InternalModel;
 import ru.avicomp.ontapi.internal.InternalModelHolder;
 import ru.avicomp.ontapi.jena.ConcurrentGraph;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.owlapi.OWLOntologyWrapper;
+import ru.avicomp.owlapi.StampedReadWriteLock;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.NO_OPERATION;
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.SUCCESSFULLY;
@@ -105,7 +112,7 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
         if (!manager.isConcurrent()) {
             throw new OntApiException.Unsupported("Concurrency is not allowed.");
         }
-        return new Concurrent(this, manager.getLock());
+        return new Concurrent(this, manager.getOntologyLock(this));
     }
 
     protected class ChangeProcessor implements OWLOntologyChangeVisitorEx<ChangeApplied> {
@@ -188,6 +195,7 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
                 return;
             }
             getBase().addImport(((InternalModelHolder) ont).getBase());
+            getConfig().manager().onImportsChange(getBase().getGraph());
         }
 
         protected void removeImport(OWLImportsDeclaration declaration) {
@@ -198,6 +206,7 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
                 return;
             }
             getBase().removeImport(((InternalModelHolder) ont).getBase());
+            getConfig().manager().onImportsChange(getBase().getGraph());
         }
     }
 
@@ -209,8 +218,16 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
     @SuppressWarnings("WeakerAccess")
     public static class Concurrent extends OWLOntologyWrapper implements OntologyModel, ConfigProvider, InternalModelHolder {
 
+        // the last known id, used in case of per-ontology locking or stamped lock:
+        protected volatile OWLOntologyID id;
+        // the memoized concurrent view, see #asGraphModel():
+        protected transient volatile GraphModelView view;
+
         protected Concurrent(OntologyModelImpl delegate, ReadWriteLock lock) {
             super(delegate, lock);
+            if (lock instanceof OntologyManagerImpl.OntologyLock || lock instanceof StampedReadWriteLock) {
+                this.id = delegate.getOntologyID();
+            }
         }
 
         public OntologyModelImpl delegate() {
@@ -222,23 +239,177 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
         }
 
         /**
+         * Returns the concurrent {@link OntGraphModel jena model} view of this ontology.
+         * The view is cached and is rebuilt only if the imports (i.e. the sub-graphs of the underlying union graph)
+         * or the related configuration settings have been changed,
+         * so it is cheap to call this method repeatedly, and the model's node cache is preserved between calls.
+         *
          * @return {@link OntGraphModel}
          */
         @Override
         public OntGraphModel asGraphModel() {
-            lock.readLock().lock();
+            readLock().lock();
             try {
                 return makeGraphModel();
             } finally {
-                lock.readLock().unlock();
+                readLock().unlock();
             }
         }
 
         protected OntGraphModel makeGraphModel() {
             UnionGraph thisGraph = getBase().getGraph();
-            UnionGraph newGraph = new UnionGraph(new ConcurrentGraph(thisGraph.getBaseGraph(), lock), thisGraph.getEventManager());
+            OntLoaderConfiguration conf = getConfig().loaderConfig();
+            ConcurrentGraph.ReadMode mode = conf.getConcurrentReadMode();
+            OntPersonality personality = conf.getPersonality();
+            long version = thisGraph.getUnderlying().getVersion();
+            GraphModelView res = view;
+            if (res != null && res.test(thisGraph, version, mode, personality)) {
+                return res.model;
+            }
+            UnionGraph newGraph = new UnionGraph(new ConcurrentGraph(thisGraph.getBaseGraph(), lock, mode), thisGraph.getEventManager());
             thisGraph.getUnderlying().graphs().forEach(newGraph::addGraph);
-            return OntModelFactory.createModel(newGraph, getConfig().loaderConfig().getPersonality());
+            OntGraphModel model = OntModelFactory.createModel(newGraph, personality);
+            view = new GraphModelView(thisGraph, version, mode, personality, model);
+            return model;
+        }
+
+        /**
+         * Returns the read lock, before that runs the postponed graph transformations, if any, under the write lock,
+         * since they modify the graphs and must not be performed concurrently with other readers.
+         * If the current thread already holds the read lock, the write lock cannot be acquired without a deadlock,
+         * and the transformations are left to the model, which performs them under the read lock
+         * (at most once, see {@link InternalModel#materialize()}).
+         * Note: the methods which depend only on the ontology id (e.g. {@link #hashCode()}) do not use this lock,
+         * and therefore do not cause the transformations.
+         *
+         * @return {@link Lock}
+         * @see InternalModel#materialize()
+         * @see ru.avicomp.ontapi.config.OntLoaderConfiguration#isDeferTransformations()
+         */
+        @Override
+        protected Lock readLock() {
+            InternalModel base = getBase();
+            if (!base.isMaterialized() && !isReadLockedByCurrentThread(lock)) {
+                Lock write = lock.writeLock();
+                write.lock();
+                try {
+                    base.materialize();
+                } finally {
+                    write.unlock();
+                }
+            }
+            return lock.readLock();
+        }
+
+        /**
+         * Answers {@code true} if the current thread holds the read lock.
+         * For an unknown lock type it answers {@code false},
+         * so the postponed transformations are always performed under the write lock.
+         *
+         * @param lock {@link ReadWriteLock}
+         * @return boolean
+         */
+        protected static boolean isReadLockedByCurrentThread(ReadWriteLock lock) {
+            if (lock instanceof ReentrantReadWriteLock) {
+                return ((ReentrantReadWriteLock) lock).getReadHoldCount() != 0;
+            }
+            if (lock instanceof StampedReadWriteLock) {
+                return ((StampedReadWriteLock) lock).getReadHoldCount() != 0;
+            }
+            if (lock instanceof OntologyManagerImpl.OntologyLock) {
+                OntologyManagerImpl.OntologyLock res = (OntologyManagerImpl.OntologyLock) lock;
+                return res.getReadHoldCount() != 0 || isReadLockedByCurrentThread(res.manager().getLock());
+            }
+            return false;
+        }
+
+        /**
+         * Gets a stream in accordance with the {@link ru.avicomp.ontapi.config.OntLoaderConfiguration#getConcurrentReadMode() read mode}:
+         * either the lock is held only while the stream is being created,
+         * or it is held until the stream is closed or exhausted.
+         *
+         * @param getter {@link Supplier} to get the stream from the delegate
+         * @param <X>    anything
+         * @return Stream
+         */
+        @Override
+        protected <X> Stream<X> stream(Supplier<Stream<X>> getter) {
+            if (ConcurrentGraph.ReadMode.LOCK_FIND == delegate().getConfig().loaderConfig().getConcurrentReadMode()) {
+                return super.stream(getter);
+            }
+            return lockedStream(getter);
+        }
+
+        /**
+         * Gets the ontology id.
+         * In case of {@link OntologyManagerImpl#isOntologyLocking() per-ontology locking}
+         * this method does not wait while the ontology is being modified by some other thread, but returns the last known id instead.
+         * This is because the manager scans the ids of all its ontologies,
+         * and the ontology id cannot be changed by the manager without the manager's write lock.
+         * In case of {@link StampedReadWriteLock} this method does not wait for a writer either:
+         * the id is read in optimistic mode, and if some other thread holds the write lock,
+         * the id known before that writer came is returned.
+         * Since the methods {@link #hashCode()}, {@link #equals(Object)} and {@link #isAnonymous()} are based on the id,
+         * they do not wait as well.
+         *
+         * @return {@link OWLOntologyID}
+         */
+        @Override
+        public OWLOntologyID getOntologyID() {
+            OWLOntologyID res;
+            if (lock instanceof OntologyManagerImpl.OntologyLock) {
+                res = ((OntologyManagerImpl.OntologyLock) lock).tryRead(delegate::getOntologyID);
+            } else if (lock instanceof StampedReadWriteLock) {
+                StampedReadWriteLock stamped = (StampedReadWriteLock) lock;
+                if (stamped.isWriteLockedByCurrentThread()) {
+                    // the writer itself sees the actual id, which is not published until the write lock is released:
+                    return delegate.getOntologyID();
+                }
+                res = stamped.tryOptimisticRead(delegate::getOntologyID);
+            } else {
+                return super.getOntologyID();
+            }
+            return res == null ? id : (id = res);
+        }
+
+        /**
+         * In case of {@link OntologyManagerImpl#isOntologyLocking() per-ontology locking}
+         * all the changes are delegated to the manager without locking,
+         * since the manager chooses the locks itself.
+         *
+         * @param op  {@link Supplier} to perform the operation on the delegate
+         * @param <X> anything
+         * @return the result of the operation
+         * @see OntologyManagerImpl#applyChangesAndGetDetails(java.util.List)
+         */
+        @Override
+        protected <X> X change(Supplier<X> op) {
+            if (lock instanceof OntologyManagerImpl.OntologyLock) {
+                return op.get();
+            }
+            return super.change(op);
+        }
+
+        /**
+         * Applies the change directly.
+         * In case of {@link OntologyManagerImpl#isOntologyLocking() per-ontology locking},
+         * the changes of the ontology id and imports are performed under the manager's write lock, since they affect the registry.
+         *
+         * @param change {@link OWLOntologyChange}
+         * @return {@link ChangeApplied}
+         */
+        @Override
+        public ChangeApplied applyDirectChange(OWLOntologyChange change) {
+            if (!(lock instanceof OntologyManagerImpl.OntologyLock) || change.isAxiomChange() || change instanceof AnnotationChange) {
+                return super.applyDirectChange(change);
+            }
+            Lock registry = ((OntologyManagerImpl.OntologyLock) lock).manager().getLock().writeLock();
+            registry.lock();
+            try {
+                return super.applyDirectChange(change);
+            } finally {
+                registry.unlock();
+            }
         }
 
         /**
@@ -279,5 +450,33 @@ public class OntologyModelImpl extends OntBaseModelImpl implements OntologyModel
             delegate().setBase(m);
         }
 
+        /**
+         * A cached concurrent view together with the state it was built for.
+         *
+         * @since 1.2.0
+         */
+        protected static class GraphModelView {
+            protected final UnionGraph graph;
+            protected final long version;
+            protected final ConcurrentGraph.ReadMode mode;
+            protected final OntPersonality personality;
+            protected final OntGraphModel model;
+
+            protected GraphModelView(UnionGraph graph,
+                                     long version,
+                                     ConcurrentGraph.ReadMode mode,
+                                     OntPersonality personality,
+                                     OntGraphModel model) {
+                this.graph = graph;
+                this.version = version;
+                this.mode = mode;
+                this.personality = personality;
+                this.model = model;
+            }
+
+            protected boolean test(UnionGraph graph, long version, ConcurrentGraph.ReadMode mode, OntPersonality personality) {
+                return this.graph == graph && this.version == version && this.mode == mode && this.personality == personality;
+            }
+        }
     }
 }
@@ -16,6 +16,8 @@ package ru.avicomp.ontapi.config;
 
 import org.semanticweb.owlapi.model.*;
 import ru.avicomp.ontapi.OntApiException;
+import ru.avicomp.ontapi.jena.ConcurrentGraph;
+import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.impl.conf.Configurable;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
@@ -55,6 +57,24 @@ import java.util.stream.Stream;
  * <li>{@link #setControlImports(boolean)} </li>
  * <li>{@link #isIgnoreAxiomsReadErrors()} (since 1.1.0)</li>
  * <li>{@link #setIgnoreAxiomsReadErrors(boolean)} (since 1.1.0)</li>
+ * <li>{@link #getReadAxiomsParallelism()} (since 1.2.0)</li>
+ * <li>{@link #setReadAxiomsParallelism(int)} (since 1.2.0)</li>
+ * <li>{@link #isCacheNodeTypes()} (since 1.2.0)</li>
+ * <li>{@link #setCacheNodeTypes(boolean)} (since 1.2.0)</li>
+ * <li>{@link #getConcurrentReadMode()} (since 1.2.0)</li>
+ * <li>{@link #setConcurrentReadMode(ConcurrentGraph.ReadMode)} (since 1.2.0)</li>
+ * <li>{@link #getFetchImportsParallelism()} (since 1.2.0)</li>
+ * <li>{@link #setFetchImportsParallelism(int)} (since 1.2.0)</li>
+ * <li>{@link #getParseParallelism()} (since 1.2.0)</li>
+ * <li>{@link #setParseParallelism(int)} (since 1.2.0)</li>
+ * <li>{@link #getAxiomsSnapshotDirectory()} (since 1.2.0)</li>
+ * <li>{@link #setAxiomsSnapshotDirectory(String)} (since 1.2.0)</li>
+ * <li>{@link #getGraphType()} (since 1.2.0)</li>
+ * <li>{@link #setGraphType(OntModelFactory.GraphType)} (since 1.2.0)</li>
+ * <li>{@link #isUseContentCache()} (since 1.2.0)</li>
+ * <li>{@link #setUseContentCache(boolean)} (since 1.2.0)</li>
+ * <li>{@link #isDeferTransformations()} (since 1.2.0)</li>
+ * <li>{@link #setDeferTransformations(boolean)} (since 1.2.0)</li>
  * </ul>
  * Created by szuev on 27.02.2017.
  *
@@ -284,6 +304,216 @@ public class OntConfig extends OntologyConfigurator {
         return put(OntSettings.ONT_API_LOAD_CONF_IGNORE_AXIOMS_READ_ERRORS, b);
     }
 
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return int, the number of threads to read axioms ({@code 1} by default)
+     * @see OntLoaderConfiguration#getReadAxiomsParallelism()
+     * @since 1.2.0
+     */
+    public int getReadAxiomsParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_READ_AXIOMS_PARALLELISM);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param n int, positive number of threads to read axioms of different types simultaneously
+     * @return this instance
+     * @see OntLoaderConfiguration#setReadAxiomsParallelism(int)
+     * @since 1.2.0
+     */
+    public OntConfig setReadAxiomsParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return put(OntSettings.ONT_API_LOAD_CONF_READ_AXIOMS_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return true if the results of node type tests are cached inside a model (by default false)
+     * @see OntLoaderConfiguration#isCacheNodeTypes()
+     * @since 1.2.0
+     */
+    public boolean isCacheNodeTypes() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_CACHE_NODE_TYPES);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param b boolean to enable/disable the node cache
+     * @return this instance
+     * @see OntLoaderConfiguration#setCacheNodeTypes(boolean)
+     * @since 1.2.0
+     */
+    public OntConfig setCacheNodeTypes(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CACHE_NODE_TYPES, b);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return {@link ConcurrentGraph.ReadMode} ({@link ConcurrentGraph.ReadMode#LOCK_FIND} by default)
+     * @see OntLoaderConfiguration#getConcurrentReadMode()
+     * @since 1.2.0
+     */
+    public ConcurrentGraph.ReadMode getConcurrentReadMode() {
+        return (ConcurrentGraph.ReadMode) get(OntSettings.ONT_API_LOAD_CONF_CONCURRENT_READ_MODE);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param mode {@link ConcurrentGraph.ReadMode}, not null
+     * @return this instance
+     * @see OntLoaderConfiguration#setConcurrentReadMode(ConcurrentGraph.ReadMode)
+     * @since 1.2.0
+     */
+    public OntConfig setConcurrentReadMode(ConcurrentGraph.ReadMode mode) {
+        return put(OntSettings.ONT_API_LOAD_CONF_CONCURRENT_READ_MODE, OntApiException.notNull(mode, "Null read mode."));
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return int, the number of threads to fetch and parse imported documents ({@code 1} by default)
+     * @see OntLoaderConfiguration#getFetchImportsParallelism()
+     * @since 1.2.0
+     */
+    public int getFetchImportsParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_FETCH_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param n int, positive number of threads to fetch and parse independent imports simultaneously
+     * @return this instance
+     * @see OntLoaderConfiguration#setFetchImportsParallelism(int)
+     * @since 1.2.0
+     */
+    public OntConfig setFetchImportsParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return put(OntSettings.ONT_API_LOAD_CONF_FETCH_IMPORTS_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return int, the number of threads to parse a single line-based document ({@code 1} by default)
+     * @see OntLoaderConfiguration#getParseParallelism()
+     * @since 1.2.0
+     */
+    public int getParseParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_PARSE_PARALLELISM);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param n int, positive number of threads to parse chunks of a N-Triples or N-Quads file simultaneously
+     * @return this instance
+     * @see OntLoaderConfiguration#setParseParallelism(int)
+     * @since 1.2.0
+     */
+    public OntConfig setParseParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return put(OntSettings.ONT_API_LOAD_CONF_PARSE_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return String, the directory to store axioms snapshots, empty if snapshots are disabled (by default)
+     * @see OntLoaderConfiguration#getAxiomsSnapshotDirectory()
+     * @since 1.2.0
+     */
+    public String getAxiomsSnapshotDirectory() {
+        return (String) get(OntSettings.ONT_API_LOAD_CONF_AXIOMS_SNAPSHOT_DIRECTORY);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param dir String, the path to the snapshots directory, {@code null} or empty to disable
+     * @return this instance
+     * @see OntLoaderConfiguration#setAxiomsSnapshotDirectory(String)
+     * @since 1.2.0
+     */
+    public OntConfig setAxiomsSnapshotDirectory(String dir) {
+        return put(OntSettings.ONT_API_LOAD_CONF_AXIOMS_SNAPSHOT_DIRECTORY, dir == null ? "" : dir);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return {@link OntModelFactory.GraphType} ({@link OntModelFactory.GraphType#MEM} by default)
+     * @see OntLoaderConfiguration#getGraphType()
+     * @since 1.2.0
+     */
+    public OntModelFactory.GraphType getGraphType() {
+        return (OntModelFactory.GraphType) get(OntSettings.ONT_API_LOAD_CONF_GRAPH_TYPE);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param type {@link OntModelFactory.GraphType}, not null
+     * @return this instance
+     * @see OntLoaderConfiguration#setGraphType(OntModelFactory.GraphType)
+     * @since 1.2.0
+     */
+    public OntConfig setGraphType(OntModelFactory.GraphType type) {
+        return put(OntSettings.ONT_API_LOAD_CONF_GRAPH_TYPE, OntApiException.notNull(type, "Null graph type."));
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return true if the axioms, annotations and signature are cached (it is by default)
+     * @see OntLoaderConfiguration#isUseContentCache()
+     * @since 1.2.0
+     */
+    public boolean isUseContentCache() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_USE_CONTENT_CACHE);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param b boolean enable/disable the content cache
+     * @return this instance
+     * @see OntLoaderConfiguration#setUseContentCache(boolean)
+     * @since 1.2.0
+     */
+    public OntConfig setUseContentCache(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_USE_CONTENT_CACHE, b);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config getter.
+     *
+     * @return true if the graph transformations are postponed until the first structural access (false by default)
+     * @see OntLoaderConfiguration#isDeferTransformations()
+     * @since 1.2.0
+     */
+    public boolean isDeferTransformations() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_DEFER_TRANSFORMATIONS);
+    }
+
+    /**
+     * ONT-API(NEW) manager load config setter.
+     *
+     * @param b boolean enable/disable the deferred transformations
+     * @return this instance
+     * @see OntLoaderConfiguration#setDeferTransformations(boolean)
+     * @since 1.2.0
+     */
+    public OntConfig setDeferTransformations(boolean b) {
+        return put(OntSettings.ONT_API_LOAD_CONF_DEFER_TRANSFORMATIONS, b);
+    }
+
     /**
      * ONT-API(NEW) manager write config getter.
      *
@@ -18,6 +18,8 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import ru.avicomp.ontapi.OntApiException;
 import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.jena.ConcurrentGraph;
+import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
 
@@ -360,6 +362,298 @@ public class OntLoaderConfiguration extends OWLOntologyLoaderConfiguration {
         return set(OntSettings.ONT_API_LOAD_CONF_IGNORE_AXIOMS_READ_ERRORS, b);
     }
 
+    /**
+     * ONT-API config getter.
+     * Answers the number of threads used to read axioms of different types from a graph at the same time.
+     * If it is not greater than {@code 1} (by default), the axioms are read in the current thread.
+     *
+     * @return int, the parallelism level
+     * @see OntConfig#getReadAxiomsParallelism()
+     * @since 1.2.0
+     */
+    public int getReadAxiomsParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_READ_AXIOMS_PARALLELISM);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.read.axioms.parallelism' parameter.
+     * A value greater than {@code 1} turns on the parallel reading of axioms,
+     * which is performed in a {@link java.util.concurrent.ForkJoinPool} with the specified number of threads,
+     * the pool is created once per ontology and reused by all its readings.
+     *
+     * @param n int, the parallelism level, must be positive
+     * @return this or new config
+     * @see OntConfig#setReadAxiomsParallelism(int)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setReadAxiomsParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return set(OntSettings.ONT_API_LOAD_CONF_READ_AXIOMS_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Answers whether the results of testing nodes for types
+     * (i.e. {@link org.apache.jena.rdf.model.RDFNode#canAs(Class)} for ont-objects) are cached inside each ontology model.
+     *
+     * @return true if the node cache is enabled (by default false)
+     * @see OntConfig#isCacheNodeTypes()
+     * @see ru.avicomp.ontapi.jena.impl.OntGraphModelImpl#hasNodeCache()
+     * @since 1.2.0
+     */
+    public boolean isCacheNodeTypes() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_CACHE_NODE_TYPES);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.cache.node.types' parameter.
+     * The cache is cleared on any graph change, so it is useful mostly for read-heavy ontologies.
+     * Takes effect for models created after the change.
+     *
+     * @param b true to enable the node cache
+     * @return this or new config
+     * @see OntConfig#setCacheNodeTypes(boolean)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setCacheNodeTypes(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CACHE_NODE_TYPES, b);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Answers how the streams of a concurrent ontology and the iterators of its {@link ru.avicomp.ontapi.OntologyModel#asGraphModel() graph model}
+     * are protected by the lock.
+     *
+     * @return {@link ConcurrentGraph.ReadMode}
+     * @see OntConfig#getConcurrentReadMode()
+     * @since 1.2.0
+     */
+    public ConcurrentGraph.ReadMode getConcurrentReadMode() {
+        return (ConcurrentGraph.ReadMode) get(OntSettings.ONT_API_LOAD_CONF_CONCURRENT_READ_MODE);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.concurrent.read.mode' parameter.
+     * Makes sense only for concurrent ontologies (see {@link ru.avicomp.ontapi.OntManagers#createConcurrentONT()}):
+     * <ul>
+     * <li>{@link ConcurrentGraph.ReadMode#LOCK_FIND} (the default) - the read lock is held only while a stream or an iterator is created</li>
+     * <li>{@link ConcurrentGraph.ReadMode#LOCK_ITERATION} - the read lock is held until a stream or an iterator is closed or exhausted</li>
+     * <li>{@link ConcurrentGraph.ReadMode#SNAPSHOT} - the graph iterators go over a copy-on-write snapshot of the base graph,
+     * the ontology streams (axioms, entities, etc) behave as in the previous mode since they are not graph based</li>
+     * </ul>
+     *
+     * @param mode {@link ConcurrentGraph.ReadMode}, not null
+     * @return this or new config
+     * @see OntConfig#setConcurrentReadMode(ConcurrentGraph.ReadMode)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setConcurrentReadMode(ConcurrentGraph.ReadMode mode) {
+        return set(OntSettings.ONT_API_LOAD_CONF_CONCURRENT_READ_MODE, OntApiException.notNull(mode, "Null read mode."));
+    }
+
+    /**
+     * ONT-API config getter.
+     * Returns the maximum number of threads used to fetch and parse the documents of the imports closure.
+     * If it is not greater than {@code 1} (by default), the imports are loaded one by one in the current thread.
+     *
+     * @return int, the parallelism level
+     * @see OntConfig#getFetchImportsParallelism()
+     * @since 1.2.0
+     */
+    public int getFetchImportsParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_FETCH_IMPORTS_PARALLELISM);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.fetch.imports.parallelism' parameter.
+     * A value greater than {@code 1} makes the loader walk the {@code owl:imports} graph in advance and
+     * parse independent documents simultaneously in a bounded pool with the specified number of threads.
+     * The structure of the resulting ontologies (including the order of sub-graphs) does not depend on this setting.
+     * Note: only documents that are readable by Jena are parsed in parallel,
+     * the OWL-API parsers (if any are needed) are always called in the current thread.
+     *
+     * @param n int, the parallelism level, must be positive
+     * @return this or new config
+     * @see OntConfig#setFetchImportsParallelism(int)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setFetchImportsParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return set(OntSettings.ONT_API_LOAD_CONF_FETCH_IMPORTS_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Returns the maximum number of threads used to parse a single document in a line-based format.
+     * If it is not greater than {@code 1} (by default), any document is parsed in the current thread.
+     *
+     * @return int, the parallelism level
+     * @see OntConfig#getParseParallelism()
+     * @since 1.2.0
+     */
+    public int getParseParallelism() {
+        return (int) get(OntSettings.ONT_API_LOAD_CONF_PARSE_PARALLELISM);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.parse.parallelism' parameter.
+     * A value greater than {@code 1} allows to split a big local file in N-Triples or N-Quads format
+     * into line-aligned chunks, which are parsed simultaneously in a pool with the specified number of threads,
+     * and then all triples are added into the graph at once.
+     * Blank nodes with the same label in different chunks are the same.
+     * Other formats and non-file sources are always parsed in the current thread.
+     *
+     * @param n int, the parallelism level, must be positive
+     * @return this or new config
+     * @see OntConfig#setParseParallelism(int)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setParseParallelism(int n) {
+        if (n < 1) throw new OntApiException("Wrong parallelism level: " + n);
+        return set(OntSettings.ONT_API_LOAD_CONF_PARSE_PARALLELISM, n);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Returns the directory where the snapshots of the axioms cache are stored.
+     * An empty string (by default) means the snapshots are disabled.
+     *
+     * @return String, the path to the directory
+     * @see OntConfig#getAxiomsSnapshotDirectory()
+     * @since 1.2.0
+     */
+    public String getAxiomsSnapshotDirectory() {
+        return (String) get(OntSettings.ONT_API_LOAD_CONF_AXIOMS_SNAPSHOT_DIRECTORY);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.axioms.snapshot.directory' parameter.
+     * If the directory is specified, then once all the axioms of an ontology have been read from the graph,
+     * they are saved there together with their triples into a binary file,
+     * which name is a digest of the graph content (including imports) and of the reading settings.
+     * When the axioms of an ontology with the same digest are requested next time (e.g. after restart),
+     * they are restored from that file instead of being translated from the graph.
+     * Note: the digest depends on blank node labels,
+     * so a document which is parsed anew (and therefore gets new blank nodes) can be restored only if it has no anonymous nodes.
+     *
+     * @param dir String, the path to the directory, {@code null} or empty to disable
+     * @return this or new config
+     * @see OntConfig#setAxiomsSnapshotDirectory(String)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setAxiomsSnapshotDirectory(String dir) {
+        return set(OntSettings.ONT_API_LOAD_CONF_AXIOMS_SNAPSHOT_DIRECTORY, dir == null ? "" : dir);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Returns the type of in-memory graphs, which are created for new and loaded ontologies.
+     *
+     * @return {@link OntModelFactory.GraphType}
+     * @see OntConfig#getGraphType()
+     * @since 1.2.0
+     */
+    public OntModelFactory.GraphType getGraphType() {
+        return (OntModelFactory.GraphType) get(OntSettings.ONT_API_LOAD_CONF_GRAPH_TYPE);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.graph.type' parameter, the possible values are:
+     * <ul>
+     * <li>{@link OntModelFactory.GraphType#MEM} (the default) - the standard jena memory graph</li>
+     * <li>{@link OntModelFactory.GraphType#COMPACT} - the dictionary-encoded {@link ru.avicomp.ontapi.jena.CompactGraph},
+     * which needs several times less memory, but matches literals by term, not by value</li>
+     * <li>{@link OntModelFactory.GraphType#COMPACT_OFF_HEAP} - the same, but the indexes are kept outside of the java heap</li>
+     * </ul>
+     * The setting affects only the graphs created after it is changed.
+     *
+     * @param type {@link OntModelFactory.GraphType}, not null
+     * @return this or new config
+     * @see OntConfig#setGraphType(OntModelFactory.GraphType)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setGraphType(OntModelFactory.GraphType type) {
+        return set(OntSettings.ONT_API_LOAD_CONF_GRAPH_TYPE, OntApiException.notNull(type, "Null graph type."));
+    }
+
+    /**
+     * ONT-API config getter.
+     * Answers {@code true} if the structural content of an ontology is cached (the default).
+     *
+     * @return boolean
+     * @see OntConfig#isUseContentCache()
+     * @since 1.2.0
+     */
+    public boolean isUseContentCache() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_USE_CONTENT_CACHE);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.use.content.cache' parameter.
+     * By default the axioms, the ontology header annotations and the signature are read from the graph once
+     * and then kept in memory together with their triples, so that the changes made through OWL-API can be tracked.
+     * If the cache is disabled, every call reads the graph anew and streams the results straight from the translators,
+     * and the changes go straight to the graph, without any bookkeeping.
+     * So the memory consumption does not depend on the number of axioms, which is important for graphs
+     * that are not kept in memory (e.g. TDB), but each call (including {@code containsAxiom} and {@code removeAxiom})
+     * costs a pass over the graph.
+     * Note: in this mode, a stream of axioms may contain duplicates, if the same axiom is written in the graph several times in different ways.
+     * The signature streams (e.g. {@code classesInSignature()}) are an exception: they do not contain duplicates,
+     * and therefore keep all the already returned entities of the requested type in memory until the stream is closed,
+     * so their memory consumption grows with the signature (but not with the axioms).
+     *
+     * @param b boolean
+     * @return this or new config
+     * @see OntConfig#setUseContentCache(boolean)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setUseContentCache(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_USE_CONTENT_CACHE, b);
+    }
+
+    /**
+     * ONT-API config getter.
+     * Answers {@code true} if the graph transformations are performed lazily.
+     *
+     * @return boolean, false by default
+     * @see OntConfig#isDeferTransformations()
+     * @since 1.2.0
+     */
+    public boolean isDeferTransformations() {
+        return (boolean) get(OntSettings.ONT_API_LOAD_CONF_DEFER_TRANSFORMATIONS);
+    }
+
+    /**
+     * ONT-API config setter.
+     * Changes 'ont.api.load.conf.defer.transformations' parameter.
+     * By default the {@link #getGraphTransformers() graph transformations} are performed for the whole imports closure
+     * right after the documents are parsed, before the ontologies are registered in the manager.
+     * If this option is enabled, the ontologies are registered with the graphs as they were parsed,
+     * and the transformations of an ontology graph (and the graphs of its imports, which are not processed yet)
+     * are performed once, on the first access to the axioms or the header annotations of that ontology.
+     * So the imports, which are never examined structurally, are never transformed.
+     * Note: the ontology id is taken from the untransformed graph,
+     * and the direct reading through the jena interface does not trigger the transformations.
+     * A transformation failure is reported as {@link ru.avicomp.ontapi.OntApiException} on the first access.
+     * It has no effect if {@link #isPerformTransformation()} is {@code false}.
+     *
+     * @param b boolean
+     * @return this or new config
+     * @see OntConfig#setDeferTransformations(boolean)
+     * @since 1.2.0
+     */
+    public OntLoaderConfiguration setDeferTransformations(boolean b) {
+        return set(OntSettings.ONT_API_LOAD_CONF_DEFER_TRANSFORMATIONS, b);
+    }
+
     /**
      * Determines whether or not annotation axioms (instances of {@code OWLAnnotationAxiom}) should be loaded.
      * By default the loading of annotation axioms is enabled.
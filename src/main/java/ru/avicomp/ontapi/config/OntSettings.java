@@ -19,6 +19,8 @@ import org.semanticweb.owlapi.model.MissingOntologyHeaderStrategy;
 import org.semanticweb.owlapi.model.PriorityCollectionSorting;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
 import ru.avicomp.ontapi.OntApiException;
+import ru.avicomp.ontapi.jena.ConcurrentGraph;
+import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.transforms.*;
 
@@ -31,7 +33,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Enum of all ONT-API settings (20 origin OWL-API options + 9 new ONT-API options + ignored imports)
+ * Enum of all ONT-API settings (20 origin OWL-API options + 21 new ONT-API options + ignored imports)
  * Note: System properties are not taken into account (this is a difference from OWL-API).
  * We use the properties file as the primary settings store and this enum goes as secondary attempt to load.
  * See <a href="file:../resources/ontapi.properties">ontapi.properties</a>
@@ -53,6 +55,15 @@ public enum OntSettings implements OntConfig.OptionSetting {
     ONT_API_LOAD_CONF_IGNORE_ANNOTATION_AXIOM_OVERLAPS(true),
     ONT_API_LOAD_CONF_USE_OWL_PARSERS_TO_LOAD(false),
     ONT_API_LOAD_CONF_IGNORE_AXIOMS_READ_ERRORS(false),
+    ONT_API_LOAD_CONF_READ_AXIOMS_PARALLELISM(1),
+    ONT_API_LOAD_CONF_CACHE_NODE_TYPES(false),
+    ONT_API_LOAD_CONF_CONCURRENT_READ_MODE(ConcurrentGraph.ReadMode.LOCK_FIND),
+    ONT_API_LOAD_CONF_FETCH_IMPORTS_PARALLELISM(1),
+    ONT_API_LOAD_CONF_PARSE_PARALLELISM(1),
+    ONT_API_LOAD_CONF_AXIOMS_SNAPSHOT_DIRECTORY(""),
+    ONT_API_LOAD_CONF_GRAPH_TYPE(OntModelFactory.GraphType.MEM),
+    ONT_API_LOAD_CONF_USE_CONTENT_CACHE(true),
+    ONT_API_LOAD_CONF_DEFER_TRANSFORMATIONS(false),
 
     OWL_API_LOAD_CONF_ACCEPT_HTTP_COMPRESSION(true),
     OWL_API_LOAD_CONF_CONNECTION_TIMEOUT(20000),
@@ -85,9 +85,9 @@ public abstract class AbstractNaryTranslator<Axiom extends OWLAxiom & OWLNaryAxi
     }
 
     @Override
-    public Stream<InternalObject<Axiom>> axioms(OntGraphModel model) {
+    protected Stream<InternalObject<Axiom>> translate(Stream<OntStatement> statements) {
         Map<Axiom, InternalObject<Axiom>> res = new HashMap<>(); // memory!
-        super.axioms(model).forEach(c -> res.compute(c.getObject(), (a, w) -> w == null ? c : w.append(c)));
+        super.translate(statements).forEach(c -> res.compute(c.getObject(), (a, w) -> w == null ? c : w.append(c)));
         return new HashSet<>(res.values()).stream();
     }
 }
@@ -65,7 +65,7 @@ public abstract class AbstractSubChainedTranslator<Axiom extends OWLLogicalAxiom
 
     @Override
     public boolean testStatement(OntStatement statement) {
-        return statement.getSubject().equals(getPredicate())
+        return statement.getPredicate().equals(getPredicate())
                 && statement.getSubject().canAs(getView())
                 && statement.getObject().canAs(RDFList.class);
     }
@@ -79,6 +79,11 @@ public abstract class AbstractTwoWayNaryTranslator<Axiom extends OWLAxiom & OWLN
         return super.testStatement(statement) || statement.getSubject().canAs(getDisjointView());
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        return super.testStatement(statement) ? statement : selectRoot(statement, getDisjointView());
+    }
+
     abstract Resource getMembersType();
 
     abstract Property getMembersPredicate();
@@ -64,6 +64,12 @@ public class AnnotationAssertionTranslator extends AxiomTranslator<OWLAnnotation
                 ReadHelper.isEntityOrAnonymousIndividual(statement.getSubject());
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        if (!getConfig(statement.getModel()).loaderConfig().isLoadAnnotationAxioms()) return null;
+        return super.select(statement);
+    }
+
     @Override
     public InternalObject<OWLAnnotationAssertionAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
@@ -57,6 +57,13 @@ public class AnnotationPropertyDomainTranslator extends AbstractPropertyDomainTr
         return super.testStatement(statement) && statement.getObject().isURIResource();
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        OntLoaderConfiguration conf = getConfig(statement.getModel()).loaderConfig();
+        if (!conf.isLoadAnnotationAxioms() || !testStatement(statement)) return null;
+        return ReadHelper.testAnnotationAxiomOverlaps(statement, conf, AxiomType.OBJECT_PROPERTY_DOMAIN, AxiomType.DATA_PROPERTY_DOMAIN) ? statement : null;
+    }
+
     @Override
     public InternalObject<OWLAnnotationPropertyDomainAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
@@ -58,6 +58,13 @@ public class AnnotationPropertyRangeTranslator extends AbstractPropertyRangeTran
         return super.testStatement(statement) && statement.getObject().isURIResource();
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        OntLoaderConfiguration conf = getConfig(statement.getModel()).loaderConfig();
+        if (!conf.isLoadAnnotationAxioms() || !testStatement(statement)) return null;
+        return ReadHelper.testAnnotationAxiomOverlaps(statement, conf, AxiomType.OBJECT_PROPERTY_RANGE, AxiomType.DATA_PROPERTY_RANGE) ? statement : null;
+    }
+
     @Override
     public InternalObject<OWLAnnotationPropertyRangeAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
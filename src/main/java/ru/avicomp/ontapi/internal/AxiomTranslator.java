@@ -18,8 +18,10 @@ import org.apache.jena.shared.JenaException;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.model.OntObject;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.utils.Models;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.util.stream.Stream;
 
@@ -53,7 +55,20 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> {
      * @throws JenaException unable to read axioms of this type.
      */
     public Stream<InternalObject<Axiom>> axioms(OntGraphModel model) throws JenaException {
-        return statements(model)
+        return translate(statements(model));
+    }
+
+    /**
+     * Translates the given statements to axioms.
+     * Each statement is expected to be selected by this translator,
+     * i.e. it must be either from {@link #statements(OntGraphModel)} or from {@link #select(OntStatement)}.
+     *
+     * @param statements Stream of {@link OntStatement}s, each defines an axiom of this type
+     * @return Stream of {@link InternalObject} around {@link OWLAxiom}
+     * @throws JenaException unable to read axioms of this type.
+     */
+    protected Stream<InternalObject<Axiom>> translate(Stream<OntStatement> statements) throws JenaException {
+        return statements
                 // CacheStatement helps to speed up a little if ontology has a lot of annotations,
                 // otherwise, it may even slow down the process of axioms collecting ...
                 .map(Models::createCachedStatement)
@@ -77,6 +92,22 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> {
      */
     public abstract boolean testStatement(OntStatement statement);
 
+    /**
+     * Selects the statement defining an axiom of this type from the specified statement of the base graph.
+     * This is the element-wise analogue of the {@link #statements(OntGraphModel)} method,
+     * which is used to read axioms of all types in a single pass through the graph:
+     * for any model the non-null results of this method applied to every local statement
+     * must be the same as the result of {@link #statements(OntGraphModel)}.
+     * Usually it is the specified statement itself, but some translators (e.g. for declarations)
+     * expect the {@link OntStatement#isRoot() root} statement instead.
+     *
+     * @param statement {@link OntStatement} a local statement
+     * @return {@link OntStatement} or {@code null} if the statement does not define an axiom of this type
+     */
+    public OntStatement select(OntStatement statement) {
+        return testStatement(statement) ? statement : null;
+    }
+
     /**
      * Creates an OWL Axiom from a statement.
      *
@@ -85,6 +116,23 @@ public abstract class AxiomTranslator<Axiom extends OWLAxiom> {
      */
     public abstract InternalObject<Axiom> toAxiom(OntStatement statement);
 
+    /**
+     * Answers the root statement of the object with the specified view if the given statement is that root.
+     * An auxiliary method to implement {@link #select(OntStatement)}
+     * for the translators working with {@link OntObject#getRoot() root}-statements.
+     *
+     * @param statement {@link OntStatement} to test
+     * @param view      Class-type of the {@link OntObject}, whose root statement is {@code s rdf:type T}
+     * @return {@link OntStatement} with {@code true} for {@link OntStatement#isRoot()} or {@code null}
+     */
+    protected static OntStatement selectRoot(OntStatement statement, Class<? extends OntObject> view) {
+        if (!RDF.type.equals(statement.getPredicate())) return null;
+        OntObject subject = statement.getSubject();
+        if (!subject.canAs(view)) return null;
+        OntStatement root = subject.as(view).getRoot();
+        return statement.equals(root) ? root : null;
+    }
+
     /**
      * Gets the config from model's settings or dummy if it is naked Jena model.
      *
@@ -0,0 +1,515 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.internal;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.OWLObjectDuplicator;
+import ru.avicomp.ontapi.OntApiException;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManagerImpl;
+import ru.avicomp.ontapi.config.OntLoaderConfiguration;
+import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
+import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
+import ru.avicomp.ontapi.jena.utils.ByteBufferInputStream;
+import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.jena.utils.NodeIO;
+
+import javax.annotation.Nonnull;
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A persistent snapshot of the {@link InternalModel} components (axioms and header annotations with their triples),
+ * which allows to skip the translation of a graph if it has been done before, e.g. in the previous run of the application.
+ * The snapshot is a binary file in the {@link OntLoaderConfiguration#getAxiomsSnapshotDirectory() configured directory},
+ * its name is a digest of the graph content (the base graph and all imports) and of the settings which affect the reading.
+ * The digest does not depend on the order of triples and on the labels of blank nodes:
+ * each blank node is replaced by a canonical label, which is computed from the structure of the graph around it
+ * (see {@link #canonicalLabels(Collection)}), so a re-parsed document gets the same digest.
+ * The file contains a dictionary of all nodes (with canonical labels instead of blank node labels),
+ * and then, for each component type, the list of java-serialized {@link OWLObject}s
+ * (also with canonical anonymous individuals) together with the references to the triples of each object.
+ * While reading, the file is mapped into memory, and the canonical labels are mapped back
+ * to the blank nodes and anonymous individuals of the current graph.
+ * Note: the directory is expected to be trusted, since the objects are restored using java deserialization.
+ *
+ * @see InternalModel
+ * @since 1.2.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class AxiomsSnapshot {
+    public static final String EXTENSION = ".axioms";
+    protected static final int MAGIC = 0x4F4E5441;
+    protected static final int VERSION = 2;
+    protected static final String DIGEST_ALGORITHM = "SHA-256";
+
+    protected final Path file;
+    protected final Graph graph;
+    protected final Map<Node, String> labels;
+    protected final ConfigProvider.Config config;
+
+    protected AxiomsSnapshot(Path file, Graph graph, Map<Node, String> labels, ConfigProvider.Config config) {
+        this.file = Objects.requireNonNull(file, "Null file.");
+        this.graph = Objects.requireNonNull(graph, "Null graph.");
+        this.labels = Objects.requireNonNull(labels, "Null labels.");
+        this.config = Objects.requireNonNull(config, "Null config.");
+    }
+
+    /**
+     * Creates a snapshot reference for the current state of the specified model.
+     * Computing the digest requires a pass over all graph triples,
+     * and the canonical labelling requires some passes over the triples with blank nodes.
+     *
+     * @param model {@link InternalModel}
+     * @return {@link AxiomsSnapshot} or {@code null} if snapshots are disabled or not applicable to the model
+     */
+    public static AxiomsSnapshot of(InternalModel model) {
+        OntLoaderConfiguration conf = model.getConfig().loaderConfig();
+        String dir = conf.getAxiomsSnapshotDirectory();
+        if (dir == null || dir.isEmpty()) return null;
+        String settings = settings(model.getConfig());
+        if (settings == null) return null;
+        List<Graph> graphs = new ArrayList<>();
+        graphs.add(model.getBaseGraph());
+        model.getGraph().getUnderlying().graphs().flatMap(Graphs::flat).forEach(graphs::add);
+        Map<Node, String> labels = canonicalLabels(graphs);
+        Path file = Paths.get(dir).resolve(digest(graphs, labels, settings) + EXTENSION);
+        return new AxiomsSnapshot(file, model.getGraph(), labels, model.getConfig());
+    }
+
+    /**
+     * Returns the settings which affect the reading axioms as a string.
+     *
+     * @param config {@link ConfigProvider.Config}
+     * @return String or {@code null} if the personality is not a standard one
+     */
+    protected static String settings(ConfigProvider.Config config) {
+        OntLoaderConfiguration conf = config.loaderConfig();
+        String personality = personality(conf.getPersonality());
+        if (personality == null) return null;
+        return String.join(",", personality,
+                String.valueOf(conf.isAllowReadDeclarations()),
+                String.valueOf(conf.isAllowBulkAnnotationAssertions()),
+                String.valueOf(conf.isIgnoreAnnotationAxiomOverlaps()),
+                String.valueOf(conf.isLoadAnnotationAxioms()),
+                String.valueOf(conf.isIgnoreAxiomsReadErrors()),
+                config.dataFactory().getClass().getName());
+    }
+
+    private static String personality(OntPersonality p) {
+        if (OntModelConfig.ONT_PERSONALITY_STRICT == p) return OntModelConfig.StdMode.STRICT.name();
+        if (OntModelConfig.ONT_PERSONALITY_MEDIUM == p) return OntModelConfig.StdMode.MEDIUM.name();
+        if (OntModelConfig.ONT_PERSONALITY_LAX == p) return OntModelConfig.StdMode.LAX.name();
+        return null;
+    }
+
+    /**
+     * Calculates the digest of the graphs content, which does not depend on the order of triples.
+     * Each triple is hashed separately (with blank nodes replaced by their canonical labels),
+     * and the hashes are summed up.
+     *
+     * @param graphs   List of {@link Graph}s, the first one is the base graph, others are imports
+     * @param labels   Map with blank {@link Node}s as keys and canonical labels as values
+     * @param settings String, the reading settings
+     * @return String, hex
+     * @see #canonicalLabels(Collection)
+     */
+    public static String digest(List<Graph> graphs, Map<Node, String> labels, String settings) {
+        MessageDigest md = newDigest();
+        byte[] sum = new byte[md.getDigestLength()];
+        long count = 0;
+        for (int i = 0; i < graphs.size(); i++) {
+            count += add(md, sum, graphs.get(i), labels, i == 0 ? "B" : "I");
+        }
+        md.reset();
+        md.update(sum);
+        md.update((count + "," + VERSION + "," + settings).getBytes(StandardCharsets.UTF_8));
+        return hex(md.digest());
+    }
+
+    private static long add(MessageDigest md, byte[] sum, Graph graph, Map<Node, String> labels, String prefix) {
+        long res = 0;
+        ExtendedIterator<Triple> it = graph.find(Triple.ANY);
+        try {
+            while (it.hasNext()) {
+                Triple t = it.next();
+                md.reset();
+                md.update((prefix + str(t.getSubject(), labels) + " " + NodeFmtLib.str(t.getPredicate())
+                        + " " + str(t.getObject(), labels)).getBytes(StandardCharsets.UTF_8));
+                byte[] h = md.digest();
+                int carry = 0;
+                for (int i = sum.length - 1; i >= 0; i--) {
+                    int v = (sum[i] & 0xFF) + (h[i] & 0xFF) + carry;
+                    sum[i] = (byte) v;
+                    carry = v >>> 8;
+                }
+                res++;
+            }
+        } finally {
+            it.close();
+        }
+        return res;
+    }
+
+    private static String str(Node node, Map<Node, String> labels) {
+        return node.isBlank() ? "_:" + labels.get(node) : NodeFmtLib.str(node);
+    }
+
+    /**
+     * Computes canonical labels for all blank nodes of the specified graphs.
+     * A label depends only on the structure of the graphs and not on the original blank node labels:
+     * the labels are computed by iterative refinement,
+     * each step combines the current label of a blank node with the sorted list of its adjacent triples,
+     * in which URIs and literals are taken as is and other blank nodes are represented by their current labels.
+     * If there are blank nodes which cannot be distinguished in this way (i.e. symmetric structures),
+     * the first (by label) group of such nodes is split in the iteration order and the refinement is repeated.
+     * For symmetric structures the result is the same up to an automorphism of the graph,
+     * in rare other cases a re-parsed graph may get different labels, which only means that the snapshot is missed.
+     *
+     * @param graphs Collection of {@link Graph}s
+     * @return Map with blank {@link Node}s as keys and labels as values
+     */
+    public static Map<Node, String> canonicalLabels(Collection<Graph> graphs) {
+        Map<Node, List<Edge>> adjacency = new LinkedHashMap<>();
+        Map<Node, String> strings = new HashMap<>();
+        for (Graph g : graphs) {
+            ExtendedIterator<Triple> it = g.find(Triple.ANY);
+            try {
+                while (it.hasNext()) {
+                    Triple t = it.next();
+                    Node s = t.getSubject();
+                    Node o = t.getObject();
+                    if (!s.isBlank() && !o.isBlank()) continue;
+                    String p = strings.computeIfAbsent(t.getPredicate(), NodeFmtLib::str);
+                    String left = s.isBlank() ? null : strings.computeIfAbsent(s, NodeFmtLib::str);
+                    String right = o.isBlank() ? null : strings.computeIfAbsent(o, NodeFmtLib::str);
+                    if (s.isBlank()) {
+                        adjacency.computeIfAbsent(s, n -> new ArrayList<>()).add(new Edge("S ", s, p, o, right));
+                    }
+                    if (o.isBlank() && !o.equals(s)) {
+                        adjacency.computeIfAbsent(o, n -> new ArrayList<>()).add(new Edge("O ", s, p, o, left));
+                    }
+                }
+            } finally {
+                it.close();
+            }
+        }
+        MessageDigest md = newDigest();
+        Map<Node, String> res = new HashMap<>();
+        adjacency.keySet().forEach(n -> res.put(n, ""));
+        int classes = refine(md, adjacency, res, 1);
+        while (classes < res.size()) {
+            Map<String, List<Node>> groups = new TreeMap<>();
+            res.forEach((n, c) -> groups.computeIfAbsent(c, x -> new ArrayList<>()).add(n));
+            List<Node> ties = groups.values().stream().filter(x -> x.size() > 1).findFirst()
+                    .orElseThrow(IllegalStateException::new);
+            for (int i = 0; i < ties.size(); i++) {
+                Node n = ties.get(i);
+                res.put(n, hash(md, res.get(n) + "#" + i));
+            }
+            classes = refine(md, adjacency, res, classes + ties.size() - 1);
+        }
+        return res;
+    }
+
+    private static int refine(MessageDigest md, Map<Node, List<Edge>> adjacency, Map<Node, String> labels, int classes) {
+        while (true) {
+            Map<Node, String> next = new HashMap<>();
+            List<String> edges = new ArrayList<>();
+            for (Map.Entry<Node, List<Edge>> e : adjacency.entrySet()) {
+                edges.clear();
+                for (Edge edge : e.getValue()) {
+                    edges.add(edge.toString(labels));
+                }
+                Collections.sort(edges);
+                next.put(e.getKey(), hash(md, labels.get(e.getKey()) + "|" + String.join("|", edges)));
+            }
+            int res = new HashSet<>(next.values()).size();
+            labels.putAll(next);
+            if (res <= classes || res == next.size()) return res;
+            classes = res;
+        }
+    }
+
+    private static String hash(MessageDigest md, String s) {
+        md.reset();
+        return hex(Arrays.copyOf(md.digest(s.getBytes(StandardCharsets.UTF_8)), 12));
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] res = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            res[2 * i] = Character.forDigit((bytes[i] >> 4) & 0xF, 16);
+            res[2 * i + 1] = Character.forDigit(bytes[i] & 0xF, 16);
+        }
+        return new String(res);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new OntApiException("No " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean exists() {
+        return Files.isRegularFile(file);
+    }
+
+    /**
+     * Writes the specified components into the snapshot file.
+     * The file is written into a temporary file first, which is then moved to the target place.
+     *
+     * @param components Collection of {@link InternalModel.InternalObjectTriplesMap}s
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Collection<InternalModel.InternalObjectTriplesMap<? extends OWLObject>> components) throws IOException {
+        Map<Node, Integer> nodes = new LinkedHashMap<>();
+        components.forEach(c -> collectNodes(c, nodes));
+        Map<String, String> ids = new HashMap<>();
+        labels.forEach((n, c) -> ids.put(anonymousID(n.getBlankNodeLabel()), c));
+        AnonymousIndividualsRemapper remapper = new AnonymousIndividualsRemapper(config, ids);
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "snapshot", ".tmp");
+        try {
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(nodes.size());
+                for (Node n : nodes.keySet()) {
+                    NodeIO.write(out, n.isBlank() ? NodeFactory.createBlankNode(label(n)) : n);
+                }
+                out.writeInt(components.size());
+                for (InternalModel.InternalObjectTriplesMap<? extends OWLObject> c : components) {
+                    writeComponent(out, c, nodes, remapper);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private String label(Node blank) throws IOException {
+        String res = labels.get(blank);
+        if (res == null) throw new IOException("Unknown blank node " + blank);
+        return res;
+    }
+
+    private String anonymousID(String label) {
+        return config.dataFactory().getOWLAnonymousIndividual(label).getID().getID();
+    }
+
+    private static <O extends OWLObject> void collectNodes(InternalModel.InternalObjectTriplesMap<O> map, Map<Node, Integer> nodes) {
+        map.objects().forEach(o -> map.getTripleSet(o).forEach(t -> {
+            nodes.putIfAbsent(t.getSubject(), nodes.size());
+            nodes.putIfAbsent(t.getPredicate(), nodes.size());
+            nodes.putIfAbsent(t.getObject(), nodes.size());
+        }));
+    }
+
+    private static <O extends OWLObject> void writeComponent(ObjectOutputStream out,
+                                                             InternalModel.InternalObjectTriplesMap<O> map,
+                                                             Map<Node, Integer> nodes,
+                                                             AnonymousIndividualsRemapper remapper) throws IOException {
+        List<O> objects = new ArrayList<>();
+        map.objects().forEach(objects::add);
+        out.writeObject(map.type().getName());
+        out.writeInt(objects.size());
+        for (O o : objects) {
+            out.writeObject(remapper.remap(o));
+            Set<Triple> triples = map.getTripleSet(o);
+            out.writeInt(triples.size());
+            for (Triple t : triples) {
+                out.writeInt(nodes.get(t.getSubject()));
+                out.writeInt(nodes.get(t.getPredicate()));
+                out.writeInt(nodes.get(t.getObject()));
+            }
+        }
+    }
+
+    /**
+     * Reads the components from the snapshot file, which is mapped into memory.
+     * The canonical blank nodes and anonymous individuals are replaced by the current ones.
+     *
+     * @return Map with component class-types as keys and {@link InternalModel.InternalObjectTriplesMap}s as values
+     * @throws IOException if an I/O error occurs or the file is broken or does not match the graph
+     */
+    public Map<Class<? extends OWLObject>, InternalModel.InternalObjectTriplesMap<? extends OWLObject>> read() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             ObjectInputStream in = new ObjectInputStream(new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Wrong snapshot header: " + file);
+            }
+            Map<String, Node> blanks = new HashMap<>();
+            labels.forEach((n, c) -> blanks.put(c, n));
+            Map<String, String> ids = new HashMap<>();
+            labels.forEach((n, c) -> ids.put(anonymousID(c), n.getBlankNodeLabel()));
+            AnonymousIndividualsRemapper remapper = new AnonymousIndividualsRemapper(config, ids);
+            Node[] nodes = new Node[in.readInt()];
+            for (int i = 0; i < nodes.length; i++) {
+                Node n = NodeIO.read(in);
+                if (n.isBlank() && (n = blanks.get(n.getBlankNodeLabel())) == null) {
+                    throw new IOException("Unknown blank node in snapshot " + file);
+                }
+                nodes[i] = n;
+            }
+            int count = in.readInt();
+            Map<Class<? extends OWLObject>, InternalModel.InternalObjectTriplesMap<? extends OWLObject>> res = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                InternalModel.InternalObjectTriplesMap<? extends OWLObject> c = readComponent(in, nodes, graph, remapper);
+                res.put(c.type(), c);
+            }
+            return res;
+        } catch (ClassNotFoundException | ClassCastException | IndexOutOfBoundsException e) {
+            throw new IOException("Can't read snapshot " + file, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O extends OWLObject> InternalModel.InternalObjectTriplesMap<O> readComponent(ObjectInputStream in,
+                                                                                                Node[] nodes,
+                                                                                                Graph graph,
+                                                                                                AnonymousIndividualsRemapper remapper)
+            throws IOException, ClassNotFoundException {
+        Class<?> type = Class.forName((String) in.readObject(), false, AxiomsSnapshot.class.getClassLoader());
+        if (!OWLObject.class.isAssignableFrom(type)) {
+            throw new IOException("Wrong type " + type);
+        }
+        int count = in.readInt();
+        Set<InternalObject<O>> objects = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            O o = remapper.remap((O) type.cast(in.readObject()));
+            Set<Triple> triples = new HashSet<>();
+            int size = in.readInt();
+            for (int j = 0; j < size; j++) {
+                Triple t = Triple.create(nodes[in.readInt()], nodes[in.readInt()], nodes[in.readInt()]);
+                if ((t.getSubject().isBlank() || t.getObject().isBlank()) && !graph.contains(t)) {
+                    throw new IOException("The snapshot does not match the graph: " + t);
+                }
+                triples.add(t);
+            }
+            objects.add(restore(o, triples));
+        }
+        return new InternalModel.InternalObjectTriplesMap<>((Class<O>) type, objects);
+    }
+
+    private static <O extends OWLObject> InternalObject<O> restore(O object, Set<Triple> triples) {
+        return new InternalObject<O>(object) {
+            @Override
+            public Stream<Triple> triples() {
+                return triples.stream();
+            }
+
+            @Override
+            protected boolean isEmpty() {
+                return triples.isEmpty();
+            }
+        };
+    }
+
+    /**
+     * A {@link OWLObjectDuplicator} to replace the anonymous individuals inside {@link OWLObject}s
+     * according to the given map of {@link org.semanticweb.owlapi.model.NodeID} strings.
+     * Objects without anonymous individuals are returned as is.
+     */
+    protected static class AnonymousIndividualsRemapper extends OWLObjectDuplicator {
+        private final OWLDataFactory factory;
+        private final Map<String, String> ids;
+
+        protected AnonymousIndividualsRemapper(ConfigProvider.Config config, Map<String, String> ids) {
+            super(manager(config));
+            this.factory = config.dataFactory();
+            this.ids = ids;
+        }
+
+        private static OWLOntologyManager manager(ConfigProvider.Config config) {
+            if (config instanceof OntologyManagerImpl.ModelConfig) {
+                return ((OntologyManagerImpl.ModelConfig) config).manager();
+            }
+            return OntManagers.createONT();
+        }
+
+        public <O extends OWLObject> O remap(O object) {
+            if (!object.anonymousIndividuals().findAny().isPresent()) return object;
+            return duplicateObject(object);
+        }
+
+        @Nonnull
+        @Override
+        public OWLAnonymousIndividual visit(@Nonnull OWLAnonymousIndividual individual) {
+            String res = ids.get(individual.getID().getID());
+            if (res == null) {
+                throw new OntApiException("Unknown anonymous individual " + individual);
+            }
+            return factory.getOWLAnonymousIndividual(res);
+        }
+    }
+
+    /**
+     * A triple adjacent to a blank node, which is used while computing canonical labels.
+     * The subject and the object are taken either as fixed strings or, if they are blank, as their current labels.
+     */
+    private static class Edge {
+        private final String role;
+        private final Node subject;
+        private final String predicate;
+        private final Node object;
+        private final String other;
+
+        private Edge(String role, Node subject, String predicate, Node object, String other) {
+            this.role = role;
+            this.subject = subject;
+            this.predicate = predicate;
+            this.object = object;
+            this.other = other;
+        }
+
+        private String toString(Map<Node, String> labels) {
+            String s = subject.isBlank() ? "_:" + labels.get(subject) : other;
+            String o = object.isBlank() ? "_:" + labels.get(object) : other;
+            return role + s + " " + predicate + " " + o;
+        }
+    }
+}
@@ -54,6 +54,16 @@ public class DeclarationTranslator extends AxiomTranslator<OWLDeclarationAxiom>
                 && Stream.of(Entities.values()).map(Entities::type).anyMatch(t -> statement.getObject().equals(t));
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        if (!getConfig(statement.getModel()).loaderConfig().isAllowReadDeclarations()) return null;
+        if (!testStatement(statement)) return null;
+        return OntEntity.entityTypes()
+                .map(t -> selectRoot(statement, t))
+                .filter(Objects::nonNull)
+                .findFirst().orElse(null);
+    }
+
     @Override
     public InternalObject<OWLDeclarationAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
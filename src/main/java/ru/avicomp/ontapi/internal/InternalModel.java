@@ -26,23 +26,34 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.shared.JenaException;
 import org.apache.jena.shared.Lock;
+import org.apache.jena.sparql.graph.GraphReadOnly;
 import org.apache.jena.sparql.util.graph.GraphListenerBase;
+import org.apache.jena.vocabulary.RDF;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.OntApiException;
 import ru.avicomp.ontapi.OwlObjects;
 import ru.avicomp.ontapi.jena.OntJenaException;
+import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 import ru.avicomp.ontapi.jena.model.*;
+import ru.avicomp.ontapi.jena.utils.Iter;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,9 +64,11 @@ import java.util.stream.Stream;
  * It combines jena(RDF Graph) and owl(structural, OWLAxiom) ways and it is used by the facade model
  * ({@link ru.avicomp.ontapi.OntologyModel}) while reading and writing the structural representation of ontology.
  * <p>
+ * If the {@link ru.avicomp.ontapi.config.OntLoaderConfiguration#isUseContentCache() content cache} is disabled,
+ * the model works in the streaming mode, which is suitable for not-in-memory graphs: see {@link #isContentCacheEnabled()}.
+ * <p>
  * TODO: Should it return {@link InternalObject}s, not just naked {@link OWLObject}s?
  * It seems it would be very convenient and could make this class useful not only as part of inner implementation.
- * TODO: to support not-in-memory graphs+structural-view need to add disabling cache option somewhere to configuration and fix read/add/remove operations correspondingly.
  * <p>
  * Created by @szuev on 26.10.2016.
  */
@@ -77,6 +90,19 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
     // TODO: better to remove this cache at all (replace with cacheDataFactory)
     protected LoadingCache<Class<? extends OWLObject>, Set<? extends OWLObject>> objects =
             Caffeine.newBuilder().softValues().build(this::readObjects);
+    // Flags to restore the components from the persistent snapshot at most once and to save it at most once.
+    // See ru.avicomp.ontapi.config.OntLoaderConfiguration#getAxiomsSnapshotDirectory()
+    protected volatile boolean snapshotRestored;
+    protected volatile boolean snapshotSaved;
+    // The snapshot found while restoring, to be reused while saving: its file name is a digest of the whole graph,
+    // which is expensive to calculate. Reset on any change in the graph, since the digest becomes irrelevant.
+    protected volatile AxiomsSnapshot snapshot;
+    // The postponed action (e.g. graph transformations) to be performed before the first structural access,
+    // null if the model is already complete. See #setMaterializer(Runnable)
+    protected volatile Runnable materializer;
+    // The pool to read axioms in parallel, created on first demand and kept for the whole life of the model,
+    // its size is taken from the loader configuration. See #getReadersPool(int)
+    protected volatile ForkJoinPool readers;
 
     /**
      * For internal usage only.
@@ -85,14 +111,26 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @param config {@link ru.avicomp.ontapi.internal.ConfigProvider.Config}
      */
     public InternalModel(Graph base, ConfigProvider.Config config) {
-        super(base, config.loaderConfig().getPersonality());
-        this.config = config;
-        this.cacheDataFactory = new CacheDataFactory(config);
+        this(base, config, new CacheDataFactory(config));
         //new NoCacheDataFactory(config);
         //new MapDataFactory(config);
         getGraph().getEventManager().register(new DirectListener());
     }
 
+    /**
+     * The constructor to create a model with the specified data factory and without any graph listeners attached.
+     *
+     * @param base    {@link Graph}
+     * @param config  {@link ru.avicomp.ontapi.internal.ConfigProvider.Config}
+     * @param factory {@link InternalDataFactory}
+     * @see #createReader()
+     */
+    protected InternalModel(Graph base, ConfigProvider.Config config, InternalDataFactory factory) {
+        super(base, config.loaderConfig().getPersonality(), config.loaderConfig().isCacheNodeTypes());
+        this.config = config;
+        this.cacheDataFactory = factory;
+    }
+
     /**
      * Returns model config instance.
      *
@@ -107,6 +145,67 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
         return cacheDataFactory;
     }
 
+    /**
+     * Answers {@code true} if the content cache is enabled, which is the default.
+     * Otherwise the model works in the streaming mode:
+     * the axioms, the header annotations and the signature are read from the graph on every call
+     * and are streamed straight from the translators without filling {@link #components} and {@link #objects} caches,
+     * while the changes go straight to the graph without tracking their triples.
+     * So the heap usage does not depend on the ontology size, but each call costs a pass over the graph.
+     *
+     * @return boolean
+     * @see ru.avicomp.ontapi.config.OntLoaderConfiguration#isUseContentCache()
+     * @since 1.2.0
+     */
+    public boolean isContentCacheEnabled() {
+        return getConfig().loaderConfig().isUseContentCache();
+    }
+
+    /**
+     * Sets the action, which must be performed before the first access to the structural (axiomatic) content.
+     * The action is run at most once by this model, but it may be shared between several models
+     * (e.g. graph transformations for the whole imports closure),
+     * so it must be thread-safe and must do nothing when called again.
+     *
+     * @param action {@link Runnable} or {@code null} to drop the pending action
+     * @see ru.avicomp.ontapi.config.OntLoaderConfiguration#isDeferTransformations()
+     * @since 1.2.0
+     */
+    public void setMaterializer(Runnable action) {
+        this.materializer = action;
+    }
+
+    /**
+     * Answers {@code true} if there is no pending action to perform before the structural access.
+     *
+     * @return boolean
+     * @see #setMaterializer(Runnable)
+     * @since 1.2.0
+     */
+    public boolean isMaterialized() {
+        return materializer == null;
+    }
+
+    /**
+     * Performs the pending action, if any.
+     * Called at the beginning of any axiomatic reading or writing.
+     * The method is idempotent and thread-safe: the action is performed at most once,
+     * concurrent callers wait until it is finished.
+     * Note: the direct changes through the jena interfaces do not trigger the action.
+     *
+     * @see #setMaterializer(Runnable)
+     * @since 1.2.0
+     */
+    public void materialize() {
+        if (materializer == null) return;
+        synchronized (this) {
+            Runnable action = materializer;
+            if (action == null) return;
+            action.run();
+            materializer = null;
+        }
+    }
+
     /**
      * Jena model method.
      * Since in ONT-API we use another kind of lock this method is disabled.
@@ -166,7 +265,18 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     public Stream<OWLEntity> entities(IRI iri) {
         if (iri == null) return Stream.empty();
-        OntEntity e = getOntEntity(OntEntity.class, iri.getIRIString());
+        materialize();
+        return entities(getOntEntity(OntEntity.class, iri.getIRIString()));
+    }
+
+    /**
+     * Lists all owl-entities which can be represented by the specified ont-entity (in case of punning there are several).
+     *
+     * @param e {@link OntEntity}, can be null
+     * @return Stream of {@link OWLEntity}s
+     */
+    protected Stream<OWLEntity> entities(OntEntity e) {
+        if (e == null) return Stream.empty();
         List<InternalObject<? extends OWLEntity>> res = new ArrayList<>();
         if (e.canAs(OntClass.class)) {
             res.add(cacheDataFactory.get(e.as(OntClass.class)));
@@ -263,6 +373,9 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
 
     /**
      * Gets owl-objects from axioms and annotations.
+     * If the content cache is disabled, the objects are streamed from the axioms without caching,
+     * but the stream is still distinct, so the memory used by an open stream grows with the number of objects of the given type
+     * (i.e. with the signature, but not with the axioms).
      *
      * @param type Class type of owl-object.
      * @param <O>  type of owl-object
@@ -270,6 +383,11 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     @SuppressWarnings("unchecked")
     protected <O extends OWLObject> Stream<O> objects(Class<O> type) {
+        if (!isContentCacheEnabled()) {
+            return Stream.concat(
+                    annotations().flatMap(a -> OwlObjects.objects(type, a)),
+                    axioms().flatMap(a -> OwlObjects.objects(type, a))).distinct();
+        }
         return (Stream<O>) Objects.requireNonNull(objects.get(type), "Nothing found. Type: " + type).stream();
     }
 
@@ -294,6 +412,11 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @see #add(OWLAxiom)
      */
     public void add(OWLAnnotation annotation) {
+        if (!isContentCacheEnabled()) {
+            write(annotation, a -> WriteHelper.addAnnotations(getID(), Stream.of(a)));
+            return;
+        }
+        clearObjectsCacheOnAdd(annotation);
         add(annotation, getAnnotationTripleStore(), a -> WriteHelper.addAnnotations(getID(), Stream.of(annotation)));
     }
 
@@ -304,9 +427,12 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @see #remove(OWLAxiom)
      */
     public void remove(OWLAnnotation annotation) {
+        if (!isContentCacheEnabled()) {
+            erase(annotation, this::readAnnotations);
+            return;
+        }
         remove(annotation, getAnnotationTripleStore());
-        // todo: there is no need to invalidate whole objects cache
-        clearObjectsCaches();
+        clearObjectsCacheOnRemove(annotation);
     }
 
     /**
@@ -317,6 +443,9 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     @SuppressWarnings("unchecked")
     public Stream<OWLAnnotation> annotations() {
+        if (!isContentCacheEnabled()) {
+            return readAnnotations().map(InternalObject::getObject);
+        }
         return getAnnotationTripleStore().objects();
     }
 
@@ -334,6 +463,11 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @see #annotations()
      */
     public Stream<OWLAxiom> axioms(Set<AxiomType<? extends OWLAxiom>> types) {
+        if (!isContentCacheEnabled()) {
+            Stream<OWLAxiom> res = types.stream().flatMap(this::readAxioms).map(InternalObject::getObject);
+            return getConfig().parallel() ? res.collect(Collectors.toList()).stream() : res;
+        }
+        readAxiomTripleStores(types);
         Stream<OWLAxiom> res = types.stream()
                 .map(t -> getAxiomTripleStore(t.getActualClass()))
                 .flatMap(InternalObjectTriplesMap::objects)
@@ -348,9 +482,76 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @see #add(OWLAnnotation)
      */
     public void add(OWLAxiom axiom) {
+        if (!isContentCacheEnabled()) {
+            write(axiom, a -> AxiomParserProvider.get(a.getAxiomType()).write(a, InternalModel.this));
+            return;
+        }
+        clearObjectsCacheOnAdd(axiom);
         add(axiom, getAxiomTripleStore(axiom.getAxiomType()), a -> AxiomParserProvider.get(a.getAxiomType()).write(a, InternalModel.this));
     }
 
+    /**
+     * Adds the axioms to the model in a single batch.
+     * The axioms are deduplicated against the model and each other, grouped by type and then written
+     * using the only one listener, which is registered for the whole batch.
+     * The batch is atomic: if some axiom can't be written,
+     * all the triples written by the batch, including those of the failed axiom, are removed and then the exception is thrown.
+     *
+     * @param axioms Collection of {@link OWLAxiom}s
+     * @return Set of actually added axioms, the iteration order is the same as in the specified collection
+     * @throws OntApiException if some axiom can't be written
+     * @see #add(OWLAxiom)
+     * @since 1.2.0
+     */
+    public Set<OWLAxiom> add(Collection<? extends OWLAxiom> axioms) {
+        Set<OWLAxiom> res = new LinkedHashSet<>();
+        if (!isContentCacheEnabled()) {
+            res.addAll(axioms);
+            // one pass over the graph for each type of the axioms to add:
+            res.stream().map(OWLAxiom::getAxiomType).distinct().collect(Collectors.toList())
+                    .forEach(t -> readAxioms(t).map(InternalObject::getObject).forEach(res::remove));
+            NewTriplesListener listener = new NewTriplesListener(getBaseGraph());
+            try {
+                getGraph().getEventManager().register(listener);
+                res.forEach(a -> write(a, x -> AxiomParserProvider.get(x.getAxiomType()).write(x, InternalModel.this)));
+            } catch (RuntimeException e) {
+                new ArrayList<>(listener.triples).forEach(this::delete);
+                throw e;
+            } finally {
+                getGraph().getEventManager().unregister(listener);
+            }
+            return res;
+        }
+        axioms.stream().filter(a -> !contains(a)).forEach(res::add);
+        if (res.isEmpty()) return res;
+        Map<AxiomType<?>, List<OWLAxiom>> groups = res.stream()
+                .collect(Collectors.groupingBy(OWLAxiom::getAxiomType, LinkedHashMap::new, Collectors.toList()));
+        res.forEach(this::clearObjectsCacheOnAdd);
+        OwlObjectListener<OWLAxiom> listener = createListener(null, null);
+        List<OWLAxiom> written = new ArrayList<>();
+        OWLAxiom current = null;
+        try {
+            getGraph().getEventManager().register(listener);
+            for (Map.Entry<AxiomType<?>, List<OWLAxiom>> group : groups.entrySet()) {
+                InternalObjectTriplesMap<OWLAxiom> store = getAxiomTripleStore(group.getKey());
+                AxiomTranslator<OWLAxiom> translator = AxiomParserProvider.get(group.getKey());
+                for (OWLAxiom axiom : group.getValue()) {
+                    listener.reset(store, current = axiom);
+                    // the failed axiom is also recorded, since its triples may be partially written:
+                    written.add(axiom);
+                    translator.write(axiom, this);
+                }
+            }
+        } catch (Exception e) {
+            // the listener is still registered, so the direct listener does not reset the caches while undoing:
+            written.forEach(this::remove);
+            throw new OntApiException(String.format("OWLObject: %s, message: %s", current, e.getMessage()), e);
+        } finally {
+            getGraph().getEventManager().unregister(listener);
+        }
+        return res;
+    }
+
     /**
      * Removes axiom from the model.
      * Clears cache for an entity type, if the entity has been belonged to the removed axiom.
@@ -359,16 +560,12 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @see #remove(OWLAnnotation)
      */
     public void remove(OWLAxiom axiom) {
+        if (!isContentCacheEnabled()) {
+            erase(axiom, () -> Stream.concat(readAnnotations(), AxiomType.AXIOM_TYPES.stream().flatMap(this::readAxioms)));
+            return;
+        }
         remove(axiom, getAxiomTripleStore(axiom.getAxiomType()));
-        Stream.of(OWLClass.class,
-                OWLDatatype.class,
-                OWLAnnotationProperty.class,
-                OWLDataProperty.class,
-                OWLObjectProperty.class,
-                OWLNamedIndividual.class,
-                OWLAnonymousIndividual.class)
-                .filter(entityType -> OwlObjects.objects(entityType, axiom).findAny().isPresent())
-                .forEach(type -> objects.invalidate(type));
+        clearObjectsCacheOnRemove(axiom);
     }
 
     /**
@@ -400,10 +597,128 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     @SuppressWarnings("unchecked")
     public <A extends OWLAxiom> Stream<A> axioms(AxiomType<A> type) {
+        if (!isContentCacheEnabled()) {
+            return this.<A>readAxioms(type).map(InternalObject::getObject);
+        }
         return (Stream<A>) getAxiomTripleStore(type).objects();
         //return axioms(Collections.singleton(type)).map(x -> (A) x);
     }
 
+    /**
+     * Gets axioms of the specified type which contain the given object in the specified position.
+     * Uses the secondary index, see {@link ObjectIndex.Type#SUB} and {@link ObjectIndex.Type#SUPER} for the positions descriptions.
+     *
+     * @param type     Class of axiom
+     * @param object   {@link OWLObject} to search
+     * @param position {@link Navigation}, null means {@link Navigation#IN_SUB_POSITION}
+     * @param <A>      type of axiom
+     * @return Stream of {@link OWLAxiom}s.
+     * @since 1.2.0
+     */
+    public <A extends OWLAxiom> Stream<A> axioms(Class<A> type, OWLObject object, Navigation position) {
+        Stream<A> res = isContentCacheEnabled() ?
+                getAxiomTripleStore(type).objects(ObjectIndex.Type.of(position), object) :
+                readAxioms(AxiomType.getTypeForClass(type), ObjectIndex.Type.of(position), object);
+        return getConfig().parallel() ? res.collect(Collectors.toList()).stream() : res;
+    }
+
+    /**
+     * Answers {@code true} if the model contains the specified axiom.
+     * Only the axioms of the same type are taken into account, the search is performed by the hash-code.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @return boolean
+     * @since 1.2.0
+     */
+    public boolean contains(OWLAxiom axiom) {
+        if (!isContentCacheEnabled()) {
+            return readAxioms(axiom.getAxiomType()).anyMatch(o -> axiom.equals(o.getObject()));
+        }
+        // the whole cache must be loaded before any change, otherwise the result of reading depends on the order of operations
+        readAxiomTripleStores(AxiomType.AXIOM_TYPES);
+        return getAxiomTripleStore(axiom.getAxiomType()).contains(axiom);
+    }
+
+    /**
+     * Gets all axioms which are equal to the specified one if annotations are ignored.
+     * Uses the secondary index, see {@link ObjectIndex.Type#IGNORE_ANNOTATIONS}.
+     *
+     * @param axiom {@link OWLAxiom}
+     * @param <A>   type of axiom
+     * @return Stream of {@link OWLAxiom}s.
+     * @since 1.2.0
+     */
+    public <A extends OWLAxiom> Stream<A> axiomsIgnoreAnnotations(A axiom) {
+        Stream<A> res = isContentCacheEnabled() ?
+                this.<A>getAxiomTripleStore(axiom.getAxiomType()).objects(ObjectIndex.Type.IGNORE_ANNOTATIONS, axiom.getAxiomWithoutAnnotations()) :
+                readAxioms(axiom.getAxiomType(), ObjectIndex.Type.IGNORE_ANNOTATIONS, axiom.getAxiomWithoutAnnotations());
+        return getConfig().parallel() ? res.collect(Collectors.toList()).stream() : res;
+    }
+
+    /**
+     * Gets all axioms that refer to the specified primitive (an {@link IRI}, an {@link OWLEntity}, an {@link OWLLiteral} etc).
+     * Uses the secondary index, see {@link ObjectIndex.Type#REFERENCE}.
+     *
+     * @param primitive {@link OWLPrimitive} to search
+     * @return Stream of {@link OWLAxiom}s.
+     * @since 1.2.0
+     */
+    public Stream<OWLAxiom> referencingAxioms(OWLPrimitive primitive) {
+        if (!isContentCacheEnabled()) {
+            Stream<OWLAxiom> res = AxiomType.AXIOM_TYPES.stream()
+                    .flatMap(t -> readAxioms(t, ObjectIndex.Type.REFERENCE, primitive));
+            return getConfig().parallel() ? res.collect(Collectors.toList()).stream() : res;
+        }
+        readAxiomTripleStores(AxiomType.AXIOM_TYPES);
+        Stream<OWLAxiom> res = AxiomType.AXIOM_TYPES.stream()
+                .map(t -> getAxiomTripleStore(t.getActualClass()))
+                .flatMap(m -> m.objects(ObjectIndex.Type.REFERENCE, primitive))
+                .map(OWLAxiom.class::cast);
+        return getConfig().parallel() ? res.collect(Collectors.toList()).stream() : res;
+    }
+
+    /**
+     * Reads the axioms of the specified type directly from the graph, bypassing the cache.
+     *
+     * @param type {@link AxiomType}
+     * @param <A>  {@link OWLAxiom}
+     * @return Stream of {@link InternalObject}s
+     * @see #isContentCacheEnabled()
+     * @since 1.2.0
+     */
+    @SuppressWarnings("unchecked")
+    protected <A extends OWLAxiom> Stream<InternalObject<A>> readAxioms(AxiomType<? extends OWLAxiom> type) {
+        materialize();
+        return ((AxiomTranslator<A>) AxiomParserProvider.get(type)).axioms(this);
+    }
+
+    /**
+     * Reads the axioms of the specified type, which have the given key for the given index type, directly from the graph.
+     *
+     * @param type  {@link AxiomType}
+     * @param index {@link ObjectIndex.Type}
+     * @param key   {@link OWLObject} to search
+     * @param <A>   {@link OWLAxiom}
+     * @return Stream of {@link OWLAxiom}s
+     * @see #isContentCacheEnabled()
+     * @since 1.2.0
+     */
+    protected <A extends OWLAxiom> Stream<A> readAxioms(AxiomType<? extends OWLAxiom> type, ObjectIndex.Type index, OWLObject key) {
+        return this.<A>readAxioms(type).map(InternalObject::getObject).filter(a -> index.keys(a).anyMatch(key::equals));
+    }
+
+    /**
+     * Reads the ontology header annotations directly from the graph, bypassing the cache.
+     *
+     * @return Stream of {@link InternalObject}s
+     * @see #isContentCacheEnabled()
+     * @since 1.2.0
+     */
+    protected Stream<InternalObject<OWLAnnotation>> readAnnotations() {
+        materialize();
+        return ReadHelper.getObjectAnnotations(getID(), cacheDataFactory).stream();
+    }
+
     /**
      * Auxiliary method.
      * Returns map of axioms by specified OWLAxiom type.
@@ -427,6 +742,8 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     @SuppressWarnings("unchecked")
     protected <A extends OWLAxiom> InternalObjectTriplesMap<A> getAxiomTripleStore(Class<A> type) {
+        materialize();
+        restoreSnapshot();
         return (InternalObjectTriplesMap<A>) components.get(type);
     }
 
@@ -483,6 +800,159 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
         return new InternalObjectTriplesMap<>(type, AxiomParserProvider.get(type).axioms(InternalModel.this).collect(Collectors.toSet()));
     }
 
+    /**
+     * Loads into the cache all those axiom triples maps of the specified types, which are not present there yet.
+     * Unlike the type-by-type reading (see {@link #readAxiomTriples(Class)}),
+     * where each translator performs its own search over the graph (and some of them go over all statements),
+     * this method iterates over the base graph only once,
+     * passing each statement to the translators with help of {@link AxiomTranslator#select(OntStatement)}.
+     * If the {@link ru.avicomp.ontapi.config.OntLoaderConfiguration#getReadAxiomsParallelism() parallelism level}
+     * is greater than one, the statements are selected and translated in parallel (see {@link #readAxiomTriples(Collection, int)}).
+     * If only one type is missing, it is read in the ordinary way.
+     *
+     * @param types Collection of {@link AxiomType}s
+     */
+    protected void readAxiomTripleStores(Collection<AxiomType<? extends OWLAxiom>> types) {
+        materialize();
+        restoreSnapshot();
+        List<Class<? extends OWLAxiom>> missing = types.stream()
+                .map(AxiomType::getActualClass)
+                .filter(c -> components.getIfPresent(c) == null)
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) return;
+        if (missing.size() == 1) {
+            components.get(missing.get(0));
+            saveSnapshot();
+            return;
+        }
+        Instant start = null;
+        if (LOGGER.isDebugEnabled()) {
+            start = Instant.now();
+        }
+        int parallelism = getConfig().loaderConfig().getReadAxiomsParallelism();
+        components.putAll(parallelism > 1 ? readAxiomTriples(missing, parallelism) : readAxiomTriples(missing));
+        if (start != null) {
+            Duration d = Duration.between(start, Instant.now());
+            LOGGER.debug("[{}]{}:::{}s", getID(),
+                    StringUtils.rightPad("[" + missing.size() + " axiom types]", 42), d.get(ChronoUnit.SECONDS) + d.get(ChronoUnit.NANOS) / 1_000_000_000.0);
+        }
+        saveSnapshot();
+    }
+
+    /**
+     * Reads OWLAxioms and triples of all specified types in a single pass through the base graph.
+     *
+     * @param types Collection of axiom class-types
+     * @return Map with axiom class-types as keys and {@link InternalObjectTriplesMap}s as values
+     */
+    protected Map<Class<? extends OWLAxiom>, InternalObjectTriplesMap<? extends OWLAxiom>> readAxiomTriples(Collection<Class<? extends OWLAxiom>> types) {
+        Map<Class<? extends OWLAxiom>, AxiomTranslator<? extends OWLAxiom>> translators = new LinkedHashMap<>();
+        types.forEach(t -> translators.put(t, AxiomParserProvider.get(t)));
+        Map<Class<? extends OWLAxiom>, List<OntStatement>> statements = new HashMap<>();
+        Iter.asStream(getBaseGraph().find(Triple.ANY)).map(t -> toOntStatement(null, asStatement(t))).forEach(s -> translators.forEach((type, translator) -> {
+            OntStatement res = translator.select(s);
+            if (res == null) return;
+            statements.computeIfAbsent(type, k -> new ArrayList<>()).add(res);
+        }));
+        Map<Class<? extends OWLAxiom>, InternalObjectTriplesMap<? extends OWLAxiom>> res = new HashMap<>();
+        translators.forEach((type, translator) -> res.put(type,
+                toAxiomTriples(type, translator, statements.getOrDefault(type, Collections.emptyList()))));
+        return res;
+    }
+
+    /**
+     * Reads OWLAxioms and triples of all specified types in parallel.
+     * As in the {@link #readAxiomTriples(Collection) sequential} case, the base graph is iterated only once,
+     * but its statements are split across the workers, which select them for all the translators simultaneously;
+     * then the selected statements are translated into axioms, also in parallel, one task per type.
+     * The tasks are performed in the {@link #getReadersPool(int) pool} of this model.
+     * All tasks share the same {@link #createReader() reader}, which can not modify the graph,
+     * and the same thread-safe {@link InternalDataFactory}.
+     * The caller is responsible to make sure that there are no concurrent graph modifications while reading.
+     *
+     * @param types       Collection of axiom class-types
+     * @param parallelism int, the number of threads
+     * @return Map with axiom class-types as keys and {@link InternalObjectTriplesMap}s as values
+     * @throws OntApiException if reading is interrupted or failed
+     */
+    protected Map<Class<? extends OWLAxiom>, InternalObjectTriplesMap<? extends OWLAxiom>> readAxiomTriples(Collection<Class<? extends OWLAxiom>> types,
+                                                                                                         int parallelism) {
+        InternalModel reader = createReader();
+        Map<Class<? extends OWLAxiom>, AxiomTranslator<? extends OWLAxiom>> translators = new LinkedHashMap<>();
+        types.forEach(t -> translators.put(t, AxiomParserProvider.get(t)));
+        try {
+            return getReadersPool(parallelism).submit(() -> {
+                Map<Class<? extends OWLAxiom>, List<OntStatement>> statements = Iter.asStream(reader.getBaseGraph().find(Triple.ANY))
+                        .parallel()
+                        .map(t -> reader.toOntStatement(null, reader.asStatement(t)))
+                        .flatMap(s -> translators.entrySet().stream().map(e -> {
+                            OntStatement res = e.getValue().select(s);
+                            return res == null ? null : new AbstractMap.SimpleEntry<Class<? extends OWLAxiom>, OntStatement>(e.getKey(), res);
+                        }).filter(Objects::nonNull))
+                        .collect(Collectors.groupingByConcurrent(Map.Entry::getKey,
+                                Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+                return translators.entrySet().parallelStream()
+                        .collect(Collectors.<Map.Entry<Class<? extends OWLAxiom>, AxiomTranslator<? extends OWLAxiom>>,
+                                Class<? extends OWLAxiom>, InternalObjectTriplesMap<? extends OWLAxiom>>toMap(Map.Entry::getKey,
+                                e -> toAxiomTriples(e.getKey(), e.getValue(), statements.getOrDefault(e.getKey(), Collections.emptyList()))));
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OntApiException("Reading axioms of <" + getID() + "> has been interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OntApiException("Can't read axioms of <" + getID() + ">", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the {@link ForkJoinPool} to read axioms in parallel.
+     * The pool is created once on demand and then reused by all subsequent readings of this model;
+     * it is recreated only if the configured parallelism level has been changed.
+     * Idle workers of a {@link ForkJoinPool} are terminated after a while,
+     * so the pool does not hold any threads between readings.
+     *
+     * @param parallelism int, the number of threads
+     * @return {@link ForkJoinPool}
+     * @see ru.avicomp.ontapi.config.OntLoaderConfiguration#getReadAxiomsParallelism()
+     */
+    protected ForkJoinPool getReadersPool(int parallelism) {
+        ForkJoinPool res = readers;
+        if (res != null && res.getParallelism() == parallelism) return res;
+        synchronized (this) {
+            res = readers;
+            if (res != null && res.getParallelism() == parallelism) return res;
+            if (res != null) {
+                res.shutdown();
+            }
+            return readers = new ForkJoinPool(parallelism);
+        }
+    }
+
+    /**
+     * Creates a model to read OWL-objects from the same data without any possibility to change it.
+     * The returned model shares the configuration and the data factory with this model,
+     * but has its own read-only union graph (the base graph is wrapped by {@link GraphReadOnly})
+     * and no listeners, so any data changes must be done through this model.
+     *
+     * @return {@link InternalModel}
+     */
+    protected InternalModel createReader() {
+        UnionGraph graph = new UnionGraph(new GraphReadOnly(getBaseGraph()));
+        getGraph().getUnderlying().graphs().forEach(graph::addGraph);
+        return new InternalModel(graph, config, cacheDataFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A extends OWLAxiom> InternalObjectTriplesMap<A> toAxiomTriples(Class<? extends OWLAxiom> type,
+                                                                                 AxiomTranslator<? extends OWLAxiom> translator,
+                                                                                 Collection<OntStatement> statements) {
+        return new InternalObjectTriplesMap<>((Class<A>) type,
+                ((AxiomTranslator<A>) translator).translate(statements.stream()).collect(Collectors.toSet()));
+    }
+
     /**
      * Reads ontology header from underling graph.
      *
@@ -500,9 +970,82 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     @SuppressWarnings("unchecked")
     protected InternalObjectTriplesMap<OWLAnnotation> getAnnotationTripleStore() {
+        materialize();
+        restoreSnapshot();
         return (InternalObjectTriplesMap<OWLAnnotation>) components.get(OWLAnnotation.class);
     }
 
+    /**
+     * Answers {@code true} if the {@link AxiomsSnapshot persistent snapshots} are enabled.
+     *
+     * @return boolean
+     * @see ru.avicomp.ontapi.config.OntLoaderConfiguration#getAxiomsSnapshotDirectory()
+     */
+    protected boolean isSnapshotEnabled() {
+        String dir = getConfig().loaderConfig().getAxiomsSnapshotDirectory();
+        return dir != null && !dir.isEmpty();
+    }
+
+    /**
+     * Fills the components cache from the {@link AxiomsSnapshot persistent snapshot}, if it is enabled and exists.
+     * The attempt is made only once, before the first access to the cache.
+     * Any problem with the snapshot file is logged, and the components are read from the graph as usual.
+     */
+    protected void restoreSnapshot() {
+        if (snapshotRestored) return;
+        synchronized (components) {
+            if (snapshotRestored) return;
+            try {
+                AxiomsSnapshot snapshot;
+                if (!isSnapshotEnabled() || (snapshot = this.snapshot = AxiomsSnapshot.of(this)) == null || !snapshot.exists()) {
+                    return;
+                }
+                try {
+                    components.putAll(snapshot.read());
+                    snapshotSaved = true;
+                    LOGGER.debug("[{}] The axioms are restored from {}", getID(), snapshot.getFile());
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("[{}] Can't restore axioms from {}: {}", getID(), snapshot.getFile(), e.getMessage());
+                }
+            } finally {
+                snapshotRestored = true;
+            }
+        }
+    }
+
+    /**
+     * Saves the components cache into the {@link AxiomsSnapshot persistent snapshot},
+     * if it is enabled and all the axioms are already read.
+     * The attempt is made only once; an existing file with the same digest is not rewritten.
+     * The snapshot location, calculated while {@link #restoreSnapshot() restoring}, is reused if the graph has not been changed since.
+     * Any problem is logged.
+     */
+    protected void saveSnapshot() {
+        if (snapshotSaved || !isSnapshotEnabled()) return;
+        if (AxiomType.AXIOM_TYPES.stream().anyMatch(t -> components.getIfPresent(t.getActualClass()) == null)) {
+            return;
+        }
+        synchronized (components) {
+            if (snapshotSaved) return;
+            snapshotSaved = true;
+            List<InternalObjectTriplesMap<? extends OWLObject>> res = new ArrayList<>();
+            res.add(getAnnotationTripleStore());
+            AxiomType.AXIOM_TYPES.forEach(t -> res.add(getAxiomTripleStore(t)));
+            AxiomsSnapshot snapshot = this.snapshot;
+            if (snapshot == null) {
+                snapshot = AxiomsSnapshot.of(this);
+            }
+            this.snapshot = null;
+            if (snapshot == null || snapshot.exists()) return;
+            try {
+                snapshot.write(res);
+                LOGGER.debug("[{}] The axioms are saved to {}", getID(), snapshot.getFile());
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("[{}] Can't save axioms to {}: {}", getID(), snapshot.getFile(), e.getMessage());
+            }
+        }
+    }
+
     /**
      * Adds an object to the model.
      *
@@ -513,7 +1056,6 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     protected <O extends OWLObject> void add(O object, InternalObjectTriplesMap<O> store, Consumer<O> writer) {
         OwlObjectListener<O> listener = createListener(store, object);
-        clearObjectsCaches();
         try {
             getGraph().getEventManager().register(listener);
             writer.accept(object);
@@ -539,6 +1081,48 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
         triples.stream().filter(t -> !containsTriple(t)).forEach(this::delete);
     }
 
+    /**
+     * Writes an object straight to the graph, without any triples tracking.
+     * Used if the content cache is disabled.
+     *
+     * @param object either {@link OWLAxiom} or {@link OWLAnnotation}
+     * @param writer {@link Consumer} to process writing.
+     * @param <O>    type of owl-object
+     * @see #isContentCacheEnabled()
+     * @since 1.2.0
+     */
+    protected <O extends OWLObject> void write(O object, Consumer<O> writer) {
+        materialize();
+        try {
+            writer.accept(object);
+        } catch (Exception e) {
+            throw new OntApiException(String.format("OWLObject: %s, message: %s", object, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Deletes an object straight from the graph.
+     * Used if the content cache is disabled.
+     * The triples of the object are found by reading the graph (the first pass),
+     * and those of them, which are shared with the other objects, are retained (the second pass).
+     * So only the triples of the object itself are kept in memory.
+     *
+     * @param object  either {@link OWLAxiom} or {@link OWLAnnotation} to delete
+     * @param content {@link Supplier} of Stream of all {@link InternalObject}s, which may share triples with the object
+     * @param <O>     type of owl-object
+     * @see #isContentCacheEnabled()
+     * @since 1.2.0
+     */
+    protected <O extends OWLObject> void erase(O object, Supplier<Stream<? extends InternalObject<? extends OWLObject>>> content) {
+        Set<Triple> triples = content.get().filter(o -> object.equals(o.getObject()))
+                .flatMap(InternalObject::triples).collect(Collectors.toSet());
+        if (triples.isEmpty()) return;
+        Set<Triple> shared = content.get().filter(o -> !object.equals(o.getObject()))
+                .flatMap(InternalObject::triples).filter(triples::contains).collect(Collectors.toSet());
+        triples.removeAll(shared);
+        triples.forEach(this::delete);
+    }
+
     protected boolean containsTriple(Triple triple) {
         return getComponents().stream().anyMatch(c -> c.contains(triple));
     }
@@ -566,17 +1150,161 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
     }
 
     /**
-     * Clears cache for the specified triple.
+     * Clears cache for the specified added triple.
      * This method is called while working with jena model.
+     * If the triple is {@link #isStandaloneTriple(Triple) standalone},
+     * only the components of those axiom types, which can be defined by it, are invalidated;
+     * otherwise we don't know which axiom would own this triple, so the whole cache is cleared.
      *
      * @param triple {@link Triple}
      */
+    protected void clearCacheOnAdd(Triple triple) {
+        if (!isStandaloneTriple(triple)) {
+            clearCache();
+            return;
+        }
+        invalidateComponents(triple);
+        clearObjectsCache(triple, true);
+    }
+
+    /**
+     * Clears cache for the specified deleted triple.
+     * This method is called while working with jena model.
+     *
+     * @param triple {@link Triple}
+     * @see #clearCacheOnAdd(Triple)
+     */
     protected void clearCacheOnDelete(Triple triple) {
+        if (isStandaloneTriple(triple)) {
+            invalidateComponents(triple);
+            clearObjectsCache(triple, false);
+            return;
+        }
         getComponents().stream()
-                .filter(map -> findObjectsToInvalidate(map, triple).findAny().isPresent())
-                .forEach(o -> components.invalidate(o.type()));
-        // todo: there is no need to invalidate whole objects cache
-        clearObjectsCaches();
+                .filter(map -> containsTriple(map, triple))
+                .collect(Collectors.toList())
+                .forEach(map -> {
+                    findObjectsToInvalidate(map, triple)
+                            .filter(o -> o instanceof OWLAxiom || o instanceof OWLAnnotation)
+                            .collect(Collectors.toList())
+                            .forEach(o -> clearObjectsCacheOnRemove((HasAnnotations & HasComponents) o));
+                    components.invalidate(map.type());
+                });
+        cacheDataFactory.clear();
+    }
+
+    /**
+     * Answers {@code true} if the triple belongs to some object from the specified map
+     * or if this cannot be determined since the objects structure is broken.
+     *
+     * @param map    {@link InternalObjectTriplesMap}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected static boolean containsTriple(InternalObjectTriplesMap<? extends OWLObject> map, Triple triple) {
+        try {
+            return map.contains(triple);
+        } catch (JenaException j) {
+            return true;
+        }
+    }
+
+    /**
+     * Answers {@code true} if the triple can be only the root statement of an axiom
+     * and its appearance or disappearance does not change the way other triples are read.
+     * These are triples with an uri subject (which is not an ontology), a non-blank object and a predicate other than {@code rdf:type}.
+     * Any other triple may be a part of some complex structure (e.g. anonymous class expression or bulk annotation),
+     * or may change the type of some entity (e.g. declaration) and, therefore, the meaning of other triples.
+     *
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected boolean isStandaloneTriple(Triple triple) {
+        Node subject = triple.getSubject();
+        return subject.isURI()
+                && !triple.getObject().isBlank()
+                && !RDF.Nodes.type.equals(triple.getPredicate())
+                && !getBaseGraph().contains(subject, RDF.Nodes.type, OWL.Ontology.asNode());
+    }
+
+    /**
+     * Invalidates the cached components of all axiom types whose translators accept the specified triple.
+     * The statement is not checked for presence in the graph, so this method is suitable for both additions and deletions.
+     *
+     * @param triple {@link Triple}, expected to be {@link #isStandaloneTriple(Triple) standalone}
+     */
+    @SuppressWarnings("unchecked")
+    protected void invalidateComponents(Triple triple) {
+        OntStatement statement = toOntStatement(null, asStatement(triple));
+        getComponents().stream()
+                .map(InternalObjectTriplesMap::type)
+                .filter(OWLAxiom.class::isAssignableFrom)
+                .filter(type -> testStatement(AxiomType.getTypeForClass((Class<? extends OWLAxiom>) type), statement))
+                .collect(Collectors.toList())
+                .forEach(components::invalidate);
+    }
+
+    protected static boolean testStatement(AxiomType<? extends OWLAxiom> type, OntStatement statement) {
+        try {
+            return AxiomParserProvider.get(type).testStatement(statement);
+        } catch (JenaException j) { // the statement is broken, so we can't be sure
+            return true;
+        }
+    }
+
+    /**
+     * Invalidates those entries of {@link #objects} cache, which do not contain all entities from the specified object.
+     *
+     * @param object either {@link OWLAxiom} or {@link OWLAnnotation} to be added
+     * @param <A>    the type of owl-object
+     */
+    protected <A extends HasAnnotations & HasComponents> void clearObjectsCacheOnAdd(A object) {
+        objects.asMap().entrySet().stream()
+                .filter(e -> OwlObjects.objects(e.getKey(), object).anyMatch(o -> !e.getValue().contains(o)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(objects::invalidate);
+    }
+
+    /**
+     * Invalidates those entries of {@link #objects} cache, which contain some entities from the specified object.
+     *
+     * @param object either {@link OWLAxiom} or {@link OWLAnnotation} that has been removed
+     * @param <A>    the type of owl-object
+     */
+    protected <A extends HasAnnotations & HasComponents> void clearObjectsCacheOnRemove(A object) {
+        objects.asMap().keySet().stream()
+                .filter(type -> OwlObjects.objects(type, object).findAny().isPresent())
+                .collect(Collectors.toList())
+                .forEach(objects::invalidate);
+    }
+
+    /**
+     * Invalidates those entries of {@link #objects} cache, which can be affected by the specified added or deleted triple.
+     * The triple is the root statement of an axiom, so the entities of that axiom are only
+     * the subject, the predicate and the object (or the datatype of the literal) of the triple.
+     * An exception is an axiom with reified annotations, which may bring any other objects,
+     * in this case the whole cache is cleared.
+     *
+     * @param triple {@link Triple}, expected to be {@link #isStandaloneTriple(Triple) standalone}
+     * @param add    boolean, {@code true} if the triple has been added, {@code false} if it has been deleted
+     */
+    protected void clearObjectsCache(Triple triple, boolean add) {
+        if (getGraph().contains(Node.ANY, OWL.annotatedSource.asNode(), triple.getSubject())) {
+            objects.invalidateAll();
+            return;
+        }
+        Set<OWLEntity> entities = Stream.of(triple.getSubject(), triple.getPredicate(), triple.getObject())
+                .map(n -> n.isLiteral() ? n.getLiteralDatatypeURI() : n.isURI() ? n.getURI() : null)
+                .filter(Objects::nonNull)
+                .flatMap(uri -> entities(getOntEntity(OntEntity.class, uri)))
+                .collect(Collectors.toSet());
+        objects.asMap().entrySet().stream()
+                .filter(e -> !OWLIndividual.class.isAssignableFrom(e.getKey()) && !OWLEntity.class.isAssignableFrom(e.getKey())
+                        || entities.stream().filter(e.getKey()::isInstance).anyMatch(o -> add != e.getValue().contains(o)))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(objects::invalidate);
     }
 
     protected static <O extends OWLObject> Stream<O> findObjectsToInvalidate(InternalObjectTriplesMap<O> map, Triple triple) {
@@ -625,12 +1353,16 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      */
     public static class InternalObjectTriplesMap<O extends OWLObject> {
         protected final Class<O> type;
-        protected final Set<InternalObject<O>> set;
+        protected final Map<O, InternalObject<O>> map = new HashMap<>();
         protected LoadingCache<O, Set<Triple>> cache = Caffeine.newBuilder().softValues().build(this::loadTripleSet);
+        // secondary indexes, built on demand and then kept up to date while adding and removing objects
+        protected final Map<ObjectIndex.Type, ObjectIndex<O>> indexes = new ConcurrentHashMap<>();
+        // reverse index: triple -> number of objects which own it; built on demand and guarded by the indexes lock
+        protected Map<Triple, Integer> owners;
 
         public InternalObjectTriplesMap(Class<O> type, Set<InternalObject<O>> set) {
             this.type = type;
-            this.set = set;
+            set.forEach(o -> map.putIfAbsent(o.getObject(), o));
         }
 
         public Class<O> type() {
@@ -638,8 +1370,7 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
         }
 
         private Optional<InternalObject<O>> find(O key) {
-            // may be long: go over whole collection with concrete component type
-            return InternalObject.find(set, key);
+            return Optional.ofNullable(map.get(key));
         }
 
         @Nonnull
@@ -657,8 +1388,17 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
          * @param triple {@link Triple}
          */
         public void add(O key, Triple triple) {
-            InternalObject<O> res = find(key).map(o -> o.isEmpty() ? new TripleSet<>(o) : o).orElseGet(() -> new TripleSet<>(key));
-            set.add(res.add(triple));
+            synchronized (indexes) {
+                Optional<InternalObject<O>> prev = find(key);
+                if (owners != null && !(prev.isPresent() && get(key).contains(triple))) {
+                    owners.merge(triple, 1, Integer::sum);
+                }
+                InternalObject<O> res = prev.map(o -> o.isEmpty() ? new TripleSet<>(o) : o).orElseGet(() -> new TripleSet<>(key));
+                map.putIfAbsent(key, res.add(triple));
+                if (!prev.isPresent()) {
+                    indexes.values().forEach(i -> i.add(key));
+                }
+            }
             fromCache(key).ifPresent(set -> set.add(triple));
         }
 
@@ -669,7 +1409,12 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
          * @param triple {@link Triple}
          */
         public void remove(O key, Triple triple) {
-            find(key).ifPresent(o -> set.add(o.delete(triple)));
+            synchronized (indexes) {
+                if (owners != null && find(key).isPresent() && get(key).contains(triple)) {
+                    release(triple);
+                }
+                find(key).ifPresent(o -> map.putIfAbsent(key, o.delete(triple)));
+            }
             fromCache(key).ifPresent(set -> set.remove(triple));
         }
 
@@ -679,8 +1424,14 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
          * @param key OWLObject (axiom or annotation)
          */
         public void remove(O key) {
-            cache.invalidate(key);
-            set.remove(new TripleSet<>(key));
+            synchronized (indexes) {
+                if (owners != null && find(key).isPresent()) {
+                    get(key).forEach(this::release);
+                }
+                cache.invalidate(key);
+                map.remove(key);
+                indexes.values().forEach(i -> i.remove(key));
+            }
         }
 
         protected Optional<Set<Triple>> fromCache(O key) {
@@ -695,12 +1446,60 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
             return Objects.requireNonNull(get(key));
         }
 
+        /**
+         * Answers {@code true} if the specified triple belongs to some object from this map.
+         * Uses the reverse (triple-to-owners) index, which is built on first call.
+         *
+         * @param triple {@link Triple}
+         * @return boolean
+         */
         public boolean contains(Triple triple) {
-            return objects().anyMatch(o -> getTripleSet(o).contains(triple));
+            synchronized (indexes) {
+                if (owners == null) {
+                    Map<Triple, Integer> res = new HashMap<>();
+                    objects().forEach(o -> getTripleSet(o).forEach(t -> res.merge(t, 1, Integer::sum)));
+                    owners = res;
+                }
+                return owners.containsKey(triple);
+            }
+        }
+
+        private void release(Triple triple) {
+            owners.computeIfPresent(triple, (t, count) -> count == 1 ? null : count - 1);
+        }
+
+        /**
+         * Answers {@code true} if the specified object is present in this map.
+         *
+         * @param key OWLObject (axiom or annotation)
+         * @return boolean
+         */
+        public boolean contains(O key) {
+            return map.containsKey(key);
         }
 
         public Stream<O> objects() {
-            return set.stream().map(InternalObject::getObject);
+            return map.keySet().stream();
+        }
+
+        /**
+         * Finds objects by the component using the secondary index of the specified type.
+         * The index is built on first call.
+         * Note: since OWL-API streams may be processed outside the ontology lock,
+         * the building of index and the modification of the objects set are synchronized.
+         *
+         * @param type {@link ObjectIndex.Type}
+         * @param key  {@link OWLObject} to search
+         * @return Stream of objects
+         */
+        public Stream<O> objects(ObjectIndex.Type type, OWLObject key) {
+            ObjectIndex<O> res = indexes.get(type);
+            if (res == null) {
+                synchronized (indexes) {
+                    res = indexes.computeIfAbsent(type, t -> new ObjectIndex<>(t, objects()));
+                }
+            }
+            return res.objects(key);
         }
 
         /**
@@ -760,14 +1559,26 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
      * @param <O> {@link OWLAxiom} in our case.
      */
     public static class OwlObjectListener<O extends OWLObject> extends GraphListenerBase {
-        private final InternalObjectTriplesMap<O> store;
-        private final O object;
+        private InternalObjectTriplesMap<O> store;
+        private O object;
 
         public OwlObjectListener(InternalObjectTriplesMap<O> store, O object) {
             this.store = store;
             this.object = object;
         }
 
+        /**
+         * Switches this listener to another object, used while adding objects in batch.
+         *
+         * @param store  {@link InternalObjectTriplesMap}
+         * @param object {@link O}
+         * @see InternalModel#add(Collection)
+         */
+        protected void reset(InternalObjectTriplesMap<O> store, O object) {
+            this.store = store;
+            this.object = object;
+        }
+
         @Override
         protected void addEvent(Triple t) {
             store.add(object, t);
@@ -779,6 +1590,40 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
         }
     }
 
+    /**
+     * The listener to collect the triples, which are actually added to the graph, i.e. were absent before.
+     * Used to undo the batch addition if the content cache is disabled and therefore there is no triples tracking.
+     * A triple is considered new if the size of the graph has been changed after it was added,
+     * so the listener is valid only while the graph is not modified by other threads.
+     *
+     * @see InternalModel#add(Collection)
+     */
+    protected static class NewTriplesListener extends GraphListenerBase {
+        protected final Graph graph;
+        protected final Set<Triple> triples = new LinkedHashSet<>();
+        protected long size;
+
+        protected NewTriplesListener(Graph graph) {
+            this.graph = graph;
+            this.size = graph.size();
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            long current = graph.size();
+            if (current != size) {
+                triples.add(t);
+            }
+            size = current;
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            triples.remove(t);
+            size = graph.size();
+        }
+    }
+
     /**
      * The direct listener to synchronize caches while working through OWL-API and jena at the same time.
      */
@@ -795,13 +1640,22 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
          */
         @Override
         protected void addEvent(Triple t) {
+            snapshot = null;
+            if (!isContentCacheEnabled()) {
+                clearCache();
+                return;
+            }
             if (hasObjectListener()) return;
-            // we don't know which axiom would own this triple, so we clear whole cache.
-            clearCache();
+            clearCacheOnAdd(t);
         }
 
         @Override
         protected void deleteEvent(Triple t) {
+            snapshot = null;
+            if (!isContentCacheEnabled()) {
+                clearCache();
+                return;
+            }
             if (hasObjectListener()) return;
             clearCacheOnDelete(t);
         }
@@ -810,6 +1664,8 @@ public class InternalModel extends OntGraphModelImpl implements OntGraphModel, C
     /**
      * The internal cache holder which is using while reading owl-objects.
      * Currently it is based on caffeine cache since it is used widely by OWL-API.
+     * It is thread-safe: all caches are concurrent, so the instance can be shared between several readers
+     * (see {@link InternalModel#readAxiomTriples(Collection, int)}).
      */
     public static class CacheDataFactory extends NoCacheDataFactory {
         protected final LoadingCache<OntCE, InternalObject<? extends OWLClassExpression>> classExpressions;
@@ -23,6 +23,7 @@ import ru.avicomp.ontapi.jena.model.OntOPE;
 import ru.avicomp.ontapi.jena.model.OntObject;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
+import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -70,6 +71,23 @@ class InverseObjectPropertiesTranslator extends AxiomTranslator<OWLInverseObject
                 && (object.isURIResource() || object.hasType(OWL.ObjectProperty));
     }
 
+    /**
+     * Selects the statement in the same way as {@link #statements(OntGraphModel)} does,
+     * i.e. the subject and the object must be object property expressions
+     * and the subject must be typed (an anonymous {@link OntOPE.Inverse} is not an axiom).
+     *
+     * @param statement {@link OntStatement} a local statement
+     * @return {@link OntStatement} or {@code null}
+     */
+    @Override
+    public OntStatement select(OntStatement statement) {
+        if (!statement.getPredicate().equals(OWL.inverseOf)
+                || !statement.getSubject().hasProperty(RDF.type)
+                || !statement.getSubject().canAs(OntOPE.class)
+                || !statement.getObject().canAs(OntOPE.class)) return null;
+        return statement.getSubject().as(OntOPE.class).statement(OWL.inverseOf, statement.getObject()).orElse(null);
+    }
+
     @Override
     public InternalObject<OWLInverseObjectPropertiesAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
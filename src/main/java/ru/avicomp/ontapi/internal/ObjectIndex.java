@@ -0,0 +1,228 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package ru.avicomp.ontapi.internal;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+import ru.avicomp.ontapi.OwlObjects;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A secondary index to search {@link OWLObject}s (usually {@link OWLAxiom}s) by their components.
+ * It is a map from a component (an entity, an anonymous individual, a class expression, an {@link IRI}, etc)
+ * to the set of objects which contain that component in the position specified by the {@link Type}.
+ * The index is based on concurrent maps, so it can be read while it is being changed.
+ *
+ * @param <O> subtype of {@link OWLObject}
+ * @see InternalModel.InternalObjectTriplesMap
+ * @see <a href='https://github.com/owlcs/owlapi/blob/version5/impl/src/main/java/uk/ac/manchester/cs/owl/owlapi/Internals.java'>uk.ac.manchester.cs.owl.owlapi.Internals</a>
+ * @since 1.2.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class ObjectIndex<O extends OWLObject> {
+    protected final Type type;
+    protected final Map<OWLObject, Set<O>> map = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an index for the given objects.
+     *
+     * @param type    {@link Type} of index
+     * @param objects Stream of {@link OWLObject}s to index
+     */
+    public ObjectIndex(Type type, Stream<O> objects) {
+        this.type = Objects.requireNonNull(type, "Null index type.");
+        objects.forEach(this::add);
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Registers the object under all its keys.
+     *
+     * @param object {@link OWLObject}
+     */
+    public void add(O object) {
+        type.keys(object).forEach(k -> map.computeIfAbsent(k, x -> ConcurrentHashMap.newKeySet()).add(object));
+    }
+
+    /**
+     * Unregisters the object.
+     *
+     * @param object {@link OWLObject}
+     */
+    public void remove(O object) {
+        type.keys(object).forEach(k -> {
+            map.computeIfPresent(k, (x, set) -> set.remove(object) && set.isEmpty() ? null : set);
+        });
+    }
+
+    /**
+     * Returns all objects containing the specified component in the position determined by this index type.
+     *
+     * @param key {@link OWLObject} to search, not null
+     * @return Stream of {@link OWLObject}s
+     */
+    public Stream<O> objects(OWLObject key) {
+        return map.getOrDefault(key, Collections.emptySet()).stream();
+    }
+
+    /**
+     * The kinds of index.
+     * The {@link #SUB} and {@link #SUPER} types correspond to the OWL-API {@link Navigation} positions,
+     * the {@link #REFERENCE} type is to search all axioms referring to some {@link OWLPrimitive},
+     * the {@link #IGNORE_ANNOTATIONS} type is to search axioms which are equal to the given one if annotations are ignored.
+     */
+    public enum Type {
+        /**
+         * The key is a sub-class (sub-property), a subject of assertion,
+         * an operand of n-ary axiom, a property of unary property axiom, the declared entity, etc.
+         */
+        SUB(Type::subKeys),
+        /**
+         * The key is a super-class (super-property), an object of assertion, a member of property chain, etc.
+         */
+        SUPER(Type::superKeys),
+        /**
+         * The key is an {@link IRI}, an {@link OWLDatatype} (including those from literals) or other {@link OWLPrimitive}
+         * that occurs anywhere in the axiom including its annotations.
+         */
+        REFERENCE(Type::referenceKeys),
+        /**
+         * The key is the same axiom but without annotations, see {@link OWLAxiom#getAxiomWithoutAnnotations()}.
+         */
+        IGNORE_ANNOTATIONS(o -> o instanceof OWLAxiom ? Stream.of(((OWLAxiom) o).getAxiomWithoutAnnotations()) : Stream.empty()),
+        ;
+
+        private final Function<OWLObject, Stream<? extends OWLObject>> keys;
+
+        Type(Function<OWLObject, Stream<? extends OWLObject>> keys) {
+            this.keys = keys;
+        }
+
+        /**
+         * Gets the index type by the OWL-API navigation.
+         *
+         * @param position {@link Navigation}, can be null
+         * @return {@link #SUPER} for {@link Navigation#IN_SUPER_POSITION}, otherwise {@link #SUB}
+         */
+        public static Type of(Navigation position) {
+            return Navigation.IN_SUPER_POSITION.equals(position) ? SUPER : SUB;
+        }
+
+        /**
+         * Lists all keys of the object for this index type.
+         *
+         * @param object {@link OWLObject}
+         * @return distinct Stream of {@link OWLObject}s
+         */
+        public Stream<? extends OWLObject> keys(OWLObject object) {
+            return keys.apply(object).distinct();
+        }
+
+        private static Stream<? extends OWLObject> subKeys(OWLObject o) {
+            if (o instanceof OWLSubClassOfAxiom) {
+                return Stream.of(((OWLSubClassOfAxiom) o).getSubClass());
+            }
+            if (o instanceof OWLSubPropertyAxiom) {
+                return Stream.of(((OWLSubPropertyAxiom<?>) o).getSubProperty());
+            }
+            if (o instanceof OWLSubAnnotationPropertyOfAxiom) {
+                return Stream.of(((OWLSubAnnotationPropertyOfAxiom) o).getSubProperty());
+            }
+            if (o instanceof OWLInverseObjectPropertiesAxiom) {
+                return Stream.of(((OWLInverseObjectPropertiesAxiom) o).getFirstProperty());
+            }
+            if (o instanceof OWLNaryAxiom) {
+                return ((OWLNaryAxiom<?>) o).operands();
+            }
+            if (o instanceof OWLPropertyAssertionAxiom) {
+                return Stream.of(((OWLPropertyAssertionAxiom<?, ?>) o).getSubject());
+            }
+            if (o instanceof OWLAnnotationAssertionAxiom) {
+                return Stream.of(((OWLAnnotationAssertionAxiom) o).getSubject());
+            }
+            if (o instanceof OWLDisjointUnionAxiom) {
+                return Stream.of(((OWLDisjointUnionAxiom) o).getOWLClass());
+            }
+            if (o instanceof OWLSubPropertyChainOfAxiom) {
+                return Stream.of(((OWLSubPropertyChainOfAxiom) o).getSuperProperty());
+            }
+            if (o instanceof OWLDeclarationAxiom) {
+                return Stream.of(((OWLDeclarationAxiom) o).getEntity());
+            }
+            if (o instanceof OWLClassAssertionAxiom) {
+                return Stream.of(((OWLClassAssertionAxiom) o).getIndividual());
+            }
+            if (o instanceof OWLDatatypeDefinitionAxiom) {
+                return Stream.of(((OWLDatatypeDefinitionAxiom) o).getDatatype());
+            }
+            if (o instanceof OWLHasKeyAxiom) {
+                return Stream.of(((OWLHasKeyAxiom) o).getClassExpression());
+            }
+            if (o instanceof HasProperty) { // unary property axioms and annotation property domain & range
+                return Stream.of(((HasProperty<?>) o).getProperty());
+            }
+            return Stream.empty();
+        }
+
+        private static Stream<? extends OWLObject> superKeys(OWLObject o) {
+            if (o instanceof OWLSubClassOfAxiom) {
+                return Stream.of(((OWLSubClassOfAxiom) o).getSuperClass());
+            }
+            if (o instanceof OWLSubPropertyAxiom) {
+                return Stream.of(((OWLSubPropertyAxiom<?>) o).getSuperProperty());
+            }
+            if (o instanceof OWLSubAnnotationPropertyOfAxiom) {
+                return Stream.of(((OWLSubAnnotationPropertyOfAxiom) o).getSuperProperty());
+            }
+            if (o instanceof OWLInverseObjectPropertiesAxiom) {
+                return Stream.of(((OWLInverseObjectPropertiesAxiom) o).getSecondProperty());
+            }
+            if (o instanceof OWLPropertyAssertionAxiom) {
+                return Stream.of(((OWLPropertyAssertionAxiom<?, ?>) o).getObject());
+            }
+            if (o instanceof OWLAnnotationAssertionAxiom) {
+                return Stream.of(((OWLAnnotationAssertionAxiom) o).getValue());
+            }
+            if (o instanceof OWLDisjointUnionAxiom) {
+                return ((OWLDisjointUnionAxiom) o).classExpressions();
+            }
+            if (o instanceof OWLSubPropertyChainOfAxiom) {
+                return ((OWLSubPropertyChainOfAxiom) o).getPropertyChain().stream();
+            }
+            return Stream.empty();
+        }
+
+        private static Stream<? extends OWLObject> referenceKeys(OWLObject o) {
+            if (!(o instanceof OWLAxiom)) return Stream.empty();
+            OWLAxiom a = (OWLAxiom) o;
+            // the datatype could be hidden inside literals, which are primitives too:
+            return Stream.of(OwlObjects.iris(a),
+                    OwlObjects.objects(OWLDatatype.class, a),
+                    OwlObjects.objects(OWLPrimitive.class, a).filter(x -> !(x instanceof IRI) && !(x instanceof OWLDatatype)))
+                    .flatMap(Function.identity());
+        }
+    }
+}
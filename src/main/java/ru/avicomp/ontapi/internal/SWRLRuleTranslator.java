@@ -51,6 +51,11 @@ public class SWRLRuleTranslator extends AxiomTranslator<SWRLRule> {
         return statement.getSubject().canAs(OntSWRL.Imp.class);
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        return selectRoot(statement, OntSWRL.Imp.class);
+    }
+
     @Override
     public InternalObject<SWRLRule> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
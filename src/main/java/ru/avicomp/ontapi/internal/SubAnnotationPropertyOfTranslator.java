@@ -60,6 +60,13 @@ public class SubAnnotationPropertyOfTranslator extends AbstractSubPropertyTransl
                         AxiomType.SUB_OBJECT_PROPERTY, AxiomType.SUB_DATA_PROPERTY));
     }
 
+    @Override
+    public OntStatement select(OntStatement statement) {
+        OntLoaderConfiguration conf = getConfig(statement.getModel()).loaderConfig();
+        if (!conf.isLoadAnnotationAxioms() || !testStatement(statement)) return null;
+        return ReadHelper.testAnnotationAxiomOverlaps(statement, conf, AxiomType.SUB_OBJECT_PROPERTY, AxiomType.SUB_DATA_PROPERTY) ? statement : null;
+    }
+
     @Override
     public InternalObject<OWLSubAnnotationPropertyOfAxiom> toAxiom(OntStatement statement) {
         InternalDataFactory reader = getDataFactory(statement.getModel());
@@ -0,0 +1,613 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.*;
+import org.apache.jena.graph.impl.AllCapabilities;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+import org.apache.jena.util.iterator.NullIterator;
+
+/**
+ * A memory graph with dictionary encoding, an alternative to the {@link org.apache.jena.mem.GraphMem}.
+ * Every node (IRI, blank node or literal) is interned once into the dictionary and then referred by its integer id.
+ * A triple is a row of three ids, there are no {@link Triple} objects inside,
+ * they are created on the fly while iterating.
+ * Each row is linked into three chains: the chains of rows with the same subject, with the same predicate and with the same object
+ * (i.e. the SPO, POS and OSP indexes), and there is also a hash table over the rows to answer the exact match.
+ * All these structures are flat {@code int} arrays, which can be also placed outside of the java heap,
+ * see {@link #CompactGraph(boolean)}.
+ * So the graph takes several times less memory than the standard one, which keeps three hash indexes of {@link Triple}s.
+ * <p>
+ * Notes:
+ * <ul>
+ * <li>The literals are matched by term, not by value (i.e. {@code "01"^^xsd:int} and {@code "1"^^xsd:int} are different),
+ * see {@link Capabilities#handlesLiteralTyping()}</li>
+ * <li>The dictionary only grows: a node is kept until {@link #clear()} even if all its triples have been deleted</li>
+ * <li>The graph is not thread-safe, the iterators are fail-fast, but they support the {@link java.util.Iterator#remove()}</li>
+ * </ul>
+ *
+ * @see OntModelFactory#createDefaultGraph(OntModelFactory.GraphType)
+ * @since 1.2.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class CompactGraph extends GraphBase {
+    protected static final int INITIAL_CAPACITY = 16;
+    protected static final Capabilities CAPABILITIES = new AllCapabilities() {
+        @Override
+        public boolean handlesLiteralTyping() {
+            return false;
+        }
+    };
+
+    protected final boolean direct;
+
+    // the dictionary:
+    protected Node[] nodes;
+    protected int nodesCount;
+    protected Ints nodesTable;
+    // the rows (s, p, o) and the chains (for each of three positions),
+    // a deleted row is marked by -1 in the subject cell and goes to the list of free rows:
+    protected Ints rows;
+    protected Ints next;
+    protected Ints prev;
+    protected int rowsCount;
+    protected int freeRow;
+    // the heads of chains and the lengths of chains, for each node and position:
+    protected Ints heads;
+    protected Ints counts;
+    // the hash table over the rows:
+    protected Ints rowsTable;
+    protected int size;
+    protected int modCount;
+
+    /**
+     * Creates a graph which stores the indexes in the java heap.
+     */
+    public CompactGraph() {
+        this(false);
+    }
+
+    /**
+     * Creates a graph.
+     *
+     * @param direct if {@code true} the indexes are stored in the direct {@link ByteBuffer}s,
+     *               i.e. outside of the java heap; the dictionary itself is always in the heap
+     */
+    public CompactGraph(boolean direct) {
+        this.direct = direct;
+        init();
+    }
+
+    protected void init() {
+        nodes = new Node[INITIAL_CAPACITY];
+        nodesCount = 0;
+        nodesTable = ints(INITIAL_CAPACITY * 2);
+        rows = ints(INITIAL_CAPACITY * 3);
+        next = ints(INITIAL_CAPACITY * 3);
+        prev = ints(INITIAL_CAPACITY * 3);
+        rowsCount = 0;
+        freeRow = 0;
+        heads = ints(INITIAL_CAPACITY * 3);
+        counts = ints(INITIAL_CAPACITY * 3);
+        rowsTable = ints(INITIAL_CAPACITY * 2);
+        size = 0;
+    }
+
+    /**
+     * Answers {@code true} if the indexes are stored outside of the java heap.
+     *
+     * @return boolean
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Answers the number of nodes in the dictionary.
+     *
+     * @return int
+     */
+    public int dictionarySize() {
+        return nodesCount;
+    }
+
+    protected Ints ints(int size) {
+        return direct ? new DirectInts(size) : new HeapInts(size);
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        int s = intern(t.getSubject());
+        int p = intern(t.getPredicate());
+        int o = intern(t.getObject());
+        if (findRow(s, p, o) >= 0) return;
+        // the table must be grown before the row is allocated, otherwise the rehash would include the new row:
+        if ((size + 1) * 2 > rowsTable.size()) {
+            rehashRows();
+        }
+        int r = allocateRow();
+        rows.set(3 * r, s);
+        rows.set(3 * r + 1, p);
+        rows.set(3 * r + 2, o);
+        link(r, 0, s);
+        link(r, 1, p);
+        link(r, 2, o);
+        insertIntoTable(r);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        int s = getId(t.getSubject());
+        int p = getId(t.getPredicate());
+        int o = getId(t.getObject());
+        if (s < 0 || p < 0 || o < 0) return;
+        int r = findRow(s, p, o);
+        if (r < 0) return;
+        deleteRow(r);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        init();
+        modCount++;
+        getEventManager().notifyEvent(this, GraphEvents.removeAll);
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple t) {
+        if (!t.isConcrete()) {
+            return containsByFind(t);
+        }
+        int s = getId(t.getSubject());
+        int p = getId(t.getPredicate());
+        int o = getId(t.getObject());
+        return s >= 0 && p >= 0 && o >= 0 && findRow(s, p, o) >= 0;
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple m) {
+        int[] ids = new int[3];
+        Node[] pattern = {m.getSubject(), m.getPredicate(), m.getObject()};
+        int chain = -1;
+        int length = Integer.MAX_VALUE;
+        for (int k = 0; k < 3; k++) {
+            if (!pattern[k].isConcrete()) {
+                ids[k] = -1;
+                continue;
+            }
+            if ((ids[k] = getId(pattern[k])) < 0) {
+                return NullIterator.instance();
+            }
+            int c = counts.get(3 * ids[k] + k);
+            if (c < length) {
+                length = c;
+                chain = k;
+            }
+        }
+        if (chain < 0) {
+            return new RowsIterator(ids, -1, rowsCount == 0 ? -1 : 0);
+        }
+        if (ids[0] >= 0 && ids[1] >= 0 && ids[2] >= 0) {
+            int r = findRow(ids[0], ids[1], ids[2]);
+            return r < 0 ? NullIterator.instance() : new RowsIterator(ids, 3, r);
+        }
+        return new RowsIterator(ids, chain, heads.get(3 * ids[chain] + chain) - 1);
+    }
+
+    @Override
+    protected GraphStatisticsHandler createStatisticsHandler() {
+        return (s, p, o) -> {
+            if (s.isConcrete() && p.isConcrete() && o.isConcrete()) {
+                return contains(s, p, o) ? 1 : 0;
+            }
+            long res = size;
+            Node[] pattern = {s, p, o};
+            for (int k = 0; k < 3; k++) {
+                if (!pattern[k].isConcrete()) continue;
+                int id = getId(pattern[k]);
+                res = Math.min(res, id < 0 ? 0 : counts.get(3 * id + k));
+            }
+            return res;
+        };
+    }
+
+    /**
+     * Returns the id of the node, adding it into the dictionary if it is absent.
+     *
+     * @param node {@link Node}, concrete
+     * @return int, not negative
+     */
+    protected int intern(Node node) {
+        int mask = nodesTable.size() - 1;
+        int i = mix(node.hashCode()) & mask;
+        int v;
+        while ((v = nodesTable.get(i)) != 0) {
+            if (nodes[v - 1].equals(node)) return v - 1;
+            i = (i + 1) & mask;
+        }
+        int res = nodesCount++;
+        if (res == nodes.length) {
+            int capacity = nodes.length * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            heads = heads.grow(capacity * 3);
+            counts = counts.grow(capacity * 3);
+        }
+        nodes[res] = node;
+        nodesTable.set(i, res + 1);
+        if (nodesCount * 2 > nodesTable.size()) {
+            rehashNodes();
+        }
+        return res;
+    }
+
+    /**
+     * Returns the id of the node or {@code -1} if it is absent in the dictionary.
+     *
+     * @param node {@link Node}
+     * @return int
+     */
+    protected int getId(Node node) {
+        int mask = nodesTable.size() - 1;
+        int i = mix(node.hashCode()) & mask;
+        int v;
+        while ((v = nodesTable.get(i)) != 0) {
+            if (nodes[v - 1].equals(node)) return v - 1;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehashNodes() {
+        Ints table = ints(nodesTable.size() * 2);
+        int mask = table.size() - 1;
+        for (int n = 0; n < nodesCount; n++) {
+            int i = mix(nodes[n].hashCode()) & mask;
+            while (table.get(i) != 0) {
+                i = (i + 1) & mask;
+            }
+            table.set(i, n + 1);
+        }
+        nodesTable = table;
+    }
+
+    protected int allocateRow() {
+        if (freeRow > 0) {
+            int r = freeRow - 1;
+            freeRow = rows.get(3 * r + 1);
+            return r;
+        }
+        int r = rowsCount++;
+        if (3 * rowsCount > rows.size()) {
+            int capacity = rows.size() * 2;
+            rows = rows.grow(capacity);
+            next = next.grow(capacity);
+            prev = prev.grow(capacity);
+        }
+        return r;
+    }
+
+    protected void deleteRow(int r) {
+        removeFromTable(r);
+        unlink(r, 0, rows.get(3 * r));
+        unlink(r, 1, rows.get(3 * r + 1));
+        unlink(r, 2, rows.get(3 * r + 2));
+        rows.set(3 * r, -1);
+        rows.set(3 * r + 1, freeRow);
+        rows.set(3 * r + 2, -1);
+        freeRow = r + 1;
+        size--;
+        modCount++;
+    }
+
+    private void link(int r, int k, int node) {
+        int h = heads.get(3 * node + k);
+        next.set(3 * r + k, h);
+        prev.set(3 * r + k, 0);
+        if (h > 0) {
+            prev.set(3 * (h - 1) + k, r + 1);
+        }
+        heads.set(3 * node + k, r + 1);
+        counts.set(3 * node + k, counts.get(3 * node + k) + 1);
+    }
+
+    private void unlink(int r, int k, int node) {
+        int p = prev.get(3 * r + k);
+        int n = next.get(3 * r + k);
+        if (p > 0) {
+            next.set(3 * (p - 1) + k, n);
+        } else {
+            heads.set(3 * node + k, n);
+        }
+        if (n > 0) {
+            prev.set(3 * (n - 1) + k, p);
+        }
+        counts.set(3 * node + k, counts.get(3 * node + k) - 1);
+    }
+
+    private int rowHash(int r) {
+        return hash(rows.get(3 * r), rows.get(3 * r + 1), rows.get(3 * r + 2));
+    }
+
+    private static int hash(int s, int p, int o) {
+        return mix((s * 31 + p) * 31 + o);
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Finds the row by the node ids.
+     *
+     * @param s int, subject id
+     * @param p int, predicate id
+     * @param o int, object id
+     * @return the row number or {@code -1}
+     */
+    protected int findRow(int s, int p, int o) {
+        int mask = rowsTable.size() - 1;
+        int i = hash(s, p, o) & mask;
+        int v;
+        while ((v = rowsTable.get(i)) != 0) {
+            int r = v - 1;
+            if (rows.get(3 * r) == s && rows.get(3 * r + 1) == p && rows.get(3 * r + 2) == o) return r;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertIntoTable(int r) {
+        int mask = rowsTable.size() - 1;
+        int i = rowHash(r) & mask;
+        while (rowsTable.get(i) != 0) {
+            i = (i + 1) & mask;
+        }
+        rowsTable.set(i, r + 1);
+    }
+
+    private void removeFromTable(int r) {
+        int mask = rowsTable.size() - 1;
+        int i = rowHash(r) & mask;
+        while (rowsTable.get(i) != r + 1) {
+            i = (i + 1) & mask;
+        }
+        // backward shift deletion to keep the probe sequences unbroken:
+        rowsTable.set(i, 0);
+        int j = i;
+        int v;
+        while ((v = rowsTable.get(j = (j + 1) & mask)) != 0) {
+            int home = rowHash(v - 1) & mask;
+            if (j > i ? (home <= i || home > j) : (home <= i && home > j)) {
+                rowsTable.set(i, v);
+                rowsTable.set(j, 0);
+                i = j;
+            }
+        }
+    }
+
+    private void rehashRows() {
+        Ints table = ints(rowsTable.size() * 2);
+        int mask = table.size() - 1;
+        for (int r = 0; r < rowsCount; r++) {
+            if (rows.get(3 * r) < 0) continue;
+            int i = rowHash(r) & mask;
+            while (table.get(i) != 0) {
+                i = (i + 1) & mask;
+            }
+            table.set(i, r + 1);
+        }
+        rowsTable = table;
+    }
+
+    protected Triple toTriple(int r) {
+        return Triple.create(nodes[rows.get(3 * r)], nodes[rows.get(3 * r + 1)], nodes[rows.get(3 * r + 2)]);
+    }
+
+    /**
+     * The fail-fast iterator over the rows.
+     * Goes either over all rows, or over a chain of rows with the same node at the specified position,
+     * or over a single row, and filters the rows by the pattern.
+     */
+    protected class RowsIterator extends NiceIterator<Triple> {
+        private final int[] pattern;
+        private final int chain;
+        private int cursor;
+        private int current = -1;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        /**
+         * @param pattern array of node ids, {@code -1} means any
+         * @param chain   the position (0, 1, 2) of the chain to follow, {@code -1} to go over all rows,
+         *                {@code 3} if there is only one row
+         * @param start   the first row or {@code -1} if there are no rows
+         */
+        protected RowsIterator(int[] pattern, int chain, int start) {
+            this.pattern = pattern;
+            this.chain = chain;
+            this.cursor = start;
+        }
+
+        private int successor(int r) {
+            if (chain < 0) {
+                return r + 1 < rowsCount ? r + 1 : -1;
+            }
+            if (chain == 3) {
+                return -1;
+            }
+            return next.get(3 * r + chain) - 1;
+        }
+
+        private boolean matches(int r) {
+            int s = rows.get(3 * r);
+            if (s < 0) return false;
+            return (pattern[0] < 0 || pattern[0] == s)
+                    && (pattern[1] < 0 || pattern[1] == rows.get(3 * r + 1))
+                    && (pattern[2] < 0 || pattern[2] == rows.get(3 * r + 2));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            while (current < 0 && cursor >= 0) {
+                int r = cursor;
+                // the successor is taken before the row is returned, so the row can be safely removed:
+                cursor = successor(r);
+                if (matches(r)) {
+                    current = r;
+                }
+            }
+            return current >= 0;
+        }
+
+        @Override
+        public Triple next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current;
+            current = -1;
+            return toTriple(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            Triple t = toTriple(last);
+            deleteRow(last);
+            last = -1;
+            expectedModCount = modCount;
+            notifyDelete(t);
+        }
+    }
+
+    /**
+     * A growable array of {@code int}s filled with zeros.
+     */
+    protected interface Ints {
+        int get(int i);
+
+        void set(int i, int v);
+
+        int size();
+
+        /**
+         * Creates a new array with the same content.
+         *
+         * @param size int, the new size
+         * @return {@link Ints}
+         */
+        Ints grow(int size);
+    }
+
+    /**
+     * The {@link Ints} in the java heap.
+     */
+    protected static class HeapInts implements Ints {
+        private final int[] array;
+
+        protected HeapInts(int size) {
+            this(new int[size]);
+        }
+
+        protected HeapInts(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public int get(int i) {
+            return array[i];
+        }
+
+        @Override
+        public void set(int i, int v) {
+            array[i] = v;
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        public Ints grow(int size) {
+            return new HeapInts(Arrays.copyOf(array, size));
+        }
+    }
+
+    /**
+     * The {@link Ints} outside of the java heap, the memory is released together with the buffer object.
+     */
+    protected static class DirectInts implements Ints {
+        private final IntBuffer buffer;
+
+        protected DirectInts(int size) {
+            // the direct buffer is zeroed on allocation:
+            this.buffer = ByteBuffer.allocateDirect(Math.multiplyExact(size, Integer.BYTES)).asIntBuffer();
+        }
+
+        @Override
+        public int get(int i) {
+            return buffer.get(i);
+        }
+
+        @Override
+        public void set(int i, int v) {
+            buffer.put(i, v);
+        }
+
+        @Override
+        public int size() {
+            return buffer.capacity();
+        }
+
+        @Override
+        public Ints grow(int size) {
+            DirectInts res = new DirectInts(size);
+            IntBuffer src = buffer.duplicate();
+            src.clear();
+            res.buffer.duplicate().put(src);
+            return res;
+        }
+    }
+}
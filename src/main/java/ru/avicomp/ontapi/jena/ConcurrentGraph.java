@@ -14,27 +14,56 @@
 
 package ru.avicomp.ontapi.jena;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 
 import org.apache.jena.graph.*;
 import org.apache.jena.shared.AddDeniedException;
 import org.apache.jena.shared.DeleteDeniedException;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.util.graph.GraphListenerBase;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
 
 /**
  * Wrapper with {@link ReadWriteLock} inside (OWL-API synchronization style).
  * Note: the related objects (such as {@link PrefixMapping}) are not synchronized!
+ * The way how the {@link #find(Triple)} iterators are protected is defined by the {@link ReadMode}.
  * <p>
  * Created by @szuev on 07.04.2017.
  */
 public class ConcurrentGraph implements Graph {
     protected final Graph base;
     protected final ReadWriteLock lock;
+    protected final ReadMode mode;
+    protected volatile Graph snapshot;
+    protected final AtomicLong version = new AtomicLong();
 
     public ConcurrentGraph(Graph base, ReadWriteLock lock) {
+        this(base, lock, ReadMode.LOCK_FIND);
+    }
+
+    /**
+     * @param base {@link Graph} to wrap
+     * @param lock {@link ReadWriteLock}
+     * @param mode {@link ReadMode} to control the iterators
+     */
+    public ConcurrentGraph(Graph base, ReadWriteLock lock, ReadMode mode) {
         this.base = OntJenaException.notNull(base, "Null base graph");
         this.lock = OntJenaException.notNull(lock, "Null lock");
+        this.mode = OntJenaException.notNull(mode, "Null read mode");
+        if (ReadMode.SNAPSHOT == mode) {
+            // the base graph can be changed bypassing this wrapper (e.g. through the ontology), so listen to its events:
+            base.getEventManager().register(new SnapshotListener(this));
+        }
+    }
+
+    public ReadMode getReadMode() {
+        return mode;
     }
 
     public Graph get() {
@@ -77,19 +106,62 @@ public class ConcurrentGraph implements Graph {
 
     @Override
     public ExtendedIterator<Triple> find(Triple m) {
-        lock().readLock().lock();
+        return find(g -> g.find(m));
+    }
+
+    @Override
+    public ExtendedIterator<Triple> find(Node s, Node p, Node o) {
+        return find(g -> g.find(s, p, o));
+    }
+
+    /**
+     * Performs the search query according to the {@link ReadMode read mode}.
+     *
+     * @param query {@link Function} to get an iterator from a graph
+     * @return {@link ExtendedIterator} of {@link Triple}s
+     */
+    protected ExtendedIterator<Triple> find(Function<Graph, ExtendedIterator<Triple>> query) {
+        if (ReadMode.SNAPSHOT == mode) {
+            return WrappedIterator.createNoRemove(query.apply(snapshot()));
+        }
+        Lock read = lock().readLock();
+        read.lock();
+        if (ReadMode.LOCK_ITERATION == mode) {
+            try {
+                return new LockedIterator<>(query.apply(get()), read);
+            } catch (RuntimeException | Error e) {
+                read.unlock();
+                throw e;
+            }
+        }
         try {
-            return get().find(m);
+            return query.apply(get());
         } finally {
-            lock().readLock().unlock();
+            read.unlock();
         }
     }
 
-    @Override
-    public ExtendedIterator<Triple> find(Node s, Node p, Node o) {
+    /**
+     * Returns the copy of the base graph, makes it if needed.
+     * The copy is discarded on any change of the base graph.
+     *
+     * @return {@link Graph}
+     */
+    protected Graph snapshot() {
+        Graph res = snapshot;
+        if (res != null) return res;
         lock().readLock().lock();
         try {
-            return get().find(s, p, o);
+            synchronized (this) {
+                if ((res = snapshot) != null) return res;
+                long v = version.get();
+                res = Factory.createGraphMem();
+                GraphUtil.addInto(res, get());
+                if (v == version.get()) { // keep the copy only if there were no changes while copying
+                    snapshot = res;
+                }
+                return res;
+            }
         } finally {
             lock().readLock().unlock();
         }
@@ -234,4 +306,110 @@ public class ConcurrentGraph implements Graph {
             lock().readLock().unlock();
         }
     }
+
+    /**
+     * Discards the current snapshot.
+     */
+    protected void resetSnapshot() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * The modes to control the iterators returned by the {@link #find(Triple)} and {@link #find(Node, Node, Node)} methods.
+     */
+    public enum ReadMode {
+        /**
+         * The read lock is held only while the iterator is being created,
+         * the iterating itself is not protected.
+         * This is the default behaviour.
+         */
+        LOCK_FIND,
+        /**
+         * The read lock is held until the iterator is exhausted or closed.
+         * So the iterator must be closed or fully traversed in the same thread,
+         * otherwise any writer will wait forever.
+         * Also, the removing through the iterator is not allowed.
+         */
+        LOCK_ITERATION,
+        /**
+         * The iterators go over a snapshot, which is a copy of the base graph made under the read lock.
+         * The snapshot is reused by all readers until the base graph is changed (copy-on-write),
+         * so the iterating does not block writers and is not affected by them.
+         * Suitable for graphs that are rarely changed.
+         */
+        SNAPSHOT,
+    }
+
+    /**
+     * An iterator that holds the lock while iterating and releases it on {@link #close()} or exhaustion.
+     *
+     * @param <X> anything
+     */
+    public static class LockedIterator<X> extends WrappedIterator<X> {
+        private final Lock lock;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        protected LockedIterator(ExtendedIterator<X> base, Lock lock) {
+            super(base, true);
+            this.lock = lock;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!open.get()) return false;
+            boolean res = super.hasNext();
+            if (!res) close();
+            return res;
+        }
+
+        @Override
+        public void close() {
+            if (!open.compareAndSet(true, false)) return;
+            try {
+                super.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The listener to discard the snapshot on any change of the base graph.
+     * It holds only a weak reference to the graph-wrapper,
+     * so a garbage collected wrapper is unregistered with the next event.
+     */
+    protected static class SnapshotListener extends GraphListenerBase {
+        private final Graph source;
+        private final WeakReference<ConcurrentGraph> graph;
+
+        protected SnapshotListener(ConcurrentGraph graph) {
+            this.source = graph.get();
+            this.graph = new WeakReference<>(graph);
+        }
+
+        protected void reset() {
+            ConcurrentGraph g = graph.get();
+            if (g == null) {
+                source.getEventManager().unregister(this);
+                return;
+            }
+            g.resetSnapshot();
+        }
+
+        @Override
+        protected void addEvent(Triple t) {
+            reset();
+        }
+
+        @Override
+        protected void deleteEvent(Triple t) {
+            reset();
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            reset();
+        }
+    }
 }
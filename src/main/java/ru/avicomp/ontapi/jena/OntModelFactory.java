@@ -59,6 +59,24 @@ public class OntModelFactory {
         return new GraphMem();
     }
 
+    /**
+     * Creates a fresh in-memory graph of the specified type.
+     *
+     * @param type {@link GraphType}, not null
+     * @return {@link Graph}
+     * @since 1.2.0
+     */
+    public static Graph createDefaultGraph(GraphType type) {
+        switch (OntJenaException.notNull(type, "Null graph type")) {
+            case COMPACT:
+                return new CompactGraph();
+            case COMPACT_OFF_HEAP:
+                return new CompactGraph(true);
+            default:
+                return createDefaultGraph();
+        }
+    }
+
     public static Model createDefaultModel() {
         return new ModelCom(createDefaultGraph());
     }
@@ -75,4 +93,23 @@ public class OntModelFactory {
         return new OntGraphModelImpl(graph, personality);
     }
 
+    /**
+     * The kinds of in-memory graphs produced by the {@link #createDefaultGraph(GraphType)} method.
+     *
+     * @since 1.2.0
+     */
+    public enum GraphType {
+        /**
+         * The standard jena {@link GraphMem}, the default.
+         */
+        MEM,
+        /**
+         * The dictionary-encoded {@link CompactGraph}, which keeps its indexes in the java heap.
+         */
+        COMPACT,
+        /**
+         * The dictionary-encoded {@link CompactGraph}, which keeps its indexes outside of the java heap.
+         */
+        COMPACT_OFF_HEAP,
+    }
 }
@@ -97,6 +97,8 @@ public class UnionGraph extends Union {
     }
 
     public static class OntMultiUnion extends MultiUnion {
+        // not atomic, since the sub-graphs collection itself is not thread-safe:
+        private volatile long version;
 
         public OntMultiUnion() {
             super();
@@ -117,6 +119,30 @@ public class UnionGraph extends Union {
         public boolean hasSubGraphs() {
             return !m_subGraphs.isEmpty();
         }
+
+        @Override
+        public void addGraph(Graph graph) {
+            super.addGraph(graph);
+            version++;
+        }
+
+        @Override
+        public void removeGraph(Graph graph) {
+            super.removeGraph(graph);
+            version++;
+        }
+
+        /**
+         * Returns the modification counter of the sub-graphs collection,
+         * which is incremented on each {@link #addGraph(Graph)} and {@link #removeGraph(Graph)} call.
+         * Can be used to detect changes in the imports structure.
+         *
+         * @return long
+         * @since 1.2.0
+         */
+        public long getVersion() {
+            return version;
+        }
     }
 
     public static class OntEventManager extends SimpleEventManager {
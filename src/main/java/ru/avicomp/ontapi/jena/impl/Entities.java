@@ -14,6 +14,9 @@
 
 package ru.avicomp.ontapi.jena.impl;
 
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
+import org.apache.jena.graph.Node;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDFS;
@@ -26,6 +29,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 /**
@@ -34,7 +38,7 @@ import java.util.stream.Stream;
  * Created by szuev on 03.11.2016.
  */
 public enum Entities implements Configurable<OntObjectFactory> {
-    CLASS(OntClassImpl.class, OWL.Class) {
+    CLASS(OntClassImpl.class, OntClassImpl::new, OWL.Class) {
         @Override
         Stream<Resource> bannedTypes(OntModelConfig.StdMode mode) {
             switch (mode) {
@@ -51,7 +55,7 @@ public enum Entities implements Configurable<OntObjectFactory> {
             return BUILTIN.classes();
         }
     },
-    DATATYPE(OntDatatypeImpl.class, RDFS.Datatype) {
+    DATATYPE(OntDatatypeImpl.class, OntDatatypeImpl::new, RDFS.Datatype) {
         @Override
         Stream<Resource> bannedTypes(OntModelConfig.StdMode mode) {
             switch (mode) {
@@ -68,7 +72,7 @@ public enum Entities implements Configurable<OntObjectFactory> {
             return BUILTIN.datatypes();
         }
     },
-    ANNOTATION_PROPERTY(OntAPropertyImpl.class, OWL.AnnotationProperty) {
+    ANNOTATION_PROPERTY(OntAPropertyImpl.class, OntAPropertyImpl::new, OWL.AnnotationProperty) {
         @Override
         Stream<Resource> bannedTypes(OntModelConfig.StdMode mode) {
             switch (mode) {
@@ -84,7 +88,7 @@ public enum Entities implements Configurable<OntObjectFactory> {
             return BUILTIN.annotationProperties();
         }
     },
-    DATA_PROPERTY(OntDPropertyImpl.class, OWL.DatatypeProperty) {
+    DATA_PROPERTY(OntDPropertyImpl.class, OntDPropertyImpl::new, OWL.DatatypeProperty) {
         @Override
         Stream<Resource> bannedTypes(OntModelConfig.StdMode mode) {
             switch (mode) {
@@ -102,7 +106,7 @@ public enum Entities implements Configurable<OntObjectFactory> {
             return BUILTIN.datatypeProperties();
         }
     },
-    OBJECT_PROPERTY(OntOPEImpl.NamedPropertyImpl.class, OWL.ObjectProperty) {
+    OBJECT_PROPERTY(OntOPEImpl.NamedPropertyImpl.class, OntOPEImpl.NamedPropertyImpl::new, OWL.ObjectProperty) {
         @Override
         Stream<Resource> bannedTypes(OntModelConfig.StdMode mode) {
             switch (mode) {
@@ -120,18 +124,20 @@ public enum Entities implements Configurable<OntObjectFactory> {
             return BUILTIN.objectProperties();
         }
     },
-    INDIVIDUAL(OntIndividualImpl.NamedImpl.class, OWL.NamedIndividual);
+    INDIVIDUAL(OntIndividualImpl.NamedImpl.class, OntIndividualImpl.NamedImpl::new, OWL.NamedIndividual);
 
     public static final BuiltIn.Vocabulary BUILTIN = BuiltIn.get();
 
     public static final Configurable<OntObjectFactory> ALL = OntObjectImpl.concatFactories(OntFinder.TYPED, values());
 
     private final Class<? extends OntObjectImpl> impl;
+    private final BiFunction<Node, EnhGraph, ? extends EnhNode> factory;
     private final Resource type;
     private final Map<Mode, OntObjectFactory> registry = new HashMap<>();
 
-    Entities(Class<? extends OntObjectImpl> impl, Resource type) {
+    Entities(Class<? extends OntObjectImpl> impl, BiFunction<Node, EnhGraph, ? extends EnhNode> factory, Resource type) {
         this.impl = impl;
+        this.factory = factory;
         this.type = type;
     }
 
@@ -189,7 +195,7 @@ public enum Entities implements Configurable<OntObjectFactory> {
                 .map(OntFilter.HasType::new).map(OntFilter::negate).toArray(OntFilter[]::new));
 
         OntFilter filter = OntFilter.URI.and((new OntFilter.HasType(type).and(illegalPunningsFilter)).or(new OntFilter.OneOf(builtInURIs())));
-        OntMaker maker = new OntMaker.WithType(impl, type).restrict(illegalPunningsFilter);
+        OntMaker maker = new OntMaker.WithType(impl, type, factory).restrict(illegalPunningsFilter);
 
         return new CommonOntObjectFactory(maker, finder, filter);
     }
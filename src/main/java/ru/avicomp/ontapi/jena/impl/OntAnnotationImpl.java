@@ -58,7 +58,7 @@ public class OntAnnotationImpl extends OntObjectImpl implements OntAnnotation {
     public static final Set<Node> EXTRA_ROOT_TYPES_AS_NODES = EXTRA_ROOT_TYPES.stream()
             .map(FrontsNode::asNode)
             .collect(Iter.toUnmodifiableSet());
-    public static OntObjectFactory annotationFactory = new CommonOntObjectFactory(new OntMaker.Default(OntAnnotationImpl.class),
+    public static OntObjectFactory annotationFactory = new CommonOntObjectFactory(new OntMaker.Default(OntAnnotationImpl.class, OntAnnotationImpl::new),
             OntAnnotationImpl::findRootAnnotations,
             OntAnnotationImpl::testAnnotation);
 
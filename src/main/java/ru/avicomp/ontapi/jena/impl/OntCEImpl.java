@@ -16,6 +16,7 @@ package ru.avicomp.ontapi.jena.impl;
 
 import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.*;
@@ -31,6 +32,7 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -48,47 +50,47 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntCE {
     public static final OntFilter CE_FITTING_FILTER = new OntFilter.OneOf(Entities.CLASS.builtInURIs())
             .or(new OntFilter.HasType(OWL.Class).or(new OntFilter.HasType(OWL.Restriction)));
 
-    public static OntObjectFactory unionOfCEFactory = createCEFactory(UnionOfImpl.class, OWL.unionOf, RDFList.class);
-    public static OntObjectFactory intersectionOfCEFactory = createCEFactory(IntersectionOfImpl.class, OWL.intersectionOf, RDFList.class);
-    public static OntObjectFactory oneOfCEFactory = createCEFactory(OneOfImpl.class, OWL.oneOf, RDFList.class);
-    public static OntObjectFactory complementOfCEFactory = createCEFactory(ComplementOfImpl.class, OWL.complementOf, OntCE.class);
+    public static OntObjectFactory unionOfCEFactory = createCEFactory(UnionOfImpl.class, UnionOfImpl::new, OWL.unionOf, RDFList.class);
+    public static OntObjectFactory intersectionOfCEFactory = createCEFactory(IntersectionOfImpl.class, IntersectionOfImpl::new, OWL.intersectionOf, RDFList.class);
+    public static OntObjectFactory oneOfCEFactory = createCEFactory(OneOfImpl.class, OneOfImpl::new, OWL.oneOf, RDFList.class);
+    public static OntObjectFactory complementOfCEFactory = createCEFactory(ComplementOfImpl.class, ComplementOfImpl::new, OWL.complementOf, OntCE.class);
 
-    public static OntObjectFactory objectSomeValuesOfCEFactory = createRestrictionFactory(ObjectSomeValuesFromImpl.class,
+    public static OntObjectFactory objectSomeValuesOfCEFactory = createRestrictionFactory(ObjectSomeValuesFromImpl.class, ObjectSomeValuesFromImpl::new,
             RestrictionType.OBJECT, ObjectRestrictionType.CLASS, OWL.someValuesFrom);
-    public static OntObjectFactory dataSomeValuesOfCEFactory = createRestrictionFactory(DataSomeValuesFromImpl.class,
+    public static OntObjectFactory dataSomeValuesOfCEFactory = createRestrictionFactory(DataSomeValuesFromImpl.class, DataSomeValuesFromImpl::new,
             RestrictionType.DATA, ObjectRestrictionType.DATA_RANGE, OWL.someValuesFrom);
 
-    public static OntObjectFactory objectAllValuesOfCEFactory = createRestrictionFactory(ObjectAllValuesFromImpl.class,
+    public static OntObjectFactory objectAllValuesOfCEFactory = createRestrictionFactory(ObjectAllValuesFromImpl.class, ObjectAllValuesFromImpl::new,
             RestrictionType.OBJECT, ObjectRestrictionType.CLASS, OWL.allValuesFrom);
-    public static OntObjectFactory dataAllValuesOfCEFactory = createRestrictionFactory(DataAllValuesFromImpl.class,
+    public static OntObjectFactory dataAllValuesOfCEFactory = createRestrictionFactory(DataAllValuesFromImpl.class, DataAllValuesFromImpl::new,
             RestrictionType.DATA, ObjectRestrictionType.DATA_RANGE, OWL.allValuesFrom);
 
-    public static OntObjectFactory objectHasValueCEFactory = createRestrictionFactory(ObjectHasValueImpl.class,
+    public static OntObjectFactory objectHasValueCEFactory = createRestrictionFactory(ObjectHasValueImpl.class, ObjectHasValueImpl::new,
             RestrictionType.OBJECT, ObjectRestrictionType.INDIVIDUAL, OWL.hasValue);
-    public static OntObjectFactory dataHasValueCEFactory = createRestrictionFactory(DataHasValueImpl.class,
+    public static OntObjectFactory dataHasValueCEFactory = createRestrictionFactory(DataHasValueImpl.class, DataHasValueImpl::new,
             RestrictionType.DATA, ObjectRestrictionType.LITERAL, OWL.hasValue);
 
-    public static OntObjectFactory dataMinCardinalityCEFactory = createRestrictionFactory(DataMinCardinalityImpl.class,
+    public static OntObjectFactory dataMinCardinalityCEFactory = createRestrictionFactory(DataMinCardinalityImpl.class, DataMinCardinalityImpl::new,
             RestrictionType.DATA, CardinalityType.MIN);
-    public static OntObjectFactory objectMinCardinalityCEFactory = createRestrictionFactory(ObjectMinCardinalityImpl.class,
+    public static OntObjectFactory objectMinCardinalityCEFactory = createRestrictionFactory(ObjectMinCardinalityImpl.class, ObjectMinCardinalityImpl::new,
             RestrictionType.OBJECT, CardinalityType.MIN);
 
-    public static OntObjectFactory dataMaxCardinalityCEFactory = createRestrictionFactory(DataMaxCardinalityImpl.class,
+    public static OntObjectFactory dataMaxCardinalityCEFactory = createRestrictionFactory(DataMaxCardinalityImpl.class, DataMaxCardinalityImpl::new,
             RestrictionType.DATA, CardinalityType.MAX);
-    public static OntObjectFactory objectMaxCardinalityCEFactory = createRestrictionFactory(ObjectMaxCardinalityImpl.class,
+    public static OntObjectFactory objectMaxCardinalityCEFactory = createRestrictionFactory(ObjectMaxCardinalityImpl.class, ObjectMaxCardinalityImpl::new,
             RestrictionType.OBJECT, CardinalityType.MAX);
 
-    public static OntObjectFactory dataCardinalityCEFactory = createRestrictionFactory(DataCardinalityImpl.class,
+    public static OntObjectFactory dataCardinalityCEFactory = createRestrictionFactory(DataCardinalityImpl.class, DataCardinalityImpl::new,
             RestrictionType.DATA, CardinalityType.EXACTLY);
-    public static OntObjectFactory objectCardinalityCEFactory = createRestrictionFactory(ObjectCardinalityImpl.class,
+    public static OntObjectFactory objectCardinalityCEFactory = createRestrictionFactory(ObjectCardinalityImpl.class, ObjectCardinalityImpl::new,
             RestrictionType.OBJECT, CardinalityType.EXACTLY);
 
     public static OntObjectFactory hasSelfCEFactory = new CommonOntObjectFactory(new HasSelfMaker(),
             RESTRICTION_FINDER, OntFilter.BLANK.and(new HasSelfFilter()));
 
     //see <a href='https://www.w3.org/TR/owl2-quick-reference/#Class_Expressions'>Restrictions Using n-ary Data Range</a>
-    public static OntObjectFactory naryDataAllValuesFromCEFactory = createNaryFactory(NaryDataAllValuesFromImpl.class, OWL.allValuesFrom);
-    public static OntObjectFactory naryDataSomeValuesFromCEFactory = createNaryFactory(NaryDataSomeValuesFromImpl.class, OWL.someValuesFrom);
+    public static OntObjectFactory naryDataAllValuesFromCEFactory = createNaryFactory(NaryDataAllValuesFromImpl.class, NaryDataAllValuesFromImpl::new, OWL.allValuesFrom);
+    public static OntObjectFactory naryDataSomeValuesFromCEFactory = createNaryFactory(NaryDataSomeValuesFromImpl.class, NaryDataSomeValuesFromImpl::new, OWL.someValuesFrom);
 
     public static OntObjectFactory abstractNaryRestrictionCEFactory = new MultiOntObjectFactory(RESTRICTION_FINDER, null,
             naryDataAllValuesFromCEFactory, naryDataSomeValuesFromCEFactory);
@@ -718,7 +720,7 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntCE {
 
     protected static class HasSelfMaker extends OntMaker.WithType {
         protected HasSelfMaker() {
-            super(HasSelfImpl.class, OWL.Restriction);
+            super(HasSelfImpl.class, OWL.Restriction, HasSelfImpl::new);
         }
 
         @Override
@@ -735,8 +737,11 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntCE {
         return new CommonOntObjectFactory(maker, CLASS_FINDER, filter);
     }
 
-    protected static OntObjectFactory createCEFactory(Class<? extends OntCEImpl> impl, Property predicate, Class<? extends RDFNode> view) {
-        OntMaker maker = new OntMaker.WithType(impl, OWL.Class);
+    protected static OntObjectFactory createCEFactory(Class<? extends OntCEImpl> impl,
+                                                     BiFunction<Node, EnhGraph, ? extends EnhNode> factory,
+                                                     Property predicate,
+                                                     Class<? extends RDFNode> view) {
+        OntMaker maker = new OntMaker.WithType(impl, OWL.Class, factory);
         OntFilter filter = OntFilter.BLANK.and(new OntFilter.HasType(OWL.Class))
                 .and((n, g) -> {
                     try (Stream<Triple> s = Iter.asStream(g.asGraph().find(n, predicate.asNode(), Node.ANY))) {
@@ -746,8 +751,11 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntCE {
         return new CommonOntObjectFactory(maker, CLASS_FINDER, filter);
     }
 
-    protected static OntObjectFactory createRestrictionFactory(Class<? extends CardinalityRestrictionCEImpl> impl, RestrictionType restrictionType, CardinalityType cardinalityType) {
-        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction);
+    protected static OntObjectFactory createRestrictionFactory(Class<? extends CardinalityRestrictionCEImpl> impl,
+                                                               BiFunction<Node, EnhGraph, ? extends EnhNode> factory,
+                                                               RestrictionType restrictionType,
+                                                               CardinalityType cardinalityType) {
+        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction, factory);
         OntFilter filter = RESTRICTION_FILTER
                 .and(cardinalityType.getFilter())
                 .and(restrictionType.getFilter());
@@ -755,18 +763,21 @@ public abstract class OntCEImpl extends OntObjectImpl implements OntCE {
     }
 
     protected static OntObjectFactory createRestrictionFactory(Class<? extends ComponentRestrictionCEImpl> impl,
+                                                               BiFunction<Node, EnhGraph, ? extends EnhNode> factory,
                                                                RestrictionType propertyType,
                                                                ObjectRestrictionType objectType,
                                                                Property predicate) {
-        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction);
+        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction, factory);
         OntFilter filter = RESTRICTION_FILTER
                 .and(propertyType.getFilter())
                 .and(objectType.getFilter(predicate));
         return new CommonOntObjectFactory(maker, RESTRICTION_FINDER, filter);
     }
 
-    protected static OntObjectFactory createNaryFactory(Class<? extends NaryRestrictionCEImpl> impl, Property predicate) {
-        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction);
+    protected static OntObjectFactory createNaryFactory(Class<? extends NaryRestrictionCEImpl> impl,
+                                                        BiFunction<Node, EnhGraph, ? extends EnhNode> factory,
+                                                        Property predicate) {
+        OntMaker maker = new OntMaker.WithType(impl, OWL.Restriction, factory);
         OntFilter filter = RESTRICTION_FILTER
                 .and(new OntFilter.HasPredicate(predicate))
                 .and(new OntFilter.HasPredicate(OWL.onProperties));
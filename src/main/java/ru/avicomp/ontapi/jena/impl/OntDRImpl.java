@@ -40,15 +40,15 @@ public class OntDRImpl extends OntObjectImpl implements OntDR {
     private static final OntFilter DR_FILTER = OntFilter.BLANK.and(new OntFilter.HasType(RDFS.Datatype));
 
     public static OntObjectFactory oneOfDRFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(OneOfImpl.class), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.oneOf)));
+            new CommonOntObjectFactory(new OntMaker.Default(OneOfImpl.class, OneOfImpl::new), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.oneOf)));
     public static OntObjectFactory restrictionDRFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(RestrictionImpl.class), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.onDatatype)).and(new OntFilter.HasPredicate(OWL.withRestrictions)));
+            new CommonOntObjectFactory(new OntMaker.Default(RestrictionImpl.class, RestrictionImpl::new), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.onDatatype)).and(new OntFilter.HasPredicate(OWL.withRestrictions)));
     public static OntObjectFactory complementOfDRFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(ComplementOfImpl.class), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.datatypeComplementOf)));
+            new CommonOntObjectFactory(new OntMaker.Default(ComplementOfImpl.class, ComplementOfImpl::new), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.datatypeComplementOf)));
     public static OntObjectFactory unionOfDRFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(UnionOfImpl.class), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.unionOf)));
+            new CommonOntObjectFactory(new OntMaker.Default(UnionOfImpl.class, UnionOfImpl::new), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.unionOf)));
     public static OntObjectFactory intersectionOfDRFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(IntersectionOfImpl.class), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.intersectionOf)));
+            new CommonOntObjectFactory(new OntMaker.Default(IntersectionOfImpl.class, IntersectionOfImpl::new), DR_FINDER, DR_FILTER.and(new OntFilter.HasPredicate(OWL.intersectionOf)));
 
     public static OntObjectFactory abstractAnonDRFactory = new MultiOntObjectFactory(DR_FINDER, null,
             oneOfDRFactory, restrictionDRFactory, complementOfDRFactory, unionOfDRFactory, intersectionOfDRFactory);
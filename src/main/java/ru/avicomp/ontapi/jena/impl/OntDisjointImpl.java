@@ -15,6 +15,7 @@
 package ru.avicomp.ontapi.jena.impl;
 
 import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
@@ -32,6 +33,7 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -44,16 +46,16 @@ public abstract class OntDisjointImpl<O extends OntObject> extends OntObjectImpl
     public static final OntFinder PROPERTIES_FINDER = new OntFinder.ByType(OWL.AllDisjointProperties);
 
     public static OntObjectFactory disjointClassesFactory =
-            createFactory(ClassesImpl.class, OWL.AllDisjointClasses, OntCE.class, true, OWL.members);
+            createFactory(ClassesImpl.class, ClassesImpl::new, OWL.AllDisjointClasses, OntCE.class, true, OWL.members);
 
     public static OntObjectFactory differentIndividualsFactory =
-            createFactory(IndividualsImpl.class, OWL.AllDifferent, OntIndividual.class, true, OWL.members, OWL.distinctMembers);
+            createFactory(IndividualsImpl.class, IndividualsImpl::new, OWL.AllDifferent, OntIndividual.class, true, OWL.members, OWL.distinctMembers);
 
     public static OntObjectFactory objectPropertiesFactory =
-            createFactory(ObjectPropertiesImpl.class, OWL.AllDisjointProperties, OntOPE.class, false, OWL.members);
+            createFactory(ObjectPropertiesImpl.class, ObjectPropertiesImpl::new, OWL.AllDisjointProperties, OntOPE.class, false, OWL.members);
 
     public static OntObjectFactory dataPropertiesFactory =
-            createFactory(DataPropertiesImpl.class, OWL.AllDisjointProperties, OntNDP.class, false, OWL.members);
+            createFactory(DataPropertiesImpl.class, DataPropertiesImpl::new, OWL.AllDisjointProperties, OntNDP.class, false, OWL.members);
 
     public static OntObjectFactory abstractPropertiesFactory = new MultiOntObjectFactory(PROPERTIES_FINDER, null, objectPropertiesFactory, dataPropertiesFactory);
     public static OntObjectFactory abstractDisjointFactory = new MultiOntObjectFactory(OntFinder.TYPED, null, abstractPropertiesFactory, disjointClassesFactory, differentIndividualsFactory);
@@ -80,11 +82,12 @@ public abstract class OntDisjointImpl<O extends OntObject> extends OntObjectImpl
     }
 
     private static OntObjectFactory createFactory(Class<? extends OntDisjointImpl> impl,
+                                                  BiFunction<Node, EnhGraph, ? extends EnhNode> factory,
                                                   Resource type,
                                                   Class<? extends RDFNode> view,
                                                   boolean allowEmptyList,
                                                   Property... predicates) {
-        OntMaker maker = new OntMaker.WithType(impl, type);
+        OntMaker maker = new OntMaker.WithType(impl, type, factory);
         OntFinder finder = new OntFinder.ByType(type);
         OntFilter filter = OntFilter.BLANK.and(new OntFilter.HasType(type));
         return new CommonOntObjectFactory(maker, finder, filter
@@ -15,6 +15,7 @@
 package ru.avicomp.ontapi.jena.impl;
 
 import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Literal;
@@ -26,6 +27,8 @@ import ru.avicomp.ontapi.jena.model.OntFR;
 import ru.avicomp.ontapi.jena.model.OntStatement;
 import ru.avicomp.ontapi.jena.vocabulary.XSD;
 
+import java.util.function.BiFunction;
+
 /**
  * Implementation of Facet Restrictions
  * <p>
@@ -33,27 +36,27 @@ import ru.avicomp.ontapi.jena.vocabulary.XSD;
  */
 public abstract class OntFRImpl extends OntObjectImpl implements OntFR {
     public static OntObjectFactory lengthFRFactory =
-            new CommonOntObjectFactory(makeMaker(LengthImpl.class), makeFinder(XSD.length), makeFilter(XSD.length));
+            new CommonOntObjectFactory(makeMaker(LengthImpl.class, LengthImpl::new), makeFinder(XSD.length), makeFilter(XSD.length));
     public static OntObjectFactory minLengthFRFactory =
-            new CommonOntObjectFactory(makeMaker(MinLengthImpl.class), makeFinder(XSD.minLength), makeFilter(XSD.minLength));
+            new CommonOntObjectFactory(makeMaker(MinLengthImpl.class, MinLengthImpl::new), makeFinder(XSD.minLength), makeFilter(XSD.minLength));
     public static OntObjectFactory maxLengthFRFactory =
-            new CommonOntObjectFactory(makeMaker(MaxLengthImpl.class), makeFinder(XSD.maxLength), makeFilter(XSD.maxLength));
+            new CommonOntObjectFactory(makeMaker(MaxLengthImpl.class, MaxLengthImpl::new), makeFinder(XSD.maxLength), makeFilter(XSD.maxLength));
     public static OntObjectFactory minInclusiveFRFactory =
-            new CommonOntObjectFactory(makeMaker(MinInclusiveImpl.class), makeFinder(XSD.minInclusive), makeFilter(XSD.minInclusive));
+            new CommonOntObjectFactory(makeMaker(MinInclusiveImpl.class, MinInclusiveImpl::new), makeFinder(XSD.minInclusive), makeFilter(XSD.minInclusive));
     public static OntObjectFactory maxInclusiveFRFactory =
-            new CommonOntObjectFactory(makeMaker(MaxInclusiveImpl.class), makeFinder(XSD.maxInclusive), makeFilter(XSD.maxInclusive));
+            new CommonOntObjectFactory(makeMaker(MaxInclusiveImpl.class, MaxInclusiveImpl::new), makeFinder(XSD.maxInclusive), makeFilter(XSD.maxInclusive));
     public static OntObjectFactory minExclusiveFRFactory =
-            new CommonOntObjectFactory(makeMaker(MinExclusiveImpl.class), makeFinder(XSD.minExclusive), makeFilter(XSD.minExclusive));
+            new CommonOntObjectFactory(makeMaker(MinExclusiveImpl.class, MinExclusiveImpl::new), makeFinder(XSD.minExclusive), makeFilter(XSD.minExclusive));
     public static OntObjectFactory maxExclusiveFRFactory =
-            new CommonOntObjectFactory(makeMaker(MaxExclusiveImpl.class), makeFinder(XSD.maxExclusive), makeFilter(XSD.maxExclusive));
+            new CommonOntObjectFactory(makeMaker(MaxExclusiveImpl.class, MaxExclusiveImpl::new), makeFinder(XSD.maxExclusive), makeFilter(XSD.maxExclusive));
     public static OntObjectFactory totalDigitsFRFactory =
-            new CommonOntObjectFactory(makeMaker(TotalDigitsImpl.class), makeFinder(XSD.totalDigits), makeFilter(XSD.totalDigits));
+            new CommonOntObjectFactory(makeMaker(TotalDigitsImpl.class, TotalDigitsImpl::new), makeFinder(XSD.totalDigits), makeFilter(XSD.totalDigits));
     public static OntObjectFactory fractionDigitsFRFactory =
-            new CommonOntObjectFactory(makeMaker(FractionDigitsImpl.class), makeFinder(XSD.fractionDigits), makeFilter(XSD.fractionDigits));
+            new CommonOntObjectFactory(makeMaker(FractionDigitsImpl.class, FractionDigitsImpl::new), makeFinder(XSD.fractionDigits), makeFilter(XSD.fractionDigits));
     public static OntObjectFactory patternFRFactory =
-            new CommonOntObjectFactory(makeMaker(PatternImpl.class), makeFinder(XSD.pattern), makeFilter(XSD.pattern));
+            new CommonOntObjectFactory(makeMaker(PatternImpl.class, PatternImpl::new), makeFinder(XSD.pattern), makeFilter(XSD.pattern));
     public static OntObjectFactory langRangeFRFactory =
-            new CommonOntObjectFactory(makeMaker(LangRangeImpl.class), makeFinder(XSD.langRange), makeFilter(XSD.langRange));
+            new CommonOntObjectFactory(makeMaker(LangRangeImpl.class, LangRangeImpl::new), makeFinder(XSD.langRange), makeFilter(XSD.langRange));
 
     public static OntObjectFactory abstractFRFactory = new MultiOntObjectFactory(OntFinder.ANY_SUBJECT, null,
             lengthFRFactory, minLengthFRFactory, maxLengthFRFactory,
@@ -74,8 +77,8 @@ public abstract class OntFRImpl extends OntObjectImpl implements OntFR {
         return getRequiredObject(predicate(getActualClass()), Literal.class);
     }
 
-    private static OntMaker makeMaker(Class<? extends OntFRImpl> impl) {
-        return new OntMaker.Default(impl);
+    private static OntMaker makeMaker(Class<? extends OntFRImpl> impl, BiFunction<Node, EnhGraph, ? extends EnhNode> factory) {
+        return new OntMaker.Default(impl, factory);
     }
 
     private static OntFinder makeFinder(Property predicate) {
@@ -14,9 +14,8 @@
 
 package ru.avicomp.ontapi.jena.impl;
 
-import org.apache.jena.graph.Graph;
-import org.apache.jena.graph.Node;
-import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.graph.*;
 import org.apache.jena.ontology.ConversionException;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.rdf.model.impl.InfModelImpl;
@@ -26,6 +25,8 @@ import org.apache.jena.shared.JenaException;
 import org.apache.jena.shared.PrefixMapping;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.UnionGraph;
+import ru.avicomp.ontapi.jena.impl.conf.OntFilter;
+import ru.avicomp.ontapi.jena.impl.conf.OntObjectFactory;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.utils.Graphs;
@@ -35,10 +36,10 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
 import java.io.OutputStream;
 import java.io.Writer;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,6 +55,13 @@ import java.util.stream.Stream;
 @SuppressWarnings("WeakerAccess")
 public class OntGraphModelImpl extends ModelCom implements OntGraphModel {
 
+    /**
+     * The cache of node tests, {@code null} if caching is disabled.
+     *
+     * @see #testNode(OntObjectFactory, Node, OntFilter)
+     */
+    protected final NodeCache nodeCache;
+
     /**
      * The main constructor.
      *
@@ -61,7 +69,46 @@ public class OntGraphModelImpl extends ModelCom implements OntGraphModel {
      * @param personality {@link OntPersonality}
      */
     public OntGraphModelImpl(Graph graph, OntPersonality personality) {
+        this(graph, personality, false);
+    }
+
+    /**
+     * Creates a model with or without the node cache.
+     * The node cache remembers the results of {@link OntObjectFactory#canWrap(Node, EnhGraph)} for each node and factory,
+     * which makes repeated {@link RDFNode#canAs(Class)} and {@link #getNodeAs(Node, Class)} calls much cheaper.
+     * It is cleared on any change in the graph, including the changes in imported graphs,
+     * so it makes sense to turn it on only for models that are mostly read.
+     *
+     * @param graph       {@link Graph}
+     * @param personality {@link OntPersonality}
+     * @param cacheNodes  boolean, true to enable the node cache
+     */
+    public OntGraphModelImpl(Graph graph, OntPersonality personality, boolean cacheNodes) {
         super(graph instanceof UnionGraph ? graph : new UnionGraph(graph), OntJenaException.notNull(personality, "Null personality"));
+        this.nodeCache = cacheNodes ? new NodeCache(getGraph()) : null;
+    }
+
+    /**
+     * Answers {@code true} if the node cache is enabled for this model.
+     *
+     * @return boolean
+     */
+    public boolean hasNodeCache() {
+        return nodeCache != null;
+    }
+
+    /**
+     * Tests whether the node can be wrapped by the factory, i.e. performs the {@link OntObjectFactory#canWrap(Node, EnhGraph)} check.
+     * If the node cache is enabled, the result is taken from or put into that cache.
+     *
+     * @param factory {@link OntObjectFactory}, the factory which encapsulates the specified filter, not null
+     * @param node    {@link Node} to test
+     * @param filter  {@link OntFilter} to perform the actual test
+     * @return true if the node satisfies the filter
+     */
+    public boolean testNode(OntObjectFactory factory, Node node, OntFilter filter) {
+        if (nodeCache == null) return filter.test(node, this);
+        return nodeCache.test(factory, node, filter, this);
     }
 
     public void syncImports() {
@@ -566,4 +613,172 @@ public class OntGraphModelImpl extends ModelCom implements OntGraphModel {
     public String toString() {
         return String.format("OntGraphModel{%s}", getID());
     }
+
+    /**
+     * The cache of the {@link OntObjectFactory#canWrap(Node, EnhGraph)} results.
+     * It listens to the graph and to all graphs from its imports closure and is cleared on any change.
+     * The listener keeps only a weak reference to the cache,
+     * so a discarded model does not stay in memory because of the imported graphs, which may live longer.
+     * Note: since the results are cleared on any change, there is no synchronization between reading and modifying,
+     * as for the whole model it is expected that concurrent modification is managed outside.
+     */
+    public static class NodeCache {
+        protected final UnionGraph graph;
+        protected final Map<OntObjectFactory, Map<Node, Boolean>> tests = new ConcurrentHashMap<>();
+        protected final AtomicLong version = new AtomicLong();
+        protected final Listener listener = new Listener(this);
+        protected Set<Graph> graphs = Collections.emptySet();
+        protected volatile boolean hierarchyChanged = true;
+
+        protected NodeCache(UnionGraph graph) {
+            this.graph = graph;
+        }
+
+        /**
+         * Tests the node taking into account the cache.
+         * Note: recursion is not possible here:
+         * the nested tests are always performed for other nodes or factories,
+         * so the cache is not touched using {@code computeIfAbsent}, which would fail in that case.
+         *
+         * @param factory {@link OntObjectFactory}
+         * @param node    {@link Node}
+         * @param filter  {@link OntFilter}
+         * @param model   {@link OntGraphModelImpl}
+         * @return boolean
+         */
+        public boolean test(OntObjectFactory factory, Node node, OntFilter filter, OntGraphModelImpl model) {
+            if (hierarchyChanged) {
+                syncListeners();
+            }
+            long v = version.get();
+            Map<Node, Boolean> map = tests.computeIfAbsent(factory, f -> new ConcurrentHashMap<>());
+            Boolean res = map.get(node);
+            if (res != null) return res;
+            res = filter.test(node, model);
+            if (v == version.get()) { // do not cache result if the graph has been changed while testing
+                map.put(node, res);
+            }
+            return res;
+        }
+
+        /**
+         * Clears the cache.
+         *
+         * @param hierarchy boolean, true if the imports structure might be changed
+         */
+        public void clear(boolean hierarchy) {
+            version.incrementAndGet();
+            tests.clear();
+            if (hierarchy) hierarchyChanged = true;
+        }
+
+        /**
+         * Returns the number of cached test results.
+         *
+         * @return long
+         */
+        public long size() {
+            return tests.values().stream().mapToLong(Map::size).sum();
+        }
+
+        /**
+         * Attaches the listener to all graphs from the imports closure and detaches it from the graphs which are not there anymore.
+         */
+        protected synchronized void syncListeners() {
+            if (!hierarchyChanged) return;
+            Set<Graph> actual = Collections.newSetFromMap(new IdentityHashMap<>());
+            collect(graph, actual);
+            graphs.stream().filter(g -> !actual.contains(g)).forEach(g -> g.getEventManager().unregister(listener));
+            actual.stream().filter(g -> !graphs.contains(g)).forEach(g -> g.getEventManager().register(listener));
+            graphs = actual;
+            hierarchyChanged = false;
+        }
+
+        private static void collect(Graph graph, Set<Graph> res) {
+            if (!res.add(graph)) return;
+            if (graph instanceof UnionGraph) {
+                ((UnionGraph) graph).getUnderlying().graphs().forEach(g -> collect(g, res));
+            }
+        }
+    }
+
+    /**
+     * A {@link GraphListener} to clear the {@link NodeCache}.
+     * Changes in {@code owl:imports} statements and bulk changes are considered as possible changes in the graph hierarchy.
+     */
+    protected static class Listener implements GraphListener {
+        private final WeakReference<NodeCache> cache;
+
+        protected Listener(NodeCache cache) {
+            this.cache = new WeakReference<>(cache);
+        }
+
+        protected void onChange(Graph source, boolean hierarchy) {
+            NodeCache res = cache.get();
+            if (res == null) {
+                source.getEventManager().unregister(this);
+                return;
+            }
+            res.clear(hierarchy);
+        }
+
+        protected void onChange(Graph source, Triple t) {
+            onChange(source, OWL.imports.asNode().equals(t.getPredicate()));
+        }
+
+        @Override
+        public void notifyAddTriple(Graph g, Triple t) {
+            onChange(g, t);
+        }
+
+        @Override
+        public void notifyAddArray(Graph g, Triple[] triples) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyAddList(Graph g, List<Triple> triples) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyAddIterator(Graph g, Iterator<Triple> it) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyDeleteTriple(Graph g, Triple t) {
+            onChange(g, t);
+        }
+
+        @Override
+        public void notifyDeleteList(Graph g, List<Triple> triples) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyDeleteArray(Graph g, Triple[] triples) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyDeleteIterator(Graph g, Iterator<Triple> it) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph removed) {
+            onChange(g, true);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            onChange(source, true);
+        }
+    }
 }
@@ -63,7 +63,7 @@ public class OntIndividualImpl extends OntObjectImpl implements OntIndividual {
             .collect(Iter.toUnmodifiableSet());
 
     public static OntObjectFactory anonymousIndividualFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(AnonymousImpl.class), OntFinder.ANY_SUBJECT_AND_OBJECT, ANONYMOUS_FILTER);
+            new CommonOntObjectFactory(new OntMaker.Default(AnonymousImpl.class, AnonymousImpl::new), OntFinder.ANY_SUBJECT_AND_OBJECT, ANONYMOUS_FILTER);
 
     public static Configurable<OntObjectFactory> abstractIndividualFactory = buildMultiFactory(OntFinder.ANY_SUBJECT_AND_OBJECT, null,
             Entities.INDIVIDUAL, anonymousIndividualFactory);
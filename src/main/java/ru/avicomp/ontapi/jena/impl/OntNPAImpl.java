@@ -40,10 +40,10 @@ public abstract class OntNPAImpl<P extends OntPE, T extends RDFNode> extends Ont
             .and(new OntFilter.HasPredicate(OWL.sourceIndividual))
             .and(new OntFilter.HasPredicate(OWL.assertionProperty));
 
-    public static OntObjectFactory objectNPAFactory = new CommonOntObjectFactory(new OntMaker.Default(ObjectAssertionImpl.class),
+    public static OntObjectFactory objectNPAFactory = new CommonOntObjectFactory(new OntMaker.Default(ObjectAssertionImpl.class, ObjectAssertionImpl::new),
             NPA_FINDER, NPA_FILTER, new OntFilter.HasPredicate(OWL.targetIndividual));
     public static OntObjectFactory dataNPAFactory =
-            new CommonOntObjectFactory(new OntMaker.Default(DataAssertionImpl.class), NPA_FINDER, NPA_FILTER, new OntFilter.HasPredicate(OWL.targetValue));
+            new CommonOntObjectFactory(new OntMaker.Default(DataAssertionImpl.class, DataAssertionImpl::new), NPA_FINDER, NPA_FILTER, new OntFilter.HasPredicate(OWL.targetValue));
     public static OntObjectFactory abstractNPAFactory = new MultiOntObjectFactory(NPA_FINDER, null, objectNPAFactory, dataNPAFactory);
 
     public OntNPAImpl(Node n, EnhGraph m) {
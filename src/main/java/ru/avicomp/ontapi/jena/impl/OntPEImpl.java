@@ -42,7 +42,7 @@ public abstract class OntPEImpl extends OntObjectImpl implements OntPE {
         }
     };
 
-    public static OntObjectFactory inversePropertyFactory = new CommonOntObjectFactory(new OntMaker.Default(OntOPEImpl.InversePropertyImpl.class),
+    public static OntObjectFactory inversePropertyFactory = new CommonOntObjectFactory(new OntMaker.Default(OntOPEImpl.InversePropertyImpl.class, OntOPEImpl.InversePropertyImpl::new),
             new OntFinder.ByPredicate(OWL.inverseOf), INVERSE_OF_FILTER);
 
     public static Configurable<OntObjectFactory> abstractNamedPropertyFactory = concatFactories(OntFinder.TYPED,
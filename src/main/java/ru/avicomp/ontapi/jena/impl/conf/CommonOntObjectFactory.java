@@ -65,7 +65,7 @@ public class CommonOntObjectFactory extends OntObjectFactory {
 
     @Override
     public boolean canWrap(Node node, EnhGraph eg) {
-        return filter.test(node, eg);
+        return test(node, eg, filter);
     }
 
     @Override
@@ -65,7 +65,7 @@ public class MultiOntObjectFactory extends OntObjectFactory {
 
     @Override
     public boolean canWrap(Node node, EnhGraph eg) {
-        return !(fittingFilter != null && !fittingFilter.test(node, eg)) && factories().anyMatch(f -> f.canWrap(node, eg));
+        return test(node, eg, (n, g) -> !(fittingFilter != null && !fittingFilter.test(n, g)) && factories().anyMatch(f -> f.canWrap(n, g)));
     }
 
     @Override
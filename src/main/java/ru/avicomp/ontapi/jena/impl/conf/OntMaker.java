@@ -24,7 +24,10 @@ import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.impl.OntObjectImpl;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.BiFunction;
 
 /**
  * To make some preparation while creating (create main triple).
@@ -71,18 +74,61 @@ public interface OntMaker {
     /**
      * The base maker implementation for our project.
      * <p>
-     * Creation in graph is disabled for this maker
+     * Creation in graph is disabled for this maker.
+     * New instances are produced by the pre-resolved factory (usually a constructor reference, e.g. {@code OntIDImpl::new}),
+     * so there is no reflection while wrapping nodes.
      */
     class Default implements OntMaker {
         protected final Class<? extends OntObjectImpl> impl;
+        protected final BiFunction<Node, EnhGraph, ? extends EnhNode> factory;
 
         /**
          * Class must be public and have a public constructor with parameters {@link Node} and {@link EnhGraph}.
+         * The constructor is looked up only once, here.
          *
          * @param impl {@link ru.avicomp.ontapi.jena.model.OntObject} implementation.
          */
         public Default(Class<? extends OntObjectImpl> impl) {
+            this(impl, constructor(impl));
+        }
+
+        /**
+         * @param impl    {@link ru.avicomp.ontapi.jena.model.OntObject} implementation.
+         * @param factory {@link BiFunction} to create a new instance of the {@code impl} from the {@link Node} and {@link EnhGraph}.
+         */
+        public Default(Class<? extends OntObjectImpl> impl, BiFunction<Node, EnhGraph, ? extends EnhNode> factory) {
             this.impl = OntJenaException.notNull(impl, "Null implementation class.");
+            this.factory = OntJenaException.notNull(factory, "Null factory.");
+        }
+
+        /**
+         * Resolves the {@code (Node, EnhGraph)} constructor of the specified class as a factory.
+         * If the constructor is not accessible the returned factory throws an exception on each call,
+         * since it still may be never used (e.g. in case the {@link #instance(Node, EnhGraph)} method is overridden).
+         *
+         * @param impl Class
+         * @return {@link BiFunction}
+         */
+        protected static BiFunction<Node, EnhGraph, EnhNode> constructor(Class<? extends OntObjectImpl> impl) {
+            OntJenaException.notNull(impl, "Null implementation class.");
+            MethodHandle constructor;
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(impl, MethodType.methodType(void.class, Node.class, EnhGraph.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return (n, g) -> {
+                    throw new OntJenaException("Can't create instance of " + impl, e);
+                };
+            }
+            return (n, g) -> {
+                try {
+                    return (EnhNode) constructor.invoke(n, g);
+                } catch (JenaException e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new OntJenaException("Can't init " + impl, t);
+                }
+            };
         }
 
         @Override
@@ -97,14 +143,7 @@ public interface OntMaker {
 
         @Override
         public EnhNode instance(Node node, EnhGraph eg) {
-            try {
-                return impl.getDeclaredConstructor(Node.class, EnhGraph.class).newInstance(node, eg);
-            } catch (InstantiationException | IllegalAccessException | NoSuchMethodException e) {
-                throw new OntJenaException("Can't create instance of " + impl, e);
-            } catch (InvocationTargetException e) {
-                if (e.getCause() instanceof JenaException) throw (JenaException) e.getCause();
-                throw new OntJenaException("Can't init " + impl, e);
-            }
+            return factory.apply(node, eg);
         }
 
         @Override
@@ -120,7 +159,11 @@ public interface OntMaker {
         protected final Node type;
 
         public WithType(Class<? extends OntObjectImpl> impl, Resource type) {
-            super(impl);
+            this(impl, type, constructor(impl));
+        }
+
+        public WithType(Class<? extends OntObjectImpl> impl, Resource type, BiFunction<Node, EnhGraph, ? extends EnhNode> factory) {
+            super(impl, factory);
             this.type = OntJenaException.notNull(type, "Null type.").asNode();
         }
 
@@ -20,6 +20,7 @@ import org.apache.jena.enhanced.Implementation;
 import org.apache.jena.graph.Node;
 import org.apache.jena.ontology.ConversionException;
 import ru.avicomp.ontapi.jena.OntJenaException;
+import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
 
 import java.util.stream.Stream;
 
@@ -74,6 +75,23 @@ public abstract class OntObjectFactory extends Implementation {
      */
     public abstract boolean canWrap(Node node, EnhGraph eg);
 
+    /**
+     * Performs the {@link #canWrap(Node, EnhGraph) canWrap} test using the given filter.
+     * If the graph is {@link OntGraphModelImpl} with the node cache enabled, the result is cached.
+     *
+     * @param node   {@link Node} to test
+     * @param eg     {@link EnhGraph}
+     * @param filter {@link OntFilter}, the actual test
+     * @return true if the node can be wrapped
+     * @see OntGraphModelImpl#testNode(OntObjectFactory, Node, OntFilter)
+     */
+    protected boolean test(Node node, EnhGraph eg, OntFilter filter) {
+        if (eg instanceof OntGraphModelImpl) {
+            return ((OntGraphModelImpl) eg).testNode(this, node, filter);
+        }
+        return filter.test(node, eg);
+    }
+
     /**
      * For internal use only.
      * Does wrapping without any checking.
@@ -0,0 +1,115 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.jena.utils;
+
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+
+import java.io.*;
+
+/**
+ * Helper to write and read {@link Node}s and unsigned integers in a compact binary form.
+ * Used by the binary snapshots, where the nodes are stored once in a dictionary and then referred by indexes.
+ * Only concrete nodes (URIs, blank nodes and literals) are supported.
+ *
+ * @since 1.2.0
+ */
+public class NodeIO {
+
+    /**
+     * Writes the node.
+     *
+     * @param out  {@link ObjectOutput}
+     * @param node {@link Node} concrete node
+     * @throws IOException if an I/O error occurs or the node is not concrete
+     */
+    public static void write(ObjectOutput out, Node node) throws IOException {
+        if (node.isURI()) {
+            out.writeByte('U');
+            out.writeObject(node.getURI());
+        } else if (node.isBlank()) {
+            out.writeByte('B');
+            out.writeObject(node.getBlankNodeLabel());
+        } else if (node.isLiteral()) {
+            out.writeByte('L');
+            out.writeObject(node.getLiteralLexicalForm());
+            out.writeObject(node.getLiteralLanguage());
+            out.writeObject(node.getLiteralDatatypeURI());
+        } else {
+            throw new IOException("Unsupported node " + node);
+        }
+    }
+
+    /**
+     * Reads the node.
+     *
+     * @param in {@link ObjectInput}
+     * @return {@link Node}
+     * @throws IOException            if an I/O error occurs or the data is broken
+     * @throws ClassNotFoundException can't happen, since only strings are expected
+     */
+    public static Node read(ObjectInput in) throws IOException, ClassNotFoundException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case 'U':
+                return NodeFactory.createURI((String) in.readObject());
+            case 'B':
+                return NodeFactory.createBlankNode((String) in.readObject());
+            case 'L':
+                String lex = (String) in.readObject();
+                String lang = (String) in.readObject();
+                String dt = (String) in.readObject();
+                if (lang != null && !lang.isEmpty()) {
+                    return NodeFactory.createLiteral(lex, lang);
+                }
+                return NodeFactory.createLiteral(lex, TypeMapper.getInstance().getSafeTypeByName(dt));
+            default:
+                throw new IOException("Unexpected node kind: " + kind);
+        }
+    }
+
+    /**
+     * Writes a non-negative integer using from one to five bytes (seven bits per byte).
+     *
+     * @param out   {@link DataOutput}
+     * @param value int, not negative
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a non-negative integer written by {@link #writeVarInt(DataOutput, int)}.
+     *
+     * @param in {@link DataInput}
+     * @return int
+     * @throws IOException if an I/O error occurs
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int res = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            res |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return res;
+        }
+        throw new IOException("Malformed integer");
+    }
+}
@@ -198,11 +198,12 @@ public abstract class GraphTransformers {
          * todo: should return transform statistic object.
          *
          * @param graph     {@link Graph}, in most cases it is {@link UnionGraph}.
-         * @param processed Set of base {@link Graph}s to avoid transformations multiple times on the same graph.
+         * @param processed Set of base {@link Graph}s to avoid transformations multiple times on the same graph,
+         *                  it is populated by the method with the newly processed graphs.
          * @throws TransformException if something is wrong
          * @see Transform
          */
-        protected void transform(Graph graph, Set<Graph> processed) throws TransformException {
+        public void transform(Graph graph, Set<Graph> processed) throws TransformException {
             List<Graph> children = Graphs.subGraphs(graph).collect(Collectors.toList());
             for (Graph g : children) {
                 try {
@@ -23,13 +23,12 @@ import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
 import javax.annotation.Nullable;
 import java.io.OutputStream;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * Matthew Horridge Stanford Center for Biomedical Informatics Research 03/04/15
@@ -56,6 +55,130 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
         this.lock = Objects.requireNonNull(lock);
     }
 
+    /**
+     * Returns the lock to guard a read operation on the delegate content.
+     * Subclasses can override this method to prepare the delegate before the read lock is acquired.
+     * The reading of the ontology id and the manager, as well as the methods based on the id only
+     * (e.g. {@link #hashCode()}, {@link #equals(Object)}, {@link #compareTo(OWLObject)}), do not use this method.
+     *
+     * @return {@link Lock}
+     */
+    protected Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * Performs a cheap read operation, which is expected to be short and without side effects,
+     * i.e. it may only read immutable or volatile state of the delegate.
+     * If the lock is a {@link StampedReadWriteLock} then the operation is performed in optimistic mode
+     * (i.e. without acquiring the read lock when there is no concurrent modification),
+     * otherwise it is performed under the ordinary read lock.
+     *
+     * @param getter {@link Supplier} to get the result from the delegate
+     * @param <X>    anything
+     * @return the result of the operation
+     * @see StampedReadWriteLock#optimisticRead(Supplier)
+     */
+    protected <X> X optimisticRead(Supplier<X> getter) {
+        if (lock instanceof StampedReadWriteLock) {
+            return ((StampedReadWriteLock) lock).optimisticRead(getter);
+        }
+        lock.readLock().lock();
+        try {
+            return getter.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a stream from the delegate under the read lock.
+     * The lock is held only while the stream is being created, the traversal itself is not protected.
+     * Subclasses can override this method to change the behaviour, e.g. to use {@link #lockedStream(Supplier)}.
+     *
+     * @param getter {@link Supplier} to get the stream from the delegate
+     * @param <X>    anything
+     * @return Stream
+     */
+    protected <X> Stream<X> stream(Supplier<Stream<X>> getter) {
+        readLock().lock();
+        try {
+            return getter.get();
+        } finally {
+            readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets a stream from the delegate which holds the read lock until a terminal operation is completed.
+     * The stream is still lazy, no data is collected in memory.
+     * Any terminal operation, including the short-circuiting ones (e.g. {@link Stream#findFirst()}), releases the lock,
+     * as well as closing the stream, or exhausting its {@link Stream#iterator() iterator}.
+     * The conversions to primitive streams and the parallel mode are performed over a snapshot collected under the lock.
+     * Note: the stream must be consumed or closed in the same thread, otherwise any writer will wait forever.
+     *
+     * @param getter {@link Supplier} to get the stream from the delegate
+     * @param <X>    anything
+     * @return Stream
+     */
+    protected <X> Stream<X> lockedStream(Supplier<Stream<X>> getter) {
+        Lock read = readLock();
+        read.lock();
+        Stream<X> res;
+        Iterator<X> it;
+        try {
+            res = getter.get();
+            it = res.iterator();
+        } catch (RuntimeException | Error e) {
+            read.unlock();
+            throw e;
+        }
+        AtomicBoolean open = new AtomicBoolean(true);
+        Runnable release = () -> {
+            if (open.compareAndSet(true, false)) read.unlock();
+        };
+        Iterator<X> locked = new Iterator<X>() {
+            @Override
+            public boolean hasNext() {
+                if (!open.get()) return false;
+                boolean next = it.hasNext();
+                if (!next) release.run();
+                return next;
+            }
+
+            @Override
+            public X next() {
+                return it.next();
+            }
+        };
+        return new LockedStream<>(StreamSupport.stream(Spliterators.spliteratorUnknownSize(locked, Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        res.close();
+                    } finally {
+                        release.run();
+                    }
+                }));
+    }
+
+    /**
+     * Performs a modifying operation (i.e. adding or removing axioms, applying changes) under the write lock.
+     * Subclasses can override this method to change the behaviour,
+     * e.g. to skip locking if the operation is delegated to some other component which takes care about the locks itself.
+     *
+     * @param op  {@link Supplier} to perform the operation on the delegate
+     * @param <X> anything
+     * @return the result of the operation
+     */
+    protected <X> X change(Supplier<X> op) {
+        lock.writeLock().lock();
+        try {
+            return op.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     @Override
     public int typeIndex() {
         return delegate.typeIndex();
@@ -71,34 +194,36 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
         return delegate.accept(owlNamedObjectVisitorEx);
     }
 
+    /**
+     * Calculates the hash code in the same way as any other {@link OWLOntology}, i.e. based on the ontology id only.
+     * The id is read through the {@link #getOntologyID()} method, not through the delegate's hash code,
+     * since the latter may be cached and an optimistic read must not leave any trace in the delegate.
+     *
+     * @return int
+     */
     @Override
     public int hashCode() {
-        lock.readLock().lock();
-        try {
-            return delegate.hashCode();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return initHashCode();
     }
 
+    /**
+     * Compares ontologies in the same way as any other {@link OWLOntology}, i.e. by their ids.
+     *
+     * @param obj anything
+     * @return boolean
+     * @see #hashCode()
+     */
     @Override
     public boolean equals(@Nullable Object obj) {
-        lock.readLock().lock();
-        try {
-            return delegate.equals(obj);
-        } finally {
-            lock.readLock().unlock();
-        }
+        if (obj == this) return true;
+        if (!(obj instanceof OWLOntology)) return false;
+        OWLOntology other = (OWLOntology) obj;
+        return typeIndex() == other.typeIndex() && getOntologyID().equals(other.getOntologyID());
     }
 
     @Override
     public OWLOntologyManager getOWLOntologyManager() {
-        lock.readLock().lock();
-        try {
-            return delegate.getOWLOntologyManager();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return optimisticRead(() -> delegate.getOWLOntologyManager());
     }
 
     @Override
@@ -113,374 +238,314 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
 
     @Override
     public OWLOntologyID getOntologyID() {
-        lock.readLock().lock();
-        try {
-            return delegate.getOntologyID();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return optimisticRead(() -> delegate.getOntologyID());
     }
 
     @Override
     public boolean isAnonymous() {
-        lock.readLock().lock();
-        try {
-            return delegate.isAnonymous();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return getOntologyID().isAnonymous();
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotation> getAnnotations() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotations();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<IRI> getDirectImportsDocuments() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDirectImportsDocuments();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<IRI> directImportsDocuments() {
-        lock.readLock().lock();
-        try {
-            return delegate.directImportsDocuments();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.directImportsDocuments());
     }
 
     @Override
     @Deprecated
     public Set<OWLOntology> getDirectImports() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDirectImports();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLOntology> directImports() {
-        lock.readLock().lock();
-        try {
-            return delegate.directImports();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.directImports());
     }
 
     @Override
     @Deprecated
     public Set<OWLOntology> getImports() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getImports();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLOntology> imports() {
-        lock.readLock().lock();
-        try {
-            return delegate.imports();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.imports());
     }
 
     @Override
     @Deprecated
     public Set<OWLOntology> getImportsClosure() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getImportsClosure();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLOntology> importsClosure() {
-        lock.readLock().lock();
-        try {
-            return delegate.importsClosure();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.importsClosure());
     }
 
     @Override
     @Deprecated
     public Set<OWLImportsDeclaration> getImportsDeclarations() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getImportsDeclarations();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean isEmpty() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.isEmpty();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getTBoxAxioms(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getTBoxAxioms(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getABoxAxioms(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getABoxAxioms(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getRBoxAxioms(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getRBoxAxioms(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> tboxAxioms(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.tboxAxioms(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.tboxAxioms(imports));
     }
 
     @Override
     public Stream<OWLAxiom> aboxAxioms(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.aboxAxioms(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.aboxAxioms(imports));
     }
 
     @Override
     public Stream<OWLAxiom> rboxAxioms(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.rboxAxioms(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.rboxAxioms(imports));
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAxiom> getGeneralClassAxioms() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getGeneralClassAxioms();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEntity> getSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEntity> getSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLClassAxiom> generalClassAxioms() {
-        lock.readLock().lock();
-        try {
-            return delegate.generalClassAxioms();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.generalClassAxioms());
     }
 
     @Override
     public Stream<OWLEntity> signature() {
-        lock.readLock().lock();
-        try {
-            return delegate.signature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.signature());
     }
 
     @Override
     public Stream<OWLEntity> signature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.signature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.signature(imports));
     }
 
     @Override
     public boolean isDeclared(OWLEntity owlEntity) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.isDeclared(owlEntity);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean isDeclared(OWLEntity owlEntity, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.isDeclared(owlEntity, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology() throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(IRI iri) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OutputStream outputStream) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(outputStream);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OWLDocumentFormat owlDocumentFormat) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(owlDocumentFormat);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OWLDocumentFormat owlDocumentFormat, IRI iri) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(owlDocumentFormat, iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OWLDocumentFormat owlDocumentFormat, OutputStream outputStream) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(owlDocumentFormat, outputStream);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OWLOntologyDocumentTarget owlOntologyDocumentTarget) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(owlOntologyDocumentTarget);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public void saveOntology(OWLDocumentFormat owlDocumentFormat, OWLOntologyDocumentTarget owlOntologyDocumentTarget) throws OWLOntologyStorageException {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             delegate.saveOntology(owlDocumentFormat, owlOntologyDocumentTarget);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLClassExpression> getNestedClassExpressions() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getNestedClassExpressions();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
@@ -496,21 +561,21 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
 
     @Override
     public boolean isTopEntity() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.isTopEntity();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean isBottomEntity() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.isBottomEntity();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
@@ -536,1877 +601,1731 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(owlEntity);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsEntitiesOfTypeInSignature(EntityType<?> type) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntitiesOfTypeInSignature(type);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsEntitiesOfTypeInSignature(EntityType<?> type, Imports includeImportsClosure) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntitiesOfTypeInSignature(type, includeImportsClosure);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnonymousIndividual> getAnonymousIndividuals() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnonymousIndividuals();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLClass> getClassesInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getClassesInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectProperty> getObjectPropertiesInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertiesInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataProperty> getDataPropertiesInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertiesInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLNamedIndividual> getIndividualsInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getIndividualsInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatype> getDatatypesInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDatatypesInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationPropertiesInSignature();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxioms(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public int getAxiomCount(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLLogicalAxiom> getLogicalAxioms(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxioms(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public int getLogicalAxiomCount(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxiomCount(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(AxiomType<T> axiomType, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(axiomType, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> axiomType, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(axiomType, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(axiomType, imports));
     }
 
     @Override
     public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount(axiomType, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsAxiom(OWLAxiom owlAxiom, Imports imports, AxiomAnnotations axiomAnnotations) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAxiom(owlAxiom, imports, axiomAnnotations);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxiomsIgnoreAnnotations(OWLAxiom owlAxiom, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomsIgnoreAnnotations(owlAxiom, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> axiomsIgnoreAnnotations(OWLAxiom owlAxiom, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axiomsIgnoreAnnotations(owlAxiom, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axiomsIgnoreAnnotations(owlAxiom, imports));
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getReferencingAxioms(OWLPrimitive owlPrimitive, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencingAxioms(owlPrimitive, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> referencingAxioms(OWLPrimitive owlPrimitive, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.referencingAxioms(owlPrimitive, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.referencingAxioms(owlPrimitive, imports));
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAxiom> getAxioms(OWLClass owlClass, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlClass, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyAxiom> getAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlObjectPropertyExpression, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyAxiom> getAxioms(OWLDataProperty owlDataProperty, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDataProperty, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLIndividualAxiom> getAxioms(OWLIndividual owlIndividual, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlIndividual, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationAxiom> getAxioms(OWLAnnotationProperty owlAnnotationProperty, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlAnnotationProperty, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatypeDefinitionAxiom> getAxioms(OWLDatatype owlDatatype, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDatatype, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxioms() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> axioms() {
-        // XXX investigate locking access to streams
-        lock.readLock().lock();
-        try {
-            return delegate.axioms();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms());
     }
 
     @Override
     @Deprecated
     public Set<OWLLogicalAxiom> getLogicalAxioms() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxioms();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLLogicalAxiom> logicalAxioms() {
-        lock.readLock().lock();
-        try {
-            return delegate.logicalAxioms();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.logicalAxioms());
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(AxiomType<T> axiomType) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(axiomType);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> axiomType) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(axiomType);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(axiomType));
     }
 
     @Override
     public boolean containsAxiom(OWLAxiom owlAxiom) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAxiom(owlAxiom);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxioms(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public int getAxiomCount(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLLogicalAxiom> getLogicalAxioms(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxioms(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public int getLogicalAxiomCount(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxiomCount(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(AxiomType<T> axiomType, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(axiomType, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount(axiomType, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsAxiom(OWLAxiom owlAxiom, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAxiom(owlAxiom, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsAxiomIgnoreAnnotations(OWLAxiom owlAxiom, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAxiomIgnoreAnnotations(owlAxiom, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxiomsIgnoreAnnotations(OWLAxiom owlAxiom, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomsIgnoreAnnotations(owlAxiom, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getReferencingAxioms(OWLPrimitive owlPrimitive, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencingAxioms(owlPrimitive, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAxiom> getAxioms(OWLClass owlClass, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlClass, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyAxiom> getAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlObjectPropertyExpression, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyAxiom> getAxioms(OWLDataProperty owlDataProperty, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDataProperty, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Set<OWLIndividualAxiom> getAxioms(OWLIndividual owlIndividual, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlIndividual, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationAxiom> getAxioms(OWLAnnotationProperty owlAnnotationProperty, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlAnnotationProperty, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatypeDefinitionAxiom> getAxioms(OWLDatatype owlDatatype, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDatatype, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public int getAxiomCount() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public int getLogicalAxiomCount() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getLogicalAxiomCount();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomCount(axiomType);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsAxiomIgnoreAnnotations(OWLAxiom owlAxiom) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAxiomIgnoreAnnotations(owlAxiom);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getAxiomsIgnoreAnnotations(OWLAxiom owlAxiom) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxiomsIgnoreAnnotations(owlAxiom);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> axiomsIgnoreAnnotations(OWLAxiom owlAxiom) {
-        lock.readLock().lock();
-        try {
-            return delegate.axiomsIgnoreAnnotations(owlAxiom);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axiomsIgnoreAnnotations(owlAxiom));
     }
 
     @Override
     @Deprecated
     public Set<OWLAxiom> getReferencingAxioms(OWLPrimitive owlPrimitive) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencingAxioms(owlPrimitive);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAxiom> referencingAxioms(OWLPrimitive owlPrimitive) {
-        lock.readLock().lock();
-        try {
-            return delegate.referencingAxioms(owlPrimitive);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.referencingAxioms(owlPrimitive));
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAxiom> getAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyAxiom> getAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyAxiom> getAxioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLIndividualAxiom> getAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationAxiom> getAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlAnnotationProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatypeDefinitionAxiom> getAxioms(OWLDatatype owlDatatype) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(owlDatatype);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLClassAxiom> axioms(OWLClass owlClass) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlClass);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlClass));
     }
 
     @Override
     public Stream<OWLObjectPropertyAxiom> axioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlObjectPropertyExpression);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlObjectPropertyExpression));
     }
 
     @Override
     public Stream<OWLDataPropertyAxiom> axioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlDataProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlDataProperty));
     }
 
     @Override
     public Stream<OWLIndividualAxiom> axioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlIndividual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlIndividual));
     }
 
     @Override
     public Stream<OWLAnnotationAxiom> axioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlAnnotationProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlAnnotationProperty));
     }
 
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> axioms(OWLDatatype owlDatatype) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(owlDatatype);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(owlDatatype));
     }
 
     @Override
     @Deprecated
     public Set<OWLClass> getClassesInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getClassesInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectProperty> getObjectPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertiesInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataProperty> getDataPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertiesInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLNamedIndividual> getIndividualsInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getIndividualsInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnonymousIndividual> getReferencedAnonymousIndividuals(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencedAnonymousIndividuals(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAnonymousIndividual> referencedAnonymousIndividuals(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.referencedAnonymousIndividuals(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.referencedAnonymousIndividuals(imports));
     }
 
     @Override
     public Stream<OWLAnonymousIndividual> referencedAnonymousIndividuals() {
-        lock.readLock().lock();
-        try {
-            return delegate.referencedAnonymousIndividuals();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.referencedAnonymousIndividuals());
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatype> getDatatypesInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDatatypesInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationPropertiesInSignature(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(owlEntity, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsEntityInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsClassInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsClassInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsObjectPropertyInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsObjectPropertyInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsDataPropertyInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDataPropertyInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsAnnotationPropertyInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAnnotationPropertyInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsDatatypeInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDatatypeInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsIndividualInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsIndividualInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsDatatypeInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDatatypeInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsEntityInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsClassInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsClassInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsObjectPropertyInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsObjectPropertyInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsDataPropertyInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDataPropertyInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsAnnotationPropertyInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAnnotationPropertyInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsIndividualInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsIndividualInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEntity> getEntitiesInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEntitiesInSignature(iri, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Set<IRI> getPunnedIRIs(Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getPunnedIRIs(imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsReference(OWLEntity owlEntity, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsReference(owlEntity, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean containsReference(OWLEntity owlEntity) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsReference(owlEntity);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEntity> getEntitiesInSignature(IRI iri) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEntitiesInSignature(iri);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLEntity> entitiesInSignature(IRI iri) {
-        lock.readLock().lock();
-        try {
-            return delegate.entitiesInSignature(iri);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.entitiesInSignature(iri));
     }
 
     @Override
     @Deprecated
     public Set<OWLClass> getClassesInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getClassesInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectProperty> getObjectPropertiesInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertiesInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataProperty> getDataPropertiesInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertiesInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLNamedIndividual> getIndividualsInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getIndividualsInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnonymousIndividual> getReferencedAnonymousIndividuals(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencedAnonymousIndividuals(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatype> getDatatypesInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDatatypesInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationProperty> getAnnotationPropertiesInSignature(boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationPropertiesInSignature(b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsEntityInSignature(OWLEntity owlEntity, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(owlEntity, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsEntityInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsEntityInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsClassInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsClassInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsObjectPropertyInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsObjectPropertyInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsDataPropertyInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDataPropertyInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsAnnotationPropertyInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsAnnotationPropertyInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsDatatypeInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsDatatypeInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsIndividualInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsIndividualInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEntity> getEntitiesInSignature(IRI iri, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEntitiesInSignature(iri, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public boolean containsReference(OWLEntity owlEntity, boolean b) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.containsReference(owlEntity, b);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(Class<T> aClass, OWLObject owlObject, Imports imports, Navigation navigation) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(aClass, owlObject, imports, navigation);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(Class<T> aClass, OWLObject owlObject, Imports imports, Navigation navigation) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(aClass, owlObject, imports, navigation);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(aClass, owlObject, imports, navigation));
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Collection<T> filterAxioms(OWLAxiomSearchFilter owlAxiomSearchFilter, Object o, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.filterAxioms(owlAxiomSearchFilter, o, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean contains(OWLAxiomSearchFilter owlAxiomSearchFilter, Object o, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.contains(owlAxiomSearchFilter, o, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public boolean contains(OWLAxiomSearchFilter owlAxiomSearchFilter, Object o) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.contains(owlAxiomSearchFilter, o);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(Class<T> aClass, Class<? extends OWLObject> aClass1, OWLObject owlObject, Imports imports, Navigation navigation) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(aClass, aClass1, owlObject, imports, navigation);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(Class<T> aClass, Class<? extends OWLObject> aClass1, OWLObject owlObject, Imports imports, Navigation navigation) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(aClass, aClass1, owlObject, imports, navigation);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(aClass, aClass1, owlObject, imports, navigation));
     }
 
     @Override
     @Deprecated
     public Set<OWLSubAnnotationPropertyOfAxiom> getSubAnnotationPropertyOfAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSubAnnotationPropertyOfAxioms(owlAnnotationProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationPropertyDomainAxiom> getAnnotationPropertyDomainAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationPropertyDomainAxioms(owlAnnotationProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationPropertyRangeAxiom> getAnnotationPropertyRangeAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationPropertyRangeAxioms(owlAnnotationProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAnnotationPropertyDomainAxiom> annotationPropertyDomainAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationPropertyDomainAxioms(owlAnnotationProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationPropertyDomainAxioms(owlAnnotationProperty));
     }
 
     @Override
     public Stream<OWLAnnotationPropertyRangeAxiom> annotationPropertyRangeAxioms(OWLAnnotationProperty owlAnnotationProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationPropertyRangeAxioms(owlAnnotationProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationPropertyRangeAxioms(owlAnnotationProperty));
     }
 
     @Override
     @Deprecated
     public Set<OWLDeclarationAxiom> getDeclarationAxioms(OWLEntity owlEntity) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDeclarationAxioms(owlEntity);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationAssertionAxiom> getAnnotationAssertionAxioms(OWLAnnotationSubject owlAnnotationSubject) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationAssertionAxioms(owlAnnotationSubject);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubClassOfAxiom> getSubClassAxiomsForSubClass(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSubClassAxiomsForSubClass(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubClassOfAxiom> getSubClassAxiomsForSuperClass(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSubClassAxiomsForSuperClass(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEquivalentClassesAxiom> getEquivalentClassesAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEquivalentClassesAxioms(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDisjointClassesAxiom> getDisjointClassesAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDisjointClassesAxioms(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDisjointUnionAxiom> getDisjointUnionAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDisjointUnionAxioms(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLHasKeyAxiom> getHasKeyAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getHasKeyAxioms(owlClass);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubObjectPropertyOfAxiom> getObjectSubPropertyAxiomsForSubProperty(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectSubPropertyAxiomsForSubProperty(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubObjectPropertyOfAxiom> getObjectSubPropertyAxiomsForSuperProperty(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectSubPropertyAxiomsForSuperProperty(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyDomainAxiom> getObjectPropertyDomainAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertyDomainAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyRangeAxiom> getObjectPropertyRangeAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertyRangeAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLInverseObjectPropertiesAxiom> getInverseObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getInverseObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEquivalentObjectPropertiesAxiom> getEquivalentObjectPropertiesAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEquivalentObjectPropertiesAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDisjointObjectPropertiesAxiom> getDisjointObjectPropertiesAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDisjointObjectPropertiesAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLFunctionalObjectPropertyAxiom> getFunctionalObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getFunctionalObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLInverseFunctionalObjectPropertyAxiom> getInverseFunctionalObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getInverseFunctionalObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSymmetricObjectPropertyAxiom> getSymmetricObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSymmetricObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAsymmetricObjectPropertyAxiom> getAsymmetricObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAsymmetricObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLReflexiveObjectPropertyAxiom> getReflexiveObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReflexiveObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLIrreflexiveObjectPropertyAxiom> getIrreflexiveObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getIrreflexiveObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLTransitiveObjectPropertyAxiom> getTransitiveObjectPropertyAxioms(OWLObjectPropertyExpression owlObjectPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getTransitiveObjectPropertyAxioms(owlObjectPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubDataPropertyOfAxiom> getDataSubPropertyAxiomsForSubProperty(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataSubPropertyAxiomsForSubProperty(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSubDataPropertyOfAxiom> getDataSubPropertyAxiomsForSuperProperty(OWLDataPropertyExpression owlDataPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataSubPropertyAxiomsForSuperProperty(owlDataPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyDomainAxiom> getDataPropertyDomainAxioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertyDomainAxioms(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyRangeAxiom> getDataPropertyRangeAxioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertyRangeAxioms(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLEquivalentDataPropertiesAxiom> getEquivalentDataPropertiesAxioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getEquivalentDataPropertiesAxioms(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDisjointDataPropertiesAxiom> getDisjointDataPropertiesAxioms(OWLDataProperty owlDataProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDisjointDataPropertiesAxioms(owlDataProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLFunctionalDataPropertyAxiom> getFunctionalDataPropertyAxioms(OWLDataPropertyExpression owlDataPropertyExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getFunctionalDataPropertyAxioms(owlDataPropertyExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAssertionAxiom> getClassAssertionAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getClassAssertionAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLClassAssertionAxiom> getClassAssertionAxioms(OWLClassExpression owlClassExpression) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getClassAssertionAxioms(owlClassExpression);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDataPropertyAssertionAxiom> getDataPropertyAssertionAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDataPropertyAssertionAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLObjectPropertyAssertionAxiom> getObjectPropertyAssertionAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getObjectPropertyAssertionAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLNegativeObjectPropertyAssertionAxiom> getNegativeObjectPropertyAssertionAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getNegativeObjectPropertyAssertionAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLNegativeDataPropertyAssertionAxiom> getNegativeDataPropertyAssertionAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getNegativeDataPropertyAssertionAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLSameIndividualAxiom> getSameIndividualAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getSameIndividualAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDifferentIndividualsAxiom> getDifferentIndividualAxioms(OWLIndividual owlIndividual) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDifferentIndividualAxioms(owlIndividual);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLDatatypeDefinitionAxiom> getDatatypeDefinitions(OWLDatatype owlDatatype) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getDatatypeDefinitions(owlDatatype);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public ChangeApplied applyChange(OWLOntologyChange owlOntologyChange) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().applyChange(owlOntologyChange);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().applyChange(owlOntologyChange));
     }
 
     @Override
     public ChangeDetails applyChangesAndGetDetails(List<? extends OWLOntologyChange> list) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().applyChangesAndGetDetails(list);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().applyChangesAndGetDetails(list));
     }
 
     @Override
     public ChangeApplied addAxiom(OWLAxiom owlAxiom) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().addAxiom(owlAxiom);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().addAxiom(owlAxiom));
     }
 
     @Override
     public ChangeApplied addAxioms(Collection<? extends OWLAxiom> set) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().addAxioms(set);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().addAxioms(set));
     }
 
     @Override
     public ChangeApplied addAxioms(OWLAxiom... set) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().addAxioms(set);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().addAxioms(set));
     }
 
     @Override
     public ChangeApplied add(OWLAxiom owlAxiom) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().add(owlAxiom);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().add(owlAxiom));
     }
 
     @Override
     public ChangeApplied add(Collection<? extends OWLAxiom> set) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().add(set);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().add(set));
     }
 
     @Override
     public ChangeApplied add(OWLAxiom... set) {
-        lock.writeLock().lock();
-        try {
-            return getMutableOntology().add(set);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> getMutableOntology().add(set));
     }
 
     private OWLMutableOntology getMutableOntology() {
@@ -2415,122 +2334,62 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
 
     @Override
     public Stream<OWLImportsDeclaration> importsDeclarations() {
-        lock.readLock().lock();
-        try {
-            return delegate.importsDeclarations();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.importsDeclarations());
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(OWLAxiomSearchFilter filter, Object key, Imports includeImportsClosure) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(filter, key, includeImportsClosure);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(filter, key, includeImportsClosure));
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(OWLAxiomSearchFilter filter, Object key) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(filter, key);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(filter, key));
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(Class<T> type, Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(type, explicitClass, entity, forSubPosition);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(type, explicitClass, entity, forSubPosition));
     }
 
     @Override
     public Stream<OWLSubAnnotationPropertyOfAxiom> subAnnotationPropertyOfAxioms(OWLAnnotationProperty subProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.subAnnotationPropertyOfAxioms(subProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.subAnnotationPropertyOfAxioms(subProperty));
     }
 
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> datatypeDefinitions(OWLDatatype datatype) {
-        lock.readLock().lock();
-        try {
-            return delegate.datatypeDefinitions(datatype);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.datatypeDefinitions(datatype));
     }
 
     @Override
     public ChangeApplied removeAxiom(OWLAxiom axiom) {
-        lock.writeLock().lock();
-        try {
-            return delegate.removeAxiom(axiom);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.removeAxiom(axiom));
     }
 
     @Override
     public ChangeApplied removeAxioms(Collection<? extends OWLAxiom> axioms) {
-        lock.writeLock().lock();
-        try {
-            return delegate.removeAxioms(axioms);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.removeAxioms(axioms));
     }
 
     @Override
     public ChangeApplied removeAxioms(OWLAxiom... axioms) {
-        lock.writeLock().lock();
-        try {
-            return delegate.removeAxioms(axioms);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.removeAxioms(axioms));
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom axiom) {
-        lock.writeLock().lock();
-        try {
-            return delegate.remove(axiom);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.remove(axiom));
     }
 
     @Override
     public ChangeApplied remove(Collection<? extends OWLAxiom> axioms) {
-        lock.writeLock().lock();
-        try {
-            return delegate.remove(axioms);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.remove(axioms));
     }
 
     @Override
     public ChangeApplied remove(OWLAxiom... axioms) {
-        lock.writeLock().lock();
-        try {
-            return delegate.remove(axioms);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return change(() -> delegate.remove(axioms));
     }
 
     @Override
@@ -2545,738 +2404,664 @@ public class OWLOntologyWrapper implements OWLMutableOntology {
 
     @Override
     public Stream<OWLDisjointObjectPropertiesAxiom> disjointObjectPropertiesAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.disjointObjectPropertiesAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.disjointObjectPropertiesAxioms(property));
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.objectPropertiesInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectPropertiesInSignature());
     }
 
     @Override
     public Stream<OWLAnnotationAssertionAxiom> annotationAssertionAxioms(OWLAnnotationSubject entity) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationAssertionAxioms(entity);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationAssertionAxioms(entity));
     }
 
     @Override
     public Stream<OWLAnnotationAssertionAxiom> annotationAssertionAxioms(OWLAnnotationSubject entity, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationAssertionAxioms(entity, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationAssertionAxioms(entity, imports));
     }
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationPropertiesInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationPropertiesInSignature());
     }
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotationPropertiesInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotationPropertiesInSignature(imports));
     }
 
     @Override
     public Stream<OWLAnnotation> annotations() {
-        lock.readLock().lock();
-        try {
-            return delegate.annotations();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotations());
     }
 
     @Override
     public List<OWLAnnotation> annotationsAsList() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.annotationsAsList();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLAnnotation> annotations(OWLAnnotationProperty p) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotations(p);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotations(p));
     }
 
     @Override
     public Stream<OWLAnnotation> annotations(Predicate<OWLAnnotation> p) {
-        lock.readLock().lock();
-        try {
-            return delegate.annotations(p);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.annotations(p));
     }
 
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
-        lock.readLock().lock();
-        try {
-            return delegate.anonymousIndividuals();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.anonymousIndividuals());
     }
 
     @Override
     public Stream<OWLAsymmetricObjectPropertyAxiom> asymmetricObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.asymmetricObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.asymmetricObjectPropertyAxioms(property));
     }
 
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(Class<T> type, OWLObject entity, Navigation forSubPosition) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(type, entity, forSubPosition);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(type, entity, forSubPosition));
     }
 
     @Override
     public Stream<OWLAxiom> axioms(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(imports));
     }
 
     @Override
     public Stream<OWLAnnotationAxiom> axioms(OWLAnnotationProperty property, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(property, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(property, imports));
     }
 
     @Override
     public Stream<OWLClassAxiom> axioms(OWLClass cls, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(cls, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(cls, imports));
     }
 
     @Override
     public Stream<OWLDataPropertyAxiom> axioms(OWLDataProperty property, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(property, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(property, imports));
     }
 
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> axioms(OWLDatatype datatype, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(datatype, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(datatype, imports));
     }
 
     @Override
     public Stream<OWLIndividualAxiom> axioms(OWLIndividual individual, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(individual, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(individual, imports));
     }
 
     @Override
     public Stream<OWLObjectPropertyAxiom> axioms(OWLObjectPropertyExpression property, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.axioms(property, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.axioms(property, imports));
     }
 
     @Override
     public Stream<OWLClassAssertionAxiom> classAssertionAxioms(OWLClassExpression ce) {
-        lock.readLock().lock();
-        try {
-            return delegate.classAssertionAxioms(ce);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.classAssertionAxioms(ce));
     }
 
     @Override
     public Stream<OWLClassAssertionAxiom> classAssertionAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.classAssertionAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.classAssertionAxioms(individual));
     }
 
     @Override
     public Stream<OWLClass> classesInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.classesInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.classesInSignature());
     }
 
     @Override
     public Stream<OWLClass> classesInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.classesInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.classesInSignature(imports));
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.dataPropertiesInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataPropertiesInSignature());
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataPropertiesInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataPropertiesInSignature(imports));
     }
 
     @Override
     public Stream<OWLDataPropertyAssertionAxiom> dataPropertyAssertionAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataPropertyAssertionAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataPropertyAssertionAxioms(individual));
     }
 
     @Override
     public Stream<OWLDataPropertyDomainAxiom> dataPropertyDomainAxioms(OWLDataProperty property) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataPropertyDomainAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataPropertyDomainAxioms(property));
     }
 
     @Override
     public Stream<OWLDataPropertyRangeAxiom> dataPropertyRangeAxioms(OWLDataProperty property) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataPropertyRangeAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataPropertyRangeAxioms(property));
     }
 
     @Override
     public Stream<OWLSubDataPropertyOfAxiom> dataSubPropertyAxiomsForSubProperty(OWLDataProperty subProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataSubPropertyAxiomsForSubProperty(subProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataSubPropertyAxiomsForSubProperty(subProperty));
     }
 
     @Override
     public Stream<OWLSubDataPropertyOfAxiom> dataSubPropertyAxiomsForSuperProperty(OWLDataPropertyExpression superProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.dataSubPropertyAxiomsForSuperProperty(superProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.dataSubPropertyAxiomsForSuperProperty(superProperty));
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.datatypesInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.datatypesInSignature());
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.datatypesInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.datatypesInSignature(imports));
     }
 
     @Override
     public Stream<OWLDeclarationAxiom> declarationAxioms(OWLEntity subject) {
-        lock.readLock().lock();
-        try {
-            return delegate.declarationAxioms(subject);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.declarationAxioms(subject));
     }
 
     @Override
     public Stream<OWLDifferentIndividualsAxiom> differentIndividualAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.differentIndividualAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.differentIndividualAxioms(individual));
     }
 
     @Override
     public Stream<OWLDisjointClassesAxiom> disjointClassesAxioms(OWLClass cls) {
-        lock.readLock().lock();
-        try {
-            return delegate.disjointClassesAxioms(cls);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.disjointClassesAxioms(cls));
     }
 
     @Override
     public Stream<OWLDisjointDataPropertiesAxiom> disjointDataPropertiesAxioms(OWLDataProperty property) {
-        lock.readLock().lock();
-        try {
-            return delegate.disjointDataPropertiesAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.disjointDataPropertiesAxioms(property));
     }
 
     @Override
     public Stream<OWLDisjointUnionAxiom> disjointUnionAxioms(OWLClass owlClass) {
-        lock.readLock().lock();
-        try {
-            return delegate.disjointUnionAxioms(owlClass);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.disjointUnionAxioms(owlClass));
     }
 
     @Override
     public Stream<OWLEntity> entitiesInSignature(IRI iri, Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.entitiesInSignature(iri, imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.entitiesInSignature(iri, imports));
     }
 
     @Override
     public Stream<OWLEquivalentClassesAxiom> equivalentClassesAxioms(OWLClass cls) {
-        lock.readLock().lock();
-        try {
-            return delegate.equivalentClassesAxioms(cls);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.equivalentClassesAxioms(cls));
     }
 
     @Override
     public Stream<OWLEquivalentDataPropertiesAxiom> equivalentDataPropertiesAxioms(OWLDataProperty property) {
-        lock.readLock().lock();
-        try {
-            return delegate.equivalentDataPropertiesAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.equivalentDataPropertiesAxioms(property));
     }
 
     @Override
     public Stream<OWLEquivalentObjectPropertiesAxiom> equivalentObjectPropertiesAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.equivalentObjectPropertiesAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.equivalentObjectPropertiesAxioms(property));
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Collection<T> filterAxioms(OWLAxiomSearchFilter filter, Object key) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.filterAxioms(filter, key);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLFunctionalDataPropertyAxiom> functionalDataPropertyAxioms(OWLDataPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.functionalDataPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.functionalDataPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLFunctionalObjectPropertyAxiom> functionalObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.functionalObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.functionalObjectPropertyAxioms(property));
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotationAssertionAxiom> getAnnotationAssertionAxioms(OWLAnnotationSubject entity, Imports imports) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotationAssertionAxioms(entity, imports);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnnotation> getAnnotations(OWLAnnotationProperty annotationProperty) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAnnotations(annotationProperty);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(Class<T> type, Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(type, explicitClass, entity, forSubPosition);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public <T extends OWLAxiom> Set<T> getAxioms(Class<T> type, OWLObject entity, Navigation forSubPosition) {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getAxioms(type, entity, forSubPosition);
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Nullable
     public OWLDocumentFormat getFormat() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getFormat();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     @Deprecated
     public Set<OWLAnonymousIndividual> getReferencedAnonymousIndividuals() {
-        lock.readLock().lock();
+        readLock().lock();
         try {
             return delegate.getReferencedAnonymousIndividuals();
         } finally {
-            lock.readLock().unlock();
+            readLock().unlock();
         }
     }
 
     @Override
     public Stream<OWLHasKeyAxiom> hasKeyAxioms(OWLClass cls) {
-        lock.readLock().lock();
-        try {
-            return delegate.hasKeyAxioms(cls);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.hasKeyAxioms(cls));
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature() {
-        lock.readLock().lock();
-        try {
-            return delegate.individualsInSignature();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.individualsInSignature());
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.individualsInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.individualsInSignature(imports));
     }
 
     @Override
     public Stream<OWLInverseFunctionalObjectPropertyAxiom> inverseFunctionalObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.inverseFunctionalObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.inverseFunctionalObjectPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLInverseObjectPropertiesAxiom> inverseObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.inverseObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.inverseObjectPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLIrreflexiveObjectPropertyAxiom> irreflexiveObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.irreflexiveObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.irreflexiveObjectPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLLogicalAxiom> logicalAxioms(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.logicalAxioms(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.logicalAxioms(imports));
     }
 
     @Override
     public Stream<OWLNegativeDataPropertyAssertionAxiom> negativeDataPropertyAssertionAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.negativeDataPropertyAssertionAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.negativeDataPropertyAssertionAxioms(individual));
     }
 
     @Override
     public Stream<OWLNegativeObjectPropertyAssertionAxiom> negativeObjectPropertyAssertionAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.negativeObjectPropertyAssertionAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.negativeObjectPropertyAssertionAxioms(individual));
     }
 
     @Override
     public Stream<OWLClassExpression> nestedClassExpressions() {
-        lock.readLock().lock();
-        try {
-            return delegate.nestedClassExpressions();
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.nestedClassExpressions());
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature(Imports imports) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectPropertiesInSignature(imports);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectPropertiesInSignature(imports));
     }
 
     @Override
     public Stream<OWLObjectPropertyAssertionAxiom> objectPropertyAssertionAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectPropertyAssertionAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectPropertyAssertionAxioms(individual));
     }
 
     @Override
     public Stream<OWLObjectPropertyDomainAxiom> objectPropertyDomainAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectPropertyDomainAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectPropertyDomainAxioms(property));
     }
 
     @Override
     public Stream<OWLObjectPropertyRangeAxiom> objectPropertyRangeAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectPropertyRangeAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectPropertyRangeAxioms(property));
     }
 
     @Override
     public Stream<OWLSubObjectPropertyOfAxiom> objectSubPropertyAxiomsForSubProperty(OWLObjectPropertyExpression subProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectSubPropertyAxiomsForSubProperty(subProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectSubPropertyAxiomsForSubProperty(subProperty));
     }
 
     @Override
     public Stream<OWLSubObjectPropertyOfAxiom> objectSubPropertyAxiomsForSuperProperty(OWLObjectPropertyExpression superProperty) {
-        lock.readLock().lock();
-        try {
-            return delegate.objectSubPropertyAxiomsForSuperProperty(superProperty);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.objectSubPropertyAxiomsForSuperProperty(superProperty));
     }
 
     @Override
     public Stream<OWLReflexiveObjectPropertyAxiom> reflexiveObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.reflexiveObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.reflexiveObjectPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLSameIndividualAxiom> sameIndividualAxioms(OWLIndividual individual) {
-        lock.readLock().lock();
-        try {
-            return delegate.sameIndividualAxioms(individual);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.sameIndividualAxioms(individual));
     }
 
     @Override
     public Stream<OWLSubClassOfAxiom> subClassAxiomsForSubClass(OWLClass cls) {
-        lock.readLock().lock();
-        try {
-            return delegate.subClassAxiomsForSubClass(cls);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.subClassAxiomsForSubClass(cls));
     }
 
     @Override
     public Stream<OWLSubClassOfAxiom> subClassAxiomsForSuperClass(OWLClass cls) {
-        lock.readLock().lock();
-        try {
-            return delegate.subClassAxiomsForSuperClass(cls);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.subClassAxiomsForSuperClass(cls));
     }
 
     @Override
     public Stream<OWLSymmetricObjectPropertyAxiom> symmetricObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.symmetricObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return stream(() -> delegate.symmetricObjectPropertyAxioms(property));
     }
 
     @Override
     public Stream<OWLTransitiveObjectPropertyAxiom> transitiveObjectPropertyAxioms(OWLObjectPropertyExpression property) {
-        lock.readLock().lock();
-        try {
-            return delegate.transitiveObjectPropertyAxioms(property);
-        } finally {
-            lock.readLock().unlock();
+        return stream(() -> delegate.transitiveObjectPropertyAxioms(property));
+    }
+
+    /**
+     * A {@link Stream} which closes the underlying stream (and therefore releases the lock)
+     * right after any terminal operation is performed.
+     * The intermediate operations return the same kind of stream,
+     * the operations, which can't be tracked in this way
+     * (i.e. the conversions to primitive streams and switching to parallel mode), work with a collected snapshot.
+     *
+     * @param <X> anything
+     * @see #lockedStream(Supplier)
+     */
+    protected static class LockedStream<X> implements Stream<X> {
+        protected final Stream<X> delegate;
+
+        protected LockedStream(Stream<X> delegate) {
+            this.delegate = Objects.requireNonNull(delegate);
+        }
+
+        protected <R> Stream<R> wrap(Stream<R> stream) {
+            return new LockedStream<>(stream);
+        }
+
+        protected <R> R terminal(Function<Stream<X>, R> op) {
+            try {
+                return op.apply(delegate);
+            } finally {
+                delegate.close();
+            }
+        }
+
+        /**
+         * Collects the rest of elements and closes this stream.
+         *
+         * @return Stream over the collected elements
+         */
+        protected Stream<X> snapshot() {
+            return terminal(s -> s.collect(Collectors.toList())).stream();
+        }
+
+        @Override
+        public Stream<X> filter(Predicate<? super X> predicate) {
+            return wrap(delegate.filter(predicate));
+        }
+
+        @Override
+        public <R> Stream<R> map(Function<? super X, ? extends R> mapper) {
+            return wrap(delegate.map(mapper));
+        }
+
+        @Override
+        public IntStream mapToInt(ToIntFunction<? super X> mapper) {
+            return snapshot().mapToInt(mapper);
+        }
+
+        @Override
+        public LongStream mapToLong(ToLongFunction<? super X> mapper) {
+            return snapshot().mapToLong(mapper);
+        }
+
+        @Override
+        public DoubleStream mapToDouble(ToDoubleFunction<? super X> mapper) {
+            return snapshot().mapToDouble(mapper);
+        }
+
+        @Override
+        public <R> Stream<R> flatMap(Function<? super X, ? extends Stream<? extends R>> mapper) {
+            return wrap(delegate.flatMap(mapper));
+        }
+
+        @Override
+        public IntStream flatMapToInt(Function<? super X, ? extends IntStream> mapper) {
+            return snapshot().flatMapToInt(mapper);
+        }
+
+        @Override
+        public LongStream flatMapToLong(Function<? super X, ? extends LongStream> mapper) {
+            return snapshot().flatMapToLong(mapper);
+        }
+
+        @Override
+        public DoubleStream flatMapToDouble(Function<? super X, ? extends DoubleStream> mapper) {
+            return snapshot().flatMapToDouble(mapper);
+        }
+
+        @Override
+        public Stream<X> distinct() {
+            return wrap(delegate.distinct());
+        }
+
+        @Override
+        public Stream<X> sorted() {
+            return wrap(delegate.sorted());
+        }
+
+        @Override
+        public Stream<X> sorted(Comparator<? super X> comparator) {
+            return wrap(delegate.sorted(comparator));
+        }
+
+        @Override
+        public Stream<X> peek(Consumer<? super X> action) {
+            return wrap(delegate.peek(action));
+        }
+
+        @Override
+        public Stream<X> limit(long maxSize) {
+            return wrap(delegate.limit(maxSize));
+        }
+
+        @Override
+        public Stream<X> skip(long n) {
+            return wrap(delegate.skip(n));
+        }
+
+        @Override
+        public void forEach(Consumer<? super X> action) {
+            terminal(s -> {
+                s.forEach(action);
+                return null;
+            });
+        }
+
+        @Override
+        public void forEachOrdered(Consumer<? super X> action) {
+            terminal(s -> {
+                s.forEachOrdered(action);
+                return null;
+            });
+        }
+
+        @Override
+        public Object[] toArray() {
+            return terminal(Stream::toArray);
+        }
+
+        @Override
+        public <A> A[] toArray(IntFunction<A[]> generator) {
+            return terminal(s -> s.toArray(generator));
+        }
+
+        @Override
+        public X reduce(X identity, BinaryOperator<X> accumulator) {
+            return terminal(s -> s.reduce(identity, accumulator));
+        }
+
+        @Override
+        public Optional<X> reduce(BinaryOperator<X> accumulator) {
+            return terminal(s -> s.reduce(accumulator));
+        }
+
+        @Override
+        public <U> U reduce(U identity, BiFunction<U, ? super X, U> accumulator, BinaryOperator<U> combiner) {
+            return terminal(s -> s.reduce(identity, accumulator, combiner));
+        }
+
+        @Override
+        public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super X> accumulator, BiConsumer<R, R> combiner) {
+            return terminal(s -> s.collect(supplier, accumulator, combiner));
+        }
+
+        @Override
+        public <R, A> R collect(Collector<? super X, A, R> collector) {
+            return terminal(s -> s.collect(collector));
+        }
+
+        @Override
+        public Optional<X> min(Comparator<? super X> comparator) {
+            return terminal(s -> s.min(comparator));
+        }
+
+        @Override
+        public Optional<X> max(Comparator<? super X> comparator) {
+            return terminal(s -> s.max(comparator));
+        }
+
+        @Override
+        public long count() {
+            return terminal(Stream::count);
+        }
+
+        @Override
+        public boolean anyMatch(Predicate<? super X> predicate) {
+            return terminal(s -> s.anyMatch(predicate));
+        }
+
+        @Override
+        public boolean allMatch(Predicate<? super X> predicate) {
+            return terminal(s -> s.allMatch(predicate));
+        }
+
+        @Override
+        public boolean noneMatch(Predicate<? super X> predicate) {
+            return terminal(s -> s.noneMatch(predicate));
+        }
+
+        @Override
+        public Optional<X> findFirst() {
+            return terminal(Stream::findFirst);
+        }
+
+        @Override
+        public Optional<X> findAny() {
+            return terminal(Stream::findAny);
+        }
+
+        /**
+         * Returns the iterator, which releases the lock when it is exhausted.
+         * If it is not exhausted, the stream must be closed.
+         *
+         * @return {@link Iterator}
+         */
+        @Override
+        public Iterator<X> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public Spliterator<X> spliterator() {
+            return delegate.spliterator();
+        }
+
+        @Override
+        public boolean isParallel() {
+            return delegate.isParallel();
+        }
+
+        @Override
+        public Stream<X> sequential() {
+            return this;
+        }
+
+        @Override
+        public Stream<X> parallel() {
+            return snapshot().parallel();
+        }
+
+        @Override
+        public Stream<X> unordered() {
+            return wrap(delegate.unordered());
+        }
+
+        @Override
+        public Stream<X> onClose(Runnable handler) {
+            return wrap(delegate.onClose(handler));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
         }
     }
 }
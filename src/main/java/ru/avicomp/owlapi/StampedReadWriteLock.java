@@ -0,0 +1,217 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2018, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.owlapi;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReadWriteLock} which additionally provides {@link StampedLock StampedLock}-based optimistic reads.
+ * <p>
+ * The read and write locks are reentrant, they are backed by an ordinary {@link ReentrantReadWriteLock},
+ * so it can be used everywhere instead of it (e.g. as the manager-wide lock).
+ * A {@link StampedLock} is held in write mode while the outermost write lock is held,
+ * it is used only to validate optimistic reads (see {@link #optimisticRead(Supplier)}).
+ * An optimistic read does not touch the shared reader count,
+ * so it is cheap under read-heavy load from many threads,
+ * but it is suitable only for short operations without side effects on shared data,
+ * e.g. for {@link org.semanticweb.owlapi.model.OWLOntology#getOntologyID()}.
+ *
+ * @see ru.avicomp.ontapi.OntManagers#createConcurrentONT(ReadWriteLock)
+ * @since 1.2.0
+ */
+@SuppressWarnings("WeakerAccess")
+public class StampedReadWriteLock implements ReadWriteLock, Serializable {
+
+    protected final ReentrantReadWriteLock delegate;
+    protected final StampedLock stamps = new StampedLock();
+    protected final WriteLock writeLock = new WriteLock();
+
+    public StampedReadWriteLock() {
+        this(new ReentrantReadWriteLock());
+    }
+
+    public StampedReadWriteLock(ReentrantReadWriteLock delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Lock readLock() {
+        return delegate.readLock();
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * Performs the given operation in optimistic mode:
+     * if there is no writer at the moment and no writer has come while the operation was being performed
+     * then its result is returned as is, otherwise the operation is repeated under the read lock.
+     * Any runtime exception thrown while optimistic reading is ignored in case of a concurrent modification.
+     * The operation may be called twice, so it must not have any significant side effects.
+     *
+     * @param getter {@link Supplier} to perform reading
+     * @param <X>    anything
+     * @return the result of the operation
+     */
+    public <X> X optimisticRead(Supplier<X> getter) {
+        long stamp = stamps.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                X res = getter.get();
+                if (stamps.validate(stamp)) return res;
+            } catch (RuntimeException e) {
+                if (stamps.validate(stamp)) throw e;
+            }
+        }
+        Lock read = delegate.readLock();
+        read.lock();
+        try {
+            return getter.get();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Performs the given operation in optimistic mode, but, unlike {@link #optimisticRead(Supplier)},
+     * does not fall back to the read lock:
+     * if there is a writer at the moment or it has come while the operation was being performed,
+     * then {@code null} is returned.
+     * The method never blocks.
+     *
+     * @param getter {@link Supplier} to perform reading, must not return {@code null}
+     * @param <X>    anything
+     * @return the result of the operation or {@code null} in case of a concurrent modification
+     */
+    public <X> X tryOptimisticRead(Supplier<X> getter) {
+        long stamp = stamps.tryOptimisticRead();
+        if (stamp == 0) return null;
+        try {
+            X res = getter.get();
+            if (stamps.validate(stamp)) return res;
+        } catch (RuntimeException e) {
+            if (stamps.validate(stamp)) throw e;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of reentrant read holds on this lock by the current thread.
+     *
+     * @return int
+     */
+    public int getReadHoldCount() {
+        return delegate.getReadHoldCount();
+    }
+
+    /**
+     * Answers {@code true} if the write lock is held by some thread.
+     *
+     * @return boolean
+     */
+    public boolean isWriteLocked() {
+        return delegate.isWriteLocked();
+    }
+
+    /**
+     * Answers {@code true} if the write lock is held by the current thread.
+     *
+     * @return boolean
+     */
+    public boolean isWriteLockedByCurrentThread() {
+        return delegate.isWriteLockedByCurrentThread();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", getClass().getSimpleName(), delegate);
+    }
+
+    /**
+     * The write lock: the reentrant write lock plus the {@link StampedLock} in write mode,
+     * the latter is acquired by the outermost locking and released by the outermost unlocking.
+     */
+    public class WriteLock implements Lock, Serializable {
+        // guarded by the delegate write lock
+        private long stamp;
+
+        protected Lock delegate() {
+            return delegate.writeLock();
+        }
+
+        private void afterLock() {
+            if (delegate.getWriteHoldCount() == 1) {
+                stamp = stamps.writeLock();
+            }
+        }
+
+        @Override
+        public void lock() {
+            delegate().lock();
+            afterLock();
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            delegate().lockInterruptibly();
+            afterLock();
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!delegate().tryLock()) return false;
+            afterLock();
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, @Nonnull TimeUnit unit) throws InterruptedException {
+            if (!delegate().tryLock(time, unit)) return false;
+            afterLock();
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            if (delegate.getWriteHoldCount() == 1) {
+                stamps.unlockWrite(stamp);
+            }
+            delegate().unlock();
+        }
+
+        /**
+         * Returns a condition of the reentrant write lock.
+         * Note: while waiting, the optimistic reads are still invalid, they fall back to the ordinary read lock.
+         *
+         * @return {@link Condition}
+         */
+        @Nonnull
+        @Override
+        public Condition newCondition() {
+            return delegate().newCondition();
+        }
+    }
+}
@@ -75,6 +75,54 @@ public class AxiomsByEntityTest {
         data.testAxiomsBy(entities, expected, actual);
     }
 
+    @Test
+    public void testContainsAxiom() {
+        OWLOntology expected = data.createOntology(OntManagers.createOWL());
+        OntologyModel actual = (OntologyModel) data.createOntology(OntManagers.createONT());
+        List<OWLAxiom> axioms = actual.axioms().filter(a -> !a.anonymousIndividuals().findAny().isPresent())
+                .sorted().collect(Collectors.toList());
+        for (OWLAxiom a : axioms) {
+            OWLAxiom b = a.getAxiomWithoutAnnotations();
+            Assert.assertTrue("Can't find " + a, actual.containsAxiom(a));
+            Assert.assertEquals("Wrong containsAxiom for " + b, expected.containsAxiom(b), actual.containsAxiom(b));
+            Assert.assertTrue("Can't find " + b + " ignoring annotations", actual.containsAxiomIgnoreAnnotations(b));
+            data.assertAxioms("Wrong axioms ignoring annotations for " + b,
+                    expected.axiomsIgnoreAnnotations(b).collect(Collectors.toSet()),
+                    actual.axiomsIgnoreAnnotations(b).collect(Collectors.toSet()));
+            actual.remove(a);
+            Assert.assertFalse("Found removed " + a, actual.containsAxiom(a));
+            Assert.assertFalse("Found removed " + b + " ignoring annotations", actual.containsAxiomIgnoreAnnotations(b));
+            actual.add(a);
+            Assert.assertTrue("Can't find " + b + " ignoring annotations", actual.containsAxiomIgnoreAnnotations(b));
+        }
+    }
+
+    @Test
+    public void testAxiomsAfterChanges() {
+        OWLOntology expected = data.createOntology(OntManagers.createOWL());
+        OntologyModel actual = (OntologyModel) data.createOntology(OntManagers.createONT());
+        Set<OWLEntity> entities = data.testEntities(expected, actual);
+        // the first call builds the indexes:
+        data.testReferencingAxioms(entities, expected, actual);
+        data.testAxiomsBy(entities, expected, actual);
+
+        List<OWLAxiom> axioms = actual.axioms().filter(a -> !a.anonymousIndividuals().findAny().isPresent())
+                .sorted().collect(Collectors.toList());
+        for (OWLAxiom a : axioms) {
+            LOGGER.debug("Remove and add {}", a);
+            expected.remove(a);
+            actual.remove(a);
+            data.testAxioms(expected, actual);
+            data.testReferencingAxioms(entities, expected, actual);
+            data.testAxiomsBy(entities, expected, actual);
+            expected.add(a);
+            actual.add(a);
+            data.testAxioms(expected, actual);
+            data.testReferencingAxioms(entities, expected, actual);
+            data.testAxiomsBy(entities, expected, actual);
+        }
+    }
+
     /**
      * Created by @szuev on 20.02.2018.
      */
@@ -28,14 +28,19 @@ import org.junit.Test;
 import org.semanticweb.owlapi.model.*;
 import ru.avicomp.ontapi.OntFormat;
 import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
 import ru.avicomp.ontapi.internal.AxiomParserProvider;
+import ru.avicomp.ontapi.internal.AxiomsSnapshot;
 import ru.avicomp.ontapi.internal.ConfigProvider;
 import ru.avicomp.ontapi.internal.InternalModel;
+import ru.avicomp.ontapi.internal.InternalModelHolder;
 import ru.avicomp.ontapi.internal.InternalObject;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.impl.conf.OntPersonality;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.model.OntNAP;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.transforms.GraphTransformers;
@@ -43,9 +48,15 @@ import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.TestUtils;
 
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -177,6 +188,262 @@ public class InternalModelTest {
         testEntities("goodrelations.rdf", OntFormat.RDF_XML);
     }
 
+    @Test
+    public void testSinglePassAxiomRead() {
+        Map<String, OntFormat> files = new LinkedHashMap<>();
+        files.put("pizza.ttl", OntFormat.TURTLE);
+        files.put("foaf.rdf", OntFormat.RDF_XML);
+        files.put("goodrelations.rdf", OntFormat.RDF_XML);
+        files.put("swrl.owl.rdf", OntFormat.RDF_XML);
+        files.put("propertyChain.owl", OntFormat.RDF_XML);
+        files.put("test-annotations-1.ttl", OntFormat.TURTLE);
+        files.put("test-annotations-2.ttl", OntFormat.TURTLE);
+        files.put("test-annotations-3.ttl", OntFormat.TURTLE);
+        files.forEach((file, format) -> {
+            LOGGER.info("Test " + file);
+            Graph graph = loadInternalModel(file, format).getBaseGraph();
+            // type by type:
+            InternalModel expected = new InternalModel(graph, ConfigProvider.DEFAULT_CONFIG);
+            Map<OWLAxiom, List<Set<Triple>>> axioms = AxiomType.AXIOM_TYPES.stream()
+                    .flatMap(t -> AxiomParserProvider.get(t).axioms(expected))
+                    .collect(Collectors.groupingBy(InternalObject::getObject,
+                            Collectors.mapping(i -> i.triples().collect(Collectors.toSet()), Collectors.toList())));
+            // all at once:
+            TestInternalModel actual = new TestInternalModel(graph);
+            Assert.assertEquals("Wrong axioms for " + file, axioms.keySet(), actual.axioms().collect(Collectors.toSet()));
+            // if there are several axiom-candidates the choice of the triples is not determined:
+            axioms.forEach((a, triples) -> Assert.assertTrue("Wrong triples for " + a, triples.contains(actual.triples(a))));
+        });
+    }
+
+    @Test
+    public void testParallelAxiomRead() throws Exception {
+        for (String file : new String[]{"pizza.ttl", "goodrelations.rdf", "swrl.owl.rdf", "test-annotations-2.ttl"}) {
+            LOGGER.info("Test " + file);
+            OntologyManager m1 = OntManagers.createONT();
+            OntologyModel o1 = m1.loadOntology(IRI.create(ReadWriteUtils.getResourceURI(file)));
+            OntologyManager m2 = OntManagers.createConcurrentONT();
+            m2.getOntologyConfigurator().setReadAxiomsParallelism(4);
+            Assert.assertEquals(4, m2.getOntologyLoaderConfiguration().getReadAxiomsParallelism());
+            OntologyModel o2 = m2.addOntology(o1.asGraphModel().getBaseGraph());
+            Set<OWLAxiom> expected = o1.axioms().collect(Collectors.toSet());
+            Assert.assertEquals("Wrong axioms for " + file, expected, o2.axioms().collect(Collectors.toSet()));
+            // check the triples are still accessible after reading:
+            expected.stream().filter(a -> !a.isOfType(AxiomType.DECLARATION)).findFirst().ifPresent(a -> {
+                o2.remove(a);
+                Assert.assertFalse("Axiom is not removed: " + a, o2.containsAxiom(a));
+            });
+        }
+    }
+
+    @Test
+    public void testCacheInvalidationOnDirectChanges() throws Exception {
+        OntologyModel o = OntManagers.createONT().loadOntology(IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl")));
+        OntGraphModel m = o.asGraphModel();
+        String ns = m.getID().getURI() + "#";
+        Resource american = m.getResource(ns + "American");
+        Resource hot = m.getResource(ns + "Hot");
+        Resource topping = m.getResource(ns + "hasTopping");
+        Statement label = m.createStatement(american, RDFS.label, "american");
+        Statement subClassOf = m.createStatement(american, RDFS.subClassOf, hot);
+        Statement disjoint = m.createStatement(american, OWL.disjointWith, hot);
+        Statement declaration = m.createStatement(m.getResource(ns + "Cold"), RDF.type, OWL.Class);
+        Statement restriction = m.createStatement(american, RDFS.subClassOf, m.createResource()
+                .addProperty(RDF.type, OWL.Restriction)
+                .addProperty(OWL.onProperty, topping)
+                .addProperty(OWL.someValuesFrom, hot));
+        Statement comment = m.createStatement(american, RDFS.comment, m.createTypedLiteral(42));
+        Statement seeAlso = m.createStatement(american, RDFS.seeAlso, m.getResource(ns + "Cold"));
+        for (Statement s : Arrays.asList(label, comment, seeAlso, subClassOf, disjoint, declaration, restriction)) {
+            LOGGER.info("Add and delete " + s);
+            // load all caches:
+            o.axioms().forEach(a -> Assert.assertTrue(o.containsAxiom(a)));
+            Assert.assertNotEquals(0, o.signature().count());
+            m.add(s);
+            checkAxioms(o);
+            m.remove(s);
+            checkAxioms(o);
+        }
+        // the axiom with reified annotations brings a new datatype:
+        m.createResource()
+                .addProperty(RDF.type, OWL.Axiom)
+                .addProperty(OWL.annotatedSource, american)
+                .addProperty(OWL.annotatedProperty, RDFS.subClassOf)
+                .addProperty(OWL.annotatedTarget, hot)
+                .addProperty(m.createOntEntity(OntNAP.class, ns + "note"), m.createTypedLiteral((short) 1));
+        o.axioms().forEach(a -> Assert.assertTrue(o.containsAxiom(a)));
+        Assert.assertNotEquals(0, o.signature().count());
+        m.add(subClassOf);
+        checkAxioms(o);
+        m.remove(subClassOf);
+        checkAxioms(o);
+    }
+
+    @Test
+    public void testRemoveAxiomsWithSharedTriples() throws Exception {
+        OntologyModel o = OntManagers.createONT().loadOntology(IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl")));
+        // the class assertion triple of a named individual is also a part of its declaration, so skip them:
+        List<OWLAxiom> axioms = o.axioms()
+                .filter(a -> !a.isOfType(AxiomType.DECLARATION, AxiomType.CLASS_ASSERTION))
+                .collect(Collectors.toList());
+        // remove every second axiom, the triples shared with the remaining axioms must be kept:
+        for (int i = 0; i < axioms.size(); i += 2) {
+            o.remove(axioms.get(i));
+        }
+        checkAxioms(o);
+        o.remove(axioms);
+        checkAxioms(o);
+    }
+
+    @Test
+    public void testAxiomsSnapshot() throws Exception {
+        Path dir = Files.createTempDirectory("snapshots");
+        try {
+            Graph graph = OntManagers.createONT().loadOntology(IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl")))
+                    .asGraphModel().getBaseGraph();
+            OntologyManager m1 = OntManagers.createONT();
+            m1.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+            OntologyModel o1 = m1.addOntology(graph);
+            Set<OWLAxiom> expected = o1.axioms().collect(Collectors.toSet());
+            InternalModel base1 = ((InternalModelHolder) o1).getBase();
+            Path file = AxiomsSnapshot.of(base1).getFile();
+            Assert.assertTrue("No snapshot " + file, Files.exists(file));
+
+            // restore from the snapshot:
+            OntologyManager m2 = OntManagers.createONT();
+            m2.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+            OntologyModel o2 = m2.addOntology(graph);
+            Assert.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+            // the restored triples are valid:
+            OWLAxiom axiom = expected.stream().filter(a -> a.isOfType(AxiomType.SUBCLASS_OF)).findFirst().orElseThrow(AssertionError::new);
+            o2.remove(axiom);
+            Assert.assertFalse(o2.containsAxiom(axiom));
+            checkAxioms(o2);
+
+            // make sure the axioms are really taken from the file:
+            OWLDataFactory df = m1.getOWLDataFactory();
+            OWLAxiom fake = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("urn:fake")));
+            Files.delete(file);
+            AxiomsSnapshot.of(base1).write(Collections.singletonList(new InternalModel.InternalObjectTriplesMap<>(OWLDeclarationAxiom.class,
+                    Collections.singleton(InternalObject.create((OWLDeclarationAxiom) fake)))));
+            OntologyManager m3 = OntManagers.createONT();
+            m3.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+            Assert.assertTrue(m3.addOntology(graph).containsAxiom(fake));
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path f : files.collect(Collectors.toList())) Files.delete(f);
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testAxiomsSnapshotForReparsedGraph() throws Exception {
+        String anonymous = "@prefix : <http://x#> .\n" +
+                "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n" +
+                "<http://x> a owl:Ontology .\n" +
+                ":C a owl:Class .\n" +
+                ":p a owl:ObjectProperty .\n" +
+                ":i a owl:NamedIndividual ; :p [ a :C ] , [ a :C ; :p [ a :C ] ] .\n" +
+                "[ a owl:AllDifferent ; owl:distinctMembers ( :i [ a :C ] ) ] .\n";
+        List<Supplier<Graph>> sources = Arrays.asList(
+                () -> ReadWriteUtils.loadResourceTTLFile("pizza.ttl").getGraph(),
+                () -> ReadWriteUtils.loadFromString(anonymous, OntFormat.TURTLE).getGraph());
+        for (Supplier<Graph> source : sources) {
+            Path dir = Files.createTempDirectory("snapshots");
+            try {
+                OntologyManager m1 = OntManagers.createONT();
+                m1.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+                OntologyModel o1 = m1.addOntology(source.get());
+                Assert.assertNotEquals(0, o1.axioms().count());
+                InternalModel base1 = ((InternalModelHolder) o1).getBase();
+                Path file = AxiomsSnapshot.of(base1).getFile();
+                Assert.assertTrue("No snapshot " + file, Files.exists(file));
+
+                // the same document parsed again has other blank node labels, but the same snapshot:
+                Graph graph = source.get();
+                Set<OWLAxiom> expected = OntManagers.createONT().addOntology(graph).axioms().collect(Collectors.toSet());
+                OntologyManager m2 = OntManagers.createONT();
+                m2.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+                OntologyModel o2 = m2.addOntology(graph);
+                AxiomsSnapshot snapshot = AxiomsSnapshot.of(((InternalModelHolder) o2).getBase());
+                Assert.assertEquals(file, snapshot.getFile());
+                Assert.assertEquals(expected, snapshot.read().values().stream()
+                        .flatMap(InternalModel.InternalObjectTriplesMap::objects)
+                        .filter(OWLAxiom.class::isInstance).collect(Collectors.toSet()));
+                Assert.assertEquals(expected, o2.axioms().collect(Collectors.toSet()));
+                checkAxioms(o2);
+                try (Stream<Path> files = Files.list(dir)) {
+                    Assert.assertEquals(1, files.count());
+                }
+
+                // make sure the axioms are really taken from the file:
+                OWLDataFactory df = m1.getOWLDataFactory();
+                OWLAxiom fake = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("urn:fake")));
+                Files.delete(file);
+                AxiomsSnapshot.of(base1).write(Collections.singletonList(new InternalModel.InternalObjectTriplesMap<>(OWLDeclarationAxiom.class,
+                        Collections.singleton(InternalObject.create((OWLDeclarationAxiom) fake)))));
+                OntologyManager m3 = OntManagers.createONT();
+                m3.getOntologyConfigurator().setAxiomsSnapshotDirectory(dir.toString());
+                Assert.assertTrue(m3.addOntology(source.get()).containsAxiom(fake));
+            } finally {
+                try (Stream<Path> files = Files.list(dir)) {
+                    for (Path f : files.collect(Collectors.toList())) Files.delete(f);
+                }
+                Files.delete(dir);
+            }
+        }
+    }
+
+    @Test
+    public void testStreamingModeWithoutCache() throws Exception {
+        Graph graph = OntManagers.createONT().loadOntology(IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl")))
+                .asGraphModel().getBaseGraph();
+        OntologyModel expected = OntManagers.createONT().addOntology(graph);
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setUseContentCache(false);
+        OntologyModel actual = m.addOntology(ModelFactory.createDefaultModel().add(ModelFactory.createModelForGraph(graph)).getGraph());
+        InternalModel base = ((InternalModelHolder) actual).getBase();
+        Assert.assertFalse(base.isContentCacheEnabled());
+
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.annotations().collect(Collectors.toSet()), actual.annotations().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.signature().collect(Collectors.toSet()), actual.signature().collect(Collectors.toSet()));
+        OWLClass pizza = expected.classesInSignature().filter(c -> c.getIRI().getIRIString().endsWith("#Pizza"))
+                .findFirst().orElseThrow(AssertionError::new);
+        Assert.assertEquals(expected.referencingAxioms(pizza).collect(Collectors.toSet()), actual.referencingAxioms(pizza).collect(Collectors.toSet()));
+        Assert.assertEquals(expected.subClassAxiomsForSuperClass(pizza).collect(Collectors.toSet()),
+                actual.subClassAxiomsForSuperClass(pizza).collect(Collectors.toSet()));
+
+        // changes go straight to the graph:
+        OWLDataFactory df = m.getOWLDataFactory();
+        OWLAxiom add = df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create("urn:x")), pizza);
+        OWLAxiom remove = expected.axioms(AxiomType.SUBCLASS_OF).filter(a -> a.getSuperClass().isAnonymous())
+                .findFirst().orElseThrow(AssertionError::new);
+        actual.add(add);
+        actual.remove(remove);
+        Assert.assertTrue(actual.containsAxiom(add));
+        Assert.assertFalse(actual.containsAxiom(remove));
+        OWLAnnotation annotation = df.getRDFSComment("streaming");
+        m.applyChange(new AddOntologyAnnotation(actual, annotation));
+        Assert.assertTrue(actual.annotations().anyMatch(annotation::equals));
+        m.applyChange(new RemoveOntologyAnnotation(actual, annotation));
+        Assert.assertFalse(actual.annotations().anyMatch(annotation::equals));
+        checkAxioms(actual);
+
+        // the same changes made in the ordinary mode lead to the same graph:
+        expected.add(add);
+        expected.remove(remove);
+        Assert.assertTrue(expected.asGraphModel().getBaseGraph().isIsomorphicWith(actual.asGraphModel().getBaseGraph()));
+    }
+
+    private static void checkAxioms(OntologyModel o) throws OWLOntologyCreationException {
+        Graph copy = ModelFactory.createModelForGraph(o.asGraphModel().getBaseGraph()).difference(ModelFactory.createDefaultModel()).getGraph();
+        OntologyModel expected = OntManagers.createONT().addOntology(copy);
+        Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), o.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(expected.signature().collect(Collectors.toSet()), o.signature().collect(Collectors.toSet()));
+    }
+
     private static <Axiom extends OWLAxiom> void check(OntGraphModel model, Class<Axiom> view) {
         LOGGER.debug("=========================");
         LOGGER.info(view.getSimpleName() + ":");
@@ -202,6 +469,16 @@ public class InternalModelTest {
         test(OWLDataProperty.class, jena.dataProperties(), owl.dataPropertiesInSignature());
     }
 
+    private static class TestInternalModel extends InternalModel {
+        TestInternalModel(Graph base) {
+            super(base, ConfigProvider.DEFAULT_CONFIG);
+        }
+
+        Set<Triple> triples(OWLAxiom axiom) {
+            return getAxiomTripleStore(axiom.getAxiomType()).getTripleSet(axiom);
+        }
+    }
+
     private void debugPrint(InternalModel jena, OWLOntology owl) {
         ReadWriteUtils.print(owl);
         LOGGER.debug("==============================");
@@ -14,9 +14,12 @@
 
 package ru.avicomp.ontapi.tests;
 
+import org.apache.jena.graph.Factory;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.vocabulary.OWL;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,6 +29,7 @@ import org.semanticweb.owlapi.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.*;
+import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.jena.OntJenaException;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.model.OntCE;
@@ -35,8 +39,10 @@ import ru.avicomp.ontapi.jena.vocabulary.RDF;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -161,4 +167,36 @@ public class MiscOntologyTest {
         LOGGER.debug("OWL Axioms Count={}, ONT Axioms Count={}", owlAxioms.size(), ontAxioms.size());
         Assert.assertEquals(ontAxioms, owlAxioms);
     }
+
+    @Test
+    public void testOntGraphDocumentSourceHandoffAndStreams() throws Exception {
+        IRI pizza = IRI.create(MiscOntologyTest.class.getResource("/pizza.ttl"));
+        Graph graph = OntManagers.createONT().loadOntology(pizza).asGraphModel().getBaseGraph();
+        OntGraphDocumentSource src = new OntGraphDocumentSource() {
+            @Override
+            public Graph getGraph() {
+                return graph;
+            }
+        };
+        Graph copy = Factory.createGraphMem();
+        Assert.assertEquals(OntFormat.TURTLE, OntologyFactoryImpl.ONTLoaderImpl.readGraph(copy, src, new OntConfig().buildLoaderConfiguration()));
+        Assert.assertTrue(copy.isIsomorphicWith(graph));
+        Assert.assertEquals(graph.getPrefixMapping().getNsPrefixMap(), copy.getPrefixMapping().getNsPrefixMap());
+
+        // more opened not-consumed streams than the size of the shared pool:
+        int num = Runtime.getRuntime().availableProcessors() * 2 + 2;
+        List<InputStream> streams = new ArrayList<>();
+        for (int i = 0; i < num; i++) {
+            streams.add(src.getInputStream().orElseThrow(AssertionError::new));
+        }
+        Assert.assertTrue("Too many writers", Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("OntGraphDocumentSource-writer")).count() <= OntGraphDocumentSource.MAX_WRITERS);
+        for (InputStream in : streams) {
+            Graph g = Factory.createGraphMem();
+            try (InputStream is = in) {
+                RDFDataMgr.read(g, is, Lang.TURTLE);
+            }
+            Assert.assertTrue(g.isIsomorphicWith(graph));
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * This file is part of the ONT API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright (c) 2017, Avicomp Services, AO
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package ru.avicomp.ontapi.tests.formats;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.OntFormat;
+import ru.avicomp.ontapi.OntManagers;
+import ru.avicomp.ontapi.OntologyFactoryImpl;
+import ru.avicomp.ontapi.OntologyManager;
+import ru.avicomp.ontapi.OntologyModel;
+import ru.avicomp.ontapi.jena.model.OntClass;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.model.OntNOP;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * To test the content sniffing in the loader (see {@link OntologyFactoryImpl.ONTLoaderImpl#detectFormats(byte[], int)}).
+ */
+@RunWith(Parameterized.class)
+public class FormatDetectionTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FormatDetectionTest.class);
+    private static final String URI = "http://test/detection";
+    private static OntologyModel ontology;
+
+    private final OntFormat format;
+
+    public FormatDetectionTest(OntFormat format) {
+        this.format = format;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<OntFormat> getData() {
+        return Arrays.asList(OntFormat.TURTLE, OntFormat.RDF_XML, OntFormat.RDF_JSON, OntFormat.JSON_LD,
+                OntFormat.NTRIPLES, OntFormat.NQUADS, OntFormat.TRIG, OntFormat.TRIX, OntFormat.RDF_THRIFT,
+                OntFormat.OWL_XML, OntFormat.FUNCTIONAL_SYNTAX, OntFormat.MANCHESTER_SYNTAX);
+    }
+
+    @BeforeClass
+    public static void before() {
+        ontology = OntManagers.createONT().createOntology(IRI.create(URI));
+        OntGraphModel m = ontology.asGraphModel();
+        m.getID().addComment("Test", null);
+        OntClass a = m.createOntEntity(OntClass.class, URI + "#A");
+        OntClass b = m.createOntEntity(OntClass.class, URI + "#B");
+        b.addSubClassOf(m.createObjectSomeValuesFrom(m.createOntEntity(OntNOP.class, URI + "#p"), a));
+        a.addLabel("A", "en");
+    }
+
+    private byte[] save() throws OWLOntologyStorageException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ontology.getOWLOntologyManager().saveOntology(ontology, format.createOwlFormat(), out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testDetect() throws OWLOntologyStorageException {
+        byte[] document = save();
+        Set<OntFormat> res = OntologyFactoryImpl.ONTLoaderImpl.detectFormats(document, document.length);
+        LOGGER.debug("{} => {}", format, res);
+        Assert.assertTrue("Wrong detection for " + format + ": " + res, res.contains(format));
+        // the beginning only:
+        int length = Math.min(document.length, 1024);
+        Assert.assertEquals(res, OntologyFactoryImpl.ONTLoaderImpl.detectFormats(document, length));
+    }
+
+    @Test
+    public void testLoadWithoutFormat() throws OWLOntologyStorageException, OWLOntologyCreationException {
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.loadOntologyFromOntologyDocument(new StreamDocumentSource(new ByteArrayInputStream(save())));
+        Assert.assertEquals(ontology.getOntologyID(), o.getOntologyID());
+        OntFormat actual = OntFormat.get(m.getOntologyFormat(o));
+        Assert.assertNotNull(actual);
+        LOGGER.debug("{} => {}", format, actual);
+        if (format.isOWLOnly()) {
+            Assert.assertEquals(format, actual);
+        } else {
+            Assert.assertEquals(ontology.axioms().count(), o.axioms().count());
+        }
+    }
+
+    @Test
+    public void testDetectUnknown() {
+        for (String s : Arrays.asList("", "  \n# comment only", "Hello world", ":a :b :c .")) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(s, OntologyFactoryImpl.ONTLoaderImpl.detectFormats(bytes, bytes.length).isEmpty());
+        }
+    }
+}
@@ -14,27 +14,36 @@
 
 package ru.avicomp.ontapi.tests.jena;
 
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphUtil;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.mem.GraphMem;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.sparql.graph.UnmodifiableGraph;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDF;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.avicomp.ontapi.jena.CompactGraph;
+import ru.avicomp.ontapi.jena.ConcurrentGraph;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.model.OntGraphModel;
 import ru.avicomp.ontapi.jena.utils.Graphs;
+import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.utils.SpinModels;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Created by @szuev on 06.04.2018.
@@ -91,6 +100,147 @@ public class GraphsTest {
         Assert.assertEquals(7, tree.split("\n").length);
     }
 
+    @Test
+    public void testConcurrentGraphLockIteration() {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        Graph base = createNamedGraph("a");
+        base.add(Triple.create(NodeFactory.createURI("s"), NodeFactory.createURI("p"), NodeFactory.createURI("o")));
+        ConcurrentGraph g = new ConcurrentGraph(base, lock, ConcurrentGraph.ReadMode.LOCK_ITERATION);
+        Assert.assertEquals(ConcurrentGraph.ReadMode.LOCK_ITERATION, g.getReadMode());
+
+        ExtendedIterator<Triple> it = g.find(Triple.ANY);
+        Assert.assertEquals(1, lock.getReadLockCount());
+        Assert.assertFalse(lock.writeLock().tryLock());
+        Assert.assertEquals(2, it.toList().size());
+        Assert.assertEquals("Exhausted iterator must release the lock", 0, lock.getReadLockCount());
+
+        it = g.find(Node.ANY, RDF.type.asNode(), Node.ANY);
+        Assert.assertTrue(it.hasNext());
+        it.close();
+        it.close();
+        Assert.assertEquals("Closed iterator must release the lock once", 0, lock.getReadLockCount());
+        Assert.assertTrue(lock.writeLock().tryLock());
+        lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testConcurrentGraphSnapshot() {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        Graph base = createNamedGraph("b");
+        ConcurrentGraph g = new ConcurrentGraph(base, lock, ConcurrentGraph.ReadMode.SNAPSHOT);
+        Assert.assertEquals(1, g.find(Triple.ANY).toList().size());
+
+        ExtendedIterator<Triple> it = g.find(Triple.ANY);
+        Assert.assertEquals("Snapshot iterator must not hold the lock", 0, lock.getReadLockCount());
+        // the modification does not affect the opened iterator:
+        g.add(Triple.create(NodeFactory.createURI("s"), NodeFactory.createURI("p"), NodeFactory.createURI("o")));
+        Assert.assertEquals(1, it.toList().size());
+        Assert.assertEquals(2, g.find(Triple.ANY).toList().size());
+        // modification of the base graph directly:
+        base.delete(Triple.create(NodeFactory.createURI("s"), NodeFactory.createURI("p"), NodeFactory.createURI("o")));
+        Assert.assertEquals(1, g.find(Triple.ANY).toList().size());
+        Assert.assertEquals(1, g.find(Node.ANY, RDF.type.asNode(), OWL.Ontology.asNode()).toList().size());
+    }
+
+    @Test
+    public void testCompactGraphMatchesGraphMem() {
+        for (boolean direct : new boolean[]{false, true}) {
+            Random r = new Random(42);
+            List<Node> nodes = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                nodes.add(NodeFactory.createURI("urn:n" + i));
+            }
+            nodes.add(NodeFactory.createBlankNode());
+            nodes.add(NodeFactory.createLiteral("x", "en"));
+            nodes.add(NodeFactory.createLiteral("1", XSDDatatype.XSDint));
+            CompactGraph g = new CompactGraph(direct);
+            Graph expected = new GraphMem();
+            for (int i = 0; i < 5000; i++) {
+                Triple t = Triple.create(nodes.get(r.nextInt(31)), nodes.get(r.nextInt(10)), nodes.get(r.nextInt(nodes.size())));
+                if (r.nextInt(3) == 0) {
+                    g.delete(t);
+                    expected.delete(t);
+                } else {
+                    g.add(t);
+                    expected.add(t);
+                }
+            }
+            Assert.assertTrue(g.isDirect() == direct);
+            Assert.assertEquals(expected.size(), g.size());
+            Assert.assertTrue(g.isIsomorphicWith(expected));
+            for (int i = 0; i < 200; i++) {
+                Node s = r.nextBoolean() ? Node.ANY : nodes.get(r.nextInt(31));
+                Node p = r.nextBoolean() ? Node.ANY : nodes.get(r.nextInt(10));
+                Node o = r.nextBoolean() ? Node.ANY : nodes.get(r.nextInt(nodes.size()));
+                Assert.assertEquals(expected.find(s, p, o).toSet(), g.find(s, p, o).toSet());
+                Assert.assertEquals(expected.contains(s, p, o), g.contains(s, p, o));
+            }
+            Assert.assertFalse(g.contains(NodeFactory.createURI("urn:absent"), Node.ANY, Node.ANY));
+
+            // remove through the iterator:
+            Node p = nodes.get(3);
+            ExtendedIterator<Triple> it = g.find(Node.ANY, p, Node.ANY);
+            while (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+            expected.remove(Node.ANY, p, Node.ANY);
+            Assert.assertFalse(g.contains(Node.ANY, p, Node.ANY));
+            Assert.assertEquals(expected.size(), g.size());
+            Assert.assertTrue(g.isIsomorphicWith(expected));
+
+            g.clear();
+            Assert.assertTrue(g.isEmpty());
+            Assert.assertEquals(0, g.dictionarySize());
+        }
+    }
+
+    @Test
+    public void testCompactGraphRowsTable() {
+        TableCompactGraph g = new TableCompactGraph();
+        List<Triple> triples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Triple t = Triple.create(NodeFactory.createURI("urn:s" + i), RDF.type.asNode(), OWL.Class.asNode());
+            triples.add(t);
+            g.add(t);
+            Assert.assertEquals(g.size(), g.tableEntries());
+        }
+        for (Triple t : triples.subList(0, 500)) {
+            g.delete(t);
+            Assert.assertEquals(g.size(), g.tableEntries());
+        }
+        Assert.assertEquals(500, g.size());
+        triples.subList(0, 500).forEach(t -> Assert.assertFalse(g.contains(t)));
+        triples.subList(500, 1000).forEach(t -> Assert.assertTrue(g.contains(t)));
+    }
+
+    /**
+     * A {@link CompactGraph} which exposes the number of rows in the hash table.
+     */
+    private static class TableCompactGraph extends CompactGraph {
+        int tableEntries() {
+            int res = 0;
+            for (int i = 0; i < rowsTable.size(); i++) {
+                if (rowsTable.get(i) != 0) res++;
+            }
+            return res;
+        }
+    }
+
+    @Test
+    public void testCompactGraphLoadSpin() {
+        for (OntModelFactory.GraphType type : OntModelFactory.GraphType.values()) {
+            loadSpinGraphs().values().forEach(expected -> {
+                Graph g = OntModelFactory.createDefaultGraph(type);
+                GraphUtil.addInto(g, expected);
+                Assert.assertEquals(expected.size(), g.size());
+                Assert.assertTrue(g.isIsomorphicWith(expected));
+                Assert.assertEquals(expected.find(Node.ANY, RDF.type.asNode(), OWL.Class.asNode()).toList().size(),
+                        g.find(Node.ANY, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+            });
+        }
+    }
+
     public static Graph createNamedGraph(String uri) {
         OntGraphModel m = OntModelFactory.createModel();
         m.setID(uri);
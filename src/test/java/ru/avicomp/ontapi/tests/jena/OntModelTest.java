@@ -14,7 +14,10 @@
 
 package ru.avicomp.ontapi.tests.jena;
 
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.rdf.model.*;
+import org.apache.jena.rdf.model.impl.ResourceImpl;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.util.iterator.UniqueFilter;
 import org.apache.jena.vocabulary.RDFS;
@@ -25,6 +28,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.jena.OntModelFactory;
 import ru.avicomp.ontapi.jena.impl.OntCEImpl;
+import ru.avicomp.ontapi.jena.impl.OntGraphModelImpl;
+import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.model.*;
 import ru.avicomp.ontapi.jena.vocabulary.OWL;
 import ru.avicomp.ontapi.jena.vocabulary.RDF;
@@ -469,5 +474,52 @@ public class OntModelTest {
         Assert.assertEquals("Incorrect count of local entities", 2, child.ontEntities().filter(OntEntity::isLocal).count());
     }
 
-}
+    @Test
+    public void testNodeCache() {
+        String baseURI = "http://test.com/graph/7";
+        String baseNS = baseURI + "#";
+        OntGraphModelImpl base = new OntGraphModelImpl(Factory.createGraphMem(), OntModelConfig.getPersonality(), true);
+        base.setID(baseURI);
+        OntClass cl1 = base.createOntEntity(OntClass.class, baseNS + "Class1");
+        OntNOP p1 = base.createOntEntity(OntNOP.class, baseNS + "prop1");
 
+        String childURI = "http://test.com/graph/8";
+        String childNS = childURI + "#";
+        OntGraphModelImpl child = new OntGraphModelImpl(Factory.createGraphMem(), OntModelConfig.getPersonality(), true);
+        Assert.assertTrue(child.hasNodeCache());
+        child.setID(childURI);
+        child.addImport(base);
+        OntCE ce = child.createObjectSomeValuesFrom(p1, cl1);
+        OntClass cl2 = child.createOntEntity(OntClass.class, childNS + "Class2");
+        cl2.addSubClassOf(ce);
+        ReadWriteUtils.print(child);
+
+        Assert.assertEquals(2, child.listClasses().count());
+        Assert.assertTrue(new ResourceImpl(NodeFactory.createURI(baseNS + "Class1"), child).canAs(OntClass.class));
+        Assert.assertTrue(new ResourceImpl(ce.asNode(), child).canAs(OntCE.ObjectSomeValuesFrom.class));
+        // repeat:
+        Assert.assertEquals(2, child.listClasses().count());
+        Assert.assertTrue(new ResourceImpl(NodeFactory.createURI(baseNS + "Class1"), child).canAs(OntClass.class));
+
+        // change the child graph:
+        child.removeAll(ce, RDF.type, null);
+        Assert.assertFalse(new ResourceImpl(ce.asNode(), child).canAs(OntCE.ObjectSomeValuesFrom.class));
+
+        // change the imported graph:
+        base.removeOntObject(cl1);
+        Assert.assertFalse(new ResourceImpl(NodeFactory.createURI(baseNS + "Class1"), child).canAs(OntClass.class));
+        Assert.assertEquals(1, child.listClasses().count());
+
+        // change the imports:
+        OntGraphModelImpl other = new OntGraphModelImpl(Factory.createGraphMem(), OntModelConfig.getPersonality());
+        other.setID("http://test.com/graph/9");
+        other.createOntEntity(OntClass.class, baseNS + "Class1");
+        child.addImport(other);
+        Assert.assertTrue(new ResourceImpl(NodeFactory.createURI(baseNS + "Class1"), child).canAs(OntClass.class));
+        Assert.assertEquals(2, child.listClasses().count());
+        child.removeImport(other);
+        Assert.assertFalse(new ResourceImpl(NodeFactory.createURI(baseNS + "Class1"), child).canAs(OntClass.class));
+        Assert.assertEquals(1, child.listClasses().count());
+    }
+
+}
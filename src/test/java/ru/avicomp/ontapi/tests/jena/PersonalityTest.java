@@ -182,6 +182,30 @@ public class PersonalityTest {
         Assert.assertEquals(3, disjoint3.members().count());
     }
 
+    @Test
+    public void testMakerFactories() {
+        OntGraphModel m = OntModelFactory.createModel();
+        Node node = m.createResource("http://ex.com#i").asNode();
+        EnhGraph eg = (EnhGraph) m;
+
+        EnhNode res = new OntMaker.Default(OntIndividualImpl.NamedImpl.class).instance(node, eg);
+        Assert.assertEquals(OntIndividualImpl.NamedImpl.class, res.getClass());
+        Assert.assertEquals(node, res.asNode());
+
+        res = new OntMaker.WithType(OntIndividualImpl.NamedImpl.class, OWL.NamedIndividual, IndividualImpl::new).instance(node, eg);
+        Assert.assertEquals(IndividualImpl.class, res.getClass());
+        Assert.assertEquals(node, res.asNode());
+
+        // no public constructor: the error must appear only when the instance is required
+        OntMaker maker = new OntMaker.Default(IndividualImpl.class);
+        try {
+            maker.instance(node, eg);
+            Assert.fail("Possible to create an instance using private constructor");
+        } catch (OntJenaException j) {
+            LOGGER.debug("Expected: {}", j.getMessage());
+        }
+    }
+
     @AfterClass
     public static void afterClass() {
         LOGGER.info("Unregister '{}'", NAMED_INDIVIDUAL);
@@ -14,14 +14,19 @@
 
 package ru.avicomp.ontapi.tests.managers;
 
+import org.apache.jena.graph.Triple;
 import org.apache.jena.ontology.OntModel;
 import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.util.FileManager;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.hamcrest.core.IsEqual;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
+import org.semanticweb.owlapi.io.StringDocumentSource;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,8 +34,10 @@ import ru.avicomp.ontapi.*;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
 import ru.avicomp.ontapi.internal.InternalObject;
 import ru.avicomp.ontapi.internal.ReadHelper;
+import ru.avicomp.ontapi.jena.CompactGraph;
 import ru.avicomp.ontapi.jena.ConcurrentGraph;
 import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.UnionGraph;
 import ru.avicomp.ontapi.jena.impl.conf.OntModelConfig;
 import ru.avicomp.ontapi.jena.model.OntClass;
 import ru.avicomp.ontapi.jena.model.OntEntity;
@@ -39,16 +46,33 @@ import ru.avicomp.ontapi.transforms.GraphTransformers;
 import ru.avicomp.ontapi.utils.OntIRI;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 import ru.avicomp.ontapi.utils.SpinModels;
+import ru.avicomp.owlapi.OWLOntologyWrapper;
+import ru.avicomp.owlapi.StampedReadWriteLock;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -151,6 +175,87 @@ public class CommonManagerTest {
         Assert.assertEquals(12, o2.getAxiomCount());
     }
 
+    @Test
+    public void testConcurrentGraphModelIsCached() {
+        OntologyManager m = OntManagers.createConcurrentONT();
+        OntologyModel a = m.createOntology(IRI.create("urn:a"));
+        OntologyModel b = m.createOntology(IRI.create("urn:b"));
+        OntGraphModel g1 = a.asGraphModel();
+        Assert.assertSame(g1, a.asGraphModel());
+        Assert.assertEquals(0, g1.imports().count());
+
+        OWLDataFactory df = m.getOWLDataFactory();
+        m.applyChange(new AddImport(a, df.getOWLImportsDeclaration(IRI.create("urn:b"))));
+        OntGraphModel g2 = a.asGraphModel();
+        Assert.assertNotSame(g1, g2);
+        Assert.assertSame(g2, a.asGraphModel());
+        Assert.assertEquals(1, g2.imports().count());
+        b.asGraphModel().createOntEntity(OntClass.class, "urn:b#C");
+        Assert.assertTrue(g2.ontObjects(OntClass.class).anyMatch(c -> "urn:b#C".equals(c.getURI())));
+
+        m.applyChange(new RemoveImport(a, df.getOWLImportsDeclaration(IRI.create("urn:b"))));
+        OntGraphModel g3 = a.asGraphModel();
+        Assert.assertNotSame(g2, g3);
+        Assert.assertEquals(0, g3.imports().count());
+    }
+
+    @Test
+    public void testAddAxiomsInBatch() throws Exception {
+        OWLOntology src = OntManagers.createONT().loadOntology(IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl")));
+        List<OWLAxiom> axioms = src.axioms().collect(Collectors.toList());
+        Set<OWLAxiom> expected = new HashSet<>(axioms);
+
+        OntologyManager m = OntManagers.createONT();
+        OntologyModel o = m.createOntology();
+        // one axiom is already present and one is duplicated:
+        o.add(axioms.get(0));
+        List<OWLAxiom> toAdd = new ArrayList<>(axioms);
+        toAdd.add(axioms.get(1));
+        ChangeDetails res = m.applyChangesAndGetDetails(toAdd.stream().map(a -> new AddAxiom(o, a)).collect(Collectors.toList()));
+        Assert.assertEquals(ChangeApplied.SUCCESSFULLY, res.getChangeEffect());
+        Assert.assertEquals(axioms.size() - 1, res.getEnactedChanges().size());
+        Assert.assertEquals(expected, o.axioms().collect(Collectors.toSet()));
+        Assert.assertEquals(ChangeApplied.NO_OPERATION, m.addAxioms(o, axioms.stream()));
+
+        // the same ontology, but built axiom by axiom:
+        OntologyModel seq = OntManagers.createONT().createOntology();
+        axioms.forEach(seq::add);
+        Assert.assertEquals(expected, seq.axioms().collect(Collectors.toSet()));
+        Assert.assertTrue(o.asGraphModel().getBaseGraph().isIsomorphicWith(seq.asGraphModel().getBaseGraph()));
+    }
+
+    @Test
+    public void testAddAxiomsInBatchWithFailure() throws Exception {
+        for (boolean useCache : new boolean[]{true, false}) {
+            OntologyManager m = OntManagers.createONT();
+            m.getOntologyConfigurator().setUseContentCache(useCache);
+            OWLDataFactory df = m.getOWLDataFactory();
+            OntologyModel o = m.createOntology();
+            OWLAxiom existing = df.getOWLDeclarationAxiom(df.getOWLClass("A"));
+            o.add(existing);
+            long size = o.asGraphModel().getBaseGraph().size();
+
+            // the value of the annotation can't be written, but the main triple of the axiom is written before it:
+            OWLAnnotation wrong = df.getOWLAnnotation(df.getRDFSComment(), Mockito.mock(OWLAnnotationValue.class));
+            List<OWLAxiom> axioms = Arrays.asList(df.getOWLSubClassOfAxiom(df.getOWLClass("B"), df.getOWLClass("C")),
+                    df.getOWLDeclarationAxiom(df.getOWLClass("D")),
+                    df.getOWLSubClassOfAxiom(df.getOWLClass("E"), df.getOWLClass("F"), Collections.singleton(wrong)),
+                    df.getOWLDeclarationAxiom(df.getOWLClass("G")));
+            try {
+                m.applyChanges(axioms.stream().map(a -> new AddAxiom(o, a)).collect(Collectors.toList()));
+                Assert.fail("Possible to add wrong axiom");
+            } catch (OntApiException e) {
+                LOGGER.debug("Expected: '{}'", e.getMessage());
+            }
+            Assert.assertEquals("Cache: " + useCache, Collections.singletonList(existing), o.axioms().collect(Collectors.toList()));
+            // the triples of the failed axiom are removed too:
+            Assert.assertEquals("Cache: " + useCache, size, o.asGraphModel().getBaseGraph().size());
+            List<OWLAxiom> correct = axioms.stream().filter(a -> a.annotations().count() == 0).collect(Collectors.toList());
+            Assert.assertEquals(ChangeApplied.SUCCESSFULLY, m.addAxioms(o, correct.stream()));
+            correct.forEach(a -> Assert.assertTrue(o.containsAxiom(a)));
+        }
+    }
+
     @Test
     public void testSerialization() throws Exception {
         serializationTest(OntManagers.createONT());
@@ -161,6 +266,320 @@ public class CommonManagerTest {
         serializationTest(OntManagers.createConcurrentONT());
     }
 
+    @Test
+    public void testSerializationWithStampedLock() throws Exception {
+        serializationTest(OntManagers.createConcurrentONT(new StampedReadWriteLock()));
+    }
+
+    @Test
+    public void testOptimisticReads() throws Exception {
+        StampedReadWriteLock lock = new StampedReadWriteLock();
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createConcurrentONT(lock);
+        Assert.assertTrue("Not concurrent", m.isConcurrent());
+        Assert.assertSame(lock, m.getLock());
+        IRI iri1 = IRI.create("http://test.org/stamped-1");
+        IRI iri2 = IRI.create("http://test.org/stamped-2");
+        IRI iri3 = IRI.create("http://test.org/stamped-3");
+        OntologyModel o = m.createOntology(iri1);
+        Assert.assertEquals(iri1, o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+        OntologyModel other = m.createOntology();
+        int hash = o.hashCode();
+
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<OWLOntologyID> res;
+        Future<Long> count;
+        lock.writeLock().lock();
+        try {
+            // reentrant:
+            Assert.assertFalse(o.isAnonymous());
+            m.applyChange(new SetOntologyID(o, iri2));
+            Assert.assertEquals(iri2, o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+            m.applyChange(new SetOntologyID(o, iri3));
+            // the id accessors do not wait for the writer, they return the id known before the writer came:
+            res = service.submit(() -> {
+                Assert.assertFalse(o.isAnonymous());
+                Assert.assertEquals(o, o);
+                Assert.assertNotEquals(o, other);
+                Assert.assertEquals(hash, o.hashCode());
+                return o.getOntologyID();
+            });
+            Assert.assertEquals(iri1, res.get(5, TimeUnit.SECONDS).getOntologyIRI().orElseThrow(AssertionError::new));
+            Assert.assertEquals(iri3, o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+            // but the axioms reading is not allowed while there is a writer:
+            CountDownLatch reading = new CountDownLatch(1);
+            count = service.submit(() -> {
+                reading.countDown();
+                return o.axioms().count();
+            });
+            reading.await();
+            Assert.assertFalse("Reading is not blocked", count.isDone());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Assert.assertFalse(lock.isWriteLocked());
+        Assert.assertEquals(iri3, o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+        Assert.assertEquals(0, count.get().longValue());
+        Assert.assertNotEquals(hash, o.hashCode());
+        service.shutdown();
+        Assert.assertEquals(2, m.ontologies().count());
+    }
+
+    @Test
+    public void testSerializationWithOntologyLocking() throws Exception {
+        serializationTest(OntManagers.createConcurrentONT(new ReentrantReadWriteLock(), true));
+    }
+
+    @Test
+    public void testCompactGraphType() throws Exception {
+        IRI doc = IRI.create(ReadWriteUtils.getResourceURI("pizza.ttl"));
+        OntologyManager m1 = OntManagers.createONT();
+        OntologyModel expected = m1.loadOntology(doc);
+        Assert.assertFalse(expected.asGraphModel().getBaseGraph() instanceof CompactGraph);
+        for (OntModelFactory.GraphType type : Arrays.asList(OntModelFactory.GraphType.COMPACT, OntModelFactory.GraphType.COMPACT_OFF_HEAP)) {
+            OntologyManager m2 = OntManagers.createONT();
+            m2.getOntologyConfigurator().setGraphType(type);
+            Assert.assertEquals(type, m2.getOntologyLoaderConfiguration().getGraphType());
+            OntologyModel actual = m2.loadOntology(doc);
+            CompactGraph g = (CompactGraph) actual.asGraphModel().getBaseGraph();
+            Assert.assertEquals(OntModelFactory.GraphType.COMPACT_OFF_HEAP == type, g.isDirect());
+            Assert.assertEquals(expected.asGraphModel().getBaseGraph().size(), g.size());
+            Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), actual.axioms().collect(Collectors.toSet()));
+            Assert.assertTrue(m2.createOntology().asGraphModel().getBaseGraph() instanceof CompactGraph);
+
+            // the graph type is kept after serialization:
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+                stream.writeObject(m2);
+            }
+            OntologyManager copy;
+            try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                copy = (OntologyManager) stream.readObject();
+            }
+            OntologyModel restored = copy.getOntology(actual.getOntologyID());
+            Assert.assertNotNull(restored);
+            g = (CompactGraph) ((OntologyManagerImpl.LazyGraph) restored.asGraphModel().getBaseGraph()).get();
+            Assert.assertEquals(OntModelFactory.GraphType.COMPACT_OFF_HEAP == type, g.isDirect());
+            Assert.assertEquals(expected.axioms().collect(Collectors.toSet()), restored.axioms().collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void testSerializationRestoresGraphsLazily() throws Exception {
+        OntologyManager m = OntManagers.createONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        IRI iri1 = IRI.create("http://test.org/lazy-1");
+        IRI iri2 = IRI.create("http://test.org/lazy-2");
+        OntologyModel o1 = m.createOntology(iri1);
+        OntologyModel o2 = m.createOntology(iri2);
+        m.applyChange(new AddImport(o2, df.getOWLImportsDeclaration(iri1)));
+        o1.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(iri1 + "#C"))));
+        o2.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(iri2 + "#D"))));
+        o2.add(df.getOWLSubClassOfAxiom(df.getOWLClass(IRI.create(iri2 + "#D")), df.getOWLClass(IRI.create(iri1 + "#C"))));
+        o2.asGraphModel().setNsPrefix("x", iri2 + "#");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(m);
+        }
+        OntologyManager copy;
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            copy = (OntologyManager) stream.readObject();
+        }
+        Assert.assertEquals(2, copy.ontologies().count());
+        OntologyModel c1 = copy.getOntology(iri1);
+        OntologyModel c2 = copy.getOntology(iri2);
+        Assert.assertNotNull(c1);
+        Assert.assertNotNull(c2);
+        OntologyManagerImpl.LazyGraph g1 = (OntologyManagerImpl.LazyGraph) c1.asGraphModel().getBaseGraph();
+        OntologyManagerImpl.LazyGraph g2 = (OntologyManagerImpl.LazyGraph) c2.asGraphModel().getBaseGraph();
+        Assert.assertFalse("The graph is already loaded", g1.isLoaded());
+        Assert.assertFalse("The graph is already loaded", g2.isLoaded());
+
+        // the imports are wired directly, without scanning the graphs:
+        Assert.assertSame(g1, ((UnionGraph) c2.asGraphModel().getGraph()).getUnderlying().graphs()
+                .map(x -> ((UnionGraph) x).getBaseGraph()).findFirst().orElseThrow(AssertionError::new));
+        Assert.assertFalse(g2.isLoaded());
+
+        Assert.assertEquals(o2.axioms().collect(Collectors.toSet()), c2.axioms().collect(Collectors.toSet()));
+        Assert.assertTrue("The graph is not loaded", g2.isLoaded());
+        Assert.assertEquals(iri2 + "#", c2.asGraphModel().getNsPrefixURI("x"));
+        Assert.assertEquals(o1.axioms(Imports.INCLUDED).count(), c1.axioms(Imports.INCLUDED).count());
+        Assert.assertEquals(o2.axioms(Imports.INCLUDED).count(), c2.axioms(Imports.INCLUDED).count());
+        Assert.assertTrue(g1.isLoaded());
+        Assert.assertEquals(o1.getOntologyID(), c1.getOntologyID());
+        Assert.assertEquals(1, c2.imports().count());
+    }
+
+    @Test
+    public void testOntologyLocking() throws Exception {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createConcurrentONT(lock, true);
+        Assert.assertTrue(m.isOntologyLocking());
+        OWLDataFactory df = m.getOWLDataFactory();
+        IRI iri1 = IRI.create("http://test.org/locks-1");
+        IRI iri2 = IRI.create("http://test.org/locks-2");
+        OntologyModel o1 = m.createOntology(iri1);
+        OntologyModel o2 = m.createOntology(iri2);
+        ReadWriteLock lock1 = ((OntologyModelImpl.Concurrent) o1).getLock();
+        Assert.assertTrue(lock1 instanceof OntologyManagerImpl.OntologyLock);
+        Assert.assertNotSame(lock1, ((OntologyModelImpl.Concurrent) o2).getLock());
+
+        OWLAxiom a1 = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://test.org/locks#C1")));
+        OWLAxiom a2 = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://test.org/locks#C2")));
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<Long> count1;
+        lock1.writeLock().lock();
+        try {
+            Assert.assertFalse("The manager is locked", lock.isWriteLocked());
+            o1.add(a1);
+            // the other ontology and the registry are accessible:
+            Assert.assertEquals(ChangeApplied.SUCCESSFULLY,
+                    service.submit(() -> o2.add(a2)).get(1, TimeUnit.SECONDS));
+            Assert.assertEquals(1, service.submit(() -> o2.axioms().count()).get(1, TimeUnit.SECONDS).longValue());
+            Assert.assertSame(o1, service.submit(() -> m.getOntology(iri1)).get(1, TimeUnit.SECONDS));
+            // but the locked ontology is not:
+            count1 = service.submit(() -> o1.axioms().count());
+            Thread.sleep(200);
+            Assert.assertFalse("Reading is not blocked", count1.isDone());
+        } finally {
+            lock1.writeLock().unlock();
+        }
+        Assert.assertEquals(1, count1.get().longValue());
+
+        // an imported ontology is modified under the manager's write lock:
+        m.applyChange(new AddImport(o2, df.getOWLImportsDeclaration(iri1)));
+        Assert.assertEquals(1, o2.imports().count());
+        lock1.writeLock().lock();
+        try {
+            Assert.assertTrue("The manager is not locked", lock.isWriteLockedByCurrentThread());
+        } finally {
+            lock1.writeLock().unlock();
+        }
+        Assert.assertFalse(lock.isWriteLocked());
+        Assert.assertEquals(2, o2.axioms(Imports.INCLUDED).count());
+
+        // after removing the import the ontology is locked on its own again:
+        m.applyChange(new RemoveImport(o2, df.getOWLImportsDeclaration(iri1)));
+        Assert.assertEquals(0, o2.imports().count());
+        lock1.writeLock().lock();
+        try {
+            Assert.assertFalse("The manager is locked", lock.isWriteLocked());
+        } finally {
+            lock1.writeLock().unlock();
+        }
+        // the same for the removed importer:
+        m.applyChange(new AddImport(o2, df.getOWLImportsDeclaration(iri1)));
+        m.removeOntology(o2);
+        lock1.writeLock().lock();
+        try {
+            Assert.assertFalse("The manager is locked", lock.isWriteLocked());
+        } finally {
+            lock1.writeLock().unlock();
+        }
+        service.shutdown();
+    }
+
+    @Test
+    public void testLoadWithOntologyLocking() throws Exception {
+        OntologyManager m = OntManagers.createConcurrentONT(new ReentrantReadWriteLock(), true);
+        IRI doc = IRI.create("http://test.org/locks/doc.ttl");
+        String txt = "<http://test.org/locks> a <http://www.w3.org/2002/07/owl#Ontology> .\n" +
+                "<http://test.org/locks#C> a <http://www.w3.org/2002/07/owl#Class> .";
+        OntologyModel o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(txt, doc, null, null));
+        Assert.assertEquals(IRI.create("http://test.org/locks"), o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+        Assert.assertEquals(doc, m.getOntologyDocumentIRI(o));
+        Assert.assertEquals(OntFormat.TURTLE, OntFormat.get(m.getOntologyFormat(o)));
+        Assert.assertEquals(1, o.axioms().count());
+    }
+
+    @Test
+    public void testLoadByIRIWithOntologyLocking() throws Exception {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OntologyManager m = OntManagers.createConcurrentONT(lock, true);
+        Path dir = Files.createTempDirectory("ont-api-locks-test");
+        String ns = "http://test.org/locks/";
+        Map<IRI, IRI> files = new HashMap<>();
+        for (String name : new String[]{"a", "b", "c"}) {
+            OntGraphModel g = OntModelFactory.createModel();
+            g.setID(ns + name);
+            g.createOntEntity(OntClass.class, ns + name + "#C");
+            if ("a".equals(name)) {
+                g.getID().addImport(ns + "b");
+                g.getID().addImport(ns + "c");
+            }
+            Path file = dir.resolve(name + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                g.write(out, "ttl");
+            }
+            files.put(IRI.create(ns + name), IRI.create(file.toFile()));
+        }
+        List<Boolean> locked = new CopyOnWriteArrayList<>();
+        m.getIRIMappers().add((OWLOntologyIRIMapper) iri -> {
+            // the documents are resolved and read before the manager is locked:
+            locked.add(lock.isWriteLocked());
+            return files.get(iri);
+        });
+        OntologyModel o = m.loadOntology(IRI.create(ns + "a"));
+        Assert.assertEquals(3, m.ontologies().count());
+        Assert.assertEquals(2, o.imports().count());
+        Assert.assertEquals(3, o.axioms(Imports.INCLUDED).filter(a -> a.isOfType(AxiomType.DECLARATION)).count());
+        Assert.assertEquals(files.get(IRI.create(ns + "b")), m.getOntologyDocumentIRI(m.getOntology(IRI.create(ns + "b"))));
+        Assert.assertFalse(locked.isEmpty());
+        Assert.assertFalse("Some document is resolved under the write lock: " + locked, locked.contains(true));
+        // the second attempt returns the same ontology:
+        Assert.assertSame(o, m.loadOntology(IRI.create(ns + "a")));
+    }
+
+    @Test
+    public void testOntologyRegistryLookups() {
+        OntologyManager m = OntManagers.createONT();
+        OWLDataFactory df = m.getOWLDataFactory();
+        String ns = "http://test.org/registry/";
+        for (int i = 0; i < 50; i++) {
+            m.createOntology(IRI.create(ns + i));
+        }
+        Assert.assertEquals(50, m.ontologies().count());
+        OntologyModel o1 = m.getOntology(IRI.create(ns + 1));
+        OntologyModel o2 = m.getOntology(IRI.create(ns + 2));
+        Assert.assertNotNull(o1);
+        Assert.assertNotNull(o2);
+        Assert.assertTrue(m.contains(IRI.create(ns + 49)));
+        Assert.assertFalse(m.contains(IRI.create(ns + 50)));
+
+        // rename through OWL-API:
+        IRI iri1 = IRI.create(ns + "a");
+        IRI ver1 = IRI.create(ns + "a/1.0");
+        m.applyChange(new SetOntologyID(o1, new OWLOntologyID(iri1, ver1)));
+        Assert.assertNull(m.getOntology(IRI.create(ns + 1)));
+        Assert.assertSame(o1, m.getOntology(iri1));
+        Assert.assertSame(o1, m.getOntology(ver1));
+        Assert.assertSame(o1, m.getOntology(new OWLOntologyID(iri1, ver1)));
+        Assert.assertTrue(m.containsVersion(ver1));
+        Assert.assertEquals(Collections.singletonList(o1.getOntologyID()), m.ontologyIDsByVersion(ver1).collect(Collectors.toList()));
+        Assert.assertSame(o1, m.getImportedOntology(df.getOWLImportsDeclaration(iri1)));
+
+        // rename through Jena:
+        IRI iri2 = IRI.create(ns + "b");
+        o2.asGraphModel().setID(iri2.getIRIString());
+        Assert.assertFalse(m.contains(IRI.create(ns + 2)));
+        Assert.assertTrue(m.contains(iri2));
+        Assert.assertSame(o2, m.getOntology(iri2));
+        o2.asGraphModel().getID().setVersionIRI(ns + "b/2.0");
+        Assert.assertTrue(m.containsVersion(IRI.create(ns + "b/2.0")));
+        Assert.assertSame(o2, m.getOntology(new OWLOntologyID(iri2, IRI.create(ns + "b/2.0"))));
+
+        // document iri:
+        IRI doc = IRI.create("file:///registry/b.ttl");
+        m.setOntologyDocumentIRI(o2, doc);
+        Assert.assertSame(o2, m.getImportedOntology(df.getOWLImportsDeclaration(doc)));
+        Assert.assertEquals(doc, m.getOntologyDocumentIRI(o2));
+
+        m.removeOntology(o2);
+        Assert.assertFalse(m.contains(iri2));
+        Assert.assertNull(m.getImportedOntology(df.getOWLImportsDeclaration(doc)));
+        Assert.assertEquals(49, m.ontologies().count());
+    }
+
     @Test
     public void testLoadAnnotationsOption() {
         OntologyManager m = OntManagers.createONT();
@@ -291,6 +710,73 @@ public class CommonManagerTest {
 
     }
 
+    @Test
+    public void testConcurrentReadModes() throws Exception {
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OntologyManagerImpl m = (OntologyManagerImpl) OntManagers.createConcurrentONT(lock);
+        m.setOntologyLoaderConfiguration(m.getOntologyLoaderConfiguration()
+                .setConcurrentReadMode(ConcurrentGraph.ReadMode.LOCK_ITERATION));
+        OntologyModel o = m.createOntology(IRI.create("http://test.org/read-modes"));
+        OWLDataFactory df = m.getOWLDataFactory();
+        o.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://test.org/read-modes#A"))));
+        o.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://test.org/read-modes#B"))));
+        Assert.assertEquals(0, lock.getReadLockCount());
+
+        // the lock is held while the stream is open:
+        Stream<OWLAxiom> axioms = o.axioms();
+        Assert.assertEquals(1, lock.getReadLockCount());
+        axioms.close();
+        Assert.assertEquals(0, lock.getReadLockCount());
+        // a short-circuiting terminal operation releases the lock:
+        Assert.assertTrue(o.axioms().findFirst().isPresent());
+        Assert.assertEquals(0, lock.getReadLockCount());
+        Assert.assertTrue(o.axioms().map(OWLAxiom::getAxiomType).anyMatch(AxiomType.DECLARATION::equals));
+        Assert.assertEquals(0, lock.getReadLockCount());
+        Assert.assertEquals(1, o.axioms().limit(1).collect(Collectors.toList()).size());
+        Assert.assertEquals(0, lock.getReadLockCount());
+        Assert.assertEquals(2, o.axioms().mapToInt(a -> 1).sum());
+        Assert.assertEquals(0, lock.getReadLockCount());
+        // exhausted stream releases the lock:
+        Assert.assertEquals(2, o.axioms().count());
+        Assert.assertEquals(0, lock.getReadLockCount());
+        Iterator<OWLAxiom> it = o.axioms().iterator();
+        Assert.assertEquals(1, lock.getReadLockCount());
+        it.forEachRemaining(a -> Assert.assertTrue(a.isOfType(AxiomType.DECLARATION)));
+        Assert.assertEquals(0, lock.getReadLockCount());
+
+        // graph iterators:
+        ExtendedIterator<Triple> triples = o.asGraphModel().getBaseGraph().find(Triple.ANY);
+        Assert.assertEquals(1, lock.getReadLockCount());
+        triples.close();
+        Assert.assertEquals(0, lock.getReadLockCount());
+
+        // the default mode: the lock is held only while the stream is created
+        m.setOntologyLoaderConfiguration(m.getOntologyLoaderConfiguration()
+                .setConcurrentReadMode(ConcurrentGraph.ReadMode.LOCK_FIND));
+        OntologyModel o2 = m.createOntology(IRI.create("http://test.org/read-modes-2"));
+        o2.add(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create("http://test.org/read-modes#C"))));
+        Stream<OWLAxiom> axioms2 = o2.axioms();
+        Assert.assertEquals(0, lock.getReadLockCount());
+        Assert.assertEquals(1, axioms2.count());
+
+        // the lock is released if the stream can't be iterated:
+        Stream<OWLAxiom> consumed = Stream.empty();
+        consumed.count();
+        OWLOntology broken = new OWLOntologyWrapper(o, lock) {
+            @Override
+            public Stream<OWLAxiom> axioms() {
+                return lockedStream(() -> consumed);
+            }
+        };
+        try {
+            broken.axioms();
+            Assert.fail("Possible to iterate over the consumed stream");
+        } catch (IllegalStateException e) {
+            LOGGER.debug("Expected: '{}'", e.getMessage());
+        }
+        Assert.assertEquals(0, lock.getReadLockCount());
+    }
+
     private static void serializationTest(OWLOntologyManager origin) throws Exception {
         setUpManager(origin);
         debugManager(origin);
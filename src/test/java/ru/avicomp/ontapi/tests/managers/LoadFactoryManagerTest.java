@@ -14,25 +14,45 @@
 
 package ru.avicomp.ontapi.tests.managers;
 
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
 import org.junit.Assert;
 import org.junit.Test;
 import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
 import org.semanticweb.owlapi.io.UnparsableOntologyException;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.util.SimpleIRIMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.avicomp.ontapi.*;
 import ru.avicomp.ontapi.config.OntConfig;
 import ru.avicomp.ontapi.config.OntLoaderConfiguration;
+import ru.avicomp.ontapi.internal.InternalModelHolder;
+import ru.avicomp.ontapi.jena.OntModelFactory;
+import ru.avicomp.ontapi.jena.model.OntClass;
+import ru.avicomp.ontapi.jena.model.OntGraphModel;
+import ru.avicomp.ontapi.jena.utils.Iter;
 import ru.avicomp.ontapi.transforms.OWLRecursiveTransform;
 import ru.avicomp.ontapi.utils.FileMap;
 import ru.avicomp.ontapi.utils.ReadWriteUtils;
 
+import javax.annotation.Nonnull;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -257,6 +277,344 @@ public class LoadFactoryManagerTest {
     }
 
 
+    @Test
+    public void testLoadWithParallelImportsFetching() throws Exception {
+        Path dir = Files.createTempDirectory("ont-api-imports-test");
+        String ns = "http://test.org/imports/";
+        int count = 12;
+        Map<IRI, IRI> files = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            OntGraphModel m = OntModelFactory.createModel();
+            m.setID(ns + i).addComment("Ontology #" + i, null);
+            m.createOntEntity(OntClass.class, ns + i + "#C");
+            // DAG: each ontology imports some of the next ones, the last import is missing:
+            for (int j = i + 1; j < count; j += (i % 3) + 1) {
+                m.getID().addImport(ns + j);
+            }
+            if (i == 3) {
+                m.getID().addImport(ns + "missing");
+            }
+            Path file = dir.resolve(i + ".ttl");
+            try (OutputStream out = Files.newOutputStream(file)) {
+                m.write(out, "ttl");
+            }
+            files.put(IRI.create(ns + i), IRI.create(file.toFile()));
+        }
+        List<String> expected = null;
+        Map<IRI, Integer> expectedCalls = null;
+        Set<String> fetchThreads = null;
+        for (int parallelism : new int[]{1, 4, 4}) {
+            OntologyManager m = OntManagers.createONT();
+            m.getOntologyConfigurator().setFetchImportsParallelism(parallelism)
+                    .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT);
+            Assert.assertEquals(parallelism, m.getOntologyLoaderConfiguration().getFetchImportsParallelism());
+            Map<IRI, Integer> calls = new HashMap<>();
+            m.getIRIMappers().add((OWLOntologyIRIMapper) iri -> {
+                calls.merge(iri, 1, Integer::sum);
+                return files.get(iri);
+            });
+            OntologyModel o = m.loadOntology(IRI.create(ns + 0));
+            Assert.assertEquals(count, m.ontologies().count());
+            // the order of sub-graphs and imports is the same:
+            List<String> actual = m.ontologies()
+                    .sorted(Comparator.comparing(OWLOntology::getOntologyID))
+                    .map(x -> x.getOntologyID() + "=>" + ((OntologyModel) x).asGraphModel().imports()
+                            .map(i -> i.getID().getURI()).collect(Collectors.toList()) + ":" + x.axioms().count())
+                    .collect(Collectors.toList());
+            LOGGER.debug("{}: {}", parallelism, actual);
+            Assert.assertEquals(count - 1, o.importsClosure().count() - 1);
+            if (expected == null) {
+                expected = actual;
+                expectedCalls = calls;
+                continue;
+            }
+            Assert.assertEquals(expected, actual);
+            Assert.assertEquals(expectedCalls, calls);
+            // the pool is shared between loadings, no new threads are started:
+            Set<String> threads = Thread.getAllStackTraces().keySet().stream().map(Thread::getName)
+                    .filter(n -> n.startsWith("ont-api-fetch-imports")).collect(Collectors.toSet());
+            if (fetchThreads != null) {
+                Assert.assertTrue("New fetching threads: " + threads, fetchThreads.containsAll(threads));
+            }
+            fetchThreads = threads;
+        }
+    }
+
+    @Test
+    public void testLoadNTriplesByChunks() throws Exception {
+        Path file = Files.createTempFile("ont-api-chunks-test", ".nt");
+        String ns = "http://test.org/chunks#";
+        int count = 20_000;
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("<http://test.org/chunks> <" + RDF.type + "> <" + OWL.Ontology + "> .");
+            for (int i = 0; i < count; i++) {
+                out.printf("<%sC%d> <%s> <%s> .%n", ns, i, RDF.type, OWL.Class);
+                out.printf("<%sC%d> <%s> \"Class #%d\\nwith a long label to make the file bigger\"@en .%n", ns, i, RDFS.label, i);
+                // the same blank nodes are referred from the beginning and the end of file:
+                out.printf("<%sC%d> <%s> _:b%d .%n", ns, i, RDFS.subClassOf, i % 10);
+            }
+            for (int i = 0; i < 10; i++) {
+                out.printf("_:b%d <%s> <%s> .%n", i, RDF.type, OWL.Restriction);
+                out.printf("_:b%d <%s> <%sp> .%n", i, OWL.onProperty, ns);
+                out.printf("_:b%d <%s> <%sC%d> .%n", i, OWL.someValuesFrom, ns, i);
+            }
+        }
+        Assert.assertTrue(Files.size(file) > 2 * 1024 * 1024);
+        Graph expected = null;
+        for (int parallelism : new int[]{1, 4, 4}) {
+            OntologyManager m = OntManagers.createONT();
+            m.getOntologyConfigurator().setParseParallelism(parallelism).setPerformTransformation(false);
+            Assert.assertEquals(parallelism, m.getOntologyLoaderConfiguration().getParseParallelism());
+            OntologyModel o = m.loadOntologyFromOntologyDocument(IRI.create(file.toFile()));
+            Assert.assertEquals(OntFormat.NTRIPLES, OntFormat.get(m.getOntologyFormat(o)));
+            Graph actual = o.asGraphModel().getBaseGraph();
+            Assert.assertEquals(10, Iter.asStream(actual.find(Node.ANY, RDF.type.asNode(), OWL.Restriction.asNode())).count());
+            Assert.assertEquals(10, Iter.asStream(actual.find(Node.ANY, RDFS.subClassOf.asNode(), Node.ANY))
+                    .map(Triple::getObject).distinct().count());
+            Assert.assertEquals(count * 3 + 31, actual.size());
+            if (expected == null) {
+                expected = actual;
+                continue;
+            }
+            Assert.assertTrue(expected.isIsomorphicWith(actual));
+        }
+
+        // without the file extension the content is recognized as N-Triples, not as Turtle:
+        Path noName = Files.copy(file, file.resolveSibling(file.getFileName() + ".txt"));
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setParseParallelism(4).setPerformTransformation(false);
+        OntologyModel o = m.loadOntologyFromOntologyDocument(IRI.create(noName.toFile()));
+        Assert.assertEquals(OntFormat.NTRIPLES, OntFormat.get(m.getOntologyFormat(o)));
+        Assert.assertTrue(expected.isIsomorphicWith(o.asGraphModel().getBaseGraph()));
+
+        // a turtle directive at the end: the chunked parsing fails, and the document is read as Turtle from scratch:
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(noName, StandardOpenOption.APPEND))) {
+            out.println("@prefix ex: <" + ns + "> .");
+            out.println("ex:X a <" + OWL.Class + "> .");
+        }
+        m = OntManagers.createONT();
+        m.getOntologyConfigurator().setParseParallelism(4).setPerformTransformation(false);
+        o = m.loadOntologyFromOntologyDocument(IRI.create(noName.toFile()));
+        Assert.assertEquals(OntFormat.TURTLE, OntFormat.get(m.getOntologyFormat(o)));
+        Assert.assertEquals(count * 3 + 32, o.asGraphModel().getBaseGraph().size());
+        Files.delete(noName);
+        Files.delete(file);
+    }
+
+    @Test
+    public void testAsyncLoading() throws Exception {
+        IRI iri = IRI.create("http://test.org/async");
+        OntGraphModel g = OntModelFactory.createModel();
+        g.setID(iri.getIRIString()).addImport("http://test.org/async/import");
+        OntGraphModel i = OntModelFactory.createModel();
+        i.setID("http://test.org/async/import");
+        OntologyManager m = OntManagers.createONT();
+        List<String> global = new CopyOnWriteArrayList<>();
+        m.addOntologyLoaderListener(new AsyncListener(global));
+        m.addDocumentSourceMapper(id -> id.getOntologyIRI().filter(x -> x.getIRIString().endsWith("import"))
+                .map(x -> (OWLOntologyDocumentSource) toSource(i, OntFormat.TURTLE)).orElse(null));
+        List<String> local = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<OntologyModel> res = m.loadOntologyAsync(toSource(g, OntFormat.TURTLE),
+                    m.getOntologyLoaderConfiguration(), executor, (phase, doc) -> local.add(phase.name()));
+            OntologyModel o = res.get(1, TimeUnit.MINUTES);
+            Assert.assertEquals(iri, o.getOntologyID().getOntologyIRI().orElseThrow(AssertionError::new));
+            Assert.assertEquals(2, m.ontologies().count());
+            Assert.assertFalse(res.cancel(true));
+            Assert.assertFalse(res.isCancelled());
+        } finally {
+            executor.shutdown();
+        }
+        LOGGER.debug("Phases: {}", local);
+        Assert.assertEquals(local, global);
+        Assert.assertEquals(Arrays.asList("FETCH", "PARSE", "FETCH", "PARSE", "TRANSFORM", "REGISTER", "REGISTER"), local);
+    }
+
+    @Test
+    public void testCancelAsyncLoading() throws Exception {
+        OntGraphModel g = OntModelFactory.createModel();
+        g.setID("http://test.org/cancel");
+        OntologyManager m = OntManagers.createONT();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        List<OntologyManager.LoadingPhase> phases = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<OntologyModel> res = m.loadOntologyAsync(toSource(g, OntFormat.TURTLE),
+                    m.getOntologyLoaderConfiguration(), executor, (phase, doc) -> {
+                        phases.add(phase);
+                        started.countDown();
+                        try {
+                            cancelled.await();
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                    });
+            Assert.assertTrue(started.await(1, TimeUnit.MINUTES));
+            Assert.assertTrue(res.cancel(true));
+            cancelled.countDown();
+            Assert.assertTrue(res.isCancelled());
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(Collections.singletonList(OntologyManager.LoadingPhase.FETCH), phases);
+        Assert.assertEquals(0, m.ontologies().count());
+        // the manager is still usable:
+        m.loadOntologyFromOntologyDocument(toSource(g, OntFormat.TURTLE));
+        Assert.assertEquals(1, m.ontologies().count());
+    }
+
+    private static OWLOntologyDocumentSource toSource(OntGraphModel m, OntFormat format) {
+        return new StringDocumentSource(ReadWriteUtils.toString(m, format), IRI.create(m.getID().getURI() + "/doc"),
+                format.createOwlFormat(), null);
+    }
+
+    private static class AsyncListener implements OWLOntologyLoaderListener, OntologyManager.LoadingProgressListener {
+        private final List<String> phases;
+
+        private AsyncListener(List<String> phases) {
+            this.phases = phases;
+        }
+
+        @Override
+        public void loadingPhase(OntologyManager.LoadingPhase phase, IRI document) {
+            phases.add(phase.name());
+        }
+
+        @Override
+        public void startedLoadingOntology(@Nonnull LoadingStartedEvent event) {
+        }
+
+        @Override
+        public void finishedLoadingOntology(@Nonnull LoadingFinishedEvent event) {
+        }
+    }
+
+    @Test
+    public void testLoadLoopedFamilyWithParallelImportsFetching() throws Exception {
+        OntologyManager m = OntManagers.createONT();
+        m.getOntologyConfigurator().setFetchImportsParallelism(3);
+        loadLoopedOntologyFamily(m);
+        Assert.assertEquals("Wrong ontologies count.", 3, m.ontologies().count());
+    }
+
+    @Test
+    public void testLoadWithDeferredTransformations() throws Exception {
+        String ns = "http://test.org/deferred/";
+        Map<IRI, IRI> files = writeDeferredTransformationsFamily(ns);
+        Node declaration = RDF.type.asNode();
+        Map<String, Set<OWLAxiom>> expected = null;
+        for (boolean defer : new boolean[]{false, true}) {
+            OntologyManager m = OntManagers.createONT();
+            m.getOntologyConfigurator().setDeferTransformations(defer);
+            Assert.assertEquals(defer, m.getOntologyLoaderConfiguration().isDeferTransformations());
+            m.getIRIMappers().add((OWLOntologyIRIMapper) files::get);
+            OntologyModel a = m.loadOntology(IRI.create(ns + "a"));
+            Assert.assertEquals(3, m.ontologies().count());
+            OntologyModel b = m.getOntology(IRI.create(ns + "b"));
+            OntologyModel c = m.getOntology(IRI.create(ns + "c"));
+            Assert.assertNotNull(b);
+            Assert.assertNotNull(c);
+            if (defer) {
+                Stream.of(a, b, c).forEach(o -> {
+                    Assert.assertFalse(((InternalModelHolder) o).getBase().isMaterialized());
+                    Assert.assertFalse(o.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+                });
+                Assert.assertEquals(3, b.axioms().count());
+                Assert.assertTrue(((InternalModelHolder) b).getBase().isMaterialized());
+                Assert.assertTrue(b.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+                Assert.assertFalse(((InternalModelHolder) a).getBase().isMaterialized());
+                Assert.assertFalse(a.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+                Assert.assertFalse(c.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+            }
+            Map<String, Set<OWLAxiom>> actual = new HashMap<>();
+            Stream.of(b, a, c).forEach(o -> actual.put(o.getOntologyID().getOntologyIRI()
+                    .map(IRI::getIRIString).orElseThrow(AssertionError::new), o.axioms().collect(Collectors.toSet())));
+            Stream.of(a, b, c).forEach(o -> Assert.assertTrue(((InternalModelHolder) o).getBase().isMaterialized()));
+            LOGGER.debug("Deferred={}: {}", defer, actual);
+            if (expected == null) {
+                expected = actual;
+                continue;
+            }
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testLoadWithDeferredTransformationsConcurrently() throws Exception {
+        String ns = "http://test.org/deferred-concurrent/";
+        Map<IRI, IRI> files = writeDeferredTransformationsFamily(ns);
+        Node declaration = RDF.type.asNode();
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        OntologyManager m = OntManagers.createConcurrentONT(lock);
+        m.getOntologyConfigurator().setDeferTransformations(true);
+        m.getIRIMappers().add((OWLOntologyIRIMapper) files::get);
+        OntologyModel a = m.loadOntology(IRI.create(ns + "a"));
+        OntologyModel c = m.getOntology(IRI.create(ns + "c"));
+        Assert.assertNotNull(c);
+        Stream.of(a, c).forEach(o -> Assert.assertFalse(((InternalModelHolder) o).getBase().isMaterialized()));
+        // the methods based on the ontology id only do not run the transformations:
+        Assert.assertNotEquals(a, c);
+        Assert.assertNotEquals(a.hashCode(), c.hashCode());
+        Assert.assertNotEquals(0, a.compareTo(c));
+        Assert.assertNotNull(a.toString());
+        Assert.assertTrue(m.contains(a));
+        Stream.of(a, c).forEach(o -> Assert.assertFalse(((InternalModelHolder) o).getBase().isMaterialized()));
+
+        // the transformations are performed under the write lock, so they wait for the readers:
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<Long> count;
+        lock.readLock().lock();
+        try {
+            count = service.submit(() -> a.axioms().count());
+            while (!lock.hasQueuedThreads()) {
+                Thread.yield();
+            }
+            Assert.assertFalse(count.isDone());
+            Assert.assertFalse(((InternalModelHolder) a).getBase().isMaterialized());
+            // a nested reading does not wait for the write lock:
+            Assert.assertEquals(3, c.axioms().count());
+            Assert.assertTrue(((InternalModelHolder) c).getBase().isMaterialized());
+        } finally {
+            lock.readLock().unlock();
+        }
+        Assert.assertEquals(3, count.get().longValue());
+        service.shutdown();
+        Assert.assertTrue(((InternalModelHolder) a).getBase().isMaterialized());
+        Assert.assertEquals(9, a.axioms(Imports.INCLUDED).count());
+
+        // the import is already in the manager, the transformations of the importing ontology must not touch it:
+        OntologyManager other = OntManagers.createONT();
+        other.getOntologyConfigurator().setDeferTransformations(true);
+        other.getIRIMappers().add((OWLOntologyIRIMapper) files::get);
+        OntologyModel b = other.loadOntology(IRI.create(ns + "b"));
+        Assert.assertEquals(3, other.loadOntology(IRI.create(ns + "a")).axioms().count());
+        Assert.assertFalse(((InternalModelHolder) b).getBase().isMaterialized());
+        Assert.assertFalse(b.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+        Assert.assertEquals(3, b.axioms().count());
+        Assert.assertTrue(b.asGraphModel().getBaseGraph().contains(Node.ANY, declaration, OWL.Class.asNode()));
+    }
+
+    private static Map<IRI, IRI> writeDeferredTransformationsFamily(String ns) throws Exception {
+        Path dir = Files.createTempDirectory("ont-api-deferred-test");
+        Map<IRI, IRI> res = new HashMap<>();
+        for (String name : new String[]{"a", "b", "c"}) {
+            // no declarations, they are added by the transformations:
+            String txt = String.format("@prefix owl: <http://www.w3.org/2002/07/owl#> .%n" +
+                    "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .%n" +
+                    "<%s%s> a owl:Ontology %s .%n" +
+                    "<%s%s#X> rdfs:subClassOf <%s%s#Y> .%n", ns, name, "a".equals(name) ?
+                    String.format("; owl:imports <%sb>, <%sc>", ns, ns) : "", ns, name, ns, name);
+            Path file = dir.resolve(name + ".ttl");
+            Files.write(file, txt.getBytes(StandardCharsets.UTF_8));
+            res.put(IRI.create(ns + name), IRI.create(file.toFile()));
+        }
+        return res;
+    }
+
     private static void loadLoopedOntologyFamily(OWLOntologyManager m) throws Exception {
         IRI amyIRI = IRI.create("http://www.w3.org/2013/12/FDA-TA/tests/RenalTransplantation/subject-amy");
         IRI sueIRI = IRI.create("http://www.w3.org/2013/12/FDA-TA/tests/RenalTransplantation/subject-sue");